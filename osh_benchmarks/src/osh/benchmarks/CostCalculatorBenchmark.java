@@ -0,0 +1,79 @@
+package osh.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import osh.datatypes.limit.CompiledSignals;
+import osh.datatypes.power.AncillaryCommodityLoadProfile;
+import osh.datatypes.power.AncillaryCommodityStepProfile;
+import osh.mgmt.globalcontroller.modules.GlobalControllerDataStorage;
+import osh.utils.CostCalculator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the calculation of the costs of the load of the ancillary meter resulting from a random solution of the
+ * captured optimization problem with {@link CostCalculator}, both for the tree-based load profile and signals and the
+ * fixed-step profile and compiled signals used in the optimization loop.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CostCalculatorBenchmark {
+
+    private GlobalControllerDataStorage data;
+    private long startCalc;
+    private long endCalc;
+    private AncillaryCommodityLoadProfile ancillaryMeter;
+    private AncillaryCommodityStepProfile stepMeter;
+    private CompiledSignals compiledSignals;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SimulationFixture fixture = SimulationFixture.getInstance();
+
+        this.data = fixture.getData();
+        this.startCalc = fixture.getNow();
+        this.endCalc = fixture.getIgnoreLoadProfileAfter();
+        this.ancillaryMeter = fixture.createAncillaryMeter();
+        this.stepMeter = fixture.toStepProfile(this.ancillaryMeter);
+        this.compiledSignals = new CompiledSignals(this.data.getPriceSignals(), this.data.getPowerLimitSignals());
+    }
+
+    @Benchmark
+    public double calcRangeCostsLoadProfile() {
+        return CostCalculator.calcRangeCosts(
+                this.data.getEpsOptimizationObjective(),
+                this.data.getVarOptimizationObjective(),
+                this.data.getPlsOptimizationObjective(),
+                this.startCalc,
+                this.endCalc,
+                this.data.getUpperOverlimitFactor(),
+                this.data.getLowerOverlimitFactor(),
+                this.ancillaryMeter,
+                this.data.getPriceSignals(),
+                this.data.getPowerLimitSignals(),
+                this.data.getGlobalLogger());
+    }
+
+    @Benchmark
+    public double calcRangeCostsStepProfile() {
+        return CostCalculator.calcRangeCosts(
+                this.data.getEpsOptimizationObjective(),
+                this.data.getVarOptimizationObjective(),
+                this.data.getPlsOptimizationObjective(),
+                this.startCalc,
+                this.endCalc,
+                this.data.getUpperOverlimitFactor(),
+                this.data.getLowerOverlimitFactor(),
+                this.stepMeter,
+                this.compiledSignals,
+                this.data.getGlobalLogger());
+    }
+
+    @Benchmark
+    public CompiledSignals compileSignals() {
+        return new CompiledSignals(this.data.getPriceSignals(), this.data.getPowerLimitSignals());
+    }
+}
@@ -0,0 +1,92 @@
+package osh.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.uma.jmetal.solution.BinarySolution;
+import osh.datatypes.commodity.AncillaryMeterState;
+import osh.datatypes.registry.oc.ipp.InterdependentProblemPart;
+import osh.esc.OCEnergySimulationCore;
+import osh.esc.UUIDCommodityMap;
+import osh.mgmt.globalcontroller.jmetal.esc.BinaryEnergyManagementProblem;
+import osh.mgmt.globalcontroller.jmetal.esc.EMProblemEvaluator;
+import osh.mgmt.globalcontroller.jmetal.esc.EnergyProblemDataContainer;
+import osh.mgmt.globalcontroller.jmetal.esc.SolutionDistributor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the exchange of commodity states between the active and passive problem-parts of the captured
+ * optimization problem in the {@link OCEnergySimulationCore}, using the states of the first step of the optimization
+ * loop of a random solution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class EnergySimulationCoreBenchmark {
+
+    private EMProblemEvaluator evaluator;
+    private OCEnergySimulationCore ocESC;
+    private InterdependentProblemPart<?, ?>[] allPassive;
+    private InterdependentProblemPart<?, ?>[] allActiveNeedsInput;
+    private UUIDCommodityMap activeToPassiveMap;
+    private UUIDCommodityMap passiveToActiveMap;
+    private final AncillaryMeterState meterState = new AncillaryMeterState();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SimulationFixture fixture = SimulationFixture.getInstance();
+        SolutionDistributor distributor = new SolutionDistributor();
+
+        this.evaluator = fixture.createEvaluator(distributor);
+        BinarySolution solution =
+                fixture.createSolutions(new BinaryEnergyManagementProblem(this.evaluator, distributor), 1).get(0);
+
+        EnergyProblemDataContainer dataContainer = this.evaluator.getBaseDataContainer();
+        InterdependentProblemPart<?, ?>[] allIPPs = dataContainer.getAllProblemParts();
+        this.ocESC = dataContainer.getOcESC();
+        this.allPassive = dataContainer.getAllPassivePPs();
+        this.allActiveNeedsInput = dataContainer.getAllActiveNeedsInputPPs();
+        this.activeToPassiveMap = dataContainer.getActiveToPassiveMap();
+        this.passiveToActiveMap = dataContainer.getPassiveToActiveMap();
+
+        //bring all parts into the state of the first step of the optimization loop
+        long maxReferenceTime = fixture.getNow();
+        for (InterdependentProblemPart<?, ?> part : allIPPs) {
+            maxReferenceTime = Math.max(maxReferenceTime, part.getReferenceTime());
+        }
+
+        distributor.distributeSolution(solution, allIPPs);
+        for (InterdependentProblemPart<?, ?> part : allIPPs) {
+            part.initializeInterdependentCalculation(maxReferenceTime, fixture.getStepSize(), false, false);
+        }
+        for (InterdependentProblemPart<?, ?> part : this.allPassive) {
+            part.calculateNextStep();
+            this.passiveToActiveMap.put(part.getId(), part.getCommodityOutputStates());
+        }
+        this.ocESC.doPassiveToActiveExchange(this.meterState, this.allActiveNeedsInput, this.passiveToActiveMap);
+
+        for (InterdependentProblemPart<?, ?> part : dataContainer.getAllActivePPs()) {
+            part.calculateNextStep();
+            this.activeToPassiveMap.put(part.getId(), part.getCommodityOutputStates());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.evaluator.finalizeGrids();
+    }
+
+    @Benchmark
+    public AncillaryMeterState doActiveToPassiveExchange() {
+        this.ocESC.doActiveToPassiveExchange(this.activeToPassiveMap, this.allPassive, this.meterState);
+        return this.meterState;
+    }
+
+    @Benchmark
+    public AncillaryMeterState doPassiveToActiveExchange() {
+        this.ocESC.doPassiveToActiveExchange(this.meterState, this.allActiveNeedsInput, this.passiveToActiveMap);
+        return this.meterState;
+    }
+}
@@ -0,0 +1,63 @@
+package osh.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.uma.jmetal.solution.BinarySolution;
+import osh.mgmt.globalcontroller.jmetal.esc.BinaryEnergyManagementProblem;
+import osh.mgmt.globalcontroller.jmetal.esc.EMProblemEvaluator;
+import osh.mgmt.globalcontroller.jmetal.esc.SolutionDistributor;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the evaluation of single solutions of the captured optimization problem with
+ * {@link EMProblemEvaluator#evaluate(org.uma.jmetal.solution.Solution)}, cycling through a fixed set of random
+ * solutions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+public class EvaluationBenchmark {
+
+    private static final int solutionCount = 100;
+
+    /**
+     * interval of the checkpoints for the resumption of evaluations, 0 to always evaluate completely
+     */
+    @Param({"0"})
+    public int deltaEvaluationCheckpointInterval;
+
+    private EMProblemEvaluator evaluator;
+    private List<BinarySolution> solutions;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SimulationFixture fixture = SimulationFixture.getInstance();
+        SolutionDistributor distributor = new SolutionDistributor();
+
+        this.evaluator = fixture.createEvaluator(distributor);
+        if (this.deltaEvaluationCheckpointInterval > 0) {
+            this.evaluator.initializeDeltaEvaluation(this.deltaEvaluationCheckpointInterval, solutionCount);
+        }
+        this.solutions = fixture.createSolutions(new BinaryEnergyManagementProblem(this.evaluator, distributor),
+                solutionCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.evaluator.finalizeGrids();
+    }
+
+    @Benchmark
+    public double evaluate() {
+        BinarySolution solution = this.solutions.get(this.next);
+        this.next = (this.next + 1) % solutionCount;
+
+        this.evaluator.evaluate(solution);
+        return solution.getObjective(0);
+    }
+}
@@ -0,0 +1,62 @@
+package osh.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import osh.datatypes.power.AncillaryCommodityLoadProfile;
+import osh.datatypes.power.LoadProfile;
+import osh.datatypes.power.SparseLoadProfile;
+import osh.datatypes.registry.oc.ipp.InterdependentProblemPart;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link LoadProfile#merge(LoadProfile, long)} with the predicted load profiles of all problem-parts and the
+ * load of the ancillary meter resulting from a random solution of the captured optimization problem.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class LoadProfileBenchmark {
+
+    private AncillaryCommodityLoadProfile ancillaryMeter;
+    private final List<SparseLoadProfile> partProfiles = new ArrayList<>();
+    private int stepSize;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SimulationFixture fixture = SimulationFixture.getInstance();
+
+        //the final evaluation leaves the predicted load profiles in the problem-parts
+        this.ancillaryMeter = fixture.createAncillaryMeter();
+        this.stepSize = fixture.getStepSize();
+
+        for (InterdependentProblemPart<?, ?> part : fixture.getProblemParts()) {
+            if (part.getLoadProfile() != null) {
+                this.partProfiles.add(part.getLoadProfile());
+            }
+        }
+    }
+
+    @Benchmark
+    public SparseLoadProfile mergePartProfiles() {
+        SparseLoadProfile merged = new SparseLoadProfile();
+        for (SparseLoadProfile profile : this.partProfiles) {
+            merged = merged.merge(profile, 0);
+        }
+        return merged;
+    }
+
+    @Benchmark
+    public AncillaryCommodityLoadProfile mergeAncillaryMeter() {
+        return this.ancillaryMeter.merge(this.ancillaryMeter, 0);
+    }
+
+    @Benchmark
+    public AncillaryCommodityLoadProfile mergeAncillaryMeterWithOffset() {
+        return this.ancillaryMeter.merge(this.ancillaryMeter, this.stepSize);
+    }
+}
@@ -0,0 +1,98 @@
+package osh.benchmarks;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import org.openjdk.jmh.annotations.*;
+import osh.datatypes.commodity.AncillaryCommodity;
+import osh.datatypes.power.AncillaryCommodityLoadProfile;
+import osh.utils.dataStructures.fastutil.Long2IntTreeMap;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the operations of the {@link Long2IntTreeMap} used by all load profiles, using the changes of the
+ * external active power of the ancillary meter resulting from a random solution of the captured optimization
+ * problem as keys and values and every step of the optimization horizon as queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class Long2IntTreeMapBenchmark {
+
+    private long[] keys;
+    private int[] values;
+    private long[] queries;
+    private Long2IntTreeMap map;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SimulationFixture fixture = SimulationFixture.getInstance();
+        AncillaryCommodityLoadProfile ancillaryMeter = fixture.createAncillaryMeter();
+
+        this.map = new Long2IntTreeMap();
+        ObjectIterator<Long2IntMap.Entry> it = ancillaryMeter.getIteratorForType(AncillaryCommodity.ACTIVEPOWEREXTERNAL);
+        while (it.hasNext()) {
+            Long2IntMap.Entry e = it.next();
+            this.map.put(e.getLongKey(), e.getIntValue());
+        }
+
+        this.keys = this.map.keySet().toLongArray();
+        this.values = this.map.values().toIntArray();
+
+        int stepSize = fixture.getStepSize();
+        long start = fixture.getNow();
+        int stepCount = (int) ((ancillaryMeter.getEndingTimeOfProfile() - start) / stepSize) + 1;
+        this.queries = new long[stepCount];
+        for (int i = 0; i < stepCount; i++) {
+            this.queries[i] = start + (long) i * stepSize;
+        }
+    }
+
+    @Benchmark
+    public Long2IntTreeMap put() {
+        Long2IntTreeMap newMap = new Long2IntTreeMap();
+        for (int i = 0; i < this.keys.length; i++) {
+            newMap.put(this.keys[i], this.values[i]);
+        }
+        return newMap;
+    }
+
+    @Benchmark
+    public long get() {
+        long sum = 0;
+        for (long key : this.keys) {
+            sum += this.map.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long floorEntry() {
+        long sum = 0;
+        for (long t : this.queries) {
+            Long2IntTreeMap.BasicEntry e = this.map.floorEntry(t);
+            if (e != null) {
+                sum += e.getIntValue();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        ObjectIterator<Long2IntMap.Entry> it = this.map.long2IntEntrySet().iterator();
+        while (it.hasNext()) {
+            sum += it.next().getIntValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Long2IntTreeMap cloneMap() {
+        return this.map.clone();
+    }
+}
@@ -0,0 +1,247 @@
+package osh.benchmarks;
+
+import org.uma.jmetal.solution.BinarySolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.impl.OSHPseudoRandom;
+import osh.OSH;
+import osh.OSHLifeCycleManager;
+import osh.core.LifeCycleStates;
+import osh.core.OSHRandom;
+import osh.datatypes.commodity.AncillaryCommodity;
+import osh.datatypes.commodity.AncillaryMeterState;
+import osh.datatypes.logger.SystemLoggerConfiguration;
+import osh.datatypes.power.AncillaryCommodityLoadProfile;
+import osh.datatypes.power.AncillaryCommodityStepProfile;
+import osh.datatypes.registry.oc.ipp.ControllableIPP;
+import osh.datatypes.registry.oc.ipp.InterdependentProblemPart;
+import osh.mgmt.globalcontroller.ModularGlobalController;
+import osh.mgmt.globalcontroller.jmetal.Fitness;
+import osh.mgmt.globalcontroller.jmetal.IFitness;
+import osh.mgmt.globalcontroller.jmetal.esc.BinaryEnergyManagementProblem;
+import osh.mgmt.globalcontroller.jmetal.esc.EMProblemEvaluator;
+import osh.mgmt.globalcontroller.jmetal.esc.SolutionDistributor;
+import osh.mgmt.globalcontroller.modules.GlobalControllerDataStorage;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Realistic fixture for all benchmarks. Boots the simulation described by the configuration files of the
+ * osh_sim_loader, simulates the first part of the first day and captures the optimization problem as it is handed to
+ * the scheduling of the global controller afterwards. The simulation is only run once per jvm, all benchmarks share
+ * the captured problem.
+ * <p>
+ * The configuration can be changed with the system properties <i>osh.benchmark.configDir</i> (the directory
+ * containing the folders <i>system</i> and <i>simulation</i>) and <i>osh.benchmark.warmUpSeconds</i> (the simulated
+ * duration before the problem is captured).
+ */
+public class SimulationFixture {
+
+    private static final String configDir = System.getProperty("osh.benchmark.configDir", "configfiles/osh/example");
+    private static final int warmUpSeconds = Integer.getInteger("osh.benchmark.warmUpSeconds", 3600);
+
+    private static final long randomSeed = 0xd1ce5bL;
+    private static final long optimizationMainRandomSeed = 0xd1ce5bL;
+    private static final long solutionRandomSeed = 0xd1ce5bL;
+
+    private static SimulationFixture instance;
+
+    private final GlobalControllerDataStorage data;
+    private final InterdependentProblemPart<?, ?>[] problemParts;
+    private final long now;
+    private final long ignoreLoadProfileAfter;
+    private final IFitness fitnessFunction;
+
+    private SimulationFixture() throws Exception {
+        ZonedDateTime forcedStartTime = ZonedDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+        String logDir = Files.createTempDirectory("osh_benchmarks").toString();
+        String runID = "" + (System.currentTimeMillis() / 1000);
+
+        SystemLoggerConfiguration systemLoggingConfiguration = new SystemLoggerConfiguration(
+                "ERROR",
+                false,
+                false,
+                false,
+                false,
+                false,
+                logDir);
+
+        String configRootPath = configDir + "/";
+        if (!new File(configRootPath + "system/OSHConfig.xml").exists()) {
+            throw new IllegalStateException("configuration not found in " + new File(configRootPath).getAbsolutePath());
+        }
+
+        OSH osh = new OSH();
+        OSHLifeCycleManager lifeCycleManager = new OSHLifeCycleManager(osh, systemLoggingConfiguration);
+
+        lifeCycleManager.initOSHFirstStep(
+                configRootPath + "system/OSHConfig.xml",
+                configRootPath + "system/OCConfig.xml",
+                configRootPath + "system/EALConfig.xml",
+                configRootPath + "system/CALConfig.xml",
+                forcedStartTime,
+                randomSeed,
+                optimizationMainRandomSeed,
+                runID,
+                "benchmark",
+                logDir);
+        lifeCycleManager.initDatabaseLogging(false, null, forcedStartTime, new String[0]);
+        lifeCycleManager.loadScreenplay(configRootPath + "simulation/Screenplay.xml");
+        lifeCycleManager.startSimulation(warmUpSeconds);
+
+        if (!(osh.getGlobalController() instanceof ModularGlobalController)) {
+            throw new IllegalStateException("benchmarks only work with global controllers of type "
+                    + ModularGlobalController.class.getName());
+        }
+        this.data = ((ModularGlobalController) osh.getGlobalController()).getDataStorage();
+
+        //prepare the problem in the same way as the scheduling of the global controller
+        List<InterdependentProblemPart<?, ?>> problemPartsList = this.data.getProblemParts();
+        this.problemParts = problemPartsList.toArray(new InterdependentProblemPart<?, ?>[0]);
+        this.now = this.data.getNow().toEpochSecond();
+
+        long maxHorizon = this.now;
+        for (InterdependentProblemPart<?, ?> part : this.problemParts) {
+            if (part instanceof ControllableIPP<?, ?>) {
+                maxHorizon = Math.max(part.getOptimizationHorizon(), maxHorizon);
+            }
+        }
+
+        int counter = 0;
+        for (InterdependentProblemPart<?, ?> part : this.problemParts) {
+            part.recalculateEncoding(this.now, maxHorizon);
+            part.setId(counter++);
+        }
+        this.ignoreLoadProfileAfter = maxHorizon;
+
+        this.fitnessFunction = new Fitness(
+                this.data.getGlobalLogger(),
+                this.data.getEpsOptimizationObjective(),
+                this.data.getPlsOptimizationObjective(),
+                this.data.getVarOptimizationObjective(),
+                this.data.getUpperOverlimitFactor(),
+                this.data.getLowerOverlimitFactor());
+
+        lifeCycleManager.switchToLifeCycleState(LifeCycleStates.ON_SYSTEM_SHUTDOWN);
+    }
+
+    /**
+     * Returns the fixture of this jvm, running the simulation if this is the first request.
+     *
+     * @return the fixture of this jvm
+     * @throws Exception if the simulation could not be run
+     */
+    public static synchronized SimulationFixture getInstance() throws Exception {
+        if (instance == null) {
+            instance = new SimulationFixture();
+        }
+        return instance;
+    }
+
+    public GlobalControllerDataStorage getData() {
+        return this.data;
+    }
+
+    public InterdependentProblemPart<?, ?>[] getProblemParts() {
+        return this.problemParts;
+    }
+
+    public long getNow() {
+        return this.now;
+    }
+
+    public long getIgnoreLoadProfileAfter() {
+        return this.ignoreLoadProfileAfter;
+    }
+
+    public IFitness getFitnessFunction() {
+        return this.fitnessFunction;
+    }
+
+    public int getStepSize() {
+        return this.data.getStepSize();
+    }
+
+    /**
+     * Creates a new evaluator for the captured problem. All evaluators share the energy-simulation-core of the global
+     * controller, so only one of them should be used at a time.
+     *
+     * @param distributor the distributor to gather the variable information of the problem in
+     * @return a new evaluator for the captured problem
+     */
+    public EMProblemEvaluator createEvaluator(SolutionDistributor distributor) {
+        distributor.gatherVariableInformation(this.problemParts);
+
+        return new EMProblemEvaluator(
+                this.problemParts,
+                this.data.getOcESC(),
+                distributor,
+                this.data.getPriceSignals(),
+                this.data.getPowerLimitSignals(),
+                this.now,
+                this.ignoreLoadProfileAfter,
+                this.fitnessFunction,
+                this.data.getEaLogger(),
+                this.data.getStepSize());
+    }
+
+    /**
+     * Creates the given number of random solutions for the given problem, always yielding the same solutions.
+     *
+     * @param problem the problem to create solutions for
+     * @param count the number of solutions
+     * @return the created solutions
+     */
+    public List<BinarySolution> createSolutions(BinaryEnergyManagementProblem problem, int count) {
+        JMetalRandom.getInstance().setRandomGenerator(new OSHPseudoRandom(new OSHRandom(solutionRandomSeed)));
+
+        List<BinarySolution> solutions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            solutions.add(problem.createSolution());
+        }
+        return solutions;
+    }
+
+    /**
+     * Evaluates a random solution of the captured problem and returns the resulting load of the ancillary meter. The
+     * evaluation is logged, so that afterwards all problem-parts hold the load profile of their emitted commodities.
+     *
+     * @return the load of the ancillary meter resulting from a random solution
+     */
+    public AncillaryCommodityLoadProfile createAncillaryMeter() {
+        SolutionDistributor distributor = new SolutionDistributor();
+        EMProblemEvaluator evaluator = this.createEvaluator(distributor);
+        BinarySolution solution =
+                this.createSolutions(new BinaryEnergyManagementProblem(evaluator, distributor), 1).get(0);
+
+        AncillaryCommodityLoadProfile ancillaryMeter = new AncillaryCommodityLoadProfile();
+        evaluator.evaluateFinalTime(solution, true, ancillaryMeter);
+        return ancillaryMeter;
+    }
+
+    /**
+     * Converts the given load of the ancillary meter into a fixed-step profile as used in the optimization loop.
+     *
+     * @param ancillaryMeter the load of the ancillary meter
+     * @return the fixed-step profile of the given load
+     */
+    public AncillaryCommodityStepProfile toStepProfile(AncillaryCommodityLoadProfile ancillaryMeter) {
+        int stepSize = this.getStepSize();
+        int stepCount = (int) ((ancillaryMeter.getEndingTimeOfProfile() - this.now + stepSize - 1) / stepSize) + 1;
+        AncillaryCommodityStepProfile stepProfile = new AncillaryCommodityStepProfile(this.now, stepSize, stepCount);
+        AncillaryMeterState meterState = new AncillaryMeterState();
+
+        for (int step = 0; step < stepCount; step++) {
+            long t = stepProfile.getTimeOfStep(step);
+            for (AncillaryCommodity ac : AncillaryCommodity.values()) {
+                meterState.setPower(ac, ancillaryMeter.getLoadAt(ac, t));
+            }
+            stepProfile.setLoads(meterState, t);
+        }
+        return stepProfile;
+    }
+}
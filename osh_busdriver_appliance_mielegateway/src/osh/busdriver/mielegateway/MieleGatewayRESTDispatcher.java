@@ -169,15 +169,8 @@ public class MieleGatewayRESTDispatcher implements Runnable {
 
                     // Process the XML
                     try (InputStream inputStream = entity.getContent()) {
-                        // Create the EclipseLink JAXB (MOXy) Unmarshaller
-                        Map<String, Object> jaxbProperties = new HashMap<>(2);
-//			            jaxbProperties.put(JAXBContextProperties.MEDIA_TYPE, "application/xml");
-//			            jaxbProperties.put(JAXBContextProperties.JSON_INCLUDE_ROOT, false);
-                        JAXBContext jc = JAXBContext.newInstance(new Class[]{MieleDeviceList.class},
-                                jaxbProperties);
-                        Unmarshaller unmarshaller = jc.createUnmarshaller();
-
-//						Unmarshaller unmarshaller = context.createUnmarshaller();
+                        // the context is created once, unmarshallers are cheap but not thread-safe
+                        Unmarshaller unmarshaller = context.createUnmarshaller();
                         deviceList = (MieleDeviceList) unmarshaller.unmarshal(inputStream);
 
                         //DEBUG
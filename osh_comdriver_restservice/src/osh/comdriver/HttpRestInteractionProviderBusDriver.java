@@ -12,6 +12,7 @@ import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.servlet.ServletContainer;
+import osh.comdriver.interaction.PowerHistoryService;
 import osh.comdriver.interaction.datatypes.*;
 import osh.comdriver.interaction.rest.RestApplianceControlResource;
 import osh.comdriver.interaction.rest.RestDeviceListResource;
@@ -40,6 +41,8 @@ import osh.mgmt.commanager.HttpRestInteractionBusManager;
 import osh.registry.Registry.DriverRegistry;
 import osh.registry.interfaces.IDataRegistryListener;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -55,6 +58,10 @@ public abstract class HttpRestInteractionProviderBusDriver extends HALBusDriver
 
     private Map<UUID, RestDevice> restStateDetails;
 
+    private String powerHistoryDirectory = "data";
+    private int maxOpenPowerHistories = 32;
+    private PowerHistoryService powerHistory;
+
     // CONSTRUCTORS
 
     private HttpRestInteractionProviderBusDriver(int port) {
@@ -81,6 +88,20 @@ public abstract class HttpRestInteractionProviderBusDriver extends HALBusDriver
 
         this.restStateDetails = new HashMap<>();
 
+        String sPowerHistoryDirectory = driverConfig.getParameter("powerHistoryDirectory");
+        if (sPowerHistoryDirectory != null) {
+            this.powerHistoryDirectory = sPowerHistoryDirectory;
+        }
+        String sMaxOpenPowerHistories = driverConfig.getParameter("maxOpenPowerHistories");
+        if (sMaxOpenPowerHistories != null) {
+            try {
+                int maxOpen = Integer.parseInt(sMaxOpenPowerHistories);
+                if (maxOpen > 0)
+                    this.maxOpenPowerHistories = maxOpen;
+            } catch (NumberFormatException e) {
+                // NOP => use default
+            }
+        }
     }
 
     @Override
@@ -89,6 +110,9 @@ public abstract class HttpRestInteractionProviderBusDriver extends HALBusDriver
 
         HttpRestInteractionBusManager busManager = (HttpRestInteractionBusManager) this.getAssignedBusManager();
 
+        this.powerHistory = new PowerHistoryService(new File(this.powerHistoryDirectory), this.maxOpenPowerHistories,
+                this.getGlobalLogger());
+
         this.getGlobalLogger().logDebug("starting web server on port " + this.m_port);
 
         // initialize web server
@@ -203,6 +227,18 @@ public abstract class HttpRestInteractionProviderBusDriver extends HALBusDriver
                 throw new OSHException(e.getMessage(), e.getCause());
             }
         }
+
+        if (this.powerHistory != null) {
+            try {
+                this.powerHistory.close();
+            } catch (IOException e) {
+                this.getGlobalLogger().logWarning("unable to close power history", e);
+            }
+        }
+    }
+
+    public PowerHistoryService getPowerHistoryService() {
+        return this.powerHistory;
     }
 
     // restStateDetails functions {
@@ -401,6 +437,10 @@ public abstract class HttpRestInteractionProviderBusDriver extends HALBusDriver
 
     @Override
     public <T extends AbstractExchange> void onExchange(T exchange) {
+        if (exchange instanceof ElectricPowerDriverDetails && this.powerHistory != null) {
+            ElectricPowerDriverDetails epdd = (ElectricPowerDriverDetails) exchange;
+            this.powerHistory.record(epdd.getSender(), epdd.getTimestamp().toEpochSecond(), epdd.getActivePower());
+        }
         if (exchange instanceof StateExchange) {
             this.storeStateExchange(exchange.getSender(), (StateExchange) exchange, false /* from HAL layer */);
         }
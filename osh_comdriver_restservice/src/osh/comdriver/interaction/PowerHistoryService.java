@@ -0,0 +1,298 @@
+package osh.comdriver.interaction;
+
+import org.rrd4j.ConsolFun;
+import org.rrd4j.DsType;
+import org.rrd4j.core.FetchData;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdDef;
+import osh.core.logging.IGlobalLogger;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stores the active power of devices in round-robin databases (one file per device) and serves the power history of
+ * these devices.
+ * <p>
+ * Opening a database is expensive, so a bounded number of databases is kept open and the least recently used one is
+ * closed when the bound is reached. Fetched histories are cached for the resolution of the requested interval, as
+ * they cannot change before the next consolidated value is available.
+ */
+public class PowerHistoryService implements Closeable {
+
+    private static final String FILE_NAME = "power.rrd";
+    private static final String DATASOURCE = "power";
+    //resolution of the most detailed archive in seconds
+    private static final long STEP = 10;
+    //seconds without a sample after which the power is unknown
+    private static final long HEARTBEAT = 600;
+
+    private final File directory;
+    private final int maxOpenDatabases;
+    private final IGlobalLogger logger;
+
+    //open databases in the order of their last use, guarded by this
+    private final LinkedHashMap<UUID, RrdDb> openDatabases;
+    //time of the last sample of every device, guarded by this
+    private final Map<UUID, Long> lastSampleTimes = new HashMap<>();
+
+    private final Set<UUID> devices = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<HistoryKey, PowerHistory> fetchCache = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs this service, all devices which already have a history in the given directory are served as well.
+     *
+     * @param directory the directory to store the histories in
+     * @param maxOpenDatabases the maximum number of databases to keep open
+     * @param logger the logger to report failed writes to
+     */
+    public PowerHistoryService(File directory, int maxOpenDatabases, IGlobalLogger logger) {
+        if (maxOpenDatabases < 1) {
+            throw new IllegalArgumentException("at least one database has to be kept open");
+        }
+        this.directory = directory;
+        this.maxOpenDatabases = maxOpenDatabases;
+        this.logger = logger;
+        this.openDatabases = new LinkedHashMap<>(16, 0.75f, true);
+
+        File[] deviceDirectories = directory.listFiles(File::isDirectory);
+        if (deviceDirectories != null) {
+            for (File deviceDirectory : deviceDirectories) {
+                try {
+                    UUID device = UUID.fromString(deviceDirectory.getName());
+                    if (new File(deviceDirectory, FILE_NAME).exists()) {
+                        this.devices.add(device);
+                    }
+                } catch (IllegalArgumentException ignored) {
+                    //no device directory
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns all devices with a power history.
+     *
+     * @return all devices with a power history
+     */
+    public Set<UUID> getDevices() {
+        return Collections.unmodifiableSet(this.devices);
+    }
+
+    /**
+     * Records the active power of the given device. Samples that are not newer than the last sample of the device
+     * are ignored.
+     *
+     * @param device the device
+     * @param time the time of the sample in epoch seconds
+     * @param activePower the active power
+     */
+    public synchronized void record(UUID device, long time, double activePower) {
+        try {
+            RrdDb database = this.getDatabase(device, time);
+            Long lastSampleTime = this.lastSampleTimes.get(device);
+            if (lastSampleTime == null) {
+                lastSampleTime = database.getLastUpdateTime();
+            }
+            if (time > lastSampleTime) {
+                database.createSample(time).setValue(DATASOURCE, activePower).update();
+                this.lastSampleTimes.put(device, time);
+            }
+        } catch (IOException e) {
+            this.logger.logWarning("unable to record power history of " + device, e);
+        }
+    }
+
+    /**
+     * Returns the power history of the given device over the given interval.
+     *
+     * @param device the device
+     * @param interval the interval
+     * @param end the end of the interval in epoch seconds
+     * @return the power history of the device or null if the device has no history
+     * @throws IOException if the history could not be read
+     */
+    public PowerHistory fetch(UUID device, HistoryInterval interval, long end) throws IOException {
+        if (!this.devices.contains(device)) {
+            return null;
+        }
+        HistoryKey key = new HistoryKey(device, interval);
+        PowerHistory cached = this.fetchCache.get(key);
+        if (cached != null && end >= cached.end && end - cached.end < interval.resolution) {
+            return cached;
+        }
+
+        FetchData fetchData;
+        synchronized (this) {
+            RrdDb database = this.getDatabase(device, end);
+            fetchData = database.createFetchRequest(ConsolFun.MAX, end - interval.duration, end,
+                    interval.resolution).fetchData();
+        }
+
+        long[] timestamps = fetchData.getTimestamps();
+        double[] values = fetchData.getValues(DATASOURCE);
+        long[] power = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            timestamps[i] *= 1000;
+            power[i] = Math.round(values[i]);
+        }
+        PowerHistory history = new PowerHistory(end, timestamps, power);
+        this.fetchCache.put(key, history);
+        return history;
+    }
+
+    /**
+     * Returns the open database of the given device, opening or creating it if necessary. Has to be called while
+     * holding the lock of this service.
+     */
+    private RrdDb getDatabase(UUID device, long time) throws IOException {
+        RrdDb database = this.openDatabases.get(device);
+        if (database != null) {
+            return database;
+        }
+
+        File file = new File(new File(this.directory, device.toString()), FILE_NAME);
+        if (file.exists()) {
+            database = RrdDb.of(file.getPath());
+        } else {
+            File parent = file.getParentFile();
+            if (!parent.exists() && !parent.mkdirs()) {
+                throw new IOException("unable to create directory " + parent);
+            }
+            database = RrdDb.of(createDefinition(file.getPath(), time - 1));
+        }
+        this.devices.add(device);
+
+        this.openDatabases.put(device, database);
+        if (this.openDatabases.size() > this.maxOpenDatabases) {
+            Iterator<RrdDb> it = this.openDatabases.values().iterator();
+            RrdDb eldest = it.next();
+            it.remove();
+            eldest.close();
+        }
+        return database;
+    }
+
+    private static RrdDef createDefinition(String path, long startTime) {
+        RrdDef definition = new RrdDef(path, startTime, STEP);
+        definition.addDatasource(DATASOURCE, DsType.GAUGE, HEARTBEAT, Double.NaN, Double.NaN);
+        for (HistoryInterval interval : HistoryInterval.values()) {
+            //requests end slightly before the last update, an archive is only chosen if it covers the whole request
+            int rows = (int) (interval.duration / interval.resolution);
+            definition.addArchive(ConsolFun.MAX, 0.5, (int) (interval.resolution / STEP), rows + rows / 10);
+        }
+        return definition;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        IOException failure = null;
+        for (RrdDb database : this.openDatabases.values()) {
+            try {
+                database.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        this.openDatabases.clear();
+        this.fetchCache.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * The intervals a power history can be requested for, every interval is stored in its own archive.
+     */
+    public enum HistoryInterval {
+        THREE_HOURS(3 * 3600, STEP),
+        DAY(24 * 3600, 60),
+        WEEK(7 * 24 * 3600, 600),
+        MONTH(31 * 24 * 3600, 3600),
+        YEAR(365 * 24 * 3600, 24 * 3600);
+
+        //length of the interval in seconds
+        private final long duration;
+        //time between two values of the history in seconds
+        private final long resolution;
+
+        HistoryInterval(long duration, long resolution) {
+            this.duration = duration;
+            this.resolution = resolution;
+        }
+
+        /**
+         * Returns the interval for the value used in the REST interface (3 or 24 hours, 7 or 31 days), all other
+         * values are interpreted as a year.
+         *
+         * @param value the value used in the REST interface
+         * @return the matching interval
+         */
+        public static HistoryInterval fromRestValue(long value) {
+            if (value == 3) {
+                return THREE_HOURS;
+            } else if (value == 24) {
+                return DAY;
+            } else if (value == 7) {
+                return WEEK;
+            } else if (value == 31) {
+                return MONTH;
+            } else {
+                return YEAR;
+            }
+        }
+    }
+
+    /**
+     * The power history of a device, consisting of the timestamps (in epoch milliseconds) and the maximum active power
+     * (rounded to full watts) at these timestamps. Histories are shared between requests, the returned arrays must
+     * not be modified.
+     */
+    public static class PowerHistory {
+
+        private final long end;
+        private final long[] timestamps;
+        private final long[] power;
+
+        private PowerHistory(long end, long[] timestamps, long[] power) {
+            this.end = end;
+            this.timestamps = timestamps;
+            this.power = power;
+        }
+
+        public long[] getTimestamps() {
+            return this.timestamps;
+        }
+
+        public long[] getPower() {
+            return this.power;
+        }
+    }
+
+    private static class HistoryKey {
+
+        private final UUID device;
+        private final HistoryInterval interval;
+
+        private HistoryKey(UUID device, HistoryInterval interval) {
+            this.device = device;
+            this.interval = interval;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || this.getClass() != o.getClass()) return false;
+            HistoryKey that = (HistoryKey) o;
+            return this.device.equals(that.device) && this.interval == that.interval;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.device.hashCode() + this.interval.hashCode();
+        }
+    }
+}
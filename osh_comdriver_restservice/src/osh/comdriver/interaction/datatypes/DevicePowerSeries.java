@@ -0,0 +1,54 @@
+package osh.comdriver.interaction.datatypes;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Power history of a single device as two primitive arrays of equal length: the timestamps (in epoch milliseconds)
+ * and the active power (in W) at these timestamps.
+ */
+@XmlRootElement(name = "series")
+public class DevicePowerSeries {
+
+    @XmlElement(name = "label")
+    private String label;
+
+    @XmlElement(name = "timestamps")
+    private long[] timestamps;
+
+    @XmlElement(name = "power")
+    private long[] power;
+
+    public DevicePowerSeries() {
+    }
+
+    public DevicePowerSeries(String label, long[] timestamps, long[] power) {
+        this.label = label;
+        this.timestamps = timestamps;
+        this.power = power;
+    }
+
+    public String getLabel() {
+        return this.label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public long[] getTimestamps() {
+        return this.timestamps;
+    }
+
+    public void setTimestamps(long[] timestamps) {
+        this.timestamps = timestamps;
+    }
+
+    public long[] getPower() {
+        return this.power;
+    }
+
+    public void setPower(long[] power) {
+        this.power = power;
+    }
+}
@@ -0,0 +1,23 @@
+package osh.comdriver.interaction.datatypes;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import java.util.List;
+
+/**
+ * List of the power series of several devices as served by the REST interface.
+ */
+@XmlRootElement(name = "seriesList")
+public class DevicePowerSeriesList {
+
+    @XmlElement(name = "List")
+    private List<DevicePowerSeries> listDevicePowerSeries;
+
+    public List<DevicePowerSeries> getListDevicePowerSeries() {
+        return this.listDevicePowerSeries;
+    }
+
+    public void setListDevicePowerSeries(List<DevicePowerSeries> listDevicePowerSeries) {
+        this.listDevicePowerSeries = listDevicePowerSeries;
+    }
+}
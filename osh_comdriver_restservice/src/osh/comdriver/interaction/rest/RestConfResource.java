@@ -1,12 +1,13 @@
 package osh.comdriver.interaction.rest;
 
-import org.rrd4j.ConsolFun;
-import org.rrd4j.core.FetchData;
-import org.rrd4j.core.FetchRequest;
-import org.rrd4j.core.RrdDb;
 import osh.comdriver.HttpRestInteractionProviderBusDriver;
+import osh.comdriver.interaction.PowerHistoryService;
+import osh.comdriver.interaction.PowerHistoryService.HistoryInterval;
+import osh.comdriver.interaction.PowerHistoryService.PowerHistory;
 import osh.comdriver.interaction.datatypes.DevicePowerHistory;
 import osh.comdriver.interaction.datatypes.DevicePowerHistoryList;
+import osh.comdriver.interaction.datatypes.DevicePowerSeries;
+import osh.comdriver.interaction.datatypes.DevicePowerSeriesList;
 import osh.comdriver.interaction.datatypes.config.RestHomeConfigElement;
 import osh.comdriver.interaction.datatypes.config.RestHomeConfigElementDetails;
 import osh.comdriver.interaction.datatypes.config.RestHomeConfiguration;
@@ -19,9 +20,8 @@ import javax.persistence.Persistence;
 import javax.persistence.Query;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Response;
-import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -216,139 +216,50 @@ public class RestConfResource {
     @Path("/powerhistory/{location}/{type}/{interval}/")
     @Produces({"application/json"})
     //@Produces({"application/json", "application/xml"})
-    public DevicePowerHistoryList getPowerHistory(
+    public DevicePowerSeriesList getPowerHistory(
             @PathParam("location") String location,
             @PathParam("type") String type,
             @PathParam("interval") Long interval) {
 
-//		Map<UUID,DeviceMetaDriverDetails> map = interactionDriver.getDriverRegistry().getStates(DeviceMetaDriverDetails.class);
+        PowerHistoryService powerHistory = this.interactionDriver.getPowerHistoryService();
 
         if ("sum".equals(type)) {
             // get sum of all devices
 
             //TODO
             return null;
-        } else if (type != null) {
-            String fileNameExt = "3";
-
-            if (interval == 3
-                    || interval != 24
-                    || interval != 7
-                    || interval != 31
-                    || interval != 365) {
-                fileNameExt = "" + interval;
-            }
+        } else if (type != null && powerHistory != null && interval != null) {
+            HistoryInterval historyInterval = HistoryInterval.fromRestValue(interval);
 
-            String[] uuidsFolders;
+            int minTimeDiff = 30;
+            long end = this.interactionDriver.getTimeDriver().getCurrentEpochSecond() - minTimeDiff;
 
-            File file = new File("data/");
-            uuidsFolders = file.list((current, name) -> new File(current, name).isDirectory());
-            System.out.println(Arrays.toString(uuidsFolders));
+            List<DevicePowerSeries> list = new ArrayList<>();
 
-            assert uuidsFolders != null;
-            UUID[] uuids = new UUID[uuidsFolders.length];
-            for (int i = 0; i < uuidsFolders.length; i++) {
-                try {
-                    uuids[i] = UUID.fromString(uuidsFolders[i]);
-                } catch (Exception e) {
-                    //dont care...
-                }
-            }
+            for (UUID uuid : powerHistory.getDevices()) {
+                // get device name for UUID
+                DeviceMetaDriverDetails meta =
+                        (DeviceMetaDriverDetails) this.interactionDriver.getDriverRegistry().getData(DeviceMetaDriverDetails.class, uuid);
 
-            String[] names = new String[uuidsFolders.length];
-
-            // get device names for UUIDs
-            for (int i = 0; i < uuidsFolders.length; i++) {
-                if (uuids[i] != null) {
-                    DeviceMetaDriverDetails meta =
-                            (DeviceMetaDriverDetails) this.interactionDriver.getDriverRegistry().getData(DeviceMetaDriverDetails.class, uuids[i]);
-
-                    String devLocation;
-                    if (meta == null) {
-                        devLocation = "missing location";
-                    } else {
-                        devLocation = meta.getLocation();
-                    }
-                    if (location != null && (location.equals("all") || (location.equals(devLocation)))) {
-                        assert meta != null;
-                        names[i] = meta.getName();
-                    } else {
-                        uuids[i] = null;
-                    }
+                String devLocation = meta == null ? "missing location" : meta.getLocation();
+                if (meta == null || location == null || !(location.equals("all") || location.equals(devLocation))) {
+                    continue;
                 }
-            }
 
-            int minTimeDiff = 30;
-
-            long start;
-            long end = this.interactionDriver.getTimeDriver().getCurrentEpochSecond() - minTimeDiff;
-            String rrdPath;
-
-
-            List<DevicePowerHistory> list = new ArrayList<>();
-
-            for (int i = 0; i < uuidsFolders.length; i++) {
-                if (uuids[i] != null) {
-                    // 1Week
-                    // rrdPath = "data/device_" + device + "/data1w.rrd";
-                    rrdPath = "data/" + uuidsFolders[i] + "/data" + fileNameExt + ".rrd";
-
-                    RrdDb rrdDb;
-
-                    FetchData fetchData = null;
-                    try {
-                        rrdDb = RrdDb.of(rrdPath);
-
-                        switch (fileNameExt) {
-                            case "3":
-                                start = end - 3 * 3600 - minTimeDiff;
-                                break;
-                            case "24":
-                                start = end - 24 * 3600 - minTimeDiff;
-                                break;
-                            case "7":
-                                start = end - 7 * 24 * 3600 - minTimeDiff;
-                                break;
-                            case "31":
-                                start = end - 31 * 24 * 3600 - minTimeDiff;
-                                break;
-                            default:
-                                start = end - 365 * 24 * 3600 - minTimeDiff;
-                                break;
-                        }
-
-                        FetchRequest request = rrdDb.createFetchRequest(ConsolFun.MAX, start, end);
-                        fetchData = request.fetchData();
-
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    }
-
-                    if (fetchData == null) {
-                        return null;
-                    }
-                    long[] timestamps = fetchData.getTimestamps();
-                    double[] datas = fetchData.getValues(0);
-
-
-                    DevicePowerHistory h1 = new DevicePowerHistory();
-                    h1.setLabel(names[i]);
-
-                    Long[][] arr = new Long[timestamps.length][2];
-                    for (int j = 0; j < timestamps.length; j++) {
-                        arr[j][0] = timestamps[j] * 1000;
-                        arr[j][1] = Math.round(datas[j]);
-                    }
-                    h1.setDataLong(arr);
-
-                    list.add(h1);
+                PowerHistory history;
+                try {
+                    history = powerHistory.fetch(uuid, historyInterval, end);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    return null;
+                }
+                if (history != null) {
+                    list.add(new DevicePowerSeries(meta.getName(), history.getTimestamps(), history.getPower()));
                 }
             }
 
-
-            DevicePowerHistoryList l = new DevicePowerHistoryList();
-            l.setListDevicePowerHistory(list);
-
+            DevicePowerSeriesList l = new DevicePowerSeriesList();
+            l.setListDevicePowerSeries(list);
 
             return l;
         } else {
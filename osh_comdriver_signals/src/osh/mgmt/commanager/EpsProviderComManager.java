@@ -58,6 +58,7 @@ public class EpsProviderComManager
             try {
                 throw new OSHException("Signal unknown");
             } catch (OSHException e) {
+                this.getGlobalLogger().logError("", e);
                 e.printStackTrace();
             }
         }
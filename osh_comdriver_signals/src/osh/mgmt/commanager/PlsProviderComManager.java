@@ -58,6 +58,7 @@ public class PlsProviderComManager
             try {
                 throw new OSHException("Signal unknown");
             } catch (OSHException e) {
+                this.getGlobalLogger().logError("", e);
                 e.printStackTrace();
             }
         }
@@ -0,0 +1,241 @@
+package osh.datatypes.limit;
+
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import osh.datatypes.commodity.AncillaryCommodity;
+import osh.datatypes.power.PowerInterval;
+
+import java.util.EnumMap;
+
+/**
+ * Immutable compiled form of a set of price- and power-limit-signals. The mappings of every signal are copied into
+ * primitive arrays of change times and values, indexed by the ordinal of the ancillary commodity, so that costs can
+ * be calculated by scanning arrays instead of walking trees. Lookups behave exactly like the lookups of the
+ * {@link PriceSignal} and the {@link PowerLimitSignal} the table has been compiled from.
+ */
+public final class CompiledSignals {
+
+    /**
+     * default price when none is known, see {@link PriceSignal}
+     */
+    private static final double UNKNOWN_PRICE = 100;
+    private static final PowerInterval UNKNOWN_LIMIT = new PowerInterval();
+    private static final int commodityCount = AncillaryCommodity.values().length;
+
+    private final EnumMap<AncillaryCommodity, PriceSignal> priceSignals;
+    private final EnumMap<AncillaryCommodity, PowerLimitSignal> powerLimitSignals;
+
+    private final long[][] priceTimes = new long[commodityCount][];
+    private final double[][] prices = new double[commodityCount][];
+    private final long[] priceUnknownBefore = new long[commodityCount];
+    private final long[] priceUnknownAtAndAfter = new long[commodityCount];
+
+    private final long[][] limitTimes = new long[commodityCount][];
+    private final double[][] upperLimits = new double[commodityCount][];
+    private final double[][] lowerLimits = new double[commodityCount][];
+
+    /**
+     * Compiles the given price- and power-limit-signals. The signals must not be altered afterwards.
+     *
+     * @param priceSignals the price-signals to compile, may be null
+     * @param powerLimitSignals the power-limit-signals to compile, may be null
+     */
+    public CompiledSignals(EnumMap<AncillaryCommodity, PriceSignal> priceSignals,
+                           EnumMap<AncillaryCommodity, PowerLimitSignal> powerLimitSignals) {
+        this.priceSignals = priceSignals;
+        this.powerLimitSignals = powerLimitSignals;
+
+        if (priceSignals != null) {
+            priceSignals.forEach((ac, signal) -> {
+                int i = ac.ordinal();
+                int size = signal.getPrices().size();
+                this.priceTimes[i] = new long[size];
+                this.prices[i] = new double[size];
+                this.priceUnknownBefore[i] = signal.getPriceUnknownBefore();
+                this.priceUnknownAtAndAfter[i] = signal.getPriceUnknownAtAndAfter();
+
+                int index = 0;
+                for (Long2DoubleMap.Entry e : Long2DoubleMaps.fastIterable(signal.getPrices())) {
+                    this.priceTimes[i][index] = e.getLongKey();
+                    this.prices[i][index] = e.getDoubleValue();
+                    index++;
+                }
+            });
+        }
+
+        if (powerLimitSignals != null) {
+            powerLimitSignals.forEach((ac, signal) -> {
+                int i = ac.ordinal();
+                int size = signal.getLimits().size();
+                this.limitTimes[i] = new long[size];
+                this.upperLimits[i] = new double[size];
+                this.lowerLimits[i] = new double[size];
+
+                int index = 0;
+                for (Long2ObjectMap.Entry<PowerInterval> e : Long2ObjectMaps.fastIterable(signal.getLimits())) {
+                    this.limitTimes[i][index] = e.getLongKey();
+                    this.upperLimits[i][index] = e.getValue().getPowerUpperLimit();
+                    this.lowerLimits[i][index] = e.getValue().getPowerLowerLimit();
+                    index++;
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the index of the greatest change time less than or equal to the given time.
+     *
+     * @param times the sorted change times
+     * @param t the time
+     * @return the index of the greatest change time less than or equal to the given time or -1 if there is none
+     */
+    public static int getFloorIndex(long[] times, long t) {
+        int low = 0, high = times.length - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (times[mid] <= t) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Returns the change time following the given index.
+     *
+     * @param times the sorted change times
+     * @param index the index
+     * @return the change time following the given index or {@link Long#MAX_VALUE} if there is none
+     */
+    public static long getNextChangeTime(long[] times, int index) {
+        return index + 1 < times.length ? times[index + 1] : Long.MAX_VALUE;
+    }
+
+    public EnumMap<AncillaryCommodity, PriceSignal> getPriceSignals() {
+        return this.priceSignals;
+    }
+
+    public EnumMap<AncillaryCommodity, PowerLimitSignal> getPowerLimitSignals() {
+        return this.powerLimitSignals;
+    }
+
+    public boolean hasPriceSignal(AncillaryCommodity ac) {
+        return this.priceTimes[ac.ordinal()] != null;
+    }
+
+    public boolean hasPowerLimitSignal(AncillaryCommodity ac) {
+        return this.limitTimes[ac.ordinal()] != null;
+    }
+
+    /**
+     * Returns the sorted times of all price changes of the given ancillary commodity, the array must not be altered.
+     *
+     * @param ac the ancillary commodity
+     * @return the sorted times of all price changes
+     */
+    public long[] getPriceChangeTimes(AncillaryCommodity ac) {
+        return this.priceTimes[ac.ordinal()];
+    }
+
+    /**
+     * Returns the prices of the given ancillary commodity matching the price change times, the array must not be
+     * altered.
+     *
+     * @param ac the ancillary commodity
+     * @return the prices matching the price change times
+     */
+    public double[] getPrices(AncillaryCommodity ac) {
+        return this.prices[ac.ordinal()];
+    }
+
+    /**
+     * Returns the sorted times of all power-limit changes of the given ancillary commodity, the array must not be
+     * altered.
+     *
+     * @param ac the ancillary commodity
+     * @return the sorted times of all power-limit changes
+     */
+    public long[] getLimitChangeTimes(AncillaryCommodity ac) {
+        return this.limitTimes[ac.ordinal()];
+    }
+
+    /**
+     * Returns the upper power-limits of the given ancillary commodity matching the power-limit change times, the
+     * array must not be altered.
+     *
+     * @param ac the ancillary commodity
+     * @return the upper power-limits matching the power-limit change times
+     */
+    public double[] getUpperLimits(AncillaryCommodity ac) {
+        return this.upperLimits[ac.ordinal()];
+    }
+
+    /**
+     * Returns the lower power-limits of the given ancillary commodity matching the power-limit change times, the
+     * array must not be altered.
+     *
+     * @param ac the ancillary commodity
+     * @return the lower power-limits matching the power-limit change times
+     */
+    public double[] getLowerLimits(AncillaryCommodity ac) {
+        return this.lowerLimits[ac.ordinal()];
+    }
+
+    /**
+     * Returns the price of the given ancillary commodity at the given time t, see {@link PriceSignal#getPrice(long)}.
+     *
+     * @param ac the ancillary commodity
+     * @param t the time
+     * @return the price at time t
+     */
+    public double getPrice(AncillaryCommodity ac, long t) {
+        int i = ac.ordinal();
+
+        if (t < this.priceUnknownBefore[i] || t > this.priceUnknownAtAndAfter[i]) {
+            System.out.println("ERROR: Price unknown, using default price");
+            System.out.println("requested time outside of known interval: " + t + " not in [" + this.priceUnknownBefore[i] + " - " + this.priceUnknownAtAndAfter[i] + "]");
+            return UNKNOWN_PRICE;
+        }
+
+        int index = getFloorIndex(this.priceTimes[i], t);
+
+        if (index >= 0) {
+            return this.prices[i][index];
+        } else {
+            System.out.println("ERROR: Price unknown, using default price");
+            System.out.println("Price in known interval, but floorEntry null, time: " + t);
+            return UNKNOWN_PRICE;
+        }
+    }
+
+    /**
+     * Returns the upper power-limit of the given ancillary commodity at the given time t, see
+     * {@link PowerLimitSignal#getPowerUpperLimit(long)}.
+     *
+     * @param ac the ancillary commodity
+     * @param t the time
+     * @return the upper power-limit at time t
+     */
+    public double getPowerUpperLimit(AncillaryCommodity ac, long t) {
+        int index = getFloorIndex(this.limitTimes[ac.ordinal()], t);
+        return index >= 0 ? this.upperLimits[ac.ordinal()][index] : UNKNOWN_LIMIT.getPowerUpperLimit();
+    }
+
+    /**
+     * Returns the lower power-limit of the given ancillary commodity at the given time t, see
+     * {@link PowerLimitSignal#getPowerLowerLimit(long)}.
+     *
+     * @param ac the ancillary commodity
+     * @param t the time
+     * @return the lower power-limit at time t
+     */
+    public double getPowerLowerLimit(AncillaryCommodity ac, long t) {
+        int index = getFloorIndex(this.limitTimes[ac.ordinal()], t);
+        return index >= 0 ? this.lowerLimits[ac.ordinal()][index] : UNKNOWN_LIMIT.getPowerLowerLimit();
+    }
+}
@@ -3,6 +3,7 @@ package osh.datatypes.power;
 import it.unimi.dsi.fastutil.longs.LongSortedSet;
 import osh.datatypes.commodity.AncillaryCommodity;
 import osh.datatypes.commodity.AncillaryMeterState;
+import osh.utils.dataStructures.fastutil.Long2IntTreeMap;
 
 import java.util.Arrays;
 import java.util.EnumMap;
@@ -26,6 +27,28 @@ public class AncillaryCommodityLoadProfile extends LoadProfile<AncillaryCommodit
         Arrays.fill(this.sequentialFloorValues, Integer.MAX_VALUE);
     }
 
+    /**
+     * Initializes the sequential entering of loads as a continuation of the given sequentially entered profile, all
+     * loads of the given profile before the given point in time will be copied and further loads can be set
+     * sequentially starting at this point in time.
+     *
+     * @param other the sequentially entered profile to continue
+     * @param continueAt the point in time from which on loads will be set sequentially
+     */
+    public void initSequentialFrom(AncillaryCommodityLoadProfile other, long continueAt) {
+        this.initSequential();
+
+        for (int i = 0; i < ancillaryCommodityValues.length; i++) {
+            Long2IntTreeMap otherMap = other.commodities.get(ancillaryCommodityValues[i]);
+            Long2IntTreeMap headMap = new Long2IntTreeMap(otherMap.headMap(continueAt));
+            this.commodities.put(ancillaryCommodityValues[i], headMap);
+
+            if (!headMap.isEmpty()) {
+                this.sequentialFloorValues[i] = headMap.get(headMap.lastLongKey());
+            }
+        }
+    }
+
     public void endSequential() {
     }
 
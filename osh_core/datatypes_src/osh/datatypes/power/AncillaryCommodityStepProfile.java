@@ -0,0 +1,167 @@
+package osh.datatypes.power;
+
+import osh.datatypes.commodity.AncillaryCommodity;
+import osh.datatypes.commodity.AncillaryMeterState;
+
+/**
+ * Represents a load profile of all ancillary commodities with a fixed step size, storing the loads of every
+ * ancillary commodity in a primitive array with one entry per step. Intended as a cheap replacement for the
+ * {@link AncillaryCommodityLoadProfile} in the optimization loop, where loads are entered for every step.
+ */
+public class AncillaryCommodityStepProfile {
+
+    private static final AncillaryCommodity[] ancillaryCommodityValues = AncillaryCommodity.values();
+
+    private final long startingTime;
+    private final int stepSize;
+    private final int stepCount;
+
+    /*
+     * [ordinal of the ancillary commodity][step]
+     */
+    private final int[][] loads;
+
+    /**
+     * Constructs this profile with the given starting time and number of steps of the given size.
+     *
+     * @param startingTime the point in time of the first step
+     * @param stepSize the size of each step
+     * @param stepCount the number of steps
+     */
+    public AncillaryCommodityStepProfile(long startingTime, int stepSize, int stepCount) {
+        if (stepSize <= 0 || stepCount <= 0) {
+            throw new IllegalArgumentException("step size and number of steps have to be positive");
+        }
+        this.startingTime = startingTime;
+        this.stepSize = stepSize;
+        this.stepCount = stepCount;
+        this.loads = new int[ancillaryCommodityValues.length][stepCount];
+    }
+
+    public long getStartingTime() {
+        return this.startingTime;
+    }
+
+    public int getStepSize() {
+        return this.stepSize;
+    }
+
+    public int getStepCount() {
+        return this.stepCount;
+    }
+
+    /**
+     * Returns the step containing the given point in time. Points in time before the first step belong to the first
+     * step, points in time after the last step belong to the last step.
+     *
+     * @param t the point in time
+     * @return the step containing the given point in time
+     */
+    public int getStep(long t) {
+        if (t <= this.startingTime) return 0;
+        return (int) Math.min((t - this.startingTime) / this.stepSize, this.stepCount - 1);
+    }
+
+    /**
+     * Returns the point in time at which the given step starts.
+     *
+     * @param step the step
+     * @return the point in time at which the given step starts
+     */
+    public long getTimeOfStep(int step) {
+        return this.startingTime + (long) step * this.stepSize;
+    }
+
+    /**
+     * Returns the loads of the given ancillary commodity for every step, the array must not be altered.
+     *
+     * @param ac the ancillary commodity
+     * @return the loads of the given ancillary commodity for every step
+     */
+    public int[] getLoads(AncillaryCommodity ac) {
+        return this.loads[ac.ordinal()];
+    }
+
+    public int getLoadAt(AncillaryCommodity ac, long t) {
+        return this.loads[ac.ordinal()][this.getStep(t)];
+    }
+
+    /**
+     * Returns the first step after the given step at which the given loads differ from the load at the given step.
+     *
+     * @param loads the loads of one ancillary commodity of this profile
+     * @param step the step to search from
+     * @return the first step after the given step with a differing load or the number of steps if there is none
+     */
+    public int getNextLoadChangeStep(int[] loads, int step) {
+        int load = loads[step];
+        int next = step + 1;
+        while (next < this.stepCount && loads[next] == load) {
+            next++;
+        }
+        return next;
+    }
+
+    /**
+     * Returns the first point in time after the given point in time at which the given loads differ from the load
+     * at that point in time.
+     *
+     * @param loads the loads of one ancillary commodity of this profile
+     * @param t the point in time to search from
+     * @return the first point in time with a differing load or {@link Long#MAX_VALUE} if there is none
+     */
+    public long getNextLoadChange(int[] loads, long t) {
+        int next = this.getNextLoadChangeStep(loads, this.getStep(t));
+        return next < this.stepCount ? this.getTimeOfStep(next) : Long.MAX_VALUE;
+    }
+
+    /**
+     * Sets the loads of all ancillary commodities for the step containing the given point in time.
+     *
+     * @param state the ancillary meter states
+     * @param t the point in time to put the ancillary meter values
+     */
+    public void setLoads(AncillaryMeterState state, long t) {
+        double[] allPowers = state.getAllPowerStates();
+        int step = this.getStep(t);
+
+        for (int i = 0; i < allPowers.length; i++) {
+            this.loads[i][step] = (int) allPowers[i];
+        }
+    }
+
+    /**
+     * Copies all loads of the given profile before the given point in time into this profile, both profiles need
+     * to have the same starting time and step size.
+     *
+     * @param other the profile to copy the loads from
+     * @param before the point in time before which all loads will be copied
+     */
+    public void copyLoadsBefore(AncillaryCommodityStepProfile other, long before) {
+        if (other.startingTime != this.startingTime || other.stepSize != this.stepSize) {
+            throw new IllegalArgumentException("profiles have differing steps");
+        }
+        int steps = (int) Math.min(Math.max(before - this.startingTime + this.stepSize - 1, 0) / this.stepSize,
+                Math.min(this.stepCount, other.stepCount));
+
+        for (int i = 0; i < this.loads.length; i++) {
+            System.arraycopy(other.loads[i], 0, this.loads[i], 0, steps);
+        }
+    }
+
+    /**
+     * Enters all loads of this profile into the given load profile, only entering a load if it differs from the
+     * load of the preceding step.
+     *
+     * @param loadProfile the load profile to enter the loads into
+     */
+    public void enterLoadsInto(AncillaryCommodityLoadProfile loadProfile) {
+        for (int i = 0; i < this.loads.length; i++) {
+            int[] commodityLoads = this.loads[i];
+
+            for (int step = 0; step < this.stepCount; step = this.getNextLoadChangeStep(commodityLoads, step)) {
+                loadProfile.setLoad(ancillaryCommodityValues[i], this.getTimeOfStep(step), commodityLoads[step]);
+            }
+        }
+    }
+}
@@ -8,6 +8,8 @@ import osh.datatypes.power.LoadProfileCompressionTypes;
 import osh.datatypes.registry.oc.ipp.solutionEncoding.translators.AbstractVariableTranslator;
 import osh.datatypes.registry.oc.ipp.solutionEncoding.translators.BinaryVariableTranslator;
 import osh.datatypes.registry.oc.ipp.solutionEncoding.translators.RealVariableTranslator;
+import osh.datatypes.registry.oc.ipp.solutionEncoding.variables.BinaryEncodedVariableInformation;
+import osh.datatypes.registry.oc.ipp.solutionEncoding.variables.VariableEncoding;
 
 import java.time.ZonedDateTime;
 import java.util.BitSet;
@@ -121,6 +123,54 @@ public abstract class ControllableIPP<PhenotypeType extends ISolution, Predictio
         this.optimizationHorizon = optimizationHorizon;
     }
 
+    /**
+     * Transfers the given binary encoded solution, consisting of equally long time-slots each encoded by the same
+     * number of bits, into the current encoding by dropping all slots that already lie in the past. Slots not
+     * covered by the given solution will have all bits unset.
+     *
+     * @param previousReferenceTime the reference time the given solution was encoded for
+     * @param previousSolution the binary encoded solution
+     * @param previousBitCount the number of bits used by the given solution
+     * @param timePerSlot the length of one time-slot in seconds
+     * @param bitsPerSlot the number of bits used to encode one time-slot
+     * @return the solution in the current encoding or null if the solution can not be transferred
+     */
+    protected BitSet transferSlotEncodedBinarySolution(long previousReferenceTime, BitSet previousSolution,
+                                                       int previousBitCount, long timePerSlot, int bitsPerSlot) {
+        if (previousReferenceTime > this.getReferenceTime()) {
+            return null;
+        }
+
+        int bitCount =
+                ((BinaryEncodedVariableInformation) this.getVariableInformation(VariableEncoding.BINARY)).getBitCount();
+        long elapsedSlots = Math.round((this.getReferenceTime() - previousReferenceTime) / (double) timePerSlot);
+        long elapsedBits = elapsedSlots * bitsPerSlot;
+        BitSet transferred = new BitSet(bitCount);
+
+        if (elapsedBits < previousBitCount) {
+            int offset = (int) elapsedBits;
+            for (int i = previousSolution.nextSetBit(offset); i >= 0 && i < previousBitCount && i - offset < bitCount;
+                 i = previousSolution.nextSetBit(i + 1)) {
+                transferred.set(i - offset);
+            }
+        }
+
+        return transferred;
+    }
+
+    /**
+     * Returns the earliest point in time that can be influenced by the given bit of a binary encoded solution
+     * consisting of equally long time-slots each encoded by the same number of bits, starting at the reference time.
+     *
+     * @param bitIndex the index of the bit relative to the start of the encoding of this problem-part
+     * @param timePerSlot the length of one time-slot in seconds
+     * @param bitsPerSlot the number of bits used to encode one time-slot
+     * @return the earliest point in time that can be influenced by the given bit
+     */
+    protected long getFirstAffectedTimeOfSlotEncoding(int bitIndex, long timePerSlot, int bitsPerSlot) {
+        return this.getReferenceTime() + (bitIndex / bitsPerSlot) * timePerSlot;
+    }
+
     @Override
     public PredictionType transformToFinalInterdependentPrediction() {
         return null;
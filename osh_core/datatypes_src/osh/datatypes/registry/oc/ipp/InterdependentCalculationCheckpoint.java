@@ -0,0 +1,64 @@
+package osh.datatypes.registry.oc.ipp;
+
+import osh.esc.LimitedCommodityStateMap;
+
+/**
+ * Immutable snapshot of the state of the interdependent calculation of a {@link InterdependentProblemPart} at a
+ * specific point in time of the optimization loop. Allows the calculation to be resumed from this point in time.
+ */
+public class InterdependentCalculationCheckpoint {
+
+    private final long interdependentTime;
+    private final double interdependentCervisia;
+    private final LimitedCommodityStateMap internalOutputStates;
+    private final LimitedCommodityStateMap outputStates;
+    private final boolean outputStatesAreInternal;
+    private final Object internalCalculationState;
+
+    /**
+     * Constructs this checkpoint with the given state information.
+     *
+     * @param interdependentTime the simulated time of the problem-part
+     * @param interdependentCervisia the additional costs incurred by the problem-part until now
+     * @param internalOutputStates a copy of the internal output states of the problem-part
+     * @param outputStates the output states of the problem-part if they are not the internal output states
+     * @param outputStatesAreInternal flag if the output states of the problem-part are the internal output states
+     * @param internalCalculationState the additional calculation state of the specific problem-part
+     */
+    InterdependentCalculationCheckpoint(long interdependentTime, double interdependentCervisia,
+                                        LimitedCommodityStateMap internalOutputStates,
+                                        LimitedCommodityStateMap outputStates,
+                                        boolean outputStatesAreInternal,
+                                        Object internalCalculationState) {
+        this.interdependentTime = interdependentTime;
+        this.interdependentCervisia = interdependentCervisia;
+        this.internalOutputStates = internalOutputStates;
+        this.outputStates = outputStates;
+        this.outputStatesAreInternal = outputStatesAreInternal;
+        this.internalCalculationState = internalCalculationState;
+    }
+
+    long getInterdependentTime() {
+        return this.interdependentTime;
+    }
+
+    double getInterdependentCervisia() {
+        return this.interdependentCervisia;
+    }
+
+    LimitedCommodityStateMap getInternalOutputStates() {
+        return this.internalOutputStates;
+    }
+
+    LimitedCommodityStateMap getOutputStates() {
+        return this.outputStates;
+    }
+
+    boolean isOutputStatesAreInternal() {
+        return this.outputStatesAreInternal;
+    }
+
+    Object getInternalCalculationState() {
+        return this.internalCalculationState;
+    }
+}
@@ -14,6 +14,7 @@ import osh.datatypes.registry.oc.commands.globalcontroller.EASolutionCommandExch
 import osh.datatypes.registry.oc.ipp.solutionEncoding.translators.AbstractVariableTranslator;
 import osh.datatypes.registry.oc.ipp.solutionEncoding.translators.IPPSolutionHandler;
 import osh.datatypes.registry.oc.ipp.solutionEncoding.variables.AbstractEncodedVariableInformation;
+import osh.datatypes.registry.oc.ipp.solutionEncoding.variables.BinaryEncodedVariableInformation;
 import osh.datatypes.registry.oc.ipp.solutionEncoding.variables.DecodedSolutionWrapper;
 import osh.datatypes.registry.oc.ipp.solutionEncoding.variables.VariableEncoding;
 import osh.esc.IOCEnergySubject;
@@ -339,6 +340,28 @@ public abstract class InterdependentProblemPart<PhenotypeType extends ISolution,
         this.interpretNewSolution();
     }
 
+    /**
+     * Transfers the given binary encoded solution of this problem-part, encoded for the given earlier reference
+     * time, into the current encoding of this problem-part (e.g. to use the solution of the last optimization as a
+     * starting point for a new one). </br>
+     * By default the solution can only be transferred if neither the reference time nor the number of used bits
+     * have changed.
+     *
+     * @param previousReferenceTime the reference time the given solution was encoded for
+     * @param previousSolution the binary encoded solution
+     * @param previousBitCount the number of bits used by the given solution
+     * @return the solution in the current encoding or null if the solution can not be transferred
+     */
+    public BitSet transferBinarySolution(long previousReferenceTime, BitSet previousSolution, int previousBitCount) {
+        int bitCount =
+                ((BinaryEncodedVariableInformation) this.getVariableInformation(VariableEncoding.BINARY)).getBitCount();
+
+        if (previousReferenceTime == this.referenceTime && previousBitCount == bitCount) {
+            return (BitSet) previousSolution.clone();
+        }
+        return null;
+    }
+
     /**
      * Interprets the newly set solution.
      */
@@ -548,6 +571,81 @@ public abstract class InterdependentProblemPart<PhenotypeType extends ISolution,
         return this.stepSize;
     }
 
+    /**
+     * Returns if this problem-part can create checkpoints of its interdependent calculation and resume the
+     * calculation from them. Problem-parts with additional calculation state have to store it in
+     * {@link #saveInternalCalculationState()} and restore it in {@link #restoreInternalCalculationState(Object)}.
+     *
+     * @return true if this problem-part supports checkpoints of its interdependent calculation
+     */
+    public boolean supportsCalculationCheckpoints() {
+        return false;
+    }
+
+    /**
+     * Creates a checkpoint of the current state of the interdependent calculation of this problem-part.
+     *
+     * @return a checkpoint of the current state of the interdependent calculation
+     */
+    public final InterdependentCalculationCheckpoint createCalculationCheckpoint() {
+        boolean outputStatesAreInternal = this.interdependentOutputStates != null
+                && this.interdependentOutputStates == this.internalInterdependentOutputStates;
+
+        return new InterdependentCalculationCheckpoint(
+                this.interdependentTime,
+                this.interdependentCervisia,
+                this.internalInterdependentOutputStates.getDeepCopy(),
+                outputStatesAreInternal ? null : this.interdependentOutputStates,
+                outputStatesAreInternal,
+                this.saveInternalCalculationState());
+    }
+
+    /**
+     * Restores the state of the interdependent calculation of this problem-part from the given checkpoint. Has to be
+     * called after {@link #initializeInterdependentCalculation(long, int, boolean, boolean)}, the current solution
+     * of this problem-part is not changed.
+     *
+     * @param checkpoint the checkpoint to restore the calculation from
+     */
+    public final void restoreCalculationCheckpoint(InterdependentCalculationCheckpoint checkpoint) {
+        this.interdependentTime = checkpoint.getInterdependentTime();
+        this.interdependentCervisia = checkpoint.getInterdependentCervisia();
+        this.internalInterdependentOutputStates = checkpoint.getInternalOutputStates().getDeepCopy();
+        this.interdependentOutputStates = checkpoint.isOutputStatesAreInternal() ?
+                this.internalInterdependentOutputStates : checkpoint.getOutputStates();
+
+        this.restoreInternalCalculationState(checkpoint.getInternalCalculationState());
+    }
+
+    /**
+     * Returns a copy of the additional state of the interdependent calculation of this specific problem-part.
+     *
+     * @return a copy of the additional calculation state or null if there is none
+     */
+    protected Object saveInternalCalculationState() {
+        return null;
+    }
+
+    /**
+     * Restores the additional state of the interdependent calculation of this specific problem-part. The given state
+     * must not be altered as it may be restored multiple times.
+     *
+     * @param internalCalculationState the additional calculation state
+     */
+    protected void restoreInternalCalculationState(Object internalCalculationState) {}
+
+    /**
+     * Returns the earliest point in time of the interdependent calculation that can be influenced by the value of
+     * the given bit of the binary encoded solution of this problem-part. </br>
+     * By default every bit is assumed to influence the whole calculation.
+     *
+     * @param bitIndex the index of the bit relative to the start of the encoding of this problem-part
+     * @return the earliest point in time that can be influenced by the given bit
+     */
+    public long getFirstAffectedTime(int bitIndex) {
+        return this.referenceTime;
+    }
+
     /**
      * Returns a string representation of this problem-part.
      *
@@ -84,6 +84,11 @@ public abstract class PreCalculatedNonControllableIPP
         this.incrementInterdependentTime();
     }
 
+    @Override
+    public boolean supportsCalculationCheckpoints() {
+        return true;
+    }
+
     @Override
     public final void recalculateEncoding(long currentTime, long maxHorizon) {
         this.setReferenceTime(currentTime);
@@ -3,21 +3,24 @@ package osh.datatypes.registry.oc.state.globalobserver;
 import osh.configuration.system.DeviceTypes;
 import osh.datatypes.commodity.Commodity;
 import osh.datatypes.registry.StateExchange;
+import osh.registry.interfaces.IPromiseToBeImmutable;
 
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.EnumMap;
-import java.util.Map.Entry;
+import java.util.Map;
 import java.util.UUID;
 
 
 /**
- * Current power consumption of all devices covered by this EMS
+ * Current power consumption of all devices covered by this EMS. Immutable, so that it can be handed to all
+ * subscribers without cloning.
  *
  * @author Ingo Mauser
  */
-public class CommodityPowerStateExchange extends StateExchange {
+public class CommodityPowerStateExchange extends StateExchange implements IPromiseToBeImmutable {
 
-    private final EnumMap<Commodity, Double> powerState;
+    private final Map<Commodity, Double> powerState;
     private final DeviceTypes deviceType;
 
 
@@ -26,24 +29,7 @@ public class CommodityPowerStateExchange extends StateExchange {
      *
      * @param sender
      * @param timestamp
-     */
-    public CommodityPowerStateExchange(
-            UUID sender,
-            ZonedDateTime timestamp,
-            DeviceTypes deviceType) {
-        this(
-                sender,
-                timestamp,
-                new EnumMap<>(Commodity.class),
-                deviceType);
-    }
-
-    /**
-     * CONSTRUCTOR
-     *
-     * @param sender
-     * @param timestamp
-     * @param powerState
+     * @param powerState the power states of all commodities, will not be copied and should not be changed afterwards
      */
     public CommodityPowerStateExchange(
             UUID sender,
@@ -52,22 +38,17 @@ public class CommodityPowerStateExchange extends StateExchange {
             DeviceTypes deviceType) {
         super(sender, timestamp);
 
-        this.powerState = powerState;
+        this.powerState = Collections.unmodifiableMap(powerState);
         this.deviceType = deviceType;
     }
 
 
-    public void addPowerState(Commodity commodity, double value) {
-        this.powerState.put(commodity, value);
-    }
-
-
     public Double getPowerState(Commodity commodity) {
         return this.powerState.get(commodity);
     }
 
 
-    public EnumMap<Commodity, Double> getPowerState() {
+    public Map<Commodity, Double> getPowerState() {
         return this.powerState;
     }
 
@@ -75,21 +56,6 @@ public class CommodityPowerStateExchange extends StateExchange {
         return this.deviceType;
     }
 
-    @Override
-    public CommodityPowerStateExchange clone() {
-        CommodityPowerStateExchange cloned = new CommodityPowerStateExchange(
-                this.getSender(),
-                this.getTimestamp(),
-                this.deviceType);
-
-        for (Entry<Commodity, Double> e : this.powerState.entrySet()) {
-            cloned.addPowerState(e.getKey(), e.getValue());
-        }
-
-        return cloned;
-
-    }
-
     @Override
     public String toString() {
         return "CommodityPowerState: " + this.powerState.toString();
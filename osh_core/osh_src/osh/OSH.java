@@ -16,6 +16,7 @@ import osh.registry.Registry.ComRegistry;
 import osh.registry.Registry.DriverRegistry;
 import osh.registry.Registry.OCRegistry;
 import osh.registry.TimeRegistry;
+import osh.simulation.database.DatabaseLoggerThread;
 
 /**
  * @author Florian Allerding, Kaibin Bao, Ingo Mauser, Till Schuberth
@@ -46,6 +47,10 @@ public class OSH implements IOSHOC, IOSHDriver, IOSHCom {
      */
     private TimeRegistry timeRegistry;
     private DataBroker dataBroker;
+    /**
+     * DatabaseLogger (logging of this OSH to the database)
+     */
+    private final DatabaseLoggerThread databaseLogger = new DatabaseLoggerThread();
 
 
     /**
@@ -193,4 +198,9 @@ public class OSH implements IOSHOC, IOSHDriver, IOSHCom {
     public void setDataBroker(DataBroker dataBroker) {
         this.dataBroker = dataBroker;
     }
+
+    @Override
+    public DatabaseLoggerThread getDatabaseLogger() {
+        return this.databaseLogger;
+    }
 }
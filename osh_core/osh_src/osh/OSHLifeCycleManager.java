@@ -1,6 +1,7 @@
 package osh;
 
 import osh.cal.CALManager;
+import osh.configuration.OSHParameterCollection;
 import osh.configuration.cal.AssignedComDevice;
 import osh.configuration.cal.CALConfiguration;
 import osh.configuration.eal.EALConfiguration;
@@ -19,6 +20,7 @@ import osh.core.logging.OSHGlobalLogger;
 import osh.datatypes.logger.SystemLoggerConfiguration;
 import osh.eal.hal.HALManager;
 import osh.eal.hal.exceptions.HALManagerException;
+import osh.registry.CallbackDispatcher;
 import osh.registry.Registry;
 import osh.registry.Registry.ComRegistry;
 import osh.registry.Registry.DriverRegistry;
@@ -28,10 +30,13 @@ import osh.simulation.OSHSimulationResults;
 import osh.simulation.SimulationEngine;
 import osh.simulation.database.DatabaseLoggerThread;
 import osh.simulation.exception.SimulationEngineException;
+import osh.utils.string.ParameterConstants;
 import osh.utils.xml.XMLSerialization;
 
 import java.time.ZonedDateTime;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class OSHLifeCycleManager {
 
@@ -42,6 +47,7 @@ public class OSHLifeCycleManager {
     private CALManager calManager;
 
     private DataBroker dataBroker;
+    private CallbackDispatcher callbackDispatcher;
 
     private SimulationEngine simEngine;
     private boolean hasSimEngine;
@@ -163,6 +169,42 @@ public class OSHLifeCycleManager {
                 logDir);
     }
 
+    /**
+     * Starts unmarshalling the given configuration file in the background.
+     *
+     * @param configFile the configuration file
+     * @param configType the type of the configuration
+     * @return the future of the unmarshalled configuration
+     */
+    private <T> CompletableFuture<T> readInFile(String configFile, Class<T> configType) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return configType.cast(XMLSerialization.file2Unmarshal(configFile, configType));
+            } catch (Exception ex) {
+                throw new CompletionException(ex);
+            }
+        });
+    }
+
+    /**
+     * Waits for the given configuration to be unmarshalled.
+     *
+     * @param configFuture the future of the configuration
+     * @param configName the name of the configuration used in the error message
+     * @return the unmarshalled configuration
+     * @throws LifeCycleManagerException if the configuration could not be loaded
+     */
+    private <T> T awaitConfiguration(CompletableFuture<T> configFuture, String configName)
+            throws LifeCycleManagerException {
+        try {
+            return configFuture.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            this.globalLogger.logError("can't load " + configName + "-configuration", cause);
+            throw new LifeCycleManagerException(cause);
+        }
+    }
+
     /**
      * initialize the Organic Smart Home based on the given configuration files,
      * unmarshalls the configuration files
@@ -179,47 +221,17 @@ public class OSHLifeCycleManager {
             String configurationID,
             String logDir) throws LifeCycleManagerException {
 
-        // load from files:
+        // load from files (the files are independent, so they are unmarshalled concurrently):
         Long usedRandomSeed = randomSeed;
-        OSHConfiguration oshConfig;
-        try {
-            oshConfig = (OSHConfiguration) XMLSerialization.file2Unmarshal(
-                    oshConfigFile,
-                    OSHConfiguration.class);
-        } catch (Exception ex) {
-            this.globalLogger.logError("can't load OSH-configuration", ex);
-            throw new LifeCycleManagerException(ex);
-        }
+        CompletableFuture<OSHConfiguration> oshConfigFuture = this.readInFile(oshConfigFile, OSHConfiguration.class);
+        CompletableFuture<OCConfiguration> ocConfigFuture = this.readInFile(ocConfigFile, OCConfiguration.class);
+        CompletableFuture<EALConfiguration> ealConfigFuture = this.readInFile(ealConfigFile, EALConfiguration.class);
+        CompletableFuture<CALConfiguration> calConfigFuture = this.readInFile(calConfigFile, CALConfiguration.class);
 
-        OCConfiguration ocConfig;
-        try {
-            ocConfig = (OCConfiguration) XMLSerialization.file2Unmarshal(
-                    ocConfigFile,
-                    OCConfiguration.class);
-        } catch (Exception ex) {
-            this.globalLogger.logError("can't load OC-configuration", ex);
-            throw new LifeCycleManagerException(ex);
-        }
-
-        EALConfiguration ealConfig;
-        try {
-            ealConfig = (EALConfiguration) XMLSerialization.file2Unmarshal(
-                    ealConfigFile,
-                    EALConfiguration.class);
-        } catch (Exception ex) {
-            this.globalLogger.logError("can't load EAL-configuration", ex);
-            throw new LifeCycleManagerException(ex);
-        }
-
-        CALConfiguration calConfig;
-        try {
-            calConfig = (CALConfiguration) XMLSerialization.file2Unmarshal(
-                    calConfigFile,
-                    CALConfiguration.class);
-        } catch (Exception ex) {
-            this.globalLogger.logError("can't load CAL-configuration", ex);
-            throw new LifeCycleManagerException(ex);
-        }
+        OSHConfiguration oshConfig = this.awaitConfiguration(oshConfigFuture, "OSH");
+        OCConfiguration ocConfig = this.awaitConfiguration(ocConfigFuture, "OC");
+        EALConfiguration ealConfig = this.awaitConfiguration(ealConfigFuture, "EAL");
+        CALConfiguration calConfig = this.awaitConfiguration(calConfigFuture, "CAL");
 
         /*
          * if a random seed is given from external it will override the random seed in the configuration package
@@ -239,27 +251,47 @@ public class OSHLifeCycleManager {
 
         oshConfig.setRandomSeed(usedRandomSeed.toString());
 
-        this.theOrganicSmartHome.setRandomDistributor(new RandomDistributor(this.theOrganicSmartHome, usedRandomSeed));
+        OSHParameterCollection engineParameters = new OSHParameterCollection();
+        engineParameters.loadCollection(oshConfig.getEngineParameters());
+
+        //old sequence of random generators, kept for the reproducibility of existing results
+        String legacyParameter = engineParameters.getParameter(ParameterConstants.Simulation.legacyRandomDistribution);
+        boolean legacyRandomDistribution = legacyParameter == null || Boolean.parseBoolean(legacyParameter);
+
+        this.theOrganicSmartHome.setRandomDistributor(new RandomDistributor(this.theOrganicSmartHome, usedRandomSeed,
+                legacyRandomDistribution));
         this.globalLogger.logInfo("Using random seed 0x" + Long.toHexString(usedRandomSeed));
 
         //assigning Registries
 
         boolean isSimulation = oshConfig.getRunningType() == RunningType.SIMULATION;
 
+        // in the real world all registries share one dispatcher for their callbacks, simulations call all
+        // listeners on the publishing thread to stay reproducible
+        if (!isSimulation) {
+            String threadsParameter = engineParameters.getParameter(ParameterConstants.Registry.dispatcherThreads);
+            int dispatcherThreads = threadsParameter != null ? Integer.parseInt(threadsParameter)
+                    : CallbackDispatcher.getDefaultThreads();
+            this.callbackDispatcher = new CallbackDispatcher("registry", dispatcherThreads, this.globalLogger);
+            this.globalLogger.logInfo("Delivering registry callbacks on " + dispatcherThreads + " threads");
+        }
+
         // assign OCRegistry (O/C communication above HAL)
-        OCRegistry ocRegistry = new OCRegistry(this.theOrganicSmartHome, isSimulation);
+        OCRegistry ocRegistry = new OCRegistry(this.theOrganicSmartHome, isSimulation, this.callbackDispatcher);
         this.theOrganicSmartHome.setOCRegistry(ocRegistry);
 
         // assign DriverRegistry (DeviceDriver, ComDriver and BusDriver communication below HAL)
-        DriverRegistry driverRegistry = new DriverRegistry(this.theOrganicSmartHome, isSimulation);
+        DriverRegistry driverRegistry = new DriverRegistry(this.theOrganicSmartHome, isSimulation,
+                this.callbackDispatcher);
         this.theOrganicSmartHome.setDriverRegistry(driverRegistry);
 
         // assign ComRegistry (communication to SignalProviders, REMS etc.)
-        ComRegistry comRegistry = new ComRegistry(this.theOrganicSmartHome, isSimulation);
+        ComRegistry comRegistry = new ComRegistry(this.theOrganicSmartHome, isSimulation, this.callbackDispatcher);
         this.theOrganicSmartHome.setComRegistry(comRegistry);
 
         // assign TimeRegistry (informs about time events)
-        TimeRegistry timeRegistry = new TimeRegistry(this.theOrganicSmartHome, isSimulation);
+        TimeRegistry timeRegistry = new TimeRegistry(this.theOrganicSmartHome, isSimulation,
+                this.callbackDispatcher);
         this.theOrganicSmartHome.setTimeRegistry(timeRegistry);
 
         //instantiating the data broker and assiging it to the osh
@@ -455,7 +487,11 @@ public class OSHLifeCycleManager {
                 this.ealManager.onSystemShutdown();
                 this.calManager.onSystemShutdown();
                 this.prepareSystemShutdown();
-                DatabaseLoggerThread.shutDown();
+                this.theOrganicSmartHome.getDatabaseLogger().shutDown();
+                if (this.callbackDispatcher != null) {
+                    this.callbackDispatcher.shutdown();
+                    this.globalLogger.logInfo("Registry callbacks: " + this.callbackDispatcher);
+                }
                 this.globalLogger.logInfo("...switching to SYSTEM_SHUTDOWN");
                 break;
             }
@@ -497,6 +533,13 @@ public class OSHLifeCycleManager {
         return this.simEngine;
     }
 
+    /**
+     * @return the database logger of the managed OSH
+     */
+    public DatabaseLoggerThread getDatabaseLogger() {
+        return this.theOrganicSmartHome.getDatabaseLogger();
+    }
+
     public void loadScreenplay(String screenplayFileName) throws LifeCycleManagerException {
         if (this.ealManager != null) {
             try {
@@ -512,17 +555,37 @@ public class OSHLifeCycleManager {
     public void initDatabaseLogging(boolean isDatabaseLogging, String tableName,
                                     ZonedDateTime forcedStartTime, String[] databasesToLog) throws LifeCycleManagerException {
         if (isDatabaseLogging) {
-            DatabaseLoggerThread.initLogger(tableName,
+            boolean alreadyLogging = this.theOrganicSmartHome.getDatabaseLogger().isLogging();
+            this.theOrganicSmartHome.getDatabaseLogger().initLogger(tableName,
                     this.theOrganicSmartHome.getOSHStatus().getLogDir(),
                     forcedStartTime,
                     databasesToLog);
 
-            if (this.ealManager != null) {
-                try {
-                    this.ealManager.initDatabaseLogging();
-                } catch (HALManagerException e) {
-                    throw new LifeCycleManagerException(e);
-                }
+            if (!alreadyLogging) {
+                this.initEALLogging();
+            }
+        }
+    }
+
+    public void initFileLogging(boolean isFileLogging, ZonedDateTime forcedStartTime) throws LifeCycleManagerException {
+        if (isFileLogging) {
+            boolean alreadyLogging = this.theOrganicSmartHome.getDatabaseLogger().isLogging();
+            this.theOrganicSmartHome.getDatabaseLogger().initFileLogger(
+                    this.theOrganicSmartHome.getOSHStatus().getLogDir(),
+                    forcedStartTime);
+
+            if (!alreadyLogging) {
+                this.initEALLogging();
+            }
+        }
+    }
+
+    private void initEALLogging() throws LifeCycleManagerException {
+        if (this.ealManager != null) {
+            try {
+                this.ealManager.initDatabaseLogging();
+            } catch (HALManagerException e) {
+                throw new LifeCycleManagerException(e);
             }
         }
     }
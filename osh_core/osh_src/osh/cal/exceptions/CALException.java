@@ -1,7 +1,5 @@
 package osh.cal.exceptions;
 
-import osh.core.logging.OSHLoggerCore;
-
 /**
  * Exception superclass for the CAL
  *
@@ -15,9 +13,6 @@ public class CALException extends Exception {
     private static final long serialVersionUID = 1L;
 
     public CALException() {
-        if (OSHLoggerCore.cb_Main_Logger != null) {
-            OSHLoggerCore.cb_Main_Logger.error("An unknown error near the HAL occurred...");
-        }
     }
 
     public CALException(String message) {
@@ -9,6 +9,7 @@ import osh.core.interfaces.IOSH;
 import osh.datatypes.registry.AbstractExchange;
 import osh.registry.Registry;
 import osh.registry.interfaces.IDataRegistryListener;
+import osh.registry.interfaces.IPromiseToBeImmutable;
 
 import java.util.*;
 
@@ -85,8 +86,15 @@ public class DataBroker extends OSHComponent implements ILifeCycleListener, IDat
 
             for (UUIDRegistryPair pair : listForType) {
 
-                if (pair.setSenderToIdentifier) exchange.setSender(pair.identifier);
-                this.getRegistryFromType(pair.drain).publish((Class<T>) exchange.getClass(), exchange);
+                T toPublish = exchange;
+                if (pair.setSenderToIdentifier) {
+                    //immutable exchanges are shared with other subscribers and must not be changed
+                    if (exchange instanceof IPromiseToBeImmutable) {
+                        toPublish = (T) exchange.clone();
+                    }
+                    toPublish.setSender(pair.identifier);
+                }
+                this.getRegistryFromType(pair.drain).publish((Class<T>) toPublish.getClass(), toPublish);
             }
         }
     }
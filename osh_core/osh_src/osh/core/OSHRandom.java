@@ -4,7 +4,8 @@ import java.util.Random;
 import java.util.stream.DoubleStream;
 
 /**
- * Wrapper around a random generator, providing easier access to random numbers with specific characteristics.
+ * Wrapper around a random generator, providing easier access to random numbers with specific characteristics. The
+ * underlying generator is thread-safe on its own, so no draw is synchronized.
  *
  * @author Florian Allerding, Kaibin Bao, Till Schuberth, Ingo Mauser
  */
@@ -26,7 +27,7 @@ public class OSHRandom {
      *
      * @return a randomly generated integer
      */
-    public synchronized int getNextInt() {
+    public int getNextInt() {
         return this.random.nextInt();
     }
 
@@ -37,7 +38,7 @@ public class OSHRandom {
      *
      * @return a random integer in [0, max)
      */
-    public synchronized int getNextInt(int max) {
+    public int getNextInt(int max) {
         return this.random.nextInt(max);
     }
 
@@ -46,7 +47,7 @@ public class OSHRandom {
      *
      * @return a random double in [0, 1)
      */
-    public synchronized double getNextDouble() {
+    public double getNextDouble() {
         return this.random.nextDouble();
     }
 
@@ -58,7 +59,7 @@ public class OSHRandom {
      *
      * @return a stream of limit doubles in [0, 1)
      */
-    public synchronized DoubleStream getDoubleArray(int limit) {
+    public DoubleStream getDoubleArray(int limit) {
         return this.random.doubles(limit);
     }
 
@@ -71,7 +72,7 @@ public class OSHRandom {
      * @param maxBound the upper bound
      * @return an array of limit doubles in [minBound, maxBound)
      */
-    public synchronized double[] getDoubleArrayBoundaries(int limit, double minBound, double maxBound) {
+    public double[] getDoubleArrayBoundaries(int limit, double minBound, double maxBound) {
         return this.random.doubles(limit, minBound, maxBound).toArray();
     }
 
@@ -80,7 +81,7 @@ public class OSHRandom {
      *
      * @param bytes the array to fill
      */
-    public synchronized void getNextBytes(byte[] bytes) {
+    public void getNextBytes(byte[] bytes) {
         this.random.nextBytes(bytes);
     }
 
@@ -90,7 +91,7 @@ public class OSHRandom {
      * @param max the upper bound
      * @return a random double in [0, max)
      */
-    public synchronized double getNextDouble(double max) {
+    public double getNextDouble(double max) {
         return max * this.random.nextDouble();
     }
 
@@ -99,7 +100,7 @@ public class OSHRandom {
      *
      * @return a random float in [0, 1)
      */
-    public synchronized float getNextFloat() {
+    public float getNextFloat() {
         return this.random.nextFloat();
     }
 
@@ -108,7 +109,7 @@ public class OSHRandom {
      *
      * @return a randomly generated long
      */
-    public synchronized long getNextLong() {
+    public long getNextLong() {
         return this.random.nextLong();
     }
 
@@ -117,7 +118,7 @@ public class OSHRandom {
      *
      * @return a randomly generated boolean
      */
-    public synchronized boolean getNextBoolean() {
+    public boolean getNextBoolean() {
         return this.random.nextBoolean();
     }
 
@@ -127,7 +128,7 @@ public class OSHRandom {
      *
      * @return a random double follwing the standard normal distribution
      */
-    public synchronized double getNextGaussian() {
+    public double getNextGaussian() {
         return this.random.nextGaussian();
     }
 }
@@ -1,45 +1,47 @@
 package osh.core;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import osh.OSH;
 import osh.OSHComponent;
 
-import java.time.Duration;
-import java.time.ZonedDateTime;
-import java.util.HashSet;
-import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Distributes random generators in a deterministic and independent inside the OSH. Once enabled will ensure that the same component gets
  * the exact same random generator independent of each other component in the simulation.
  *
- * Will break backwards compatibility so operates in a legacy mode for now.
+ * Will break backwards compatibility so the legacy mode, drawing all generators from one shared master random
+ * generator, can be kept for existing result sets.
  *
  * @author Sebastian Kramer
  */
 public class RandomDistributor extends OSHComponent {
 
+    //constants of the SplittableRandom mixing function
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long CALL_GAMMA = 0xc2b2ae3d27d4eb4fL;
+
     private final long initialRandomSeed;
 
-    private final static boolean IS_LEGACY_MODE = true;
+    private final boolean isLegacyMode;
     private final OSHRandom legacyRandom;
 
-    private ZonedDateTime startTime;
+    private long startEpochSecond;
 
-    private final HashSet<UUID> allIdentifier = new HashSet<>();
-    private final Object2ObjectOpenHashMap<UUIDClass, RandomWrapper> uuidClassToRandomGenMap = new Object2ObjectOpenHashMap<>();
+    private final ConcurrentHashMap<UUIDClass, RandomStream> uuidClassToRandomStreamMap = new ConcurrentHashMap<>();
 
     /**
      * Creates this distributor with the given simulation entitiy and a master seed.
      *
      * @param entity the simulation entity
      * @param masterSeed the master seed
+     * @param isLegacyMode flag if all random generators should be drawn from one shared master random generator
      */
-    public RandomDistributor(OSH entity, long masterSeed) {
+    public RandomDistributor(OSH entity, long masterSeed, boolean isLegacyMode) {
         super(entity);
 
-        if (IS_LEGACY_MODE) {
+        this.isLegacyMode = isLegacyMode;
+        if (isLegacyMode) {
             this.initialRandomSeed = -1L;
             this.legacyRandom = new OSHRandom(masterSeed);
         } else {
@@ -51,9 +53,9 @@ public class RandomDistributor extends OSHComponent {
     /**
      * Returns a unique random generator based on the unique identifier and the class of the caller.
      *
-     * Will ensure that every random generator is unique at any time t by iterating over a master random generator exactly n times, where
-     * n is either seconds passed since the last request of the same caller for a random generator or the seconds passed since creation
-     * of this class.
+     * Will ensure that every random generator is unique at any time t by deriving the seed of the generator from the
+     * identifier, the class, the seconds passed since the start of the OSH and the number of previous requests of the
+     * same caller in the same second.
      *
      * @param identifier the unique identifier
      * @param className the class of the caller
@@ -68,9 +70,10 @@ public class RandomDistributor extends OSHComponent {
     /**
      * Returns a unique random generator based on the unique identifier and the class of the caller.
      *
-     * Will ensure that every random generator is unique at any time t by iterating over a master random generator exactly n times, where
-     * n is either seconds passed since the last request of the same caller for a random generator or the seconds passed since creation
-     * of this class.
+     * Will ensure that every random generator is unique at any time t by deriving the seed of the generator from the
+     * identifier, the class, the seconds passed since the start of the OSH and the number of previous requests of the
+     * same caller in the same second. The derivation takes constant time, independent of the time passed since the
+     * last request.
      *
      * @param identifier the unique identifier
      * @param className the class of the caller
@@ -80,7 +83,7 @@ public class RandomDistributor extends OSHComponent {
      */
     public OSHRandom getRandomGenerator(UUID identifier, Class<?> className, boolean getBaseRandom) {
 
-        if (IS_LEGACY_MODE) {
+        if (this.isLegacyMode) {
             if (!getBaseRandom) {
                 return new OSHRandom(this.legacyRandom.getNextLong());
             } else {
@@ -88,61 +91,34 @@ public class RandomDistributor extends OSHComponent {
             }
         }
 
-        RandomWrapper random;
-        ZonedDateTime currentTime = this.getTimeDriver().getCurrentTime();
-
-        if (this.allIdentifier.contains(identifier)) {
-            UUIDClass dummy = new UUIDClass(identifier, className.getName());
-
-            if (!this.uuidClassToRandomGenMap.containsKey(dummy)) {
-                this.getGlobalLogger().logError("Two components with same UUID but different classes demand a random " +
-                        "generator, unspecified behaviour .... ");
-
-                long uuidUpper = identifier.getMostSignificantBits();
-                long uuidLower = identifier.getLeastSignificantBits();
-
-                long constructedSeed = this.initialRandomSeed + (uuidUpper >> 32) + (uuidLower << 32);
-
-                random = new RandomWrapper(new Random(constructedSeed).nextLong(), currentTime);
-
-                this.uuidClassToRandomGenMap.put(dummy, random);
-            } else {
-                random = this.uuidClassToRandomGenMap.get(dummy);
-            }
-
-        } else {
-            //create a new wrapper
-            long uuidUpper = identifier.getMostSignificantBits();
-            long uuidLower = identifier.getLeastSignificantBits();
-
-            long constructedSeed = this.initialRandomSeed + (uuidUpper >> 32) + (uuidLower << 32);
+        RandomStream stream = this.uuidClassToRandomStreamMap.computeIfAbsent(
+                new UUIDClass(identifier, className.getName()), this::createStream);
 
-            random = new RandomWrapper(constructedSeed, this.startTime);
-
-            this.uuidClassToRandomGenMap.put(new UUIDClass(identifier, className.getName()), random);
-            this.allIdentifier.add(identifier);
-        }
+        long second = this.getTimeDriver().getCurrentEpochSecond() - this.startEpochSecond;
+        return new OSHRandom(stream.nextSeed(second));
+    }
 
-        if (!random.lastCalled.isEqual(currentTime)) {
-            //starting at 1 as we already need to call nextLong() one time to generate the next seed
-            for (long i = 1; i < Duration.between(random.lastCalled, currentTime).toSeconds(); i++) {
-                random.baseRandom.getNextLong();
-            }
-            random.currentRandom = new OSHRandom(random.baseRandom.getNextLong());
-            random.lastCalled = currentTime;
-        } else {
-            //multiple calls from same component, better be sure and generate a new random gen
-            random.currentRandom = new OSHRandom(random.baseRandom.getNextLong());
-        }
+    private RandomStream createStream(UUIDClass uuidClass) {
+        long seed = mix64(this.initialRandomSeed + GOLDEN_GAMMA * uuidClass.getClassName().hashCode());
+        seed = mix64(seed + uuidClass.getIdentifier().getMostSignificantBits());
+        seed = mix64(seed + uuidClass.getIdentifier().getLeastSignificantBits());
+        return new RandomStream(seed);
+    }
 
-        return random.currentRandom;
+    /**
+     * Mixing function of the SplittableRandom (variant 13 of the MurmurHash3 finalizer).
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
     }
 
     /**
      * Signals that the OSH has started and we can draw the start-time from the time driver.
      */
     public void startClock() {
-        this.startTime = this.getTimeDriver().getTimeAtStart();
+        this.startEpochSecond = this.getTimeDriver().getTimeAtStart().toEpochSecond();
     }
 
     /**
@@ -186,19 +162,27 @@ public class RandomDistributor extends OSHComponent {
     }
 
     /**
-     * Unique wrapper for each caller's random generator
+     * Unique stream of random generators for each caller, only to be used by the caller itself
      */
-    private static final class RandomWrapper {
+    private static final class RandomStream {
 
-        private ZonedDateTime lastCalled;
-        private final OSHRandom baseRandom;
-        private OSHRandom currentRandom;
+        private final long streamSeed;
+        private long lastSecond = -1;
+        private long callsInSecond;
 
-        private RandomWrapper(long baseRandomSeed, ZonedDateTime lastCalled) {
-            this.lastCalled = lastCalled;
+        private RandomStream(long streamSeed) {
+            this.streamSeed = streamSeed;
+        }
 
-            this.baseRandom = new OSHRandom(baseRandomSeed);
-            this.currentRandom = new OSHRandom(this.baseRandom.getNextLong());
+        private long nextSeed(long second) {
+            if (second != this.lastSecond) {
+                this.lastSecond = second;
+                this.callsInSecond = 0;
+            } else {
+                //multiple calls from same component, better be sure and generate a new random gen
+                this.callsInSecond++;
+            }
+            return mix64(mix64(this.streamSeed + GOLDEN_GAMMA * second) + CALL_GAMMA * this.callsInSecond);
         }
     }
 }
@@ -6,6 +6,7 @@ import osh.core.RandomDistributor;
 import osh.core.logging.IGlobalLogger;
 import osh.eal.EALTimeDriver;
 import osh.registry.TimeRegistry;
+import osh.simulation.database.DatabaseLoggerThread;
 
 /**
  * @author Florian Allerding, Kaibin Bao, Ingo Mauser, Till Schuberth
@@ -28,4 +29,6 @@ public interface IOSH {
 
     DataBroker getDataBroker();
 
+    DatabaseLoggerThread getDatabaseLogger();
+
 }
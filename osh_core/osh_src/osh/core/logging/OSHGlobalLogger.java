@@ -1,6 +1,7 @@
 package osh.core.logging;
 
 import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
 import osh.core.interfaces.IOSH;
 import osh.core.interfaces.IOSHStatus;
 import osh.datatypes.logger.SystemLoggerConfiguration;
@@ -27,6 +28,8 @@ public class OSHGlobalLogger implements IGlobalLogger {
     private boolean systemLoggingActive;
     private boolean messageCallerTrace;
 
+    private Logger logger;
+
     /**
      * CONSTRUCTOR
      *
@@ -68,10 +71,12 @@ public class OSHGlobalLogger implements IGlobalLogger {
     private void initGlobalLogger(String logDirName, String logLevel) {
         if (!this.createSingleLogfile) {
             String timeStamp = String.valueOf(System.currentTimeMillis() / 1000L);
-            OSHLoggerCore.initLoggers(logDirName, "controllerBoxLog_" + timeStamp, logLevel, true, this.consoleSystemMessagesEnabled);
+            this.logger = OSHLoggerCore.initLoggers(logDirName, "controllerBoxLog_" + timeStamp, logLevel, true,
+                    this.consoleSystemMessagesEnabled);
         } else {
 
-            OSHLoggerCore.initLoggers(logDirName, "controllerBoxLog", logLevel, false, this.consoleSystemMessagesEnabled);
+            this.logger = OSHLoggerCore.initLoggers(logDirName, "controllerBoxLog", logLevel, false,
+                    this.consoleSystemMessagesEnabled);
         }
     }
 
@@ -154,12 +159,29 @@ public class OSHGlobalLogger implements IGlobalLogger {
         return this.consoleSystemMessagesEnabled;
     }
 
+    /**
+     * Returns the logger initialized by this global logger or the root logger of log4j if this global logger has not
+     * initialized its own.
+     *
+     * @return the logger to log to
+     */
+    private Logger getMainLogger() {
+        return this.logger != null ? this.logger : Logger.getRootLogger();
+    }
+
+    /**
+     * Removes all appenders of the logger initialized by this global logger, closing its log files.
+     */
+    public void removeAllAppenders() {
+        OSHLoggerCore.removeAllAppenders(this.logger);
+    }
+
     public String getLogLevel() {
-        return OSHLoggerCore.getLogLevel();
+        return this.getMainLogger().getLevel().toString();
     }
 
     public void setLogLevel(String logLevel) {
-        OSHLoggerCore.setLogLevel(logLevel);
+        this.getMainLogger().setLevel(Level.toLevel(logLevel));
     }
 
     /**
@@ -190,9 +212,9 @@ public class OSHGlobalLogger implements IGlobalLogger {
             if (this.messageCallerTrace) {
                 String[] callerClassNameSpace = Thread.currentThread().getStackTrace()[2].getClassName().split("\\.");
                 String callerClassName = callerClassNameSpace[callerClassNameSpace.length - 1];
-                OSHLoggerCore.cb_Main_Logger.error(this.getHhUUIDLogString() + "[LOGGING] [" + this.currentTime() + "] [ERROR] [" + callerClassName + "] : [" + message + "]");
+                this.getMainLogger().error(this.getHhUUIDLogString() + "[LOGGING] [" + this.currentTime() + "] [ERROR] [" + callerClassName + "] : [" + message + "]");
             } else {
-                OSHLoggerCore.cb_Main_Logger.error(message);
+                this.getMainLogger().error(message);
             }
         }
     }
@@ -202,9 +224,9 @@ public class OSHGlobalLogger implements IGlobalLogger {
             if (this.messageCallerTrace) {
                 String[] callerClassNameSpace = Thread.currentThread().getStackTrace()[2].getClassName().split("\\.");
                 String callerClassName = callerClassNameSpace[callerClassNameSpace.length - 1];
-                OSHLoggerCore.cb_Main_Logger.error(this.getHhUUIDLogString() + "[LOGGING] [" + this.currentTime() + "] [ERROR] [" + callerClassName + "] : [" + message + "]", throwable);
+                this.getMainLogger().error(this.getHhUUIDLogString() + "[LOGGING] [" + this.currentTime() + "] [ERROR] [" + callerClassName + "] : [" + message + "]", throwable);
             } else {
-                OSHLoggerCore.cb_Main_Logger.error(message, throwable);
+                this.getMainLogger().error(message, throwable);
             }
         }
     }
@@ -214,9 +236,9 @@ public class OSHGlobalLogger implements IGlobalLogger {
             if (this.messageCallerTrace) {
                 String[] callerClassNameSpace = Thread.currentThread().getStackTrace()[2].getClassName().split("\\.");
                 String callerClassName = callerClassNameSpace[callerClassNameSpace.length - 1];
-                OSHLoggerCore.cb_Main_Logger.warn(this.getHhUUIDLogString() + "[LOGGING] [" + this.currentTime() + "] [WARN] [" + callerClassName + "] : [" + message + "]");
+                this.getMainLogger().warn(this.getHhUUIDLogString() + "[LOGGING] [" + this.currentTime() + "] [WARN] [" + callerClassName + "] : [" + message + "]");
             } else {
-                OSHLoggerCore.cb_Main_Logger.warn(message);
+                this.getMainLogger().warn(message);
             }
         }
     }
@@ -226,9 +248,9 @@ public class OSHGlobalLogger implements IGlobalLogger {
             if (this.messageCallerTrace) {
                 String[] callerClassNameSpace = Thread.currentThread().getStackTrace()[2].getClassName().split("\\.");
                 String callerClassName = callerClassNameSpace[callerClassNameSpace.length - 1];
-                OSHLoggerCore.cb_Main_Logger.warn(this.getHhUUIDLogString() + "[LOGGING] [" + this.currentTime() + "] [WARN] [" + callerClassName + "] : [" + message + "]", throwable);
+                this.getMainLogger().warn(this.getHhUUIDLogString() + "[LOGGING] [" + this.currentTime() + "] [WARN] [" + callerClassName + "] : [" + message + "]", throwable);
             } else {
-                OSHLoggerCore.cb_Main_Logger.warn(message, throwable);
+                this.getMainLogger().warn(message, throwable);
             }
         }
     }
@@ -238,9 +260,9 @@ public class OSHGlobalLogger implements IGlobalLogger {
             if (this.messageCallerTrace) {
                 String[] callerClassNameSpace = Thread.currentThread().getStackTrace()[2].getClassName().split("\\.");
                 String callerClassName = callerClassNameSpace[callerClassNameSpace.length - 1];
-                OSHLoggerCore.cb_Main_Logger.info(this.getHhUUIDLogString() + "[LOGGING] [" + this.currentTime() + "] [INFO] [" + callerClassName + "] : [" + message + "]");
+                this.getMainLogger().info(this.getHhUUIDLogString() + "[LOGGING] [" + this.currentTime() + "] [INFO] [" + callerClassName + "] : [" + message + "]");
             } else {
-                OSHLoggerCore.cb_Main_Logger.info(message);
+                this.getMainLogger().info(message);
             }
         }
     }
@@ -250,9 +272,9 @@ public class OSHGlobalLogger implements IGlobalLogger {
             if (this.messageCallerTrace) {
                 String[] callerClassNameSpace = Thread.currentThread().getStackTrace()[2].getClassName().split("\\.");
                 String callerClassName = callerClassNameSpace[callerClassNameSpace.length - 1];
-                OSHLoggerCore.cb_Main_Logger.info(this.getHhUUIDLogString() + "[LOGGING] [" + this.currentTime() + "] [INFO] [" + callerClassName + "] : [" + message + "]", throwable);
+                this.getMainLogger().info(this.getHhUUIDLogString() + "[LOGGING] [" + this.currentTime() + "] [INFO] [" + callerClassName + "] : [" + message + "]", throwable);
             } else {
-                OSHLoggerCore.cb_Main_Logger.info(message, throwable);
+                this.getMainLogger().info(message, throwable);
             }
         }
     }
@@ -263,9 +285,9 @@ public class OSHGlobalLogger implements IGlobalLogger {
             if (this.messageCallerTrace) {
                 String[] callerClassNameSpace = Thread.currentThread().getStackTrace()[2].getClassName().split("\\.");
                 String callerClassName = callerClassNameSpace[callerClassNameSpace.length - 1];
-                OSHLoggerCore.cb_Main_Logger.debug(this.getHhUUIDLogString() + "[LOGGING] [" + this.currentTime() + "] [DEBUG] [" + callerClassName + "] : [" + message + "]");
+                this.getMainLogger().debug(this.getHhUUIDLogString() + "[LOGGING] [" + this.currentTime() + "] [DEBUG] [" + callerClassName + "] : [" + message + "]");
             } else {
-                OSHLoggerCore.cb_Main_Logger.debug(message);
+                this.getMainLogger().debug(message);
             }
         }
     }
@@ -275,9 +297,9 @@ public class OSHGlobalLogger implements IGlobalLogger {
             if (this.messageCallerTrace) {
                 String[] callerClassNameSpace = Thread.currentThread().getStackTrace()[2].getClassName().split("\\.");
                 String callerClassName = callerClassNameSpace[callerClassNameSpace.length - 1];
-                OSHLoggerCore.cb_Main_Logger.debug(this.getHhUUIDLogString() + "[LOGGING] [" + this.currentTime() + "] [DEBUG] [" + callerClassName + "] : [" + message + "]", throwable);
+                this.getMainLogger().debug(this.getHhUUIDLogString() + "[LOGGING] [" + this.currentTime() + "] [DEBUG] [" + callerClassName + "] : [" + message + "]", throwable);
             } else {
-                OSHLoggerCore.cb_Main_Logger.debug(message, throwable);
+                this.getMainLogger().debug(message, throwable);
             }
         }
     }
@@ -313,7 +335,7 @@ public class OSHGlobalLogger implements IGlobalLogger {
     @Override
     public void printDebugMessage(Object message) {
         // print only in debug level
-        if (OSHLoggerCore.cb_Main_Logger.getLevel() == Level.DEBUG) {
+        if (this.getMainLogger().getLevel() == Level.DEBUG) {
             String[] callerClassNameSpace = Thread.currentThread().getStackTrace()[2].getClassName().split("\\.");
             String callerClassName = callerClassNameSpace[callerClassNameSpace.length - 1];
             System.out.println(this.getHhUUIDLogString() + "[CONSOLE] [" + this.currentTime() + "] [DEBUG] [" + callerClassName + "] : [" + message + "]");
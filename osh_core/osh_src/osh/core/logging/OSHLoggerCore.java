@@ -7,23 +7,21 @@ import java.io.IOException;
 
 
 /**
- * central static logger class for the OSH. will be initialized at the
- * OSH_Manager ctor
+ * creates the log4j loggers of the OSH, every {@link OSHGlobalLogger} owns
+ * the logger created for it
  *
  * @author Florian Allerding
  */
 public class OSHLoggerCore {
 
     /**
-     * For creating a log-message use this logger like:
-     * root_logger.warn("message");
+     * removes all appenders of the given logger, closing its log files
+     *
+     * @param logger the logger
      */
-
-    public static Logger cb_Main_Logger;
-
-    public static void removeAllAppenders() {
-        if (cb_Main_Logger != null) {
-            cb_Main_Logger.removeAllAppenders();
+    public static void removeAllAppenders(Logger logger) {
+        if (logger != null) {
+            logger.removeAllAppenders();
         }
     }
 
@@ -33,8 +31,8 @@ public class OSHLoggerCore {
      * @param logFileName
      * @param logLevel
      */
-    public static void initRootLogger(String logDirName, String logFileName, String logLevel, boolean useConsoleAppender) {
-        initLoggers(logDirName, logFileName, logLevel, false, useConsoleAppender);
+    public static Logger initRootLogger(String logDirName, String logFileName, String logLevel, boolean useConsoleAppender) {
+        return initLoggers(logDirName, logFileName, logLevel, false, useConsoleAppender);
     }
 
     /**
@@ -43,8 +41,10 @@ public class OSHLoggerCore {
      * @param logFileName
      * @param logLevel
      * @param createSingleLogfile
+     * @return the logger writing to the given log file, every log file gets its own logger so that several OSH can
+     * log in the same jvm
      */
-    public static void initLoggers(String logDirName, String logFileName, String logLevel, boolean createSingleLogfile, boolean useConsoleAppender) {
+    public static Logger initLoggers(String logDirName, String logFileName, String logLevel, boolean createSingleLogfile, boolean useConsoleAppender) {
 
         String adjustedLogFileName = logFileName;
         adjustedLogFileName += ".log";
@@ -59,40 +59,27 @@ public class OSHLoggerCore {
             e1.printStackTrace();
         }
 
-        cb_Main_Logger = Logger.getLogger("Main Logger");
+        Logger logger = Logger.getLogger("Main Logger [" + logDirName + "/" + adjustedLogFileName + "]");
 
-        cb_Main_Logger.addAppender(fileAppender);
+        logger.addAppender(fileAppender);
 
         if (useConsoleAppender) {
             ConsoleAppender consoleAppender = new ConsoleAppender(new PatternLayout(), "System.out");
             consoleAppender.setName("console appender");
 
-            cb_Main_Logger.addAppender(consoleAppender);
+            logger.addAppender(consoleAppender);
         }
 
         try {
-            cb_Main_Logger.setLevel(Level.toLevel(logLevel));
+            logger.setLevel(Level.toLevel(logLevel));
         } catch (Exception e) {
             e.printStackTrace();
         }
 
+        return logger;
 
     }
 
-    public static String getLogLevel() {
-        return cb_Main_Logger.getLevel().toString();
-    }
-
-    /**
-     * sets a specific loglevel like "warn", "info", ...
-     *
-     * @param logLevel
-     */
-    public static void setLogLevel(String logLevel) {
-        cb_Main_Logger.setLevel(Level.toLevel(logLevel));
-    }
-
-
     private static void createLogFile(String dirName, String fileName) {
         File logfile;
 
@@ -35,6 +35,7 @@ public class EALTimeDriver implements Runnable {
 
     private final IGlobalLogger logger;
     private final TimeRegistry timeRegistry;
+    private final TimeEventProvider timeEventProvider = new TimeEventProvider();
 
     /**
      * Creates this time-manager with a given starting time (and implicit time-zone through this given time), given
@@ -63,7 +64,7 @@ public class EALTimeDriver implements Runnable {
             this.timeAtStart = timeAtStart;
         }
 
-        this.currentTimeEvents = TimeEventProvider.getTimeEvents(timeAtStart);
+        this.currentTimeEvents = this.timeEventProvider.getTimeEvents(timeAtStart);
         this.currentTime = this.timeAtStart;
         this.currentEpochSecond = this.currentTime.toEpochSecond();
     }
@@ -80,7 +81,7 @@ public class EALTimeDriver implements Runnable {
         this.currentTime = this.timeAtStart.plusSeconds(simulationSeconds);
         this.currentEpochSecond = this.currentTime.toEpochSecond();
 
-        this.currentTimeEvents = TimeEventProvider.getTimeEvents(this.currentTime);
+        this.currentTimeEvents = this.timeEventProvider.getTimeEvents(this.currentTime);
 
         if (this.currentTimeEvents.contains(TimeSubscribeEnum.HOUR)) {
             this.logger.logDebug("current time: " + this.currentTime.format(this.timeFormatter));
@@ -98,7 +99,7 @@ public class EALTimeDriver implements Runnable {
         try {
             this.currentTime = ZonedDateTime.now(this.hostTimeZone).truncatedTo(ChronoUnit.SECONDS);
             this.currentEpochSecond = this.currentTime.toEpochSecond();
-            this.currentTimeEvents = TimeEventProvider.getTimeEvents(this.currentTime);
+            this.currentTimeEvents = this.timeEventProvider.getTimeEvents(this.currentTime);
 
             this.timeRegistry.publish(new TimeExchange(this.currentTimeEvents, this.currentTime));
         } catch (Exception e) {
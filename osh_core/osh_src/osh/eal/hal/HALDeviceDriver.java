@@ -82,6 +82,7 @@ public abstract class HALDeviceDriver
                 meterSources = this.parseUUIDArray(cfgMeterSources);
                 this.meterUuids.addAll(meterSources);
             } catch (OSHException e) {
+                this.getGlobalLogger().logError("invalid metersources: " + cfgMeterSources, e);
                 e.printStackTrace();
             }
         }
@@ -426,7 +426,7 @@ public class HALManager extends EALManager implements ILifeCycleListener {
 
     public void initDatabaseLogging() throws HALManagerException {
         if (this.simEngine != null && this.simEngine instanceof BuildingSimulationEngine) {
-            ((BuildingSimulationEngine) this.simEngine).setDatabaseLogging();
+            ((BuildingSimulationEngine) this.simEngine).setDatabaseLogging(this.getOSH().getDatabaseLogger());
         } else {
             throw new HALManagerException("Unable to initiate database logging with this SimulationEngine");
         }
@@ -1,7 +1,5 @@
 package osh.eal.hal.exceptions;
 
-import osh.core.logging.OSHLoggerCore;
-
 /**
  * Exception superclass for the HAL
  *
@@ -15,9 +13,6 @@ public class HALException extends Exception {
     private static final long serialVersionUID = 1L;
 
     public HALException() {
-        if (OSHLoggerCore.cb_Main_Logger != null) {
-            OSHLoggerCore.cb_Main_Logger.error("An unknown error near the HAL occurred...");
-        }
     }
 
     public HALException(String message) {
@@ -11,8 +11,8 @@ import java.util.UUID;
 public abstract class HALExchange
         implements IHALExchange {
 
-    private UUID deviceID;
-    private ZonedDateTime timestamp;
+    private final UUID deviceID;
+    private final ZonedDateTime timestamp;
 
 
     /**
@@ -33,16 +33,8 @@ public abstract class HALExchange
         return this.deviceID;
     }
 
-    public void setDeviceID(UUID deviceID) {
-        this.deviceID = deviceID;
-    }
-
     @Override
     public ZonedDateTime getTimestamp() {
         return this.timestamp;
     }
-
-    public void setTimestamp(ZonedDateTime timestamp) {
-        this.timestamp = timestamp;
-    }
 }
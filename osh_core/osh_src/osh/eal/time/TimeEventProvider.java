@@ -9,14 +9,15 @@ import java.util.Objects;
 import static osh.eal.time.TimeSubscribeEnum.*;
 
 /**
- * Provides utility methods to calculate the set of events represented by a moment in time.
+ * Provides utility methods to calculate the set of events represented by a moment in time. Every time driver holds
+ * its own provider, so the cache of the last sent events is not shared between simulations.
  *
  * @author Sebastian Kramer
  */
 public class TimeEventProvider {
 
-    private static ZonedDateTime lastSentEventsTime = ZonedDateTime.ofInstant(Instant.EPOCH, ZoneId.of("UTC"));
-    private static EnumSet<TimeSubscribeEnum> lastSentEvents = getTimeEventsFromTime(lastSentEventsTime);
+    private ZonedDateTime lastSentEventsTime = ZonedDateTime.ofInstant(Instant.EPOCH, ZoneId.of("UTC"));
+    private EnumSet<TimeSubscribeEnum> lastSentEvents = getTimeEventsFromTime(this.lastSentEventsTime);
 
     private static EnumSet<TimeSubscribeEnum> getTimeEventsFromTime(ZonedDateTime time) {
         EnumSet<TimeSubscribeEnum> timeEvents = EnumSet.noneOf(TimeSubscribeEnum.class);
@@ -66,11 +67,11 @@ public class TimeEventProvider {
      * @param time the given time
      * @return a set of time events represented by the given time
      */
-    public static EnumSet<TimeSubscribeEnum> getTimeEvents(ZonedDateTime time) {
-        if (!lastSentEventsTime.isEqual(time)) {
-            lastSentEventsTime = time;
-            lastSentEvents = getTimeEventsFromTime(time);
+    public EnumSet<TimeSubscribeEnum> getTimeEvents(ZonedDateTime time) {
+        if (!this.lastSentEventsTime.isEqual(time)) {
+            this.lastSentEventsTime = time;
+            this.lastSentEvents = getTimeEventsFromTime(time);
         }
-        return lastSentEvents;
+        return this.lastSentEvents;
     }
 }
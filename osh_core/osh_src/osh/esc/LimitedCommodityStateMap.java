@@ -44,7 +44,7 @@ public class LimitedCommodityStateMap implements Serializable {
     private final boolean[] keySet = new boolean[commodityCount];
     private int modCount;
 
-    private static LimitedCommodityStateMap baseMap;
+    private static final LimitedCommodityStateMap baseMap = new LimitedCommodityStateMap(true);
 
     public LimitedCommodityStateMap(boolean init) {
 
@@ -70,9 +70,6 @@ public class LimitedCommodityStateMap implements Serializable {
     }
 
     public static LimitedCommodityStateMap getBase() {
-        if (baseMap == null) {
-            baseMap = new LimitedCommodityStateMap(true);
-        }
         return baseMap;
     }
 
@@ -90,6 +87,42 @@ public class LimitedCommodityStateMap implements Serializable {
         this.modCount = other.modCount;
     }
 
+    /**
+     * Returns a complete copy of this map. Other than the copy-constructor, which only copies the structure of the
+     * map, this also copies all additional states and which commodities are set.
+     *
+     * @return a complete copy of this map
+     */
+    public LimitedCommodityStateMap getDeepCopy() {
+        LimitedCommodityStateMap copy = new LimitedCommodityStateMap(this);
+        for (int i = 0; i < this.addElectrical.length; i++) {
+            copy.addElectrical[i] = Arrays.copyOf(this.addElectrical[i], this.addElectrical[i].length);
+        }
+        for (int i = 0; i < this.addThermal.length; i++) {
+            copy.addThermal[i] = Arrays.copyOf(this.addThermal[i], this.addThermal[i].length);
+        }
+        System.arraycopy(this.keySet, 0, copy.keySet, 0, this.keySet.length);
+        return copy;
+    }
+
+    /**
+     * Overwrites all states of this map with the states of the given map, which has to have the same structure as
+     * this map, e.g. because it is a (deep) copy of this map.
+     *
+     * @param other the map to copy all states from
+     */
+    public void copyStatesFrom(LimitedCommodityStateMap other) {
+        System.arraycopy(other.powers, 0, this.powers, 0, this.powers.length);
+        for (int i = 0; i < this.addElectrical.length; i++) {
+            System.arraycopy(other.addElectrical[i], 0, this.addElectrical[i], 0, this.addElectrical[i].length);
+        }
+        for (int i = 0; i < this.addThermal.length; i++) {
+            System.arraycopy(other.addThermal[i], 0, this.addThermal[i], 0, this.addThermal[i].length);
+        }
+        System.arraycopy(other.keySet, 0, this.keySet, 0, this.keySet.length);
+        this.modCount = other.modCount;
+    }
+
     public LimitedCommodityStateMap(EnumSet<Commodity> allPossibleCommodities) {
 
         this.powers = new double[allPossibleCommodities.size()];
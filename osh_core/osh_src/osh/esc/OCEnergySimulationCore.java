@@ -125,9 +125,37 @@ public class OCEnergySimulationCore extends EnergySimulationCore {
             UUIDCommodityMap activeCommodityStates,
             InterdependentProblemPart<?, ?>[] passiveParts,
             AncillaryMeterState ancillaryMeterState) {
+        this.doActiveToPassiveExchange(activeCommodityStates, passiveParts, ancillaryMeterState, null, null);
+    }
+
+    /**
+     * Exchanges the states of all active devices with the passive devices, starting from the given pre-calculated
+     * input states of the passive devices instead of empty ones. The relations originating from the devices whose
+     * states are already contained in the pre-calculated input states are ignored.
+     *
+     * @param activeCommodityStates all output states of the active devices
+     * @param passiveParts all passive devices
+     * @param ancillaryMeterState virtual meter
+     * @param baseInputStates the pre-calculated input states of all passive devices, see
+     *                        {@link #calculateActiveToPassiveInputStates(UUIDCommodityMap)}, may be null
+     * @param preCalculatedSources flags for all device ids whose states are contained in the pre-calculated input
+     *                             states, may be null if the input states are null
+     */
+    public void doActiveToPassiveExchange(
+            UUIDCommodityMap activeCommodityStates,
+            InterdependentProblemPart<?, ?>[] passiveParts,
+            AncillaryMeterState ancillaryMeterState,
+            UUIDCommodityMap baseInputStates,
+            boolean[] preCalculatedSources) {
 
         // input states
-        UUIDCommodityMap totalInputStates = this.getA2PInputStateMap();
+        UUIDCommodityMap totalInputStates;
+        if (baseInputStates == null) {
+            totalInputStates = this.getA2PInputStateMap();
+        } else {
+            totalInputStates = this.a2pInputStateMap;
+            totalInputStates.copyInnerStatesFrom(baseInputStates);
+        }
 
         //reset meter
         ancillaryMeterState.clear();
@@ -136,7 +164,8 @@ public class OCEnergySimulationCore extends EnergySimulationCore {
             grid.doActiveToPassiveCalculation(
                     activeCommodityStates,
                     totalInputStates,
-                    ancillaryMeterState);
+                    ancillaryMeterState,
+                    preCalculatedSources);
         }
 
         // inform subjects about states
@@ -151,6 +180,27 @@ public class OCEnergySimulationCore extends EnergySimulationCore {
         }
     }
 
+    /**
+     * Calculates the input states of all passive devices resulting from the given states of active devices without
+     * informing the passive devices.
+     *
+     * @param activeCommodityStates the output states of (a subset of) the active devices
+     * @return a complete copy of the resulting input states of all passive devices
+     */
+    public UUIDCommodityMap calculateActiveToPassiveInputStates(UUIDCommodityMap activeCommodityStates) {
+        UUIDCommodityMap totalInputStates = this.getA2PInputStateMap();
+        //the meter is not needed, it is re-calculated with the states of all active devices
+        AncillaryMeterState ancillaryMeterState = new AncillaryMeterState();
+
+        for (IEnergyGrid grid : this.allGrids) {
+            grid.doActiveToPassiveCalculation(
+                    activeCommodityStates,
+                    totalInputStates,
+                    ancillaryMeterState);
+        }
+        return totalInputStates.getDeepCopy();
+    }
+
     public void doPassiveToActiveExchange(
             AncillaryMeterState ancillaryMeterState,
             InterdependentProblemPart<?, ?>[] activeParts,
@@ -129,6 +129,31 @@ public class UUIDCommodityMap implements Serializable {
         }
     }
 
+    /**
+     * Returns a complete copy of this map, containing complete copies of all inner states.
+     *
+     * @return a complete copy of this map
+     */
+    public UUIDCommodityMap getDeepCopy() {
+        UUIDCommodityMap copy = new UUIDCommodityMap(this);
+        for (int i = 0; i < this.innerValues.length; i++) {
+            copy.innerValues[i] = this.innerValues[i].getDeepCopy();
+        }
+        return copy;
+    }
+
+    /**
+     * Overwrites all inner states of this map with the inner states of the given map, which has to be a (deep) copy
+     * of this map.
+     *
+     * @param other the map to copy all inner states from
+     */
+    public void copyInnerStatesFrom(UUIDCommodityMap other) {
+        for (int i = 0; i < this.innerValues.length; i++) {
+            this.innerValues[i].copyStatesFrom(other.innerValues[i]);
+        }
+    }
+
     public boolean containsKey(UUID uuid) {
         return this.keyMap.containsKey(uuid);
     }
@@ -20,6 +20,7 @@ import osh.utils.functions.PrimitiveOperators;
 import osh.utils.functions.QuadConsumer;
 import osh.utils.functions.SerializableConsumer;
 import osh.utils.functions.SerializableOperator;
+import osh.utils.functions.TriConsumer;
 import osh.utils.xml.XMLSerialization;
 
 import javax.xml.bind.JAXBException;
@@ -46,6 +47,17 @@ public class ElectricalEnergyGrid implements IEnergyGrid {
     //initialized and improved (shortened) energy relations
     private InitializedEnergyRelation[] initializedImprovedActiveToPassiveArray;
 
+    //energy-exchanges and device information of the energy simulation
+    private InitializedEnergyExchange[] initializedSimulationExchangeArray;
+    private int simulationMeterId = -1;
+    private int[] simulationPvDevices;
+    private int[] simulationChpDevices;
+    private int[] simulationBatDevices;
+    private final TriConsumer<LimitedCommodityStateMap, LimitedCommodityStateMap, Commodity> updateActivePart =
+            this::updateActivePart;
+    private final TriConsumer<LimitedCommodityStateMap, LimitedCommodityStateMap, Commodity> updatePassivePart =
+            this::updatePassivePart;
+
     //information about devices
     private boolean isSingular;
     private int singularPvDevice = -1;
@@ -138,6 +150,12 @@ public class ElectricalEnergyGrid implements IEnergyGrid {
 
         this.initializedImprovedActiveToPassiveArray = other.initializedImprovedActiveToPassiveArray;
 
+        this.initializedSimulationExchangeArray = other.initializedSimulationExchangeArray;
+        this.simulationMeterId = other.simulationMeterId;
+        this.simulationPvDevices = other.simulationPvDevices;
+        this.simulationChpDevices = other.simulationChpDevices;
+        this.simulationBatDevices = other.simulationBatDevices;
+
         this.isSingular = other.isSingular;
         this.singularPvDevice = other.singularPvDevice;
         this.singularChpDevice = other.singularChpDevice;
@@ -314,20 +332,35 @@ public class ElectricalEnergyGrid implements IEnergyGrid {
         this.populateAdditionalStates = this::populateAdditionalStates;
     }
 
+    @Override
+    public void initializeSimulationGrid(Set<UUID> subjectNodes, Object2IntOpenHashMap<UUID> uuidToIntMap) {
+        this.initializedSimulationExchangeArray = GridUtils.initializeExchanges(this.relationList, subjectNodes,
+                uuidToIntMap);
+        this.simulationMeterId = uuidToIntMap.getInt(this.meterUUID);
+
+        //devices without energy information do not contribute to the meter
+        this.simulationPvDevices = this.devicesByType.get(GridDeviceType.PV).stream()
+                .filter(subjectNodes::contains).mapToInt(uuidToIntMap::getInt).toArray();
+        this.simulationChpDevices = this.devicesByType.get(GridDeviceType.CHP).stream()
+                .filter(subjectNodes::contains).mapToInt(uuidToIntMap::getInt).toArray();
+        this.simulationBatDevices = this.devicesByType.get(GridDeviceType.BATTERY).stream()
+                .filter(subjectNodes::contains).mapToInt(uuidToIntMap::getInt).toArray();
+    }
+
     @Override
     public void doCalculation(
-            Map<UUID, LimitedCommodityStateMap> localCommodityStates,
-            Map<UUID, LimitedCommodityStateMap> totalInputStates,
+            UUIDCommodityMap localCommodityStates,
+            UUIDCommodityMap totalInputStates,
             AncillaryMeterState ancillaryMeterState) {
 
         GridUtils.doCalculation(
                 localCommodityStates,
                 totalInputStates,
-                ancillaryMeterState,
-                this.relationList,
-                this::updateActivePart,
-                this::updatePassivePart,
-                this::calculateMeter);
+                this.initializedSimulationExchangeArray,
+                this.updateActivePart,
+                this.updatePassivePart);
+
+        this.calculateSimulationMeter(localCommodityStates, totalInputStates, ancillaryMeterState);
     }
 
     @Override
@@ -335,13 +368,23 @@ public class ElectricalEnergyGrid implements IEnergyGrid {
             UUIDCommodityMap activeStates,
             UUIDCommodityMap totalInputStates,
             AncillaryMeterState ancillaryMeterState) {
+        this.doActiveToPassiveCalculation(activeStates, totalInputStates, ancillaryMeterState, null);
+    }
+
+    @Override
+    public void doActiveToPassiveCalculation(
+            UUIDCommodityMap activeStates,
+            UUIDCommodityMap totalInputStates,
+            AncillaryMeterState ancillaryMeterState,
+            boolean[] ignoredSources) {
 
 
         for (InitializedEnergyRelation rel : this.initializedImprovedActiveToPassiveArray) {
 
             LimitedCommodityStateMap activeLocalCommodities = activeStates.get(rel.getSourceId());
 
-            if (activeLocalCommodities == null) {
+            if (activeLocalCommodities == null
+                    || (ignoredSources != null && ignoredSources[rel.getSourceId()])) {
                 continue;
             }
 
@@ -380,9 +423,9 @@ public class ElectricalEnergyGrid implements IEnergyGrid {
         }
     }
 
-    private void calculateMeter(
-            Map<UUID, LimitedCommodityStateMap> localCommodityStates,
-            Map<UUID, LimitedCommodityStateMap> totalInputStates,
+    private void calculateSimulationMeter(
+            UUIDCommodityMap localCommodityStates,
+            UUIDCommodityMap totalInputStates,
             AncillaryMeterState ancillaryMeterState) {
 
         Objects.requireNonNull(ancillaryMeterState);
@@ -391,22 +434,22 @@ public class ElectricalEnergyGrid implements IEnergyGrid {
         double chpPower = 0;
         double batteryPower = 0;
 
-        for (UUID pv : this.devicesByType.get(GridDeviceType.PV)) {
+        for (int pv : this.simulationPvDevices) {
             LimitedCommodityStateMap pvMap = localCommodityStates.get(pv);
             pvPower += pvMap != null ? pvMap.getPower(Commodity.ACTIVEPOWER) : 0;
         }
 
-        for (UUID chp : this.devicesByType.get(GridDeviceType.CHP)) {
+        for (int chp : this.simulationChpDevices) {
             LimitedCommodityStateMap chpMap = localCommodityStates.get(chp);
             chpPower += chpMap != null ? chpMap.getPower(Commodity.ACTIVEPOWER) : 0;
         }
 
-        for (UUID battery : this.devicesByType.get(GridDeviceType.BATTERY)) {
+        for (int battery : this.simulationBatDevices) {
             LimitedCommodityStateMap batteryMap = localCommodityStates.get(battery);
             batteryPower += batteryMap != null ? batteryMap.getPower(Commodity.ACTIVEPOWER) : 0;
         }
 
-        LimitedCommodityStateMap meterMap = totalInputStates.get(this.meterUUID);
+        LimitedCommodityStateMap meterMap = totalInputStates.get(this.simulationMeterId);
 
         double totalPower = meterMap.getPower(Commodity.ACTIVEPOWER);
 
@@ -1,75 +1,81 @@
 package osh.esc.grid;
 
-import osh.datatypes.commodity.AncillaryMeterState;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import osh.datatypes.commodity.Commodity;
 import osh.esc.LimitedCommodityStateMap;
+import osh.esc.UUIDCommodityMap;
 import osh.esc.grid.carrier.RealConnectionType;
 import osh.utils.functions.TriConsumer;
 
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public abstract class GridUtils {
 
-    public static <T extends RealConnectionType> void doCalculation(
-            Map<UUID, LimitedCommodityStateMap> localCommodityStates,
-            Map<UUID, LimitedCommodityStateMap> totalInputStates,
-            AncillaryMeterState ancillaryMeterState,
+    /**
+     * Converts all relations with at least one of the given devices as an end into exchanges between the temporarily
+     * assigned ids of the devices, keeping the order of the relations.
+     *
+     * @param relationList all relations of the grid
+     * @param subjectNodes all devices taking part in the exchange
+     * @param uuidToIntMap mapping of device uuid to temporarily assigned ids, containing all ends of the relations
+     * @return the converted exchanges
+     */
+    public static <T extends RealConnectionType> InitializedEnergyExchange[] initializeExchanges(
             List<EnergyRelation<T>> relationList,
-            TriConsumer<LimitedCommodityStateMap, LimitedCommodityStateMap, Commodity> updateActivePart,
-            TriConsumer<LimitedCommodityStateMap, LimitedCommodityStateMap, Commodity> updatePassivePart,
-            TriConsumer<Map<UUID, LimitedCommodityStateMap>, Map<UUID, LimitedCommodityStateMap>, AncillaryMeterState> calculateMeter) {
+            Set<UUID> subjectNodes,
+            Object2IntOpenHashMap<UUID> uuidToIntMap) {
 
-        for (EnergyRelation<T> rel : relationList) {
+        List<InitializedEnergyExchange> exchanges = new ObjectArrayList<>();
 
+        for (EnergyRelation<T> rel : relationList) {
             UUID activeId = rel.getActiveEntity().getDeviceUuid();
             UUID passiveId = rel.getPassiveEntity().getDeviceUuid();
 
-            if (localCommodityStates.containsKey(activeId)
-                    || localCommodityStates.containsKey(passiveId)) {
-
-                Commodity activeCommodity = rel.getActiveToPassive().getCommodity();
-                Commodity passiveCommodity = rel.getPassiveToActive().getCommodity();
+            if (subjectNodes.contains(activeId) || subjectNodes.contains(passiveId)) {
+                exchanges.add(new InitializedEnergyExchange(
+                        uuidToIntMap.getInt(activeId),
+                        uuidToIntMap.getInt(passiveId),
+                        rel.getActiveToPassive().getCommodity(),
+                        rel.getPassiveToActive().getCommodity()));
+            }
+        }
 
-                LimitedCommodityStateMap activeLocalCommodities = localCommodityStates.get(activeId);
-                LimitedCommodityStateMap passiveLocalCommodities = localCommodityStates.get(passiveId);
+        return exchanges.toArray(new InitializedEnergyExchange[0]);
+    }
 
-                boolean hasActive = activeLocalCommodities != null && activeLocalCommodities.containsCommodity(activeCommodity);
-                boolean hasPassive = passiveLocalCommodities != null && passiveLocalCommodities.containsCommodity(passiveCommodity);
+    public static void doCalculation(
+            UUIDCommodityMap localCommodityStates,
+            UUIDCommodityMap totalInputStates,
+            InitializedEnergyExchange[] exchanges,
+            TriConsumer<LimitedCommodityStateMap, LimitedCommodityStateMap, Commodity> updateActivePart,
+            TriConsumer<LimitedCommodityStateMap, LimitedCommodityStateMap, Commodity> updatePassivePart) {
 
-                if (!hasActive && !hasPassive) {
-                    continue;
-                }
+        for (InitializedEnergyExchange ex : exchanges) {
 
-                // update active part...
-                if (hasPassive) {
-                    // Active Part has no input state power
+            Commodity activeCommodity = ex.getActiveToPassiveCommodity();
+            Commodity passiveCommodity = ex.getPassiveToActiveCommodity();
 
-                    LimitedCommodityStateMap activeMap = totalInputStates.get(activeId);
-                    if (activeMap == null) {
-                        activeMap = new LimitedCommodityStateMap();
-                        totalInputStates.put(activeId, activeMap);
-                    }
+            LimitedCommodityStateMap activeLocalCommodities = localCommodityStates.get(ex.getActiveId());
+            LimitedCommodityStateMap passiveLocalCommodities = localCommodityStates.get(ex.getPassiveId());
 
-                    updateActivePart.accept(activeMap, passiveLocalCommodities, passiveCommodity);
+            boolean hasActive = activeLocalCommodities != null && activeLocalCommodities.containsCommodity(activeCommodity);
+            boolean hasPassive = passiveLocalCommodities != null && passiveLocalCommodities.containsCommodity(passiveCommodity);
 
-                    // do not consider power: active part determines it's own power
-                }
+            // update active part...
+            if (hasPassive) {
+                // Active Part has no input state power
+                updateActivePart.accept(totalInputStates.get(ex.getActiveId()), passiveLocalCommodities, passiveCommodity);
 
-                // update passive part...
-                if (hasActive) {
-                    LimitedCommodityStateMap passiveMap = totalInputStates.get(passiveId);
-                    if (passiveMap == null) {
-                        passiveMap = new LimitedCommodityStateMap();
-                        totalInputStates.put(passiveId, passiveMap);
-                    }
+                // do not consider power: active part determines it's own power
+            }
 
-                    updatePassivePart.accept(passiveMap, activeLocalCommodities, activeCommodity);
-                }
+            // update passive part...
+            if (hasActive) {
+                updatePassivePart.accept(totalInputStates.get(ex.getPassiveId()), activeLocalCommodities, activeCommodity);
             }
         }
-
-        calculateMeter.accept(localCommodityStates, totalInputStates, ancillaryMeterState);
     }
 }
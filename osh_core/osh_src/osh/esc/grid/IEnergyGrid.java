@@ -4,11 +4,9 @@ import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import osh.datatypes.commodity.AncillaryMeterState;
 import osh.datatypes.commodity.Commodity;
-import osh.esc.LimitedCommodityStateMap;
 import osh.esc.UUIDCommodityMap;
 
 import java.util.EnumSet;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -43,15 +41,27 @@ public interface IEnergyGrid {
     void finalizeGrid();
 
     /**
-     * Exchanges all energy information based on the configuration of the grid.
+     * Restricts the exchange of all energy information to the relations with at least one of the provided devices as
+     * an end. Used by the energy simulation of the simulation engine, independent of the initialization for the
+     * optimization loop.
      *
-     * @param commodityStates all output energy information to be exchanged
+     * @param subjectNodes set of all devices providing energy information
+     * @param uuidToIntMap mapping of device uuid to temporarily assigned ids, containing all devices and the meter of
+     *                     this grid
+     */
+    void initializeSimulationGrid(Set<UUID> subjectNodes, Object2IntOpenHashMap<UUID> uuidToIntMap);
+
+    /**
+     * Exchanges all energy information based on the configuration of the grid. The grid has to be initialized with
+     * {@link #initializeSimulationGrid(Set, Object2IntOpenHashMap)} before.
+     *
+     * @param commodityStates all output energy information to be exchanged, null for devices without information
      * @param totalInputStates map-storage for all resulting energy information from the exchange
      * @param ancillaryMeterState virtual meter
      */
     void doCalculation(
-            Map<UUID, LimitedCommodityStateMap> commodityStates,
-            Map<UUID, LimitedCommodityStateMap> totalInputStates,
+            UUIDCommodityMap commodityStates,
+            UUIDCommodityMap totalInputStates,
             AncillaryMeterState ancillaryMeterState);
 
     /**
@@ -66,6 +76,22 @@ public interface IEnergyGrid {
             UUIDCommodityMap totalInputStates,
             AncillaryMeterState ancillaryMeterState);
 
+    /**
+     * Exchanges only energy information from active to passive devices, ignoring the relations originating from the
+     * given devices. Only to be used inside the optimization loop.
+     *
+     * @param activeStates all output energy information of active devices
+     * @param totalInputStates map-storage for all resulting energy information from the exchange
+     * @param ancillaryMeterState virtual meter
+     * @param ignoredSources flags for all device ids whose relations should be ignored, may be null if all relations
+     *                       should be considered
+     */
+    void doActiveToPassiveCalculation(
+            UUIDCommodityMap activeStates,
+            UUIDCommodityMap totalInputStates,
+            AncillaryMeterState ancillaryMeterState,
+            boolean[] ignoredSources);
+
     /**
      * Exchanges only energy information from passive to active devices. Only to be used inside the optimization loop.
      *
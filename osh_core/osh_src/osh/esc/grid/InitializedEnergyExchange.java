@@ -0,0 +1,49 @@
+package osh.esc.grid;
+
+import osh.datatypes.commodity.Commodity;
+
+import java.io.Serializable;
+
+/**
+ * Energy relation between two devices with temporarily assigned ids, exchanging information in both directions.
+ */
+public class InitializedEnergyExchange implements Serializable {
+
+    private static final long serialVersionUID = -2465069217839311554L;
+
+    private int activeId;
+    private int passiveId;
+    private Commodity activeToPassiveCommodity;
+    private Commodity passiveToActiveCommodity;
+
+    public InitializedEnergyExchange(int activeId, int passiveId, Commodity activeToPassiveCommodity,
+                                     Commodity passiveToActiveCommodity) {
+        this.activeId = activeId;
+        this.passiveId = passiveId;
+        this.activeToPassiveCommodity = activeToPassiveCommodity;
+        this.passiveToActiveCommodity = passiveToActiveCommodity;
+    }
+
+    /**
+     * do not use - only for serialisation
+     */
+    @Deprecated
+    protected InitializedEnergyExchange() {
+    }
+
+    public int getActiveId() {
+        return this.activeId;
+    }
+
+    public int getPassiveId() {
+        return this.passiveId;
+    }
+
+    public Commodity getActiveToPassiveCommodity() {
+        return this.activeToPassiveCommodity;
+    }
+
+    public Commodity getPassiveToActiveCommodity() {
+        return this.passiveToActiveCommodity;
+    }
+}
@@ -12,6 +12,7 @@ import osh.datatypes.commodity.Commodity;
 import osh.esc.LimitedCommodityStateMap;
 import osh.esc.UUIDCommodityMap;
 import osh.esc.grid.carrier.ThermalConnection;
+import osh.utils.functions.TriConsumer;
 import osh.utils.xml.XMLSerialization;
 
 import javax.xml.bind.JAXBException;
@@ -34,6 +35,13 @@ public class ThermalEnergyGrid implements IEnergyGrid {
     private InitializedEnergyRelation[] initializedImprovedActiveToPassiveArray;
     private InitializedEnergyRelation[] initializedImprovedPassiveToActiveArray;
     private boolean hasBeenInitialized;
+    //energy-exchanges of the energy simulation
+    private InitializedEnergyExchange[] initializedSimulationExchangeArray;
+    private int simulationMeterId = -1;
+    private final TriConsumer<LimitedCommodityStateMap, LimitedCommodityStateMap, Commodity> updateActivePart =
+            this::updateActivePart;
+    private final TriConsumer<LimitedCommodityStateMap, LimitedCommodityStateMap, Commodity> updatePassivePart =
+            this::updatePassivePart;
     //re-useable storage to prevent excessive memory operations
     private double productionPower;
 
@@ -79,6 +87,8 @@ public class ThermalEnergyGrid implements IEnergyGrid {
         this.initializedImprovedActiveToPassiveArray = other.initializedImprovedActiveToPassiveArray;
         this.initializedImprovedPassiveToActiveArray = other.initializedImprovedPassiveToActiveArray;
         this.hasBeenInitialized = other.hasBeenInitialized;
+        this.initializedSimulationExchangeArray = other.initializedSimulationExchangeArray;
+        this.simulationMeterId = other.simulationMeterId;
         this.productionPower = 0;
     }
 
@@ -143,20 +153,27 @@ public class ThermalEnergyGrid implements IEnergyGrid {
         this.meterId = -1;
     }
 
+    @Override
+    public void initializeSimulationGrid(Set<UUID> subjectNodes, Object2IntOpenHashMap<UUID> uuidToIntMap) {
+        this.initializedSimulationExchangeArray = GridUtils.initializeExchanges(this.relationList, subjectNodes,
+                uuidToIntMap);
+        this.simulationMeterId = uuidToIntMap.getInt(this.meterUUID);
+    }
+
     @Override
     public void doCalculation(
-            Map<UUID, LimitedCommodityStateMap> localCommodityStates,
-            Map<UUID, LimitedCommodityStateMap> totalInputStates,
+            UUIDCommodityMap localCommodityStates,
+            UUIDCommodityMap totalInputStates,
             AncillaryMeterState ancillaryMeterState) {
 
         GridUtils.doCalculation(
                 localCommodityStates,
                 totalInputStates,
-                ancillaryMeterState,
-                this.relationList,
-                this::updateActivePart,
-                this::updatePassivePart,
-                this::calculateMeter);
+                this.initializedSimulationExchangeArray,
+                this.updateActivePart,
+                this.updatePassivePart);
+
+        this.calculateMeter(totalInputStates, ancillaryMeterState);
     }
 
     @Override
@@ -164,9 +181,22 @@ public class ThermalEnergyGrid implements IEnergyGrid {
             UUIDCommodityMap activeStates,
             UUIDCommodityMap totalInputStates,
             AncillaryMeterState ancillaryMeterState) {
+        this.doActiveToPassiveCalculation(activeStates, totalInputStates, ancillaryMeterState, null);
+    }
+
+    @Override
+    public void doActiveToPassiveCalculation(
+            UUIDCommodityMap activeStates,
+            UUIDCommodityMap totalInputStates,
+            AncillaryMeterState ancillaryMeterState,
+            boolean[] ignoredSources) {
 
         for (InitializedEnergyRelation rel : this.initializedImprovedActiveToPassiveArray) {
 
+            if (ignoredSources != null && ignoredSources[rel.getSourceId()]) {
+                continue;
+            }
+
             LimitedCommodityStateMap activeLocalCommodities = activeStates.get(rel.getSourceId());
 
             if (activeLocalCommodities != null) {
@@ -224,14 +254,14 @@ public class ThermalEnergyGrid implements IEnergyGrid {
     }
 
     private void calculateMeter(
-            Map<UUID, LimitedCommodityStateMap> localCommodityStates,
-            Map<UUID, LimitedCommodityStateMap> totalInputStates,
+            UUIDCommodityMap totalInputStates,
             AncillaryMeterState ancillaryMeterState) {
         if (ancillaryMeterState != null) {
 
-            LimitedCommodityStateMap calculatedMeterState = totalInputStates.get(this.meterUUID);
+            LimitedCommodityStateMap calculatedMeterState = totalInputStates.get(this.simulationMeterId);
 
-            if (calculatedMeterState != null) {
+            //meter has not received any information
+            if (!calculatedMeterState.isEmpty()) {
                 ancillaryMeterState.setPower(AncillaryCommodity.NATURALGASPOWEREXTERNAL,
                         calculatedMeterState.getPower(Commodity.NATURALGASPOWER));
             }
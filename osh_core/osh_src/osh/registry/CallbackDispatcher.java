@@ -0,0 +1,234 @@
+package osh.registry;
+
+import osh.core.logging.IGlobalLogger;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers registry callbacks on a dedicated, bounded pool of threads, so that slow listeners neither block the
+ * publisher nor occupy the common fork-join pool used by the optimization.
+ * <p>
+ * Every listener owns a mailbox, callbacks to the same listener are executed one after another in the order they
+ * were dispatched, callbacks to different listeners are executed concurrently. A mailbox is scheduled on the pool
+ * at most once at a time, so the pool queue never holds more tasks than there are listeners. Mailboxes are removed
+ * as soon as they are empty, so the dispatcher does not keep listeners alive that no longer receive callbacks.
+ */
+public class CallbackDispatcher {
+
+    //maximum number of callbacks executed for one listener before other listeners get their turn
+    private static final int MAX_BATCH = 64;
+
+    private final ExecutorService executor;
+    private final IGlobalLogger logger;
+    private final ConcurrentHashMap<Object, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    //metrics
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final AtomicLong deliveredCallbacks = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    /**
+     * Constructs a dispatcher with the given number of threads.
+     *
+     * @param name the name of the dispatcher, used for naming the threads
+     * @param threads the number of threads to deliver callbacks on
+     * @param logger the logger to report failed callbacks to
+     */
+    public CallbackDispatcher(String name, int threads, IGlobalLogger logger) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("dispatcher needs at least one thread");
+        }
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, name + "-dispatcher-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.logger = logger;
+    }
+
+    /**
+     * Returns the default number of dispatcher threads for this machine.
+     *
+     * @return the default number of dispatcher threads
+     */
+    public static int getDefaultThreads() {
+        return Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /**
+     * Queues the given callback for the given listener. The callback will be executed after all callbacks
+     * previously dispatched to the same listener.
+     *
+     * @param listener the listener the callback belongs to
+     * @param callback the callback
+     */
+    public void dispatch(Object listener, Runnable callback) {
+        int depth = this.queueDepth.incrementAndGet();
+        this.maxQueueDepth.accumulateAndGet(depth, Math::max);
+
+        QueuedCallback queuedCallback = new QueuedCallback(callback, System.nanoTime());
+        //adding inside the atomic compute ensures that an empty mailbox is never removed while a callback is added
+        Mailbox mailbox = this.mailboxes.compute(listener, (l, m) -> {
+            Mailbox result = m == null ? new Mailbox(l) : m;
+            result.callbacks.add(queuedCallback);
+            return result;
+        });
+        mailbox.schedule();
+    }
+
+    /**
+     * Waits a limited time for all queued callbacks to be delivered and stops all threads afterwards. Callbacks
+     * dispatched after this call will be rejected.
+     */
+    public void shutdown() {
+        //mailboxes re-schedule themselves after every batch, so the pool can only be shut down once they are empty
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        try {
+            while (this.queueDepth.get() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (this.queueDepth.get() > 0) {
+            this.logger.logWarning("registry dispatcher did not finish within 10 seconds, "
+                    + this.queueDepth.get() + " callbacks not delivered");
+        }
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Returns the number of callbacks currently waiting for delivery or being delivered.
+     *
+     * @return the number of undelivered callbacks
+     */
+    public int getQueueDepth() {
+        return this.queueDepth.get();
+    }
+
+    /**
+     * Returns the highest number of callbacks that have been waiting for delivery at the same time.
+     *
+     * @return the highest number of waiting callbacks
+     */
+    public int getMaxQueueDepth() {
+        return this.maxQueueDepth.get();
+    }
+
+    /**
+     * Returns the number of callbacks delivered so far.
+     *
+     * @return the number of delivered callbacks
+     */
+    public long getDeliveredCallbacks() {
+        return this.deliveredCallbacks.get();
+    }
+
+    /**
+     * Returns the average time (in ns) between the dispatch of a callback and the start of its execution.
+     *
+     * @return the average latency of all delivered callbacks
+     */
+    public double getAverageLatency() {
+        long delivered = this.deliveredCallbacks.get();
+        return delivered == 0 ? 0.0 : this.totalLatency.get() / (double) delivered;
+    }
+
+    /**
+     * Returns the longest time (in ns) between the dispatch of a callback and the start of its execution.
+     *
+     * @return the maximum latency of all delivered callbacks
+     */
+    public long getMaxLatency() {
+        return this.maxLatency.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("delivered: %d, queued: %d, max queued: %d, avg latency: %.3f ms, max latency: %.3f ms",
+                this.getDeliveredCallbacks(), this.getQueueDepth(), this.getMaxQueueDepth(),
+                this.getAverageLatency() / 1e6, this.getMaxLatency() / 1e6);
+    }
+
+    private static class QueuedCallback {
+        private final Runnable callback;
+        private final long dispatchTime;
+
+        private QueuedCallback(Runnable callback, long dispatchTime) {
+            this.callback = callback;
+            this.dispatchTime = dispatchTime;
+        }
+    }
+
+    /**
+     * Serial queue of the callbacks of a single listener.
+     */
+    private class Mailbox implements Runnable {
+
+        private final Object listener;
+        private final Queue<QueuedCallback> callbacks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Mailbox(Object listener) {
+            this.listener = listener;
+        }
+
+        private void schedule() {
+            if (this.scheduled.compareAndSet(false, true)) {
+                CallbackDispatcher.this.executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < MAX_BATCH; i++) {
+                    QueuedCallback next = this.callbacks.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    long latency = System.nanoTime() - next.dispatchTime;
+                    CallbackDispatcher.this.totalLatency.addAndGet(latency);
+                    CallbackDispatcher.this.maxLatency.accumulateAndGet(latency, Math::max);
+
+                    try {
+                        next.callback.run();
+                    } catch (RuntimeException e) {
+                        CallbackDispatcher.this.logger.logError("registry callback failed", e);
+                    } catch (Error e) {
+                        CallbackDispatcher.this.logger.logError("registry callback failed", e);
+                        throw e;
+                    } finally {
+                        //errors are passed on to the pool, but the callback still counts as delivered
+                        CallbackDispatcher.this.deliveredCallbacks.incrementAndGet();
+                        CallbackDispatcher.this.queueDepth.decrementAndGet();
+                    }
+                }
+            } finally {
+                //remove the mailbox before giving up the schedule, so that a new mailbox of the same listener can
+                // only run after all callbacks of this one have been executed
+                CallbackDispatcher.this.mailboxes.computeIfPresent(this.listener,
+                        (l, m) -> m == this && m.callbacks.isEmpty() ? null : m);
+
+                this.scheduled.set(false);
+                //callbacks might have been added after the last poll but before the flag was reset
+                if (!this.callbacks.isEmpty()) {
+                    this.schedule();
+                }
+            }
+        }
+    }
+}
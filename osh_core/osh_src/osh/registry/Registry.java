@@ -12,14 +12,17 @@ import osh.registry.interfaces.IProvidesIdentity;
 import osh.utils.Triple;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Registry for communication between different modules of the OSH.
  * This registry works with the publish/subscribe architecture and enables subscription either for specific senders
  * (identified by their supplied UUID) of for any published exchanges of a sepcific type.
+ * <p>
+ * All data and subscriptions are held in concurrent maps and copy-on-write lists, so that publishing and retrieving
+ * exchanges never blocks. Subscriptions are rare compared to publications and are allowed to be more expensive.
  *
  * @author Sebastian Kramer
  *
@@ -35,8 +38,8 @@ public class Registry extends OSHComponent {
     /**
      * A map containing all data currently known to this registry.
      */
-    private final Map<Class<? extends AbstractExchange>, Map<UUID, AbstractExchange>> data =
-            new Object2ObjectOpenHashMap<>();
+    private final ConcurrentHashMap<Class<? extends AbstractExchange>, ConcurrentHashMap<UUID, AbstractExchange>> data =
+            new ConcurrentHashMap<>();
 
     /**
      * The optional queue of exchange objects to publish to subscribers if this step is to only be completed
@@ -47,31 +50,36 @@ public class Registry extends OSHComponent {
     /**
      * A mapping of each listener to it's wrapper object
      */
-    private final Map<IDataRegistryListener, DataListenerWrapper> wrapperMap = new Object2ObjectOpenHashMap<>();
+    private final ConcurrentHashMap<IDataRegistryListener, DataListenerWrapper> wrapperMap = new ConcurrentHashMap<>();
 
     /**
      * A map of each object identifier and publisher identity to the subscribers of this specific identifier and
      * publisher
      */
-    private final Map<Class<? extends AbstractExchange>, Map<UUID, List<DataListenerWrapper>>> singleSubscribers =
-            new Object2ObjectOpenHashMap<>();
+    private final ConcurrentHashMap<Class<? extends AbstractExchange>, ConcurrentHashMap<UUID,
+            CopyOnWriteArrayList<DataListenerWrapper>>> singleSubscribers = new ConcurrentHashMap<>();
 
     /**
      * A map of object identifiers to subscribers who wish to be notified regardless of the publisher's identity
      */
-    private final Map<Class<? extends AbstractExchange>, List<DataListenerWrapper>> manySubscribers =
-            new Object2ObjectOpenHashMap<>();
+    private final ConcurrentHashMap<Class<? extends AbstractExchange>, CopyOnWriteArrayList<DataListenerWrapper>>
+            manySubscribers = new ConcurrentHashMap<>();
 
     /**
      * The flag if calls to subscribers after a publish should be made instantly or deferred to a queue till a specific
      * flush command is given
      */
-    private boolean deferCallbacks;
+    private volatile boolean deferCallbacks;
 
-    private final Lock dataReadLock;
-    private final Lock dataWriteLock;
-    private final Lock subscriberReadLock;
-    private final Lock subscriberWriteLock;
+    /**
+     * The dispatcher delivering callbacks to subscribers, null if callbacks are delivered on the publishing thread
+     */
+    private final CallbackDispatcher dispatcher;
+
+    /**
+     * The buffer collecting the publications of the current thread, null if the current thread publishes directly
+     */
+    private final ThreadLocal<PublicationBuffer> heldPublications = new ThreadLocal<>();
 
     /**
      * Generates a registry with the given organic management entity and the flag if this registry supports a
@@ -81,17 +89,22 @@ public class Registry extends OSHComponent {
      * @param isSimulation flag if this registry is run in a simulation
      */
     public Registry(IOSH entity, boolean isSimulation) {
+        this(entity, isSimulation, null);
+    }
+
+    /**
+     * Generates a registry with the given organic management entity, the flag if this registry supports a
+     * simulation or real-world use and the dispatcher to deliver callbacks to subscribers with.
+     *
+     * @param entity the organic management entity
+     * @param isSimulation flag if this registry is run in a simulation
+     * @param dispatcher the dispatcher delivering callbacks to subscribers, null if callbacks should be delivered on
+     *                   the publishing thread
+     */
+    public Registry(IOSH entity, boolean isSimulation, CallbackDispatcher dispatcher) {
         super(entity);
         this.deferCallbacks = isSimulation;
-
-        ReentrantReadWriteLock dataLock = new ReentrantReadWriteLock();
-        ReentrantReadWriteLock queueLock = new ReentrantReadWriteLock();
-        ReentrantReadWriteLock listenerLock = new ReentrantReadWriteLock();
-
-        this.dataReadLock = dataLock.readLock();
-        this.dataWriteLock = dataLock.writeLock();
-        this.subscriberReadLock = listenerLock.readLock();
-        this.subscriberWriteLock = listenerLock.writeLock();
+        this.dispatcher = dispatcher;
     }
 
 
@@ -106,9 +119,28 @@ public class Registry extends OSHComponent {
         return this.wrapperMap.computeIfAbsent(listener, l -> new DataListenerWrapper(listener));
     }
 
+    /**
+     * Delivers the given exchange to the given listener, either through the dispatcher or directly on the calling
+     * thread if this registry has no dispatcher.
+     *
+     * @param listener the listener to deliver to
+     * @param exchange the exchange to deliver, will be cloned if it is not immutable
+     */
+    private void deliver(DataListenerWrapper listener, AbstractExchange exchange) {
+        AbstractExchange toDeliver = exchange instanceof IPromiseToBeImmutable ? exchange : exchange.clone();
+        if (this.dispatcher != null) {
+            this.dispatcher.dispatch(listener.getListener(), () -> listener.onListen(toDeliver));
+        } else {
+            listener.onListen(toDeliver);
+        }
+    }
+
     /**
      * Publishes the given exchange object under the given identifier and with the given sender. Listeners will be
-     * instantly (and concurrently) called unless the defer flag in this registry is set.
+     * instantly called unless the defer flag in this registry is set. Calls are handed to the dispatcher of this
+     * registry if there is one, otherwise they are executed on the publishing thread. If the publishing thread
+     * currently holds back its publications the exchange is only collected, see
+     * {@link #holdPublications(PublicationBuffer)}.
      *
      * The exchange object will be cloned for each listeners unless it indicates it's immuteability by implementing
      * the {@link IPromiseToBeImmutable} flag interface.
@@ -119,16 +151,21 @@ public class Registry extends OSHComponent {
      */
     public <T extends AbstractExchange, U extends T> void publish(Class<T> identifier, UUID sender, U exchange) {
         assert exchange != null;
-        this.dataWriteLock.lock();
-        try {
-            this.data.computeIfAbsent(identifier, k -> new Object2ObjectOpenHashMap<>()).put(sender, exchange);
-        } finally {
-            this.dataWriteLock.unlock();
+        PublicationBuffer buffer = this.heldPublications.get();
+        if (buffer != null) {
+            buffer.add(identifier, sender, exchange);
+        } else {
+            this.doPublish(identifier, sender, exchange);
         }
+    }
+
+    private void doPublish(Class<? extends AbstractExchange> identifier, UUID sender, AbstractExchange exchange) {
+        this.data.computeIfAbsent(identifier, k -> new ConcurrentHashMap<>()).put(sender, exchange);
 
         if (!this.deferCallbacks) {
-            this.getListeners(identifier, sender).parallelStream().forEach(t -> t.onListen(
-                    exchange instanceof IPromiseToBeImmutable ? exchange : exchange.clone()));
+            for (DataListenerWrapper listener : this.getListeners(identifier, sender)) {
+                this.deliver(listener, exchange);
+            }
         } else {
             this.deferQueue.add(new Triple<>(identifier, sender, exchange));
         }
@@ -171,26 +208,26 @@ public class Registry extends OSHComponent {
      */
     private List<DataListenerWrapper> getListeners(Class<? extends AbstractExchange> identifier, UUID sender) {
 
-        this.subscriberReadLock.lock();
-        try {
-            List<DataListenerWrapper> allListeners = new ArrayList<>();
-            Class<?> currentClass = identifier;
+        List<DataListenerWrapper> allListeners = new ArrayList<>();
+        Class<?> currentClass = identifier;
 
-            while (AbstractExchange.class.isAssignableFrom(currentClass)) {
+        while (AbstractExchange.class.isAssignableFrom(currentClass)) {
 
-                if (this.singleSubscribers.containsKey(currentClass) && this.singleSubscribers.get(currentClass).containsKey(sender)) {
-                    allListeners.addAll(this.singleSubscribers.get(currentClass).get(sender));
-                }
-                if (this.manySubscribers.containsKey(currentClass)) {
-                    allListeners.addAll(this.manySubscribers.get(currentClass));
+            Map<UUID, CopyOnWriteArrayList<DataListenerWrapper>> singleForClass = this.singleSubscribers.get(currentClass);
+            if (singleForClass != null) {
+                List<DataListenerWrapper> single = singleForClass.get(sender);
+                if (single != null) {
+                    allListeners.addAll(single);
                 }
-                currentClass = currentClass.getSuperclass();
             }
-
-            return allListeners;
-        } finally {
-            this.subscriberReadLock.unlock();
+            List<DataListenerWrapper> many = this.manySubscribers.get(currentClass);
+            if (many != null) {
+                allListeners.addAll(many);
+            }
+            currentClass = currentClass.getSuperclass();
         }
+
+        return allListeners;
     }
 
     /**
@@ -207,30 +244,18 @@ public class Registry extends OSHComponent {
         Objects.requireNonNull(sender);
         Objects.requireNonNull(listener);
 
-        this.subscriberWriteLock.lock();
-        try {
-            //adds this subscription configuration (identifier, sender) and the listener wrapper to the map
-            // containing all subscribers for specific sender
-            this.singleSubscribers.computeIfAbsent(identifier, k -> new Object2ObjectOpenHashMap<>()).computeIfAbsent(sender,
-                    l -> new ArrayList<>()).add(this.retrieveCallback(listener));
-        } finally {
-            this.subscriberWriteLock.unlock();
-        }
+        //adds this subscription configuration (identifier, sender) and the listener wrapper to the map
+        // containing all subscribers for specific sender
+        this.singleSubscribers.computeIfAbsent(identifier, k -> new ConcurrentHashMap<>()).computeIfAbsent(sender,
+                l -> new CopyOnWriteArrayList<>()).add(this.retrieveCallback(listener));
 
         //retrieves all currently existing exchange objects for the given subscription configuration (identifer,
         // sender) and publishes them to the subscriber
         if (!this.deferCallbacks) {
-            this.dataReadLock.lock();
-            try {
-                if (this.data.containsKey(identifier) && this.data.get(identifier).containsKey(sender)) {
-                    AbstractExchange toPublish = this.data.get(identifier).get(sender);
-                    if (toPublish.getTimestamp().isEqual(this.getTimeDriver().getCurrentTime())) {
-                        this.retrieveCallback(listener).onListen(toPublish instanceof IPromiseToBeImmutable ?
-                                toPublish : toPublish.clone());
-                    }
-                }
-            } finally {
-                this.dataReadLock.unlock();
+            Map<UUID, AbstractExchange> dataForType = this.data.get(identifier);
+            AbstractExchange toPublish = dataForType != null ? dataForType.get(sender) : null;
+            if (toPublish != null && toPublish.getTimestamp().isEqual(this.getTimeDriver().getCurrentTime())) {
+                this.deliver(this.retrieveCallback(listener), toPublish);
             }
         }
     }
@@ -266,30 +291,21 @@ public class Registry extends OSHComponent {
                     "provide a sender UUID");
         }
 
-        this.subscriberWriteLock.lock();
-        try {
-            //adds this subscription configuration (identifier, sender) and the listener wrapper to the map
-            // containing all subscribers
-            this.manySubscribers.computeIfAbsent(identifier, k -> new ArrayList<>()).add(this.retrieveCallback(listener));
-        } finally {
-            this.subscriberWriteLock.unlock();
-        }
+        //adds this subscription configuration (identifier, sender) and the listener wrapper to the map
+        // containing all subscribers
+        this.manySubscribers.computeIfAbsent(identifier, k -> new CopyOnWriteArrayList<>())
+                .add(this.retrieveCallback(listener));
 
         //retrieves all currently existing exchange objects for the given subscription configuration (identifer,
         // sender) and publishes them to the subscriber (either instantly or deferred to the queue)
         if (!this.deferCallbacks) {
-            this.dataReadLock.lock();
-            try {
-                if (this.data.containsKey(identifier)) {
-                    this.data.get(identifier).forEach((u, l) -> {
-                        if (l.getTimestamp().isEqual(this.getTimeDriver().getCurrentTime())) {
-                            this.retrieveCallback(listener).onListen(l instanceof IPromiseToBeImmutable ?
-                                    l : l.clone());
-                        }
-                    });
-                }
-            } finally {
-                this.dataReadLock.unlock();
+            Map<UUID, AbstractExchange> dataForType = this.data.get(identifier);
+            if (dataForType != null) {
+                dataForType.forEach((u, l) -> {
+                    if (l.getTimestamp().isEqual(this.getTimeDriver().getCurrentTime())) {
+                        this.deliver(this.retrieveCallback(listener), l);
+                    }
+                });
             }
         }
     }
@@ -307,15 +323,10 @@ public class Registry extends OSHComponent {
         Objects.requireNonNull(sender);
         Objects.requireNonNull(listener);
 
-        boolean success;
-        this.subscriberWriteLock.lock();
-        try {
-            return this.singleSubscribers.containsKey(identifier) && this.singleSubscribers.get(identifier).containsKey(sender) &&
-                            this.wrapperMap.containsKey(listener) &&
-                            this.singleSubscribers.get(identifier).get(sender).remove(this.wrapperMap.get(listener));
-        } finally {
-            this.subscriberWriteLock.unlock();
-        }
+        Map<UUID, CopyOnWriteArrayList<DataListenerWrapper>> singleForType = this.singleSubscribers.get(identifier);
+        List<DataListenerWrapper> single = singleForType != null ? singleForType.get(sender) : null;
+        DataListenerWrapper wrapper = this.wrapperMap.get(listener);
+        return single != null && wrapper != null && single.remove(wrapper);
     }
 
     /**
@@ -329,13 +340,9 @@ public class Registry extends OSHComponent {
         Objects.requireNonNull(identifier);
         Objects.requireNonNull(listener);
 
-        this.subscriberWriteLock.lock();
-        try {
-            return this.manySubscribers.containsKey(identifier) && this.wrapperMap.containsKey(listener) &&
-                            this.manySubscribers.get(identifier).remove(this.wrapperMap.get(listener));
-        } finally {
-            this.subscriberWriteLock.unlock();
-        }
+        List<DataListenerWrapper> many = this.manySubscribers.get(identifier);
+        DataListenerWrapper wrapper = this.wrapperMap.get(listener);
+        return many != null && wrapper != null && many.remove(wrapper);
     }
 
     /**
@@ -347,17 +354,21 @@ public class Registry extends OSHComponent {
      */
     public AbstractExchange getData(Class<? extends AbstractExchange> identifier, UUID sender) {
 
-        this.dataReadLock.lock();
-        try {
-            if (this.data.containsKey(identifier) && this.data.get(identifier).containsKey(sender)) {
-               AbstractExchange exchange = this.data.get(identifier).get(sender);
-               return exchange instanceof IPromiseToBeImmutable ? exchange : exchange.clone();
-            } else {
-                return null;
-            }
-        } finally {
-            this.dataReadLock.unlock();
+        PublicationBuffer buffer = this.heldPublications.get();
+        AbstractExchange exchange = null;
+        if (buffer != null) {
+            buffer.addRead(identifier, sender);
+            exchange = buffer.get(identifier, sender);
+        }
+        if (exchange == null) {
+            Map<UUID, AbstractExchange> dataForType = this.data.get(identifier);
+            exchange = dataForType != null ? dataForType.get(sender) : null;
         }
+
+        if (exchange == null) {
+            return null;
+        }
+        return exchange instanceof IPromiseToBeImmutable ? exchange : exchange.clone();
     }
 
     /**
@@ -368,20 +379,28 @@ public class Registry extends OSHComponent {
      */
     public Map<UUID, AbstractExchange> getData(Class<? extends AbstractExchange> identifier) {
 
-        this.dataReadLock.lock();
-        try {
-            if (this.data.containsKey(identifier)) {
-                Map<UUID, AbstractExchange> states = new Object2ObjectOpenHashMap<>(this.data.get(identifier));
-                if (states.isEmpty() || states.values().stream().allMatch(e -> e instanceof IPromiseToBeImmutable)) return states;
+        Map<UUID, AbstractExchange> dataForType = this.data.get(identifier);
+        PublicationBuffer buffer = this.heldPublications.get();
+        Map<UUID, AbstractExchange> held = null;
+        if (buffer != null) {
+            buffer.addRead(identifier, null);
+            held = buffer.get(identifier);
+        }
 
-                states.replaceAll((k, v) -> v.clone());
-                return states;
-            } else {
-                return Collections.emptyMap();
+        if (dataForType == null && held == null) {
+            return Collections.emptyMap();
+        }
+        Map<UUID, AbstractExchange> states = dataForType != null ? new Object2ObjectOpenHashMap<>(dataForType)
+                : new Object2ObjectOpenHashMap<>();
+        if (held != null) {
+            states.putAll(held);
+        }
+        for (Map.Entry<UUID, AbstractExchange> e : states.entrySet()) {
+            if (!(e.getValue() instanceof IPromiseToBeImmutable)) {
+                e.setValue(e.getValue().clone());
             }
-        } finally {
-            this.dataReadLock.unlock();
         }
+        return states;
     }
 
     /**
@@ -390,7 +409,7 @@ public class Registry extends OSHComponent {
      * @return a set of all currently used exchange identifiers
      */
     public Set<Class<? extends AbstractExchange>> getDataTypes() {
-        return this.data.keySet();
+        return Collections.unmodifiableSet(this.data.keySet());
     }
 
     /**
@@ -410,6 +429,39 @@ public class Registry extends OSHComponent {
         return this.deferQueue.isEmpty();
     }
 
+    /**
+     * Holds back all exchanges published by the current thread in the given buffer instead of publishing them, until
+     * {@link #releasePublications()} is called. Exchanges in the buffer are visible to {@link #getData} calls of the
+     * current thread only. The buffer also records which exchanges the current thread reads, see
+     * {@link PublicationBuffer#hasRead(PublicationBuffer)}.
+     *
+     * @param buffer the buffer to collect the publications of the current thread in
+     */
+    public void holdPublications(PublicationBuffer buffer) {
+        this.heldPublications.set(Objects.requireNonNull(buffer));
+    }
+
+    /**
+     * Lets the current thread publish directly again. Exchanges collected so far remain in the buffer until they are
+     * published with {@link #publishHeld(PublicationBuffer)}.
+     */
+    public void releasePublications() {
+        this.heldPublications.remove();
+    }
+
+    /**
+     * Publishes all exchanges collected in the given buffer in the order they were originally published and empties
+     * the buffer and its recorded reads afterwards.
+     *
+     * @param buffer the buffer to publish
+     */
+    public void publishHeld(PublicationBuffer buffer) {
+        for (Triple<Class<? extends AbstractExchange>, UUID, AbstractExchange> publication : buffer.publications) {
+            this.doPublish(publication.getFirst(), publication.getSecond(), publication.getThird());
+        }
+        buffer.clear();
+    }
+
     /**
      * Changes the behaviour of this registry to notify subscribers immediately after an exchange object is published
      * instead of collecting all objects to publish in a queue. This will empty the current queue first and then
@@ -428,6 +480,76 @@ public class Registry extends OSHComponent {
         this.deferCallbacks = true;
     }
 
+    /**
+     * Publications held back by a single thread, see {@link #holdPublications(PublicationBuffer)}.
+     */
+    public static class PublicationBuffer {
+
+        private final List<Triple<Class<? extends AbstractExchange>, UUID, AbstractExchange>> publications =
+                new ArrayList<>();
+        //latest held exchange of every identifier and sender
+        private final Map<Class<? extends AbstractExchange>, Map<UUID, AbstractExchange>> latest = new HashMap<>();
+        //senders read of every identifier, null if all senders have been read
+        private final Map<Class<? extends AbstractExchange>, Set<UUID>> reads = new HashMap<>();
+
+        private void add(Class<? extends AbstractExchange> identifier, UUID sender, AbstractExchange exchange) {
+            this.publications.add(new Triple<>(identifier, sender, exchange));
+            this.latest.computeIfAbsent(identifier, k -> new HashMap<>()).put(sender, exchange);
+        }
+
+        private AbstractExchange get(Class<? extends AbstractExchange> identifier, UUID sender) {
+            Map<UUID, AbstractExchange> forType = this.latest.get(identifier);
+            return forType != null ? forType.get(sender) : null;
+        }
+
+        private Map<UUID, AbstractExchange> get(Class<? extends AbstractExchange> identifier) {
+            return this.latest.get(identifier);
+        }
+
+        private void addRead(Class<? extends AbstractExchange> identifier, UUID sender) {
+            if (sender == null) {
+                this.reads.put(identifier, null);
+            } else if (!this.reads.containsKey(identifier)) {
+                Set<UUID> senders = new HashSet<>();
+                senders.add(sender);
+                this.reads.put(identifier, senders);
+            } else if (this.reads.get(identifier) != null) {
+                this.reads.get(identifier).add(sender);
+            }
+        }
+
+        /**
+         * Returns true if the thread collecting this buffer has read any exchange held back in the given buffer, i.e.
+         * if it would have seen a different exchange had the given buffer been published before.
+         *
+         * @param other the publications of another thread
+         * @return true if any exchange of the given buffer has been read
+         */
+        public boolean hasRead(PublicationBuffer other) {
+            for (Map.Entry<Class<? extends AbstractExchange>, Set<UUID>> read : this.reads.entrySet()) {
+                Map<UUID, AbstractExchange> published = other.latest.get(read.getKey());
+                if (published == null) {
+                    continue;
+                }
+                if (read.getValue() == null) {
+                    return true;
+                }
+                for (UUID sender : read.getValue()) {
+                    if (published.containsKey(sender)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void clear() {
+            this.publications.clear();
+            this.latest.clear();
+            this.reads.clear();
+        }
+    }
+
     /**
      * Registry for the exchange of objects in the Com-layer of the organic architecture
      */
@@ -443,6 +565,19 @@ public class Registry extends OSHComponent {
         public ComRegistry(IOSH entity, boolean isSimulation) {
             super(entity, isSimulation);
         }
+
+        /**
+         * Generates a registry with the given organic management entity, the flag if this registry supports a
+         * simulation or real-world use and the dispatcher to deliver callbacks to subscribers with.
+         *
+         * @param entity       the organic management entity
+         * @param isSimulation flag if this registry is run in a simulation
+         * @param dispatcher   the dispatcher delivering callbacks to subscribers, null if callbacks should be
+         *                     delivered on the publishing thread
+         */
+        public ComRegistry(IOSH entity, boolean isSimulation, CallbackDispatcher dispatcher) {
+            super(entity, isSimulation, dispatcher);
+        }
     }
 
     /**
@@ -460,6 +595,19 @@ public class Registry extends OSHComponent {
         public DriverRegistry(IOSH entity, boolean isSimulation) {
             super(entity, isSimulation);
         }
+
+        /**
+         * Generates a registry with the given organic management entity, the flag if this registry supports a
+         * simulation or real-world use and the dispatcher to deliver callbacks to subscribers with.
+         *
+         * @param entity       the organic management entity
+         * @param isSimulation flag if this registry is run in a simulation
+         * @param dispatcher   the dispatcher delivering callbacks to subscribers, null if callbacks should be
+         *                     delivered on the publishing thread
+         */
+        public DriverRegistry(IOSH entity, boolean isSimulation, CallbackDispatcher dispatcher) {
+            super(entity, isSimulation, dispatcher);
+        }
     }
 
     /**
@@ -477,6 +625,19 @@ public class Registry extends OSHComponent {
         public OCRegistry(IOSH entity, boolean isSimulation) {
             super(entity, isSimulation);
         }
+
+        /**
+         * Generates a registry with the given organic management entity, the flag if this registry supports a
+         * simulation or real-world use and the dispatcher to deliver callbacks to subscribers with.
+         *
+         * @param entity       the organic management entity
+         * @param isSimulation flag if this registry is run in a simulation
+         * @param dispatcher   the dispatcher delivering callbacks to subscribers, null if callbacks should be
+         *                     delivered on the publishing thread
+         */
+        public OCRegistry(IOSH entity, boolean isSimulation, CallbackDispatcher dispatcher) {
+            super(entity, isSimulation, dispatcher);
+        }
     }
 }
 
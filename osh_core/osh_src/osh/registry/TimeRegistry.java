@@ -37,9 +37,10 @@ public class TimeRegistry extends OSHComponent {
     private final ReentrantLock subscriberLock = new ReentrantLock();
 
     /**
-     * Flag of the calls to each subscriber should be executed concurrently or not.
+     * The dispatcher delivering the calls to each subscriber concurrently, null if the calls should be executed
+     * sequentially on the publishing thread.
      */
-    private final boolean executeConcurrently;
+    private final CallbackDispatcher dispatcher;
 
     /**
      * Generates a time-registry with the given organic management entity and the flag if this registry supports a
@@ -49,14 +50,28 @@ public class TimeRegistry extends OSHComponent {
      * @param isSimulation flag if this registry is run in a simulation
      */
     public TimeRegistry(IOSH entity, boolean isSimulation) {
+        this(entity, isSimulation, null);
+    }
+
+    /**
+     * Generates a time-registry with the given organic management entity, the flag if this registry supports a
+     * simulation or real-world use and the dispatcher to deliver calls to subscribers with. The dispatcher is
+     * ignored in a simulation to keep the order of all calls reproducible.
+     *
+     * @param entity the organic management entity
+     * @param isSimulation flag if this registry is run in a simulation
+     * @param dispatcher the dispatcher delivering calls to subscribers, null if calls should be executed on the
+     *                   publishing thread
+     */
+    public TimeRegistry(IOSH entity, boolean isSimulation, CallbackDispatcher dispatcher) {
         super(entity);
-        this.executeConcurrently = !isSimulation;
+        this.dispatcher = isSimulation ? null : dispatcher;
     }
 
     /**
      * Publishes the given time exchange to all listeners subscurbed to it's contained set of
-     * {@link TimeSubscribeEnum} events. Listeners will be called concurrently or sequentially based on this registry
-     * existing in the real world or in a simulation respectively.
+     * {@link TimeSubscribeEnum} events. Listeners will be called concurrently through the dispatcher of this registry
+     * or sequentially on the publishing thread if there is none (always in a simulation).
      *
      * @param exchange the time exchange object
      */
@@ -64,8 +79,10 @@ public class TimeRegistry extends OSHComponent {
         Objects.requireNonNull(exchange);
         if (exchange.getTimeEvents().isEmpty()) throw new IllegalArgumentException();
 
-        if (this.executeConcurrently) {
-            this.getListeners(exchange.getTimeEvents()).parallelStream().forEach(t -> t.onTimeExchange(exchange));
+        if (this.dispatcher != null) {
+            for (ITimeRegistryListener listener : this.getListeners(exchange.getTimeEvents())) {
+                this.dispatcher.dispatch(listener, () -> listener.onTimeExchange(exchange));
+            }
         } else {
             this.getListeners(exchange.getTimeEvents()).forEach(t -> t.onTimeExchange(exchange));
         }
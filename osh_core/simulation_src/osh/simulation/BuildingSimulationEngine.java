@@ -5,6 +5,7 @@ import osh.configuration.OSHParameterCollection;
 import osh.configuration.system.ConfigurationParameter;
 import osh.datatypes.commodity.AncillaryCommodity;
 import osh.datatypes.commodity.AncillaryMeterState;
+import osh.datatypes.limit.CompiledSignals;
 import osh.datatypes.limit.PowerLimitSignal;
 import osh.datatypes.limit.PriceSignal;
 import osh.datatypes.logging.electrical.DetailedPowerLogObject;
@@ -14,6 +15,8 @@ import osh.datatypes.logging.general.PriceSignalLogObject;
 import osh.datatypes.logging.general.SimulationResultsLogObject;
 import osh.datatypes.power.AncillaryCommodityLoadProfile;
 import osh.datatypes.registry.oc.state.globalobserver.EpsPlsStateExchange;
+import osh.registry.Registry;
+import osh.registry.Registry.PublicationBuffer;
 import osh.simulation.database.DatabaseLoggerThread;
 import osh.simulation.energy.IDeviceEnergySubject;
 import osh.simulation.energy.SimEnergySimulationCore;
@@ -31,6 +34,13 @@ import java.io.PrintWriter;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * Simulation engine for the smart-home-lab
@@ -51,6 +61,7 @@ public class BuildingSimulationEngine extends SimulationEngine {
     private Long[] timeStampForInterval;
     private long[] relativeIntervalStart;
     private boolean databaseLogging;
+    private DatabaseLoggerThread databaseLogger;
     private boolean logDetailedPower;
     private boolean logEpsPls;
     private boolean logH0;
@@ -60,10 +71,16 @@ public class BuildingSimulationEngine extends SimulationEngine {
     private boolean logWaterTank;
     private boolean logEA;
     private boolean logSmartHeater;
+    //executes the phases of a tick for all subjects in parallel, null if subjects are simulated serially
+    private ExecutorService tickExecutor;
+    //publications held back during a parallel phase, [subject][registry]
+    private PublicationBuffer[][] heldPublications;
     private OSHSimulationResults[] intervalResults;
     //saved EPS and PLS
     private final EnumMap<AncillaryCommodity, PriceSignal> priceSignals = new EnumMap<>(AncillaryCommodity.class);
     private final EnumMap<AncillaryCommodity, PowerLimitSignal> powerLimits = new EnumMap<>(AncillaryCommodity.class);
+    //compiled form of the EPS and PLS currently used for the calculation of costs
+    private CompiledSignals compiledSignals;
     //saved power
     private AncillaryCommodityLoadProfile loadProfile = new AncillaryCommodityLoadProfile();
     //saved array for H0
@@ -208,6 +225,28 @@ public class BuildingSimulationEngine extends SimulationEngine {
         }
 
 
+        int parallelTickThreads;
+        try {
+            parallelTickThreads = Integer.parseInt(this.engineParameters.getParameter(ParameterConstants.Simulation.parallelTickThreads));
+        } catch (Exception e) {
+            parallelTickThreads = 0;
+        }
+        if (parallelTickThreads > 1) {
+            String legacyParameter = this.engineParameters.getParameter(ParameterConstants.Simulation.legacyRandomDistribution);
+            //legacy random generators are drawn from one shared generator when used, so the order of the subjects matters
+            if (legacyParameter == null || Boolean.parseBoolean(legacyParameter)) {
+                throw new SimulationEngineException("parallel tick execution requires "
+                        + ParameterConstants.Simulation.legacyRandomDistribution + " = false");
+            } else {
+                AtomicInteger threadCounter = new AtomicInteger();
+                this.tickExecutor = Executors.newFixedThreadPool(parallelTickThreads, r -> {
+                    Thread t = new Thread(r, "simulation-tick-" + threadCounter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+            }
+        }
+
         String loggingIntervalsAsArray = null;
 
         try {
@@ -287,25 +326,116 @@ public class BuildingSimulationEngine extends SimulationEngine {
 
         // #2 Notify the Subject that the next Simulation Tick begins
         //    Simulation Pre-tick Hook
-        for (ISimulationSubject _simSubject : this.simSubjectsList) {
-            _simSubject.onSimulationPreTickHook();
-        }
+        this.simulatePhase(ISimulationSubject::onSimulationPreTickHook);
 
         // #3 DeviceSimulation (the Tick)
-        for (ISimulationSubject _simSubject : this.simSubjectsList) {
-            _simSubject.triggerSubject();
-        }
+        this.simulatePhase(ISimulationSubject::triggerSubject);
 
         // #4 Notify the Subject that the current Simulation Tick ended
         //	  Simulation Post-tick Hook
-        for (ISimulationSubject _simSubject : this.simSubjectsList) {
-            _simSubject.onSimulationPostTickHook();
-        }
+        this.simulatePhase(ISimulationSubject::onSimulationPostTickHook);
 
         // TEMP LOGGING
         this.logTick(ancillaryMeterState, currentTick);
     }
 
+    /**
+     * Executes one phase of a tick for all subjects. In parallel mode all subjects are executed concurrently and the
+     * phase ends when all subjects are finished. Publications to the registries are held back during the phase and
+     * published afterwards in the order of the subjects, so that the registries end up in the same state as after a
+     * serial execution.
+     * <p>
+     * A subject reading a publication of another subject from the same phase would see the state from the start of
+     * the phase instead of the publication a serial execution would give it. The registries record these reads, and
+     * the simulation fails if a subject has read a publication of a subject preceding it, so that parallel results
+     * never differ from serial ones.
+     *
+     * @param phase the phase to execute
+     */
+    private void simulatePhase(Consumer<ISimulationSubject> phase) {
+        if (this.tickExecutor == null) {
+            for (ISimulationSubject _simSubject : this.simSubjectsList) {
+                phase.accept(_simSubject);
+            }
+            return;
+        }
+
+        Registry[] registries = {this.comRegistry, this.ocRegistry, this.driverRegistry};
+        if (this.heldPublications == null) {
+            this.heldPublications = new PublicationBuffer[this.simSubjectsList.size()][registries.length];
+            for (PublicationBuffer[] buffers : this.heldPublications) {
+                for (int r = 0; r < buffers.length; r++) {
+                    buffers[r] = new PublicationBuffer();
+                }
+            }
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>(this.simSubjectsList.size());
+        for (int i = 0; i < this.simSubjectsList.size(); i++) {
+            ISimulationSubject _simSubject = this.simSubjectsList.get(i);
+            PublicationBuffer[] buffers = this.heldPublications[i];
+            tasks.add(() -> {
+                for (int r = 0; r < registries.length; r++) {
+                    if (registries[r] != null) {
+                        registries[r].holdPublications(buffers[r]);
+                    }
+                }
+                try {
+                    phase.accept(_simSubject);
+                } finally {
+                    for (Registry registry : registries) {
+                        if (registry != null) {
+                            registry.releasePublications();
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+
+        List<Future<Void>> results;
+        try {
+            results = this.tickExecutor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+
+        for (Future<Void> result : results) {
+            try {
+                result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+
+        //in serial order every subject sees the publications of all subjects preceding it
+        for (int j = 1; j < this.simSubjectsList.size(); j++) {
+            for (int i = 0; i < j; i++) {
+                for (int r = 0; r < registries.length; r++) {
+                    if (registries[r] != null && this.heldPublications[j][r].hasRead(this.heldPublications[i][r])) {
+                        throw new IllegalStateException("subject " + this.simSubjectsList.get(j).getUUID()
+                                + " read a publication of subject " + this.simSubjectsList.get(i).getUUID()
+                                + " from the same phase, parallel results would differ from serial ones,"
+                                + " simulate serially by setting " + ParameterConstants.Simulation.parallelTickThreads
+                                + " = 0");
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            for (int r = 0; r < registries.length; r++) {
+                if (registries[r] != null) {
+                    registries[r].publishHeld(this.heldPublications[i][r]);
+                }
+            }
+        }
+    }
+
     @Override
     protected void notifyLocalEngineOnSimulationIsUp() throws SimulationEngineException {
         try {
@@ -334,8 +464,9 @@ public class BuildingSimulationEngine extends SimulationEngine {
         return _simSubj;
     }
 
-    public void setDatabaseLogging() {
+    public void setDatabaseLogging(DatabaseLoggerThread databaseLogger) {
         this.databaseLogging = true;
+        this.databaseLogger = databaseLogger;
 
         this.intervalResults = new OSHSimulationResults[this.loggingIntervals.size()];
         this.timeStampForInterval = new Long[this.loggingIntervals.size()];
@@ -346,11 +477,11 @@ public class BuildingSimulationEngine extends SimulationEngine {
             this.relativeIntervalStart[i] = 0;
         }
 
-        DatabaseLoggerThread.setLogDevices(this.logDevices);
-        DatabaseLoggerThread.setLogThermal(this.logThermal);
-        DatabaseLoggerThread.setLogWaterTank(this.logWaterTank);
-        DatabaseLoggerThread.setLogEA(this.logEA);
-        DatabaseLoggerThread.setLogSmartHeater(this.logSmartHeater);
+        this.databaseLogger.setLogDevices(this.logDevices);
+        this.databaseLogger.setLogThermal(this.logThermal);
+        this.databaseLogger.setLogWaterTank(this.logWaterTank);
+        this.databaseLogger.setLogEA(this.logEA);
+        this.databaseLogger.setLogSmartHeater(this.logSmartHeater);
     }
 
 
@@ -414,6 +545,13 @@ public class BuildingSimulationEngine extends SimulationEngine {
             long currentTime = this.timeDriver.getCurrentEpochSecond();
             ZonedDateTime now = this.timeDriver.getCurrentTime();
 
+            //only compile the signals again if they have been changed
+            if (this.compiledSignals == null || epse.isEpsPlsChanged()
+                    || this.compiledSignals.getPriceSignals() != epse.getPs()
+                    || this.compiledSignals.getPowerLimitSignals() != epse.getPwrLimit()) {
+                this.compiledSignals = new CompiledSignals(epse.getPs(), epse.getPwrLimit());
+            }
+
             /* array
              * [0] = epsCosts
              * [1] = plsCosts
@@ -431,8 +569,7 @@ public class BuildingSimulationEngine extends SimulationEngine {
                     epse.getPlsUpperOverLimitFactor(),
                     epse.getPlsLowerOverLimitFactor(),
                     ancillaryMeterState,
-                    epse.getPs(),
-                    epse.getPwrLimit());
+                    this.compiledSignals);
 
             if (this.oshSimulationResults != null
                     && this.oshSimulationResults instanceof OSHSimulationResults) {
@@ -507,7 +644,7 @@ public class BuildingSimulationEngine extends SimulationEngine {
                             OSHSimulationResults toLog = this.intervalResults[i];
                             this.intervalResults[i] = newBase;
                             toLog.generateDiffToOtherResult((OSHSimulationResults) this.oshSimulationResults);
-                            DatabaseLoggerThread.enqueue(new SimulationResultsLogObject(this.entityUUID, now,
+                            this.databaseLogger.enqueue(new SimulationResultsLogObject(this.entityUUID, now,
                                     toLog, this.relativeIntervalStart[i], currentTick, 0L));
 
                             this.relativeIntervalStart[i] = currentTick + 1;
@@ -545,7 +682,7 @@ public class BuildingSimulationEngine extends SimulationEngine {
                             this.priceSignals.put(en.getKey(), nowAndFuture);
                         }
                     }
-                    DatabaseLoggerThread.enqueue(new PriceSignalLogObject(this.entityUUID, now, toLogEps));
+                    this.databaseLogger.enqueue(new PriceSignalLogObject(this.entityUUID, now, toLogEps));
 
                     //handle pls
                     Map<AncillaryCommodity, PowerLimitSignal> toLogPls = new EnumMap<>(AncillaryCommodity.class);
@@ -563,7 +700,7 @@ public class BuildingSimulationEngine extends SimulationEngine {
                             this.powerLimits.put(en.getKey(), nowAndFuture);
                         }
                     }
-                    DatabaseLoggerThread.enqueue(new PowerLimitSignalLogObject(this.entityUUID, now, toLogPls));
+                    this.databaseLogger.enqueue(new PowerLimitSignalLogObject(this.entityUUID, now, toLogPls));
                 }
             }
 
@@ -580,7 +717,7 @@ public class BuildingSimulationEngine extends SimulationEngine {
                     this.loadProfile = tmpLoadProfile.cloneAfter(currentTick);
 
                     tmpLoadProfile = tmpLoadProfile.getProfileWithoutDuplicateValues();
-                    DatabaseLoggerThread.enqueue(new DetailedPowerLogObject(this.entityUUID, now, tmpLoadProfile));
+                    this.databaseLogger.enqueue(new DetailedPowerLogObject(this.entityUUID, now, tmpLoadProfile));
                 }
             }
 
@@ -655,11 +792,15 @@ public class BuildingSimulationEngine extends SimulationEngine {
     }
 
     public void shutdown() {
+        if (this.tickExecutor != null) {
+            this.tickExecutor.shutdown();
+            this.tickExecutor = null;
+        }
         if (this.databaseLogging) {
             if (this.logIntervals) {
-                DatabaseLoggerThread.enqueue(new PriceSignalLogObject(this.entityUUID, this.timeDriver.getCurrentTime(),
+                this.databaseLogger.enqueue(new PriceSignalLogObject(this.entityUUID, this.timeDriver.getCurrentTime(),
                         this.priceSignals));
-                DatabaseLoggerThread.enqueue(new PowerLimitSignalLogObject(this.entityUUID, this.timeDriver.getCurrentTime(),
+                this.databaseLogger.enqueue(new PowerLimitSignalLogObject(this.entityUUID, this.timeDriver.getCurrentTime(),
                         this.powerLimits));
             }
             if (this.logH0) {
@@ -680,7 +821,7 @@ public class BuildingSimulationEngine extends SimulationEngine {
                         avgDays[i][j] = this.aggrH0ResultsDays[i][j] / factor;
                     }
                 }
-                DatabaseLoggerThread.enqueue(new H0LogObject(this.entityUUID, this.timeDriver.getCurrentTime(),
+                this.databaseLogger.enqueue(new H0LogObject(this.entityUUID, this.timeDriver.getCurrentTime(),
                         avgWeekDays, avgDays));
             }
         }
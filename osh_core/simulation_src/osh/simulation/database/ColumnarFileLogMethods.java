@@ -0,0 +1,391 @@
+package osh.simulation.database;
+
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import osh.datatypes.commodity.AncillaryCommodity;
+import osh.datatypes.commodity.Commodity;
+import osh.datatypes.limit.PowerLimitSignal;
+import osh.datatypes.limit.PriceSignal;
+import osh.datatypes.logging.LoggingObjectStateExchange;
+import osh.datatypes.logging.devices.BaseloadLogObject;
+import osh.datatypes.logging.devices.DevicesLogObject;
+import osh.datatypes.logging.devices.SmartHeaterLogObject;
+import osh.datatypes.logging.devices.WaterTankLogObject;
+import osh.datatypes.logging.electrical.DetailedPowerLogObject;
+import osh.datatypes.logging.electrical.H0LogObject;
+import osh.datatypes.logging.general.EALogObject;
+import osh.datatypes.logging.general.PowerLimitSignalLogObject;
+import osh.datatypes.logging.general.PriceSignalLogObject;
+import osh.datatypes.logging.general.SimulationResultsLogObject;
+import osh.datatypes.logging.thermal.ThermalLoggingObject;
+import osh.datatypes.logging.thermal.ThermalSupplyLogObject;
+import osh.datatypes.power.PowerInterval;
+import osh.simulation.OSHSimulationResults;
+import osh.simulation.database.columnar.ColumnType;
+import osh.simulation.database.columnar.ColumnarLogWriter;
+import osh.utils.dataStructures.fastutil.Long2IntTreeMap;
+import osh.utils.string.StringConversions;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static osh.simulation.database.columnar.ColumnType.*;
+
+/**
+ * Represents a collection of log-method definitons writing all log objects of one run into compressed,
+ * column-oriented files instead of a database, one file per table. The files can be read with the
+ * {@link osh.simulation.database.columnar.ColumnarLogReader}.
+ * <p>
+ * The tables and columns correspond to the database tables of the {@link DatabaseLogMethods}, apart from the
+ * name of the run which is stored once per file. As the files are append-only, rows that would replace existing rows
+ * in the database are appended as well, readers should use the last row per key.
+ */
+public class ColumnarFileLogMethods implements ILogObjectSink {
+
+    //number of rows per row group
+    private static final int ROW_GROUP_SIZE = 4096;
+    //maximum time (in ms) rows are held back before they are written to the files
+    private static final long FLUSH_INTERVAL = 30000;
+
+    private final File directory;
+    private final String runName;
+    private final long startTime;
+
+    private final Map<String, ColumnarLogWriter> writers = new HashMap<>();
+    private long lastFlush = System.currentTimeMillis();
+
+    /**
+     * Constructs the log methods of one simulation run.
+     *
+     * @param directory the directory to write all files to
+     * @param runName the runName of the simulation
+     * @param startTime the starttime of the simulation
+     */
+    public ColumnarFileLogMethods(File directory, String runName, ZonedDateTime startTime) {
+        this.directory = directory;
+        this.runName = runName;
+        this.startTime = startTime.toEpochSecond();
+    }
+
+    /**
+     * Adds a row to the given table, creating the file of the table with the given columns if necessary.
+     *
+     * @param table the name of the table
+     * @param columnNames the names of the columns of the table, without the id column
+     * @param columnTypes the types of the columns of the table, without the id column
+     * @param logObj the log object the row belongs to
+     * @param values the values of the row, without the id
+     */
+    private void addRow(String table, String[] columnNames, ColumnType[] columnTypes,
+                        LoggingObjectStateExchange logObj, Object... values) {
+        try {
+            ColumnarLogWriter writer = this.writers.get(table);
+            if (writer == null) {
+                String[] allNames = new String[columnNames.length + 1];
+                ColumnType[] allTypes = new ColumnType[columnTypes.length + 1];
+                allNames[0] = "ID";
+                allTypes[0] = STRING;
+                System.arraycopy(columnNames, 0, allNames, 1, columnNames.length);
+                System.arraycopy(columnTypes, 0, allTypes, 1, columnTypes.length);
+
+                writer = new ColumnarLogWriter(new File(this.directory, table + ColumnarLogWriter.FILE_EXTENSION), this.runName,
+                        this.startTime, allNames, allTypes, ROW_GROUP_SIZE);
+                this.writers.put(table, writer);
+            }
+
+            Object[] allValues = new Object[values.length + 1];
+            allValues[0] = logObj.getSender();
+            System.arraycopy(values, 0, allValues, 1, values.length);
+            writer.addRow(allValues);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ColumnType[] repeat(ColumnType type, int count) {
+        ColumnType[] types = new ColumnType[count];
+        Arrays.fill(types, type);
+        return types;
+    }
+
+    private static final String[] RESULTS_COLUMNS;
+    private static final ColumnType[] RESULTS_TYPES;
+
+    static {
+        String[] keys = OSHSimulationResults.getDoubleArrayKeys();
+        RESULTS_COLUMNS = new String[keys.length + 4];
+        RESULTS_TYPES = new ColumnType[keys.length + 4];
+        RESULTS_COLUMNS[0] = "Runtime";
+        RESULTS_COLUMNS[1] = "StartTime";
+        RESULTS_COLUMNS[2] = "LoggingStartRelative";
+        RESULTS_COLUMNS[3] = "LoggingEndRelative";
+        Arrays.fill(RESULTS_TYPES, 0, 4, LONG);
+        System.arraycopy(keys, 0, RESULTS_COLUMNS, 4, keys.length);
+        Arrays.fill(RESULTS_TYPES, 4, RESULTS_TYPES.length, DOUBLE);
+    }
+
+    private void logSimulationResults(SimulationResultsLogObject logObj) {
+        Double[] contents = logObj.getSimResults().getContentsAsDoubleArray();
+        Object[] values = new Object[contents.length + 4];
+        //-1 marks an unknown runtime
+        values[0] = logObj.getSimRuntime() != null ? logObj.getSimRuntime() : -1L;
+        values[1] = this.startTime;
+        values[2] = logObj.getRelativeStart();
+        values[3] = logObj.getRelativeEnd();
+        System.arraycopy(contents, 0, values, 4, contents.length);
+
+        this.addRow("Results", RESULTS_COLUMNS, RESULTS_TYPES, logObj, values);
+    }
+
+    private static final String[] DETAILED_POWER_COLUMNS = {"AncillaryCommodity", "Time", "Power"};
+    private static final ColumnType[] DETAILED_POWER_TYPES = {STRING, LONG, INT};
+
+    private void logDetailedPower(DetailedPowerLogObject logObj) {
+
+        AncillaryCommodity[] toLog = {
+                AncillaryCommodity.ACTIVEPOWEREXTERNAL,
+                AncillaryCommodity.CHPACTIVEPOWERAUTOCONSUMPTION,
+                AncillaryCommodity.CHPACTIVEPOWERFEEDIN,
+                AncillaryCommodity.PVACTIVEPOWERAUTOCONSUMPTION,
+                AncillaryCommodity.PVACTIVEPOWERFEEDIN
+        };
+
+        for (AncillaryCommodity a : toLog) {
+
+            long time = Long.MIN_VALUE;
+            time = logObj.getLoadProfile().getNextLoadChange(a, time);
+
+            while (time != Long2IntTreeMap.INVALID_KEY) {
+                int power = logObj.getLoadProfile().getLoadAt(a, time);
+
+                this.addRow("DetailedPower", DETAILED_POWER_COLUMNS, DETAILED_POWER_TYPES, logObj,
+                        a.toString(), time, power);
+
+                time = logObj.getLoadProfile().getNextLoadChange(a, time);
+            }
+        }
+    }
+
+    private static final String[] EPS_COLUMNS = {"VirtualCommodity", "Time", "Price"};
+    private static final ColumnType[] EPS_TYPES = {STRING, LONG, DOUBLE};
+
+    private void logEps(PriceSignalLogObject logObj) {
+        for (Entry<AncillaryCommodity, PriceSignal> en : logObj.getEps().entrySet()) {
+            for (Long2DoubleMap.Entry price : en.getValue().getPrices().long2DoubleEntrySet()) {
+                this.addRow("EPS", EPS_COLUMNS, EPS_TYPES, logObj, en.getKey().getCommodity(),
+                        price.getLongKey(), price.getDoubleValue());
+            }
+        }
+    }
+
+    private static final String[] PLS_COLUMNS = {"VirtualCommodity", "Time", "LowerLimit", "UpperLimit"};
+    private static final ColumnType[] PLS_TYPES = {STRING, LONG, DOUBLE, DOUBLE};
+
+    private void logPls(PowerLimitSignalLogObject logObj) {
+        for (Entry<AncillaryCommodity, PowerLimitSignal> en : logObj.getPls().entrySet()) {
+            for (Long2ObjectMap.Entry<PowerInterval> power : en.getValue().getLimits().long2ObjectEntrySet()) {
+                this.addRow("PLS", PLS_COLUMNS, PLS_TYPES, logObj, en.getKey().getCommodity(),
+                        power.getLongKey(), power.getValue().getPowerLowerLimit(),
+                        power.getValue().getPowerUpperLimit());
+            }
+        }
+    }
+
+    private static final String[] WEEKDAY_COLUMNS = {"weekDay0", "weekDay1", "weekDay2", "weekDay3", "weekDay4",
+            "weekDay5", "weekDay6", "days"};
+
+    private void logH0(H0LogObject logObj) {
+        double[][][] weekdayPower = logObj.getAggregateWeekdayPower();
+        Object[] values = new Object[WEEKDAY_COLUMNS.length];
+        for (int i = 0; i < weekdayPower.length; i++) {
+            values[i] = StringConversions.from2DimDoubleArrayToString(weekdayPower[i]);
+        }
+        values[7] = StringConversions.from2DimDoubleArrayToString(logObj.getAggregateDayPower());
+
+        this.addRow("H0", WEEKDAY_COLUMNS, repeat(STRING, WEEKDAY_COLUMNS.length), logObj, values);
+    }
+
+    private void logThermal(ThermalLoggingObject logObj) {
+        double[][] weekdayPower = logObj.getAggregateWeekdayPower();
+        Object[] values = new Object[WEEKDAY_COLUMNS.length];
+        for (int i = 0; i < weekdayPower.length; i++) {
+            values[i] = Arrays.toString(weekdayPower[i]);
+        }
+        values[7] = Arrays.toString(logObj.getAggregateDayPower());
+
+        this.addRow("HotWater_" + getWaterTankIdentifier(logObj.getCommodity()), WEEKDAY_COLUMNS,
+                repeat(STRING, WEEKDAY_COLUMNS.length), logObj, values);
+    }
+
+    private static final String[] DEVICES_COLUMNS = {"Device", "starts", "startsR", "Consumption",
+            "startsProfiles", "dofs", "startTimes", "profilesSelected"};
+    private static final ColumnType[] DEVICES_TYPES = {STRING, INT, INT, DOUBLE, STRING, STRING, STRING, STRING};
+
+    private void logDevices(DevicesLogObject logObj) {
+        this.addRow("Devices", DEVICES_COLUMNS, DEVICES_TYPES, logObj,
+                logObj.getDeviceIdentifier().toString(),
+                logObj.getPlannedDeviceStarts(),
+                logObj.getActualDeviceStarts(),
+                logObj.getActivePowerConsumption(),
+                Arrays.toString(logObj.getProfileStarts()),
+                Arrays.toString(logObj.getDofs()),
+                Arrays.toString(logObj.getStartTimes()),
+                Arrays.toString(logObj.getProfilesSelected()));
+    }
+
+    private static final String[] BASELOAD_COLUMNS = {"activePower", "reactivePower"};
+
+    private void logBaseload(BaseloadLogObject logObj) {
+        this.addRow("Baseload", BASELOAD_COLUMNS, repeat(DOUBLE, 2), logObj,
+                logObj.getActivePower(), logObj.getReactivePower());
+    }
+
+    private static final String[] WATER_TANK_COLUMNS = {"avgTemperature", "waterDemand", "waterSupply",
+            "lastTemp"};
+
+    private void logWaterTank(WaterTankLogObject logObj) {
+        this.addRow("WaterTank_" + getWaterTankIdentifier(logObj.getCommodity()), WATER_TANK_COLUMNS,
+                repeat(DOUBLE, 4), logObj,
+                logObj.getAverageTemperature(),
+                logObj.getDemand(),
+                logObj.getSupply(),
+                logObj.getLastTemp());
+    }
+
+    private static final String[] THERMAL_SUPPLY_COLUMNS = {"sourceSupply", "sourceStarts"};
+    private static final ColumnType[] THERMAL_SUPPLY_TYPES = {DOUBLE, INT};
+
+    private void logThermalSupply(ThermalSupplyLogObject logObj) {
+        this.addRow("ThermalSupply_" + getWaterTankIdentifier(logObj.getCommodity()), THERMAL_SUPPLY_COLUMNS,
+                THERMAL_SUPPLY_TYPES, logObj,
+                logObj.getSupply(),
+                logObj.getStarts());
+    }
+
+    private static final String[] EA_COLUMNS = {"avgGenerationsUsed", "avgFitnessChange", "avgFitnessSpread",
+            "avgHomogeneity", "noOfOptimizations", "cervisiaCHP", "cervisiaHWT", "cervisiaDW", "cervisiaTD",
+            "cervisiaWM"};
+    private static final ColumnType[] EA_TYPES = {DOUBLE, STRING, STRING, STRING, INT, DOUBLE, DOUBLE, DOUBLE,
+            DOUBLE, DOUBLE};
+
+    private void logEA(EALogObject logObj) {
+
+        if (Double.isNaN(logObj.getAverageGenerationsUsed())) {
+            return;
+        }
+
+        this.addRow("GA", EA_COLUMNS, EA_TYPES, logObj,
+                logObj.getAverageGenerationsUsed(),
+                StringConversions.from2DimDoubleArrayToString(logObj.getAverageFitnessChange()),
+                StringConversions.from2DimDoubleArrayToString(logObj.getAverageFitnessSpread()),
+                Arrays.toString(logObj.getAverageHomogeneity()),
+                logObj.getNoOfOptimizations(),
+                logObj.getCervisia()[0],
+                logObj.getCervisia()[1],
+                logObj.getCervisia()[2],
+                logObj.getCervisia()[3],
+                logObj.getCervisia()[4]);
+    }
+
+    private static final String[] SMART_HEATER_COLUMNS = {"switchOns0", "switchOns1", "switchOns2",
+            "runTimes0", "runTimes1", "runTimes2", "powerTierRunTimes0", "powerTierRunTimes1", "powerTierRunTimes2",
+            "powerTierRunTimes3", "powerTierRunTimes4", "powerTierRunTimes5", "powerTierRunTimes6"};
+    private static final ColumnType[] SMART_HEATER_TYPES = {INT, INT, INT, LONG, LONG, LONG, LONG, LONG, LONG,
+            LONG, LONG, LONG, LONG};
+
+    private void logSmartHeater(SmartHeaterLogObject logObj) {
+        Object[] values = new Object[SMART_HEATER_COLUMNS.length];
+        for (int i = 0; i < 3; i++) {
+            values[i] = logObj.getSwitchOns()[i];
+            values[i + 3] = logObj.getRunTimes()[i];
+        }
+        for (int i = 0; i < 7; i++) {
+            values[i + 6] = logObj.getPowerTierRunTimes()[i];
+        }
+
+        this.addRow("SmartHeater", SMART_HEATER_COLUMNS, SMART_HEATER_TYPES, logObj, values);
+    }
+
+    @Override
+    public <L extends LoggingObjectStateExchange> void logObject(L work) {
+        if (work instanceof SimulationResultsLogObject) {
+            this.logSimulationResults((SimulationResultsLogObject) work);
+        } else if (work instanceof PriceSignalLogObject) {
+            this.logEps((PriceSignalLogObject) work);
+        } else if (work instanceof PowerLimitSignalLogObject) {
+            this.logPls((PowerLimitSignalLogObject) work);
+        } else if (work instanceof H0LogObject) {
+            this.logH0((H0LogObject) work);
+        } else if (work instanceof DevicesLogObject) {
+            this.logDevices((DevicesLogObject) work);
+        } else if (work instanceof BaseloadLogObject) {
+            this.logBaseload((BaseloadLogObject) work);
+        } else if (work instanceof ThermalLoggingObject) {
+            this.logThermal((ThermalLoggingObject) work);
+        } else if (work instanceof DetailedPowerLogObject) {
+            this.logDetailedPower((DetailedPowerLogObject) work);
+        } else if (work instanceof WaterTankLogObject) {
+            this.logWaterTank((WaterTankLogObject) work);
+        } else if (work instanceof ThermalSupplyLogObject) {
+            this.logThermalSupply((ThermalSupplyLogObject) work);
+        } else if (work instanceof EALogObject) {
+            this.logEA((EALogObject) work);
+        } else if (work instanceof SmartHeaterLogObject) {
+            this.logSmartHeater((SmartHeaterLogObject) work);
+        } else {
+            throw new RuntimeException("non-defined log object");
+        }
+    }
+
+    @Override
+    public void flushIfDue() {
+        if (System.currentTimeMillis() - this.lastFlush >= FLUSH_INTERVAL) {
+            this.flush();
+        }
+    }
+
+    private void flush() {
+        this.lastFlush = System.currentTimeMillis();
+        for (ColumnarLogWriter writer : this.writers.values()) {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Override
+    public long getFlushInterval() {
+        return FLUSH_INTERVAL;
+    }
+
+    @Override
+    public void close() {
+        for (ColumnarLogWriter writer : this.writers.values()) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        this.writers.clear();
+    }
+
+    private static String getWaterTankIdentifier(Commodity commodity) {
+        switch (commodity) {
+            case DOMESTICHOTWATERPOWER:
+                return "DOM";
+            case HEATINGHOTWATERPOWER:
+                return "SPACE";
+            default:
+                return "";
+        }
+    }
+}
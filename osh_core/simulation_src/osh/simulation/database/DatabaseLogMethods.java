@@ -21,84 +21,234 @@ import osh.datatypes.logging.thermal.ThermalLoggingObject;
 import osh.datatypes.logging.thermal.ThermalSupplyLogObject;
 import osh.datatypes.power.PowerInterval;
 import osh.simulation.OSHSimulationResults;
+import osh.simulation.database.DatabaseTableDefinitions.LogTableType;
 import osh.utils.dataStructures.fastutil.Long2IntTreeMap;
-import osh.utils.functions.TriFunction;
 import osh.utils.sql.SQLConnectionProvider;
 import osh.utils.string.StringConversions;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 import java.util.Map.Entry;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static osh.simulation.database.DatabaseTableDefinitions.LogTableType.*;
 
 /**
  * Represents a collection of log-method definitons used for the database logging.
+ * <p>
+ * Log objects are not written immediately, every log method only converts the object into rows of a parameterized
+ * statement. The rows are buffered and written in batches, either if {@link #MAX_BATCH_SIZE} rows are pending or if
+ * the last write is older than {@link #FLUSH_INTERVAL}. Every statement is prepared only once per connection and the
+ * existence of every table is only checked once.
  *
  * @author Sebastian Kramer
  */
-public class DatabaseLogMethods {
+public class DatabaseLogMethods implements ILogObjectSink {
 
-    protected static Connection[] conn;
-    protected static String[] preferredConnection;
-    protected static String runName;
-    protected static ZonedDateTime startTime;
+    //maximum number of buffered rows before they are written to the database
+    private static final int MAX_BATCH_SIZE = 1000;
+    //maximum time (in ms) buffered rows are held back before they are written to the database
+    private static final long FLUSH_INTERVAL = 2000;
+    private static final int MAX_TRIES = 5;
+
+    private static final String ID_COLUMNS = "RunName, ID, ID_TEXT";
+    private static final String ID_VALUES = "?, UNHEX(REPLACE(?,'-','')), ?";
+
+    private final Connection[] conn;
+    private final String[] preferredConnection;
+    private final String runName;
+    private final ZonedDateTime startTime;
+    private final DatabaseTableDefinitions tableDefinitions;
+
+    //all statements used so far, identified by their sql
+    private final Map<String, BatchedStatement> statements = new LinkedHashMap<>();
+    private int pendingRows;
+    private long lastFlush = System.currentTimeMillis();
+
+    /**
+     * Constructs the log methods of one simulation run.
+     *
+     * @param tableDefinitions the definitions of the tables to log to
+     * @param runName the runName of the simulation
+     * @param startTime the starttime of the simulation
+     * @param preferredConnection the identifiers of the preferred database connections to log to
+     */
+    public DatabaseLogMethods(DatabaseTableDefinitions tableDefinitions, String runName, ZonedDateTime startTime,
+                              String[] preferredConnection) {
+        this.tableDefinitions = tableDefinitions;
+        this.runName = runName;
+        this.startTime = startTime;
+        this.preferredConnection = preferredConnection;
+        this.conn = new Connection[preferredConnection.length];
+    }
 
     /**
-     * Trys to setup the sql-connection, first trying the given preferred connection.
+     * Trys to setup the sql-connection, first trying the given preferred connection. The connection is opened only
+     * for this run, so that runs logging concurrently do not share connections.
      *
      * @param preferredConnectionIndex the index of the preferred connection
      */
-    protected static void trySetupConnection(int preferredConnectionIndex) {
+    private void trySetupConnection(int preferredConnectionIndex) {
+        this.closeConnection(preferredConnectionIndex);
         try {
-            conn[preferredConnectionIndex] = SQLConnectionProvider.getConnection(preferredConnection[preferredConnectionIndex]);
-            if (conn == null) {
+            this.conn[preferredConnectionIndex] =
+                    SQLConnectionProvider.openConnection(this.preferredConnection[preferredConnectionIndex]);
+            if (this.conn[preferredConnectionIndex] == null) {
                 throw new Exception("Connection is null, should not happen");
             }
+            this.conn[preferredConnectionIndex].setAutoCommit(false);
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
-    private static String[] logSimulationResults(SimulationResultsLogObject logObj) {
-        String sql;
+    private void closeConnection(int preferredConnectionIndex) {
+        for (BatchedStatement statement : this.statements.values()) {
+            statement.closeStatement(preferredConnectionIndex);
+        }
+        if (this.conn[preferredConnectionIndex] != null) {
+            try {
+                this.conn[preferredConnectionIndex].close();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+            this.conn[preferredConnectionIndex] = null;
+        }
+    }
+
+    /**
+     * Writes all pending rows and closes all connections opened by this run.
+     */
+    @Override
+    public void close() {
+        this.flush();
+        for (int i = 0; i < this.conn.length; i++) {
+            this.closeConnection(i);
+        }
+    }
+
+    /**
+     * Writes all pending rows if the maximum batch size is reached or the last write is older than the flush
+     * interval.
+     */
+    @Override
+    public void flushIfDue() {
+        if (this.pendingRows >= MAX_BATCH_SIZE
+                || (this.pendingRows > 0 && System.currentTimeMillis() - this.lastFlush >= FLUSH_INTERVAL)) {
+            this.flush();
+        }
+    }
+
+    @Override
+    public long getFlushInterval() {
+        return FLUSH_INTERVAL;
+    }
+
+    /**
+     * Writes all pending rows to all connections, every connection in a single transaction.
+     */
+    public void flush() {
+        this.lastFlush = System.currentTimeMillis();
+        if (this.pendingRows == 0) {
+            return;
+        }
+
+        for (int i = 0; i < this.preferredConnection.length; i++) {
+            int tries = 0;
+            while (tries < MAX_TRIES) {
+                try {
+                    if (this.conn[i] == null || this.conn[i].isClosed()) {
+                        this.trySetupConnection(i);
+                    }
+                    if (this.conn[i] == null) {
+                        break;
+                    }
+                    for (BatchedStatement statement : this.statements.values()) {
+                        statement.execute(i);
+                    }
+                    this.conn[i].commit();
+                    break;
+                } catch (SQLException e) {
+                    e.printStackTrace();
+                    System.out.println("Tried to write " + this.pendingRows + " rows: " + tries);
+                    this.trySetupConnection(i);
+                    tries++;
+                }
+            }
+        }
+
+        for (BatchedStatement statement : this.statements.values()) {
+            statement.rows.clear();
+        }
+        this.pendingRows = 0;
+    }
+
+    /**
+     * Adds a row to the statement with the given sql
+     *
+     * @param type the type of the table to log to
+     * @param identifier the additional identifier of the table
+     * @param sql the sql of the statement, containing <i>%s</i> as a placeholder for the table name
+     * @param values the values of the row
+     */
+    private void addRow(LogTableType type, String identifier, String sql, Object... values) {
+        BatchedStatement statement = this.statements.get(sql);
+        if (statement == null) {
+            String tableName = this.tableDefinitions.getTableName(type, identifier);
+            statement = new BatchedStatement(type, identifier, tableName, String.format(sql, tableName));
+            this.statements.put(sql, statement);
+        }
+        statement.rows.add(values);
+        this.pendingRows++;
+    }
+
+    private Object[] idValues(LoggingObjectStateExchange logObj, Object... values) {
+        Object[] allValues = new Object[values.length + 3];
+        allValues[0] = this.runName;
+        allValues[1] = logObj.getSender().toString();
+        allValues[2] = logObj.getSender().toString();
+        System.arraycopy(values, 0, allValues, 3, values.length);
+        return allValues;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private void logSimulationResults(SimulationResultsLogObject logObj) {
 
         OSHSimulationResults results = logObj.getSimResults();
+        boolean hasRuntime = logObj.getSimRuntime() != null;
+        String[] keys = OSHSimulationResults.getDoubleArrayKeys();
 
-        sql = "REPLACE INTO "
-                + "%s"
-                + "(RunName, "
-                + "ID, "
-                + "ID_TEXT, "
-                + (logObj.getSimRuntime() != null ? "Runtime, " : "")
+        String sql = "REPLACE INTO %s (" + ID_COLUMNS + ", "
+                + (hasRuntime ? "Runtime, " : "")
                 + "StartTime, "
                 + "LoggingStartRelative, "
-                + "LoggingEndRelative, ";
-
-        sql += String.join(", ", OSHSimulationResults.getDoubleArrayKeys()) + ")";
-
-        sql += "VALUES ('" + runName + "'"
-                + ", UNHEX(REPLACE('" + logObj.getSender().toString() + "','-',''))"
-                + ", '" + logObj.getSender().toString() + "'"
-                + (logObj.getSimRuntime() != null ? ", " + logObj.getSimRuntime() : "")
-                + ", " + startTime.toEpochSecond()
-                + ", " + logObj.getRelativeStart()
-                + ", " + logObj.getRelativeEnd() + ", ";
-        sql += Arrays.stream(results.getContentsAsDoubleArray()).map(Object::toString).collect(Collectors.joining
-                (", ")) + ");";
-        return new String[]{sql};
+                + "LoggingEndRelative, "
+                + String.join(", ", keys) + ")"
+                + " VALUES (" + ID_VALUES + ", " + placeholders(keys.length + (hasRuntime ? 4 : 3)) + ")";
+
+        List<Object> values = new ArrayList<>();
+        if (hasRuntime) {
+            values.add(logObj.getSimRuntime());
+        }
+        values.add(this.startTime.toEpochSecond());
+        values.add(logObj.getRelativeStart());
+        values.add(logObj.getRelativeEnd());
+        values.addAll(Arrays.asList(results.getContentsAsDoubleArray()));
+
+        this.addRow(BASE, "", sql, this.idValues(logObj, values.toArray()));
     }
 
-    private static String[] logDetailedPower(DetailedPowerLogObject logObj) {
+    private void logDetailedPower(DetailedPowerLogObject logObj) {
 
         AncillaryCommodity[] toLog = {
                 AncillaryCommodity.ACTIVEPOWEREXTERNAL,
@@ -108,7 +258,11 @@ public class DatabaseLogMethods {
                 AncillaryCommodity.PVACTIVEPOWERFEEDIN
         };
 
-        List<String> allSql = new ArrayList<>();
+        String sql = "REPLACE INTO %s (" + ID_COLUMNS + ", "
+                + "AncillaryCommodity, "
+                + "Time, "
+                + "Power)"
+                + " VALUES (" + ID_VALUES + ", ?, ?, ?)";
 
         for (AncillaryCommodity a : toLog) {
 
@@ -118,134 +272,84 @@ public class DatabaseLogMethods {
             while (time != Long2IntTreeMap.INVALID_KEY) {
                 int power = logObj.getLoadProfile().getLoadAt(a, time);
 
-                allSql.add("REPLACE INTO "
-                        + "%s"
-                        + "(RunName, "
-                        + "ID,"
-                        + "ID_TEXT,"
-                        + "AncillaryCommodity,"
-                        + "Time,"
-                        + "Power)"
-
-                        + "VALUES ('" + runName + "'"
-                        + ", UNHEX(REPLACE('" + logObj.getSender().toString() + "','-',''))"
-                        + ", '" + logObj.getSender().toString() + "'"
-                        + ", '" + a
-                        + "', " + time
-                        + ", " + power + ");");
-
+                this.addRow(DETAILED_POWER, "", sql, this.idValues(logObj, a.toString(), time, power));
 
                 time = logObj.getLoadProfile().getNextLoadChange(a, time);
             }
         }
-
-        return allSql.toArray(new String[0]);
     }
 
-    private static String[] logEps(PriceSignalLogObject logObj) {
-
-        if (logObj.getEps().isEmpty()) {
-            return new String[0];
-        }
+    private void logEps(PriceSignalLogObject logObj) {
 
-        String sqlBase = "REPLACE INTO %s (RunName," + "ID," +  "ID_TEXT, " + "VirtualCommodity, " + "Time, "
+        String sql = "REPLACE INTO %s (" + ID_COLUMNS + ", "
+                + "VirtualCommodity, "
+                + "Time, "
                 + "Price)"
-
-                + "VALUES ('" + runName + "'"
-                + ", UNHEX(REPLACE('" + logObj.getSender().toString() + "','-',''))"
-                + ", '" + logObj.getSender().toString() + "') ";
-        String sqlValues = ", '%s'" + ", %d" + ", %f);";
-
-        List<String> allSqls = new ArrayList<>();
+                + " VALUES (" + ID_VALUES + ", ?, ?, ?)";
 
         for (Entry<AncillaryCommodity, PriceSignal> en : logObj.getEps().entrySet()) {
             for (Long2DoubleMap.Entry price : en.getValue().getPrices().long2DoubleEntrySet()) {
-                //forces decimal point
-                allSqls.add(sqlBase + String.format(Locale.ENGLISH, sqlValues, en.getKey().getCommodity(),
+                this.addRow(EPS, "", sql, this.idValues(logObj, en.getKey().getCommodity(),
                         price.getLongKey(), price.getDoubleValue()));
             }
         }
-
-        return allSqls.toArray(new String[0]);
     }
 
-    private static String[] logPls(PowerLimitSignalLogObject logObj) {
-
-        if (logObj.getPls().isEmpty()) {
-            return new String[0];
-        }
-
-        String sqlBase = "REPLACE INTO %s (RunName," + "ID," + "ID_TEXT, " + "VirtualCommodity, " + "Time, "
-                + "LowerLimit, " + "UpperLimit)"
+    private void logPls(PowerLimitSignalLogObject logObj) {
 
-                + "VALUES ('" + runName + "'"
-                + ", UNHEX(REPLACE('" + logObj.getSender().toString() + "','-',''))"
-                + ", '" + logObj.getSender().toString() + "' )";
-        String sqlValues =  ", '%s'" + ", %d" + ", %f" + ", %f);";
-
-        List<String> allSqls = new ArrayList<>();
+        String sql = "REPLACE INTO %s (" + ID_COLUMNS + ", "
+                + "VirtualCommodity, "
+                + "Time, "
+                + "LowerLimit, "
+                + "UpperLimit)"
+                + " VALUES (" + ID_VALUES + ", ?, ?, ?, ?)";
 
         for (Entry<AncillaryCommodity, PowerLimitSignal> en : logObj.getPls().entrySet()) {
             for (Long2ObjectMap.Entry<PowerInterval> power : en.getValue().getLimits().long2ObjectEntrySet()) {
-                allSqls.add(sqlBase + String.format(Locale.ENGLISH, sqlValues, en.getKey().getCommodity(),
+                this.addRow(PLS, "", sql, this.idValues(logObj, en.getKey().getCommodity(),
                         power.getLongKey(), power.getValue().getPowerLowerLimit(),
                         power.getValue().getPowerUpperLimit()));
             }
         }
-
-        return allSqls.toArray(new String[0]);
     }
 
-    private static String[] logH0(H0LogObject logObj) {
-
-        String sql = "REPLACE INTO %s (RunName," + "ID," + "ID_TEXT, " +  "weekDay0, " + "weekDay1, "
-                + "weekDay2, " + "weekDay3, " + "weekDay4, " + "weekDay5, " + "weekDay6, " + "days)"
-
-                + "VALUES ('" + runName + "'"
-                + ", UNHEX(REPLACE('" + logObj.getSender().toString() + "','-',''))"
-                + ", '" + logObj.getSender().toString() + "'" + ", '"
-                + StringConversions.from2DimDoubleArrayToString(logObj.getAggregateWeekdayPower()[0])
-                + "'" + ", '"
-                + StringConversions.from2DimDoubleArrayToString(logObj.getAggregateWeekdayPower()[1])
-                + "'" + ", '"
-                + StringConversions.from2DimDoubleArrayToString(logObj.getAggregateWeekdayPower()[2])
-                + "'" + ", '"
-                + StringConversions.from2DimDoubleArrayToString(logObj.getAggregateWeekdayPower()[3])
-                + "'" + ", '"
-                + StringConversions.from2DimDoubleArrayToString(logObj.getAggregateWeekdayPower()[4])
-                + "'" + ", '"
-                + StringConversions.from2DimDoubleArrayToString(logObj.getAggregateWeekdayPower()[5])
-                + "'" + ", '"
-                + StringConversions.from2DimDoubleArrayToString(logObj.getAggregateWeekdayPower()[6])
-                + "'" + ", '"
-                + StringConversions.from2DimDoubleArrayToString(logObj.getAggregateDayPower())
-                + "'" + ");";
-        return new String[]{sql};
+    private void logH0(H0LogObject logObj) {
+
+        String sql = "REPLACE INTO %s (" + ID_COLUMNS + ", "
+                + "weekDay0, weekDay1, weekDay2, weekDay3, weekDay4, weekDay5, weekDay6, days)"
+                + " VALUES (" + ID_VALUES + ", " + placeholders(8) + ")";
+
+        double[][][] weekdayPower = logObj.getAggregateWeekdayPower();
+        this.addRow(H0, "", sql, this.idValues(logObj,
+                StringConversions.from2DimDoubleArrayToString(weekdayPower[0]),
+                StringConversions.from2DimDoubleArrayToString(weekdayPower[1]),
+                StringConversions.from2DimDoubleArrayToString(weekdayPower[2]),
+                StringConversions.from2DimDoubleArrayToString(weekdayPower[3]),
+                StringConversions.from2DimDoubleArrayToString(weekdayPower[4]),
+                StringConversions.from2DimDoubleArrayToString(weekdayPower[5]),
+                StringConversions.from2DimDoubleArrayToString(weekdayPower[6]),
+                StringConversions.from2DimDoubleArrayToString(logObj.getAggregateDayPower())));
     }
 
-    private static String[] logThermal(ThermalLoggingObject logObj) {
-
-        String hotWaterIdentifier = getWaterTankIdentifier(logObj.getCommodity());
-
-        String sql = "REPLACE INTO %s_" + hotWaterIdentifier + "(RunName," + "ID," + "ID_TEXT, " + "weekDay0, " + "weekDay1, "
-                + "weekDay2, " + "weekDay3, " + "weekDay4, " + "weekDay5, " + "weekDay6, " + "days)"
-
-                + "VALUES ('" + runName + "'"
-                + ", UNHEX(REPLACE('" + logObj.getSender().toString() + "','-',''))"
-                + ", '" + logObj.getSender().toString() + "'"
-                + ", '" + Arrays.toString(logObj.getAggregateWeekdayPower()[0])
-                + "'" + ", '" + Arrays.toString(logObj.getAggregateWeekdayPower()[1]) + "'" + ", '"
-                + Arrays.toString(logObj.getAggregateWeekdayPower()[2]) + "'" + ", '"
-                + Arrays.toString(logObj.getAggregateWeekdayPower()[3]) + "'" + ", '"
-                + Arrays.toString(logObj.getAggregateWeekdayPower()[4]) + "'" + ", '"
-                + Arrays.toString(logObj.getAggregateWeekdayPower()[5]) + "'" + ", '"
-                + Arrays.toString(logObj.getAggregateWeekdayPower()[6]) + "'" + ", '"
-                + Arrays.toString(logObj.getAggregateDayPower()) + "'" + ");";
-
-        return new String[]{sql};
+    private void logThermal(ThermalLoggingObject logObj) {
+
+        String sql = "REPLACE INTO %s (" + ID_COLUMNS + ", "
+                + "weekDay0, weekDay1, weekDay2, weekDay3, weekDay4, weekDay5, weekDay6, days)"
+                + " VALUES (" + ID_VALUES + ", " + placeholders(8) + ")";
+
+        double[][] weekdayPower = logObj.getAggregateWeekdayPower();
+        this.addRow(THERMAL, getWaterTankIdentifier(logObj.getCommodity()), sql, this.idValues(logObj,
+                Arrays.toString(weekdayPower[0]),
+                Arrays.toString(weekdayPower[1]),
+                Arrays.toString(weekdayPower[2]),
+                Arrays.toString(weekdayPower[3]),
+                Arrays.toString(weekdayPower[4]),
+                Arrays.toString(weekdayPower[5]),
+                Arrays.toString(weekdayPower[6]),
+                Arrays.toString(logObj.getAggregateDayPower())));
     }
 
-    private static String[] logDevices(DevicesLogObject logObj) {
+    private void logDevices(DevicesLogObject logObj) {
 
         String deviceIdentifier = "";
         switch (logObj.getDeviceIdentifier()) {
@@ -267,306 +371,166 @@ public class DatabaseLogMethods {
             default:
         }
 
-        String columnIdent = "starts" + deviceIdentifier;
-        String columnIdent2 = "Consumption" + deviceIdentifier;
-        String columnIdent3 = "dofs" + deviceIdentifier;
-        String columnIdent4 = "startTimes" + deviceIdentifier;
-        String columnIdent5 = "profilesSelected" + deviceIdentifier;
-
-        String sql = "INSERT INTO %s (RunName," + "ID," + "ID_TEXT, " + columnIdent + "," + columnIdent
-                + "R," + columnIdent2 + "," + columnIdent + "Profiles," + columnIdent3 + ","
-                + columnIdent4 + ", " + columnIdent5 + ")"
-
-                + "VALUES ('" + runName + "'"
-                + ", UNHEX(REPLACE('" + logObj.getSender().toString() + "','-',''))"
-                + ", '" + logObj.getSender().toString() + "'"
-                + ", " + logObj.getPlannedDeviceStarts()
-                + ", " + logObj.getActualDeviceStarts()
-                + ", " + logObj.getActivePowerConsumption()
-                + ", '" + Arrays.toString(logObj.getProfileStarts())
-                + "', '" + Arrays.toString(logObj.getDofs())
-                + "', '" + Arrays.toString(logObj.getStartTimes())
-                + "', '" + Arrays.toString(logObj.getProfilesSelected())
-                + "') " + "ON DUPLICATE KEY UPDATE "
-                + columnIdent + "=VALUES(" + columnIdent
-                + "), " + columnIdent + "R=VALUES(" + columnIdent
-                + "R), " + columnIdent2 + "=VALUES(" + columnIdent2
-                + "), " + columnIdent + "Profiles=VALUES(" + columnIdent + "PROFILES"
-                + ")," + columnIdent3 + "=VALUES(" + columnIdent3
-                + "), " + columnIdent4 + "=VALUES(" + columnIdent4
-                + "), " + columnIdent5 + "=VALUES(" + columnIdent5
-                + ");";
-
-        return new String[]{sql};
+        String[] columns = {
+                "starts" + deviceIdentifier,
+                "starts" + deviceIdentifier + "R",
+                "Consumption" + deviceIdentifier,
+                "starts" + deviceIdentifier + "Profiles",
+                "dofs" + deviceIdentifier,
+                "startTimes" + deviceIdentifier,
+                "profilesSelected" + deviceIdentifier
+        };
+
+        StringBuilder sql = new StringBuilder("INSERT INTO %s (" + ID_COLUMNS + ", " + String.join(", ", columns)
+                + ") VALUES (" + ID_VALUES + ", " + placeholders(columns.length) + ") ON DUPLICATE KEY UPDATE ");
+        for (int i = 0; i < columns.length; i++) {
+            sql.append(i == 0 ? "" : ", ").append(columns[i]).append("=VALUES(").append(columns[i]).append(")");
+        }
+
+        this.addRow(DEVICES, "", sql.toString(), this.idValues(logObj,
+                logObj.getPlannedDeviceStarts(),
+                logObj.getActualDeviceStarts(),
+                logObj.getActivePowerConsumption(),
+                Arrays.toString(logObj.getProfileStarts()),
+                Arrays.toString(logObj.getDofs()),
+                Arrays.toString(logObj.getStartTimes()),
+                Arrays.toString(logObj.getProfilesSelected())));
     }
 
-    private static String[] logBaseload(BaseloadLogObject logObj) {
+    private void logBaseload(BaseloadLogObject logObj) {
 
-        String sql = "REPLACE INTO %s (RunName," + "ID," + "ID_TEXT, " + "activePower,"
+        String sql = "REPLACE INTO %s (" + ID_COLUMNS + ", "
+                + "activePower, "
                 + "reactivePower)"
+                + " VALUES (" + ID_VALUES + ", ?, ?)";
 
-                + "VALUES ('" + runName + "'"
-                + ", UNHEX(REPLACE('" + logObj.getSender().toString() + "','-',''))"
-                + ", '" + logObj.getSender().toString() + "'"
-                + ", " + logObj.getActivePower() + ", " + logObj.getReactivePower()
-                + ");";
-
-        return new String[]{sql};
+        this.addRow(BASELOAD, "", sql, this.idValues(logObj, logObj.getActivePower(), logObj.getReactivePower()));
     }
 
-    private static String[] logWaterTank(WaterTankLogObject logObj) {
-
-        String tankIdentifier = getWaterTankIdentifier(logObj.getCommodity());
+    private void logWaterTank(WaterTankLogObject logObj) {
 
-        String sql = "INSERT INTO %s_" + tankIdentifier
-                + "(RunName,"
-                + "ID,"
-                + "ID_TEXT,"
-                + "avgTemperature,"
-                + "waterDemand,"
-                + "waterSupply,"
+        String sql = "INSERT INTO %s (" + ID_COLUMNS + ", "
+                + "avgTemperature, "
+                + "waterDemand, "
+                + "waterSupply, "
                 + "lastTemp)"
-
-                + "VALUES ('" + runName + "'"
-                + ", UNHEX(REPLACE('" + logObj.getSender().toString() + "','-',''))"
-                + ", '" + logObj.getSender().toString() + "'"
-                + ", " + logObj.getAverageTemperature()
-                + ", " + logObj.getDemand()
-                + ", " + logObj.getSupply()
-                + ", " + logObj.getLastTemp()
-                + ") ON DUPLICATE KEY UPDATE "
+                + " VALUES (" + ID_VALUES + ", ?, ?, ?, ?) ON DUPLICATE KEY UPDATE "
                 + "avgTemperature=VALUES(avgTemperature)"
                 + ", waterDemand=VALUES(waterDemand)"
                 + ", waterSupply=VALUES(waterSupply)"
-                + ", lastTemp=VALUES(lastTemp);";
+                + ", lastTemp=VALUES(lastTemp)";
 
-        return new String[]{sql};
+        this.addRow(WATER_TANK, getWaterTankIdentifier(logObj.getCommodity()), sql, this.idValues(logObj,
+                logObj.getAverageTemperature(),
+                logObj.getDemand(),
+                logObj.getSupply(),
+                logObj.getLastTemp()));
     }
 
-    private static String[] logThermalSupply(ThermalSupplyLogObject logObj) {
-
-        String tankIdentifier = getWaterTankIdentifier(logObj.getCommodity());
+    private void logThermalSupply(ThermalSupplyLogObject logObj) {
 
-
-        String sql = "INSERT INTO %s_" + tankIdentifier
-                + "(RunName,"
-                + "ID,"
-                + "ID_TEXT,"
-                + "sourceSupply,"
+        String sql = "INSERT INTO %s (" + ID_COLUMNS + ", "
+                + "sourceSupply, "
                 + "sourceStarts)"
-
-                + "VALUES ('" + runName + "'"
-                + ", UNHEX(REPLACE('" + logObj.getSender().toString() + "','-',''))"
-                + ", '" + logObj.getSender().toString() + "'"
-                + ", " + logObj.getSupply()
-                + ", " + logObj.getStarts()
-                + ") ON DUPLICATE KEY UPDATE "
+                + " VALUES (" + ID_VALUES + ", ?, ?) ON DUPLICATE KEY UPDATE "
                 + "sourceSupply=VALUES(sourceSupply)"
-                + ", sourceStarts=VALUES(sourceStarts);";
+                + ", sourceStarts=VALUES(sourceStarts)";
 
-        return new String[]{sql};
+        this.addRow(WATER_TANK, getWaterTankIdentifier(logObj.getCommodity()), sql, this.idValues(logObj,
+                logObj.getSupply(),
+                logObj.getStarts()));
     }
 
-   private static String[] logEA(EALogObject logObj) {
+    private void logEA(EALogObject logObj) {
 
         if (Double.isNaN(logObj.getAverageGenerationsUsed())) {
-            return new String[0];
+            return;
         }
 
-        String sql = "REPLACE INTO %s ("
-                + "RunName,"
-                + "ID,"
-                + "ID_TEXT,"
+        String sql = "REPLACE INTO %s (" + ID_COLUMNS + ", "
                 + "avgGenerationsUsed, "
                 + "avgFitnessChange, "
                 + "avgFitnessSpread, "
                 + "avgHomogeneity, "
-                + "noOfOptimizations,"
+                + "noOfOptimizations, "
                 + "cervisiaCHP, "
                 + "cervisiaHWT, "
                 + "cervisiaDW, "
                 + "cervisiaTD, "
                 + "cervisiaWM)"
-
-                + " VALUES ('" + runName + "'"
-                + ", UNHEX(REPLACE('" + logObj.getSender().toString() + "','-',''))"
-                + ", '" + logObj.getSender().toString() + "'"
-                + ", " + logObj.getAverageGenerationsUsed()
-                + ", '" + StringConversions.from2DimDoubleArrayToString(logObj.getAverageFitnessChange())
-                + "', '" + StringConversions.from2DimDoubleArrayToString(logObj.getAverageFitnessSpread())
-                + "', '" + Arrays.toString(logObj.getAverageHomogeneity())
-                + "', " + logObj.getNoOfOptimizations()
-                + ", " + logObj.getCervisia()[0]
-                + ", " + logObj.getCervisia()[1]
-                + ", " + logObj.getCervisia()[2]
-                + ", " + logObj.getCervisia()[3]
-                + ", " + logObj.getCervisia()[4] + ");";
-
-        return new String[]{sql};
-    }
-
-    private static String[] logSmartHeater(SmartHeaterLogObject logObj) {
-        String sql = "REPLACE INTO %s ("
-                + "RunName,"
-                + "ID,"
-                + "ID_TEXT,"
-                + "switchOns0, "
-                + "switchOns1, "
-                + "switchOns2, "
-                + "runTimes0, "
-                + "runTimes1, "
-                + "runTimes2, "
-                + "powerTierRunTimes0, "
-                + "powerTierRunTimes1, "
-                + "powerTierRunTimes2, "
-                + "powerTierRunTimes3, "
-                + "powerTierRunTimes4, "
-                + "powerTierRunTimes5, "
-                + "powerTierRunTimes6)"
-
-                + "VALUES ('" + runName + "'"
-                + ", UNHEX(REPLACE('" + logObj.getSender().toString() + "','-',''))"
-                + ", '" + logObj.getSender().toString() + "'"
-                + ", " + logObj.getSwitchOns()[0]
-                + ", " + logObj.getSwitchOns()[1]
-                + ", " + logObj.getSwitchOns()[2]
-                + ", " + logObj.getRunTimes()[0]
-                + ", " + logObj.getRunTimes()[1]
-                + ", " + logObj.getRunTimes()[2]
-                + ", " + logObj.getPowerTierRunTimes()[0]
-                + ", " + logObj.getPowerTierRunTimes()[1]
-                + ", " + logObj.getPowerTierRunTimes()[2]
-                + ", " + logObj.getPowerTierRunTimes()[3]
-                + ", " + logObj.getPowerTierRunTimes()[4]
-                + ", " + logObj.getPowerTierRunTimes()[5]
-                + ", " + logObj.getPowerTierRunTimes()[6] + ");";
-
-        return new String[]{sql};
-    }
-
-    private static <L extends LoggingObjectStateExchange> void genericLogMethod(L work, DatabaseTableDefinitions.LogTableType type,
-                                                                                Function<L, String[]> logMethod, String identifier) {
-        for (int i = 0; i < preferredConnection.length; i++) {
-            try {
-                if (conn[i] == null || conn[i].isClosed() || !conn[i].isValid(1000))
-                    trySetupConnection(i);
-            } catch (SQLException e1) {
-                e1.printStackTrace();
-                return;
-            }
-            if (conn == null)
-                return;
-            int tries = 0;
-            while (tries < 5) {
-                System.out.println("Tried " + type + ": " + tries);
-                if (conn != null) {
-                    try {
-                        Statement stmt = conn[i].createStatement();
-                        if (!conn[i].getMetaData().getTables(null, null,
-                                DatabaseTableDefinitions.tableTypeToNameMap.get(type), null).next()) {
-                            DatabaseTableDefinitions.tableTypeToSetupMap.get(type).accept(conn, i, identifier);
-                        }
-
-                        String[] sql = logMethod.apply(work);
-
-                        for (String singleSql : sql) {
-                            stmt.executeUpdate(String.format(singleSql, DatabaseTableDefinitions.tableTypeToNameMap.get(type)));
-                        }
-
-                        stmt.close();
-                        break;
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                        trySetupConnection(i);
-                        tries++;
-                    }
-                }
-            }
-        }
+                + " VALUES (" + ID_VALUES + ", " + placeholders(10) + ")";
+
+        this.addRow(EA, "", sql, this.idValues(logObj,
+                logObj.getAverageGenerationsUsed(),
+                StringConversions.from2DimDoubleArrayToString(logObj.getAverageFitnessChange()),
+                StringConversions.from2DimDoubleArrayToString(logObj.getAverageFitnessSpread()),
+                Arrays.toString(logObj.getAverageHomogeneity()),
+                logObj.getNoOfOptimizations(),
+                logObj.getCervisia()[0],
+                logObj.getCervisia()[1],
+                logObj.getCervisia()[2],
+                logObj.getCervisia()[3],
+                logObj.getCervisia()[4]));
     }
 
-    private static <L extends LoggingObjectStateExchange> void genericBlobLogMethod(L work, DatabaseTableDefinitions.LogTableType type,
-                                                                       TriFunction<String, L, Connection, PreparedStatement> logMethod,
-                                                                       String identifier) {
-        for (int i = 0; i < preferredConnection.length; i++) {
-            try {
-                if (conn[i] == null || conn[i].isClosed() || !conn[i].isValid(1000))
-                    trySetupConnection(i);
-            } catch (SQLException e1) {
-                e1.printStackTrace();
-                return;
-            }
-            if (conn == null)
-                return;
-            int tries = 0;
-            while (tries < 5) {
-                System.out.println("Tried " + type + ": " + tries);
-                if (conn != null) {
-                    try {
-                        PreparedStatement stmt = logMethod.apply(DatabaseTableDefinitions.tableTypeToNameMap.get(type), work, conn[i]);
-                        if (!conn[i].getMetaData().getTables(null, null,
-                                DatabaseTableDefinitions.tableTypeToNameMap.get(type), null).next()) {
-                            DatabaseTableDefinitions.tableTypeToSetupMap.get(type).accept(conn, i, identifier);
-                        }
-                        stmt.executeUpdate();
-                        stmt.close();
-                        break;
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                        tries++;
-                    }
-                }
-            }
-        }
+    private void logSmartHeater(SmartHeaterLogObject logObj) {
+
+        String sql = "REPLACE INTO %s (" + ID_COLUMNS + ", "
+                + "switchOns0, switchOns1, switchOns2, "
+                + "runTimes0, runTimes1, runTimes2, "
+                + "powerTierRunTimes0, powerTierRunTimes1, powerTierRunTimes2, powerTierRunTimes3, "
+                + "powerTierRunTimes4, powerTierRunTimes5, powerTierRunTimes6)"
+                + " VALUES (" + ID_VALUES + ", " + placeholders(13) + ")";
+
+        this.addRow(SMART_HEATER, "", sql, this.idValues(logObj,
+                logObj.getSwitchOns()[0],
+                logObj.getSwitchOns()[1],
+                logObj.getSwitchOns()[2],
+                logObj.getRunTimes()[0],
+                logObj.getRunTimes()[1],
+                logObj.getRunTimes()[2],
+                logObj.getPowerTierRunTimes()[0],
+                logObj.getPowerTierRunTimes()[1],
+                logObj.getPowerTierRunTimes()[2],
+                logObj.getPowerTierRunTimes()[3],
+                logObj.getPowerTierRunTimes()[4],
+                logObj.getPowerTierRunTimes()[5],
+                logObj.getPowerTierRunTimes()[6]));
     }
 
     /**
-     * Persists the given log-object to the database
+     * Converts the given log-object into rows to persist to the database. The rows are written with the next flush.
      *
      * @param work the log object to persists
      * @param <L> the type of the log object
      */
-    public static <L extends LoggingObjectStateExchange> void logObject(L work) {
+    @Override
+    public <L extends LoggingObjectStateExchange> void logObject(L work) {
         if (work instanceof SimulationResultsLogObject) {
-            genericLogMethod((SimulationResultsLogObject) work, BASE,
-                    DatabaseLogMethods::logSimulationResults, "");
+            this.logSimulationResults((SimulationResultsLogObject) work);
         } else if (work instanceof PriceSignalLogObject) {
-            genericLogMethod((PriceSignalLogObject) work, EPS,
-                    DatabaseLogMethods::logEps, "");
+            this.logEps((PriceSignalLogObject) work);
         } else if (work instanceof PowerLimitSignalLogObject) {
-            genericLogMethod((PowerLimitSignalLogObject) work, PLS,
-                    DatabaseLogMethods::logPls, "");
+            this.logPls((PowerLimitSignalLogObject) work);
         } else if (work instanceof H0LogObject) {
-            genericLogMethod((H0LogObject) work, H0,
-                    DatabaseLogMethods::logH0, "");
+            this.logH0((H0LogObject) work);
         } else if (work instanceof DevicesLogObject) {
-            genericLogMethod((DevicesLogObject) work, DEVICES,
-                    DatabaseLogMethods::logDevices, "");
+            this.logDevices((DevicesLogObject) work);
         } else if (work instanceof BaseloadLogObject) {
-            genericLogMethod((BaseloadLogObject) work, BASELOAD,
-                    DatabaseLogMethods::logBaseload, "");
+            this.logBaseload((BaseloadLogObject) work);
         } else if (work instanceof ThermalLoggingObject) {
-            genericLogMethod((ThermalLoggingObject) work, THERMAL,
-                    DatabaseLogMethods::logThermal,
-                    getWaterTankIdentifier(((ThermalLoggingObject) work).getCommodity()));
+            this.logThermal((ThermalLoggingObject) work);
         } else if (work instanceof DetailedPowerLogObject) {
-            genericLogMethod((DetailedPowerLogObject) work, DETAILED_POWER,
-                    DatabaseLogMethods::logDetailedPower, "");
+            this.logDetailedPower((DetailedPowerLogObject) work);
         } else if (work instanceof WaterTankLogObject) {
-            genericLogMethod((WaterTankLogObject) work, WATER_TANK,
-                    DatabaseLogMethods::logWaterTank,
-                    getWaterTankIdentifier(((WaterTankLogObject) work).getCommodity()));
+            this.logWaterTank((WaterTankLogObject) work);
         } else if (work instanceof ThermalSupplyLogObject) {
-            genericLogMethod((ThermalSupplyLogObject) work, WATER_TANK,
-                    DatabaseLogMethods::logThermalSupply,
-                    getWaterTankIdentifier(((ThermalSupplyLogObject) work).getCommodity()));
+            this.logThermalSupply((ThermalSupplyLogObject) work);
         } else if (work instanceof EALogObject) {
-            genericLogMethod((EALogObject) work, EA,
-                    DatabaseLogMethods::logEA, "");
+            this.logEA((EALogObject) work);
         } else if (work instanceof SmartHeaterLogObject) {
-            genericLogMethod((SmartHeaterLogObject) work, SMART_HEATER,
-                    DatabaseLogMethods::logSmartHeater, "");
-        }  else {
+            this.logSmartHeater((SmartHeaterLogObject) work);
+        } else {
             throw new RuntimeException("non-defined log object");
         }
     }
@@ -581,6 +545,65 @@ public class DatabaseLogMethods {
                 return "";
         }
     }
-}
 
+    /**
+     * Represents one parameterized statement together with all its pending rows and the prepared statements for every
+     * connection.
+     */
+    private class BatchedStatement {
+
+        private final LogTableType type;
+        private final String identifier;
+        private final String tableName;
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>();
+        private final PreparedStatement[] preparedStatements = new PreparedStatement[DatabaseLogMethods.this.conn.length];
+        private final boolean[] tableChecked = new boolean[DatabaseLogMethods.this.conn.length];
+
+        BatchedStatement(LogTableType type, String identifier, String tableName, String sql) {
+            this.type = type;
+            this.identifier = identifier;
+            this.tableName = tableName;
+            this.sql = sql;
+        }
+
+        void execute(int connectionIndex) throws SQLException {
+            if (this.rows.isEmpty()) {
+                return;
+            }
+            Connection connection = DatabaseLogMethods.this.conn[connectionIndex];
+
+            if (!this.tableChecked[connectionIndex]) {
+                if (!connection.getMetaData().getTables(null, null, this.tableName, null).next()) {
+                    DatabaseLogMethods.this.tableDefinitions.setupTable(this.type, DatabaseLogMethods.this.conn,
+                            connectionIndex, this.identifier);
+                }
+                this.tableChecked[connectionIndex] = true;
+            }
+
+            if (this.preparedStatements[connectionIndex] == null) {
+                this.preparedStatements[connectionIndex] = connection.prepareStatement(this.sql);
+            }
+            PreparedStatement stmt = this.preparedStatements[connectionIndex];
+
+            for (Object[] row : this.rows) {
+                for (int i = 0; i < row.length; i++) {
+                    stmt.setObject(i + 1, row[i]);
+                }
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
 
+        void closeStatement(int connectionIndex) {
+            if (this.preparedStatements[connectionIndex] != null) {
+                try {
+                    this.preparedStatements[connectionIndex].close();
+                } catch (SQLException e) {
+                    e.printStackTrace();
+                }
+                this.preparedStatements[connectionIndex] = null;
+            }
+        }
+    }
+}
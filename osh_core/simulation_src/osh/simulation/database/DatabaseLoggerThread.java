@@ -1,12 +1,15 @@
 package osh.simulation.database;
 
 import osh.datatypes.logging.LoggingObjectStateExchange;
-import osh.utils.sql.SQLConnectionProvider;
 
-import java.sql.Connection;
+import java.io.File;
 import java.time.ZonedDateTime;
-import java.util.Queue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Represents a generic database logger.
@@ -16,71 +19,85 @@ import java.util.concurrent.LinkedBlockingQueue;
  * - this class handles the general management of all logging events
  * - {@link DatabaseTableDefinitions} contains all table definitions that are used to log objects
  * - {@link DatabaseLogMethods} contains the log methods where all objects to log will be written to the database
+ * - {@link ColumnarFileLogMethods} contains the log methods where all objects to log will be written to columnar files
  * <p>
  * Logging works on a separate thread as a queued logging system:
  * <p>
  * - After initialising this class will start a new thread so logging wont block the simulation
  * - incoming log objects will be put into a queue
- * - objects from the queue will be popped and handled based on their class by the DatabaseLogMethods
+ * - objects from the queue will be popped and handled based on their class by every active {@link ILogObjectSink}
+ * - the sinks write the objects in batches, pending objects are written at the latest after the flush interval of
+ * the sink
+ * - the queue is bounded, if the sinks can not keep up the simulation will be blocked until there is space in the
+ * queue again
  *
  * @author Sebastian Kramer
  */
 public final class DatabaseLoggerThread extends Thread {
 
-    private static boolean running = true;
+    //maximum number of log objects waiting to be handled before new objects will block the simulation
+    private static final int QUEUE_CAPACITY = 10000;
 
-    private static boolean logToDatabase;
-    private static final Queue<LoggingObjectStateExchange> logQueue = new LinkedBlockingQueue<>();
-    private static DatabaseLoggerThread loggerThread;
+    private volatile boolean running = true;
 
-    private static boolean logDevices;
-    private static boolean logThermal;
-    private static boolean logWaterTank;
-    private static boolean logEA;
-    private static boolean logSmartHeater;
+    private volatile boolean logToDatabase;
+    private volatile boolean logToFile;
+    private final BlockingQueue<LoggingObjectStateExchange> logQueue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private final List<ILogObjectSink> sinks = new CopyOnWriteArrayList<>();
 
-    public static boolean isLogDevices() {
-        return logDevices;
+    private boolean logDevices;
+    private boolean logThermal;
+    private boolean logWaterTank;
+    private boolean logEA;
+    private boolean logSmartHeater;
+
+    public boolean isLogDevices() {
+        return this.logDevices;
     }
 
-    public static void setLogDevices(final boolean logDevices) {
-        DatabaseLoggerThread.logDevices = logDevices;
+    public void setLogDevices(final boolean logDevices) {
+        this.logDevices = logDevices;
     }
 
-    public static boolean isLogThermal() {
-        return logThermal;
+    public boolean isLogThermal() {
+        return this.logThermal;
     }
 
-    public static void setLogThermal(final boolean logThermal) {
-        DatabaseLoggerThread.logThermal = logThermal;
+    public void setLogThermal(final boolean logThermal) {
+        this.logThermal = logThermal;
     }
 
-    public static boolean isLogWaterTank() {
-        return logWaterTank;
+    public boolean isLogWaterTank() {
+        return this.logWaterTank;
     }
 
-    public static void setLogWaterTank(final boolean logWaterTank) {
-        DatabaseLoggerThread.logWaterTank = logWaterTank;
+    public void setLogWaterTank(final boolean logWaterTank) {
+        this.logWaterTank = logWaterTank;
     }
 
-    public static boolean isLogEA() {
-        return logEA;
+    public boolean isLogEA() {
+        return this.logEA;
     }
 
-    public static void setLogEA(final boolean logEA) {
-        DatabaseLoggerThread.logEA = logEA;
+    public void setLogEA(final boolean logEA) {
+        this.logEA = logEA;
     }
 
-    public static boolean isLogSmartHeater() {
-        return logSmartHeater;
+    public boolean isLogSmartHeater() {
+        return this.logSmartHeater;
     }
 
-    public static void setLogSmartHeater(final boolean logSmartHeater) {
-        DatabaseLoggerThread.logSmartHeater = logSmartHeater;
+    public void setLogSmartHeater(final boolean logSmartHeater) {
+        this.logSmartHeater = logSmartHeater;
     }
 
-    private DatabaseLoggerThread() {
+    /**
+     * Constructs a logger for one simulation run. Every OSH owns its own logger, so that several simulations can
+     * run in the same jvm without sharing queues or connections.
+     */
+    public DatabaseLoggerThread() {
         this.setName("DatabaseLoggerThread");
+        this.setDaemon(true);
     }
 
     /**
@@ -91,51 +108,67 @@ public final class DatabaseLoggerThread extends Thread {
      * @param startTime the starttime of the simulation
      * @param preferredConnection the identifiers of the preferred database connections to log to
      */
-    public static void initLogger(String tableName, String runName, ZonedDateTime startTime,
-                                  String[] preferredConnection) {
-        DatabaseLogMethods.runName = runName;
-        DatabaseLogMethods.startTime = startTime;
-        DatabaseLogMethods.preferredConnection = preferredConnection;
+    public void initLogger(String tableName, String runName, ZonedDateTime startTime,
+                           String[] preferredConnection) {
+        this.sinks.add(new DatabaseLogMethods(new DatabaseTableDefinitions(tableName), runName, startTime,
+                preferredConnection));
 
-        DatabaseTableDefinitions.initTableNames(tableName);
-        DatabaseLogMethods.conn = new Connection[preferredConnection.length];
+        this.logToDatabase = true;
+        this.startIfNecessary(runName);
+    }
 
-        logToDatabase = true;
+    /**
+     * Initiliazes this logger thread to additionally log into columnar files and starts the thread if it is not
+     * already running.
+     *
+     * @param logDir the log directory of the simulation, files will be written to the subdirectory results, also
+     *               used as the runName of the simulation
+     * @param startTime the starttime of the simulation
+     */
+    public void initFileLogger(String logDir, ZonedDateTime startTime) {
+        this.sinks.add(new ColumnarFileLogMethods(new File(logDir, "results"), logDir, startTime));
 
-        loggerThread = new DatabaseLoggerThread();
-        loggerThread.start();
+        this.logToFile = true;
+        this.startIfNecessary(logDir);
+    }
+
+    private synchronized void startIfNecessary(String runName) {
+        if (this.getState() == State.NEW) {
+            this.setName("DatabaseLoggerThread-" + runName);
+            this.start();
+        }
     }
 
     /**
-     * Signals this thread to shut down after every pending log request has been handled.
+     * Signals this thread to shut down and waits until every pending log request has been handled.
      */
-    public static void shutDown() {
-        running = false;
-
-        if (logToDatabase) {
-            while (!logQueue.isEmpty()) {
-                try {
-                    Thread.sleep(10);
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-            }
-        } else if (loggerThread != null){
-            while (!logQueue.isEmpty()) {
-                logQueue.remove();
+    public void shutDown() {
+        this.running = false;
+        if (!this.isLogging()) {
+            this.logQueue.clear();
+        } else {
+            try {
+                this.join();
+            } catch (InterruptedException e) {
+                e.printStackTrace();
             }
         }
     }
 
     /**
-     * Commits the given log object to the queue of objects to log.
+     * Commits the given log object to the queue of objects to log, waiting for space in the queue if it is full. If
+     * no logging is active the object is discarded.
      *
      * @param logObject the new log object
      */
-    public static void enqueue(LoggingObjectStateExchange logObject) {
-        synchronized (logQueue) {
-            logQueue.add(logObject);
-            logQueue.notify();
+    public void enqueue(LoggingObjectStateExchange logObject) {
+        if (!this.isLogging()) {
+            return;
+        }
+        try {
+            this.logQueue.put(logObject);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -144,28 +177,70 @@ public final class DatabaseLoggerThread extends Thread {
      *
      * @return true if the logging to the database is active
      */
-    public static boolean isLogToDatabase() {
-        return logToDatabase;
+    public boolean isLogToDatabase() {
+        return this.logToDatabase;
+    }
+
+    /**
+     * Returns if the logging to columnar files is active.
+     *
+     * @return true if the logging to columnar files is active
+     */
+    public boolean isLogToFile() {
+        return this.logToFile;
+    }
+
+    /**
+     * Returns if the logging to any destination is active.
+     *
+     * @return true if the logging to any destination is active
+     */
+    public boolean isLogging() {
+        return this.logToDatabase || this.logToFile;
     }
 
     @Override
     public void run() {
-        while (running || !logQueue.isEmpty()) {
+        List<LoggingObjectStateExchange> work = new ArrayList<>();
+
+        while (true) {
             try {
-                LoggingObjectStateExchange work;
+                //sinks can be added while running
+                long pollInterval = Long.MAX_VALUE;
+                for (ILogObjectSink sink : this.sinks) {
+                    pollInterval = Math.min(pollInterval, sink.getFlushInterval());
+                }
+                LoggingObjectStateExchange next = this.logQueue.poll(pollInterval,
+                        TimeUnit.MILLISECONDS);
 
-                synchronized (logQueue) {
-                    while (logQueue.isEmpty())
-                        logQueue.wait();
+                if (next == null && !this.running && this.logQueue.isEmpty())
+                    break;
 
-                    // Get the next work item off of the queue
-                    work = logQueue.remove();
+                // Get all available work items off of the queue
+                if (next != null) {
+                    work.add(next);
+                    this.logQueue.drainTo(work);
+                }
+                for (LoggingObjectStateExchange logObject : work) {
+                    for (ILogObjectSink sink : this.sinks) {
+                        try {
+                            sink.logObject(logObject);
+                        } catch (RuntimeException e) {
+                            e.printStackTrace();
+                        }
+                        sink.flushIfDue();
+                    }
+                }
+                work.clear();
+                for (ILogObjectSink sink : this.sinks) {
+                    sink.flushIfDue();
                 }
-                DatabaseLogMethods.logObject(work);
             } catch (InterruptedException ie) {
                 break;  // Terminate
             }
         }
-        SQLConnectionProvider.closeConnection();
+        for (ILogObjectSink sink : this.sinks) {
+            sink.close();
+        }
     }
 }
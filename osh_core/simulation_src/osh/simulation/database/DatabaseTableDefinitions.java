@@ -36,50 +36,85 @@ public class DatabaseTableDefinitions {
         SMART_HEATER,
     }
 
-    public static final EnumMap<LogTableType, String> tableTypeToNameMap = new EnumMap<>(LogTableType.class);
-    public static final EnumMap<LogTableType, SQLTriConsumer<Connection[], Integer, String>> tableTypeToSetupMap =
-            new EnumMap<>
-            (LogTableType.class);
+    private final EnumMap<LogTableType, String> tableTypeToNameMap = new EnumMap<>(LogTableType.class);
+    private final EnumMap<LogTableType, SQLTriConsumer<Connection[], Integer, String>> tableTypeToSetupMap =
+            new EnumMap<>(LogTableType.class);
 
-    static {
-        DatabaseTableDefinitions.tableTypeToSetupMap.put(LogTableType.BASE, DatabaseTableDefinitions::setupTable);
-        DatabaseTableDefinitions.tableTypeToSetupMap.put(LogTableType.EPS, DatabaseTableDefinitions::setupEpsTable);
-        DatabaseTableDefinitions.tableTypeToSetupMap.put(LogTableType.PLS, DatabaseTableDefinitions::setupPlsTable);
-        DatabaseTableDefinitions.tableTypeToSetupMap.put(LogTableType.H0, DatabaseTableDefinitions::setupH0Table);
-        DatabaseTableDefinitions.tableTypeToSetupMap.put(LogTableType.DEVICES, DatabaseTableDefinitions::setupDevicesTable);
-        DatabaseTableDefinitions.tableTypeToSetupMap.put(LogTableType.BASELOAD, DatabaseTableDefinitions::setupBaseloadTable);
-        DatabaseTableDefinitions.tableTypeToSetupMap.put(LogTableType.THERMAL, DatabaseTableDefinitions::setupThermalTable);
-        DatabaseTableDefinitions.tableTypeToSetupMap.put(LogTableType.DETAILED_POWER, DatabaseTableDefinitions::setupDetailedPowerTable);
-        DatabaseTableDefinitions.tableTypeToSetupMap.put(LogTableType.WATER_TANK, DatabaseTableDefinitions::setupWaterTankTable);
-        DatabaseTableDefinitions.tableTypeToSetupMap.put(LogTableType.EA, DatabaseTableDefinitions::setupGATable);
-        DatabaseTableDefinitions.tableTypeToSetupMap.put(LogTableType.SMART_HEATER, DatabaseTableDefinitions::setupSmartHeaterTable);
+    /**
+     * Constructs the table definitions with all the table names based on the given root name.
+     *
+     * @param rootName the root name
+     */
+    public DatabaseTableDefinitions(String rootName) {
+        this.tableTypeToSetupMap.put(LogTableType.BASE, this::setupTable);
+        this.tableTypeToSetupMap.put(LogTableType.EPS, this::setupEpsTable);
+        this.tableTypeToSetupMap.put(LogTableType.PLS, this::setupPlsTable);
+        this.tableTypeToSetupMap.put(LogTableType.H0, this::setupH0Table);
+        this.tableTypeToSetupMap.put(LogTableType.DEVICES, this::setupDevicesTable);
+        this.tableTypeToSetupMap.put(LogTableType.BASELOAD, this::setupBaseloadTable);
+        this.tableTypeToSetupMap.put(LogTableType.THERMAL, this::setupThermalTable);
+        this.tableTypeToSetupMap.put(LogTableType.DETAILED_POWER, this::setupDetailedPowerTable);
+        this.tableTypeToSetupMap.put(LogTableType.WATER_TANK, this::setupWaterTankTable);
+        this.tableTypeToSetupMap.put(LogTableType.EA, this::setupGATable);
+        this.tableTypeToSetupMap.put(LogTableType.SMART_HEATER, this::setupSmartHeaterTable);
+
+        this.tableTypeToNameMap.put(LogTableType.BASE, rootName);
+        this.tableTypeToNameMap.put(LogTableType.EPS, rootName + "_EPS");
+        this.tableTypeToNameMap.put(LogTableType.PLS, rootName + "_PLS");
+        this.tableTypeToNameMap.put(LogTableType.H0, rootName + "_H0");
+        this.tableTypeToNameMap.put(LogTableType.DEVICES, rootName + "_Devices");
+        this.tableTypeToNameMap.put(LogTableType.BASELOAD, rootName + "_Baseload");
+        this.tableTypeToNameMap.put(LogTableType.THERMAL, rootName + "_HotWater");
+        this.tableTypeToNameMap.put(LogTableType.DETAILED_POWER, rootName + "_DetailedPower");
+        this.tableTypeToNameMap.put(LogTableType.WATER_TANK, rootName + "_WaterTank");
+        this.tableTypeToNameMap.put(LogTableType.EA, rootName + "_GA");
+        this.tableTypeToNameMap.put(LogTableType.SMART_HEATER, rootName + "_SmartHeater");
     }
 
     /**
-     * Initializes all the table names, based on a given root name.
+     * Returns the name of the table of the given type.
      *
-     * @param rootName the root name
+     * @param type the type of the table
+     * @return the name of the table
+     */
+    public String getTableName(LogTableType type) {
+        return this.tableTypeToNameMap.get(type);
+    }
+
+    /**
+     * Returns the name of the table of the given type with the given additional identifier.
+     *
+     * @param type the type of the table
+     * @param identifier the additional identifier of the table
+     * @return the name of the table
+     */
+    public String getTableName(LogTableType type, String identifier) {
+        if (type == LogTableType.THERMAL || type == LogTableType.WATER_TANK) {
+            return this.tableTypeToNameMap.get(type) + "_" + identifier;
+        }
+        return this.tableTypeToNameMap.get(type);
+    }
+
+    /**
+     * Creates the table of the given type.
+     *
+     * @param type the type of the table
+     * @param conn all connections
+     * @param preferredConnectionIndex the index of the connection to create the table with
+     * @param identifier the additional identifier of the table
+     * @throws SQLException if the table could not be created
      */
-    public static void initTableNames(String rootName) {
-        DatabaseTableDefinitions.tableTypeToNameMap.put(LogTableType.BASE, rootName);
-        DatabaseTableDefinitions.tableTypeToNameMap.put(LogTableType.EPS, rootName + "_EPS");
-        DatabaseTableDefinitions.tableTypeToNameMap.put(LogTableType.PLS, rootName + "_PLS");
-        DatabaseTableDefinitions.tableTypeToNameMap.put(LogTableType.H0, rootName + "_H0");
-        DatabaseTableDefinitions.tableTypeToNameMap.put(LogTableType.DEVICES, rootName + "_Devices");
-        DatabaseTableDefinitions.tableTypeToNameMap.put(LogTableType.BASELOAD, rootName + "_Baseload");
-        DatabaseTableDefinitions.tableTypeToNameMap.put(LogTableType.THERMAL, rootName + "_HotWater");
-        DatabaseTableDefinitions.tableTypeToNameMap.put(LogTableType.DETAILED_POWER, rootName + "_DetailedPower");
-        DatabaseTableDefinitions.tableTypeToNameMap.put(LogTableType.WATER_TANK, rootName + "_WaterTank");
-        DatabaseTableDefinitions.tableTypeToNameMap.put(LogTableType.EA, rootName + "_GA");
-        DatabaseTableDefinitions.tableTypeToNameMap.put(LogTableType.SMART_HEATER, rootName + "_SmartHeater");
+    public void setupTable(LogTableType type, Connection[] conn, int preferredConnectionIndex, String identifier)
+            throws SQLException {
+        this.tableTypeToSetupMap.get(type).accept(conn, preferredConnectionIndex, identifier);
     }
 
 
     // processed simulation results for one building
-    private static void setupTable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
+    private void setupTable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
         Statement stmt = conn[preferredConnectionIndex].createStatement();
         StringBuilder sqlT = new StringBuilder("CREATE TABLE "
-                + DatabaseTableDefinitions.tableTypeToNameMap.get(LogTableType.BASE)
+                + this.tableTypeToNameMap.get(LogTableType.BASE)
                 + "(RunName VARCHAR(565) NOT NULL, "
                 + " ID BINARY(16) NOT NULL, "
                 + " ID_TEXT VARCHAR(36) NOT NULL, "
@@ -96,10 +131,10 @@ public class DatabaseTableDefinitions {
         stmt.executeUpdate(sqlT.toString());
     }
 
-    private static void setupDetailedPowerTable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
+    private void setupDetailedPowerTable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
         Statement stmt = conn[preferredConnectionIndex].createStatement();
         String sqlT = "CREATE TABLE "
-                + DatabaseTableDefinitions.tableTypeToNameMap.get(LogTableType.DETAILED_POWER)
+                + this.tableTypeToNameMap.get(LogTableType.DETAILED_POWER)
                 + "(RunName VARCHAR(565) NOT NULL, "
                 + " ID BINARY(16) NOT NULL, "
                 + " ID_TEXT VARCHAR(36) NOT NULL, "
@@ -110,10 +145,10 @@ public class DatabaseTableDefinitions {
         stmt.executeUpdate(sqlT);
     }
 
-    private static void setupEpsTable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
+    private void setupEpsTable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
         Statement stmt = conn[preferredConnectionIndex].createStatement();
         String sqlT = "CREATE TABLE "
-                + DatabaseTableDefinitions.tableTypeToNameMap.get(LogTableType.EPS)
+                + this.tableTypeToNameMap.get(LogTableType.EPS)
                 + "(RunName VARCHAR(565) NOT NULL, "
                 + " ID BINARY(16) NOT NULL, "
                 + " ID_TEXT VARCHAR(36) NOT NULL, "
@@ -124,10 +159,10 @@ public class DatabaseTableDefinitions {
         stmt.executeUpdate(sqlT);
     }
 
-    private static void setupPlsTable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
+    private void setupPlsTable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
         Statement stmt = conn[preferredConnectionIndex].createStatement();
         String sqlT = "CREATE TABLE "
-                + DatabaseTableDefinitions.tableTypeToNameMap.get(LogTableType.PLS)
+                + this.tableTypeToNameMap.get(LogTableType.PLS)
                 + "(RunName VARCHAR(565) NOT NULL, "
                 + " ID BINARY(16) NOT NULL, "
                 + " ID_TEXT VARCHAR(36) NOT NULL, "
@@ -139,10 +174,10 @@ public class DatabaseTableDefinitions {
         stmt.executeUpdate(sqlT);
     }
 
-    private static void setupH0Table(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
+    private void setupH0Table(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
         Statement stmt = conn[preferredConnectionIndex].createStatement();
         String sqlT = "CREATE TABLE "
-                + DatabaseTableDefinitions.tableTypeToNameMap.get(LogTableType.H0)
+                + this.tableTypeToNameMap.get(LogTableType.H0)
                 + "(RunName VARCHAR(565) NOT NULL, "
                 + " ID BINARY(16) NOT NULL, "
                 + " ID_TEXT VARCHAR(36) NOT NULL, "
@@ -158,10 +193,10 @@ public class DatabaseTableDefinitions {
         stmt.executeUpdate(sqlT);
     }
 
-    private static void setupThermalTable(Connection[] conn, int preferredConnectionIndex, String hotWaterIdentifier) throws SQLException {
+    private void setupThermalTable(Connection[] conn, int preferredConnectionIndex, String hotWaterIdentifier) throws SQLException {
         Statement stmt = conn[preferredConnectionIndex].createStatement();
         String sqlT = "CREATE TABLE "
-                + DatabaseTableDefinitions.tableTypeToNameMap.get(LogTableType.THERMAL) + "_" + hotWaterIdentifier
+                + this.tableTypeToNameMap.get(LogTableType.THERMAL) + "_" + hotWaterIdentifier
                 + "(RunName VARCHAR(565) NOT NULL, "
                 + " ID BINARY(16) NOT NULL, "
                 + " ID_TEXT VARCHAR(36) NOT NULL, "
@@ -177,10 +212,10 @@ public class DatabaseTableDefinitions {
         stmt.executeUpdate(sqlT);
     }
 
-    private static void setupDevicesTable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
+    private void setupDevicesTable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
         Statement stmt = conn[preferredConnectionIndex].createStatement();
         String sqlT = "CREATE TABLE "
-                + DatabaseTableDefinitions.tableTypeToNameMap.get(LogTableType.DEVICES)
+                + this.tableTypeToNameMap.get(LogTableType.DEVICES)
                 + "(RunName VARCHAR(565) NOT NULL, "
                 + " ID BINARY(16) NOT NULL, "
                 + " ID_TEXT VARCHAR(36) NOT NULL, "
@@ -223,10 +258,10 @@ public class DatabaseTableDefinitions {
         stmt.executeUpdate(sqlT);
     }
 
-    private static void setupBaseloadTable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
+    private void setupBaseloadTable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
         Statement stmt = conn[preferredConnectionIndex].createStatement();
         String sqlT = "CREATE TABLE "
-                + DatabaseTableDefinitions.tableTypeToNameMap.get(LogTableType.BASELOAD)
+                + this.tableTypeToNameMap.get(LogTableType.BASELOAD)
                 + "(RunName VARCHAR(565) NOT NULL, "
                 + " ID BINARY(16) NOT NULL, "
                 + " ID_TEXT VARCHAR(36) NOT NULL, "
@@ -236,10 +271,10 @@ public class DatabaseTableDefinitions {
         stmt.executeUpdate(sqlT);
     }
 
-    private static void setupWaterTankTable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
+    private void setupWaterTankTable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
         Statement stmt = conn[preferredConnectionIndex].createStatement();
         String sqlT = "CREATE TABLE "
-                + DatabaseTableDefinitions.tableTypeToNameMap.get(LogTableType.WATER_TANK) + "_" + identifier
+                + this.tableTypeToNameMap.get(LogTableType.WATER_TANK) + "_" + identifier
                 + "(RunName VARCHAR(565) NOT NULL, "
                 + " ID BINARY(16) NOT NULL, "
                 + " ID_TEXT VARCHAR(36) NOT NULL, "
@@ -253,10 +288,10 @@ public class DatabaseTableDefinitions {
         stmt.executeUpdate(sqlT);
     }
 
-    private static void setupGATable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
+    private void setupGATable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
         Statement stmt = conn[preferredConnectionIndex].createStatement();
         String sqlT = "CREATE TABLE "
-                + DatabaseTableDefinitions.tableTypeToNameMap.get(LogTableType.EA)
+                + this.tableTypeToNameMap.get(LogTableType.EA)
                 + "(RunName VARCHAR(565) NOT NULL, "
                 + " ID BINARY(16) NOT NULL, "
                 + " ID_TEXT VARCHAR(36) NOT NULL, "
@@ -274,10 +309,10 @@ public class DatabaseTableDefinitions {
         stmt.executeUpdate(sqlT);
     }
 
-    private static void setupSmartHeaterTable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
+    private void setupSmartHeaterTable(Connection[] conn, int preferredConnectionIndex, String identifier) throws SQLException {
         Statement stmt = conn[preferredConnectionIndex].createStatement();
         String sqlT = "CREATE TABLE "
-                + DatabaseTableDefinitions.tableTypeToNameMap.get(LogTableType.SMART_HEATER)
+                + this.tableTypeToNameMap.get(LogTableType.SMART_HEATER)
                 + "(RunName VARCHAR(565) NOT NULL, "
                 + " ID BINARY(16) NOT NULL, "
                 + " ID_TEXT VARCHAR(36) NOT NULL, "
@@ -0,0 +1,35 @@
+package osh.simulation.database;
+
+import osh.datatypes.logging.LoggingObjectStateExchange;
+
+/**
+ * Destination of all log objects handled by the {@link DatabaseLoggerThread}. All methods are only called from the
+ * logger thread.
+ */
+public interface ILogObjectSink {
+
+    /**
+     * Persists the given log-object. Sinks may buffer the object until the next flush.
+     *
+     * @param work the log object to persists
+     * @param <L> the type of the log object
+     */
+    <L extends LoggingObjectStateExchange> void logObject(L work);
+
+    /**
+     * Writes all buffered log objects if the sink decides it is time to do so.
+     */
+    void flushIfDue();
+
+    /**
+     * Returns the maximum time (in ms) log objects are buffered before they are written.
+     *
+     * @return the maximum time log objects are buffered
+     */
+    long getFlushInterval();
+
+    /**
+     * Writes all buffered log objects and releases all resources of this sink.
+     */
+    void close();
+}
@@ -0,0 +1,23 @@
+package osh.simulation.database.columnar;
+
+/**
+ * Represents all possible types of the columns of a columnar log file.
+ */
+public enum ColumnType {
+    /**
+     * 64-bit integer, stored delta- and variable-length-encoded
+     */
+    LONG,
+    /**
+     * 32-bit integer, stored variable-length-encoded
+     */
+    INT,
+    /**
+     * 64-bit floating point number
+     */
+    DOUBLE,
+    /**
+     * UTF-8 encoded string
+     */
+    STRING
+}
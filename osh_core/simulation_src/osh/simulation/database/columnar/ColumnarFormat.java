@@ -0,0 +1,59 @@
+package osh.simulation.database.columnar;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Describes the layout of a columnar log file.
+ * <p>
+ * A file starts with a header (magic number, version, name of the run, start time of the simulation and the names and
+ * types of all columns) followed by an arbitrary number of row groups. Every row group starts with its number of rows
+ * followed by one chunk per column, every chunk consisting of its compressed length and all values of the column in
+ * this row group, compressed with deflate. Row groups are only ever appended, an incompletely written row group at the
+ * end of a file is ignored when reading.
+ */
+final class ColumnarFormat {
+
+    static final int MAGIC = 0x4F534843; //OSHC
+    static final int VERSION = 1;
+    static final String FILE_EXTENSION = ".oshc";
+
+    private ColumnarFormat() {
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        //zig-zag encoding so that small negative values are short as well
+        long v = (value << 1) ^ (value >> 63);
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long v = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            v |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[(int) readVarLong(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,273 @@
+package osh.simulation.database.columnar;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads columnar log files written by the {@link ColumnarLogWriter}, see {@link ColumnarFormat} for the layout.
+ * <p>
+ * Opening a file only reads the header and the position of every column chunk, reading a column afterwards only
+ * reads and decompresses the chunks of this column.
+ */
+public class ColumnarLogReader implements Closeable {
+
+    private final RandomAccessFile file;
+    private final String runName;
+    private final long startTime;
+    private final String[] columnNames;
+    private final ColumnType[] columnTypes;
+
+    //rows of all complete row groups
+    private final IntArrayList rowGroupSizes = new IntArrayList();
+    //positions and compressed lengths of all column chunks, [column][rowGroup]
+    private final LongArrayList[] chunkPositions;
+    private final IntArrayList[] chunkLengths;
+    private int rowCount;
+
+    /**
+     * Opens the given file and reads its header and the positions of all column chunks.
+     *
+     * @param file the file to read
+     * @throws IOException if the file could not be read or is no columnar log file
+     */
+    public ColumnarLogReader(File file) throws IOException {
+        this.file = new RandomAccessFile(file, "r");
+        try {
+            if (this.file.readInt() != ColumnarFormat.MAGIC) {
+                throw new IOException(file + " is no columnar log file");
+            }
+            int version = this.file.readInt();
+            if (version != ColumnarFormat.VERSION) {
+                throw new IOException("unsupported version " + version + " of " + file);
+            }
+            this.runName = ColumnarFormat.readString(this.file);
+            this.startTime = this.file.readLong();
+            int columnCount = this.file.readInt();
+            this.columnNames = new String[columnCount];
+            this.columnTypes = new ColumnType[columnCount];
+            this.chunkPositions = new LongArrayList[columnCount];
+            this.chunkLengths = new IntArrayList[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                this.columnNames[i] = ColumnarFormat.readString(this.file);
+                this.columnTypes[i] = ColumnType.values()[this.file.readByte()];
+                this.chunkPositions[i] = new LongArrayList();
+                this.chunkLengths[i] = new IntArrayList();
+            }
+
+            this.indexRowGroups(this.file.getFilePointer());
+        } catch (IOException e) {
+            this.file.close();
+            throw e;
+        }
+    }
+
+    private void indexRowGroups(long position) throws IOException {
+        long fileLength = this.file.length();
+
+        while (position + 4 <= fileLength) {
+            this.file.seek(position);
+            int rows = this.file.readInt();
+            long chunkPosition = position + 4;
+            long[] positions = new long[this.columnNames.length];
+            int[] lengths = new int[this.columnNames.length];
+            boolean complete = true;
+
+            for (int i = 0; i < this.columnNames.length; i++) {
+                if (chunkPosition + 4 > fileLength) {
+                    complete = false;
+                    break;
+                }
+                this.file.seek(chunkPosition);
+                lengths[i] = this.file.readInt();
+                positions[i] = chunkPosition + 4;
+                chunkPosition = positions[i] + lengths[i];
+                if (chunkPosition > fileLength) {
+                    complete = false;
+                    break;
+                }
+            }
+            //incompletely written row group at the end of the file
+            if (!complete) {
+                break;
+            }
+
+            for (int i = 0; i < this.columnNames.length; i++) {
+                this.chunkPositions[i].add(positions[i]);
+                this.chunkLengths[i].add(lengths[i]);
+            }
+            this.rowGroupSizes.add(rows);
+            this.rowCount += rows;
+            position = chunkPosition;
+        }
+    }
+
+    public String getRunName() {
+        return this.runName;
+    }
+
+    public long getStartTime() {
+        return this.startTime;
+    }
+
+    public String[] getColumnNames() {
+        return this.columnNames.clone();
+    }
+
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Returns the type of the column with the given name.
+     *
+     * @param columnName the name of the column
+     * @return the type of the column
+     */
+    public ColumnType getColumnType(String columnName) {
+        return this.columnTypes[this.indexOf(columnName)];
+    }
+
+    private int indexOf(String columnName) {
+        for (int i = 0; i < this.columnNames.length; i++) {
+            if (this.columnNames[i].equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("column " + columnName + " does not exist, columns are "
+                + Arrays.toString(this.columnNames));
+    }
+
+    private int checkedIndexOf(String columnName, ColumnType type) {
+        int index = this.indexOf(columnName);
+        if (this.columnTypes[index] != type) {
+            throw new IllegalArgumentException("column " + columnName + " is of type " + this.columnTypes[index]);
+        }
+        return index;
+    }
+
+    private DataInputStream openChunk(int column, int rowGroup) throws IOException {
+        byte[] compressed = new byte[this.chunkLengths[column].getInt(rowGroup)];
+        this.file.seek(this.chunkPositions[column].getLong(rowGroup));
+        this.file.readFully(compressed);
+        return new DataInputStream(new BufferedInputStream(new InflaterInputStream(
+                new ByteArrayInputStream(compressed))));
+    }
+
+    /**
+     * Reads all values of the given column of type {@link ColumnType#LONG}.
+     *
+     * @param columnName the name of the column
+     * @return all values of the column
+     * @throws IOException if the file could not be read
+     */
+    public long[] readLongColumn(String columnName) throws IOException {
+        int column = this.checkedIndexOf(columnName, ColumnType.LONG);
+        long[] values = new long[this.rowCount];
+        int index = 0;
+        for (int g = 0; g < this.rowGroupSizes.size(); g++) {
+            try (DataInputStream in = this.openChunk(column, g)) {
+                long last = 0;
+                for (int r = 0; r < this.rowGroupSizes.getInt(g); r++) {
+                    last += ColumnarFormat.readVarLong(in);
+                    values[index++] = last;
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Reads all values of the given column of type {@link ColumnType#INT}.
+     *
+     * @param columnName the name of the column
+     * @return all values of the column
+     * @throws IOException if the file could not be read
+     */
+    public int[] readIntColumn(String columnName) throws IOException {
+        int column = this.checkedIndexOf(columnName, ColumnType.INT);
+        int[] values = new int[this.rowCount];
+        int index = 0;
+        for (int g = 0; g < this.rowGroupSizes.size(); g++) {
+            try (DataInputStream in = this.openChunk(column, g)) {
+                for (int r = 0; r < this.rowGroupSizes.getInt(g); r++) {
+                    values[index++] = (int) ColumnarFormat.readVarLong(in);
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Reads all values of the given column of type {@link ColumnType#DOUBLE}.
+     *
+     * @param columnName the name of the column
+     * @return all values of the column
+     * @throws IOException if the file could not be read
+     */
+    public double[] readDoubleColumn(String columnName) throws IOException {
+        int column = this.checkedIndexOf(columnName, ColumnType.DOUBLE);
+        double[] values = new double[this.rowCount];
+        int index = 0;
+        for (int g = 0; g < this.rowGroupSizes.size(); g++) {
+            try (DataInputStream in = this.openChunk(column, g)) {
+                for (int r = 0; r < this.rowGroupSizes.getInt(g); r++) {
+                    values[index++] = in.readDouble();
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Reads all values of the given column of type {@link ColumnType#STRING}.
+     *
+     * @param columnName the name of the column
+     * @return all values of the column
+     * @throws IOException if the file could not be read
+     */
+    public String[] readStringColumn(String columnName) throws IOException {
+        int column = this.checkedIndexOf(columnName, ColumnType.STRING);
+        String[] values = new String[this.rowCount];
+        int index = 0;
+        for (int g = 0; g < this.rowGroupSizes.size(); g++) {
+            try (DataInputStream in = this.openChunk(column, g)) {
+                for (int r = 0; r < this.rowGroupSizes.getInt(g); r++) {
+                    values[index++] = ColumnarFormat.readString(in);
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns all columnar log files in the given directory.
+     *
+     * @param directory the directory to search
+     * @return all columnar log files in the directory, sorted by name
+     */
+    public static File[] listLogFiles(File directory) {
+        FilenameFilter filter = (dir, name) -> name.endsWith(ColumnarFormat.FILE_EXTENSION);
+        File[] files = directory.listFiles(filter);
+        if (files == null) {
+            return new File[0];
+        }
+        Arrays.sort(files);
+        return files;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.file.close();
+    }
+}
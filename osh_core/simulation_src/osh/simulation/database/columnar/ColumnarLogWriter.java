@@ -0,0 +1,205 @@
+package osh.simulation.database.columnar;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes rows of a single table into a compressed, column-oriented file, see {@link ColumnarFormat} for the layout.
+ * Rows are buffered column-wise and appended as one row group as soon as the row group is full or
+ * {@link #flush()} is called.
+ */
+public class ColumnarLogWriter implements Closeable {
+
+    public static final String FILE_EXTENSION = ColumnarFormat.FILE_EXTENSION;
+
+    private final DataOutputStream out;
+    private final String[] columnNames;
+    private final ColumnType[] columnTypes;
+    private final Object[] columns;
+    private final int rowGroupSize;
+    private int rows;
+
+    private final ByteArrayOutputStream chunkBuffer = new ByteArrayOutputStream();
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+
+    /**
+     * Constructs this writer, replacing any existing file.
+     *
+     * @param file the file to write to
+     * @param runName the name of the run the rows belong to
+     * @param startTime the start time of the simulation in epoch seconds
+     * @param columnNames the names of all columns
+     * @param columnTypes the types of all columns
+     * @param rowGroupSize the number of rows after which a row group is written
+     * @throws IOException if the file could not be created
+     */
+    public ColumnarLogWriter(File file, String runName, long startTime, String[] columnNames,
+                             ColumnType[] columnTypes, int rowGroupSize) throws IOException {
+        if (columnNames.length != columnTypes.length) {
+            throw new IllegalArgumentException("number of column names and types differ");
+        }
+        this.columnNames = columnNames;
+        this.columnTypes = columnTypes;
+        this.rowGroupSize = rowGroupSize;
+        this.columns = new Object[columnTypes.length];
+        for (int i = 0; i < columnTypes.length; i++) {
+            switch (columnTypes[i]) {
+                case LONG:
+                    this.columns[i] = new LongArrayList(rowGroupSize);
+                    break;
+                case INT:
+                    this.columns[i] = new IntArrayList(rowGroupSize);
+                    break;
+                case DOUBLE:
+                    this.columns[i] = new DoubleArrayList(rowGroupSize);
+                    break;
+                default:
+                    this.columns[i] = new ObjectArrayList<String>(rowGroupSize);
+            }
+        }
+
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("unable to create directory " + parent);
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, false)));
+
+        this.out.writeInt(ColumnarFormat.MAGIC);
+        this.out.writeInt(ColumnarFormat.VERSION);
+        ColumnarFormat.writeString(this.out, runName);
+        this.out.writeLong(startTime);
+        this.out.writeInt(columnNames.length);
+        for (int i = 0; i < columnNames.length; i++) {
+            ColumnarFormat.writeString(this.out, columnNames[i]);
+            this.out.writeByte(columnTypes[i].ordinal());
+        }
+        this.out.flush();
+    }
+
+    public String[] getColumnNames() {
+        return this.columnNames.clone();
+    }
+
+    /**
+     * Appends a row. The values have to be given in the order of the columns, numbers are converted to the type of
+     * their column. Missing values are only allowed in double columns (stored as NaN) and string columns (stored as
+     * empty string). The row is checked completely before it is appended, so a rejected row leaves the buffered rows
+     * untouched.
+     *
+     * @param values the values of the row
+     * @throws IOException if a full row group could not be written
+     */
+    @SuppressWarnings("unchecked")
+    public void addRow(Object... values) throws IOException {
+        if (values.length != this.columns.length) {
+            throw new IllegalArgumentException("expected " + this.columns.length + " values, got " + values.length);
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (this.columnTypes[i] != ColumnType.STRING && values[i] != null && !(values[i] instanceof Number)) {
+                throw new IllegalArgumentException("value of column " + this.columnNames[i] + " is not a number: "
+                        + values[i]);
+            }
+            if ((this.columnTypes[i] == ColumnType.LONG || this.columnTypes[i] == ColumnType.INT)
+                    && values[i] == null) {
+                throw new IllegalArgumentException("value of column " + this.columnNames[i] + " is missing");
+            }
+        }
+        for (int i = 0; i < values.length; i++) {
+            switch (this.columnTypes[i]) {
+                case LONG:
+                    ((LongArrayList) this.columns[i]).add(((Number) values[i]).longValue());
+                    break;
+                case INT:
+                    ((IntArrayList) this.columns[i]).add(((Number) values[i]).intValue());
+                    break;
+                case DOUBLE:
+                    ((DoubleArrayList) this.columns[i]).add(values[i] == null ? Double.NaN
+                            : ((Number) values[i]).doubleValue());
+                    break;
+                default:
+                    ((ObjectArrayList<String>) this.columns[i]).add(values[i] == null ? "" : values[i].toString());
+            }
+        }
+        this.rows++;
+
+        if (this.rows >= this.rowGroupSize) {
+            this.flush();
+        }
+    }
+
+    /**
+     * Appends all buffered rows as a row group to the file.
+     *
+     * @throws IOException if the row group could not be written
+     */
+    @SuppressWarnings("unchecked")
+    public void flush() throws IOException {
+        if (this.rows == 0) {
+            return;
+        }
+        this.out.writeInt(this.rows);
+
+        for (int i = 0; i < this.columns.length; i++) {
+            this.chunkBuffer.reset();
+            this.deflater.reset();
+            DataOutputStream chunk = new DataOutputStream(new DeflaterOutputStream(this.chunkBuffer, this.deflater));
+
+            switch (this.columnTypes[i]) {
+                case LONG:
+                    LongArrayList longs = (LongArrayList) this.columns[i];
+                    long last = 0;
+                    for (int r = 0; r < this.rows; r++) {
+                        ColumnarFormat.writeVarLong(chunk, longs.getLong(r) - last);
+                        last = longs.getLong(r);
+                    }
+                    break;
+                case INT:
+                    IntArrayList ints = (IntArrayList) this.columns[i];
+                    for (int r = 0; r < this.rows; r++) {
+                        ColumnarFormat.writeVarLong(chunk, ints.getInt(r));
+                    }
+                    break;
+                case DOUBLE:
+                    DoubleArrayList doubles = (DoubleArrayList) this.columns[i];
+                    for (int r = 0; r < this.rows; r++) {
+                        chunk.writeDouble(doubles.getDouble(r));
+                    }
+                    break;
+                default:
+                    for (String value : (ObjectArrayList<String>) this.columns[i]) {
+                        ColumnarFormat.writeString(chunk, value);
+                    }
+            }
+            chunk.close();
+
+            this.out.writeInt(this.chunkBuffer.size());
+            this.chunkBuffer.writeTo(this.out);
+            ((Collection<?>) this.columns[i]).clear();
+        }
+        this.rows = 0;
+        this.out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.flush();
+        } finally {
+            this.deflater.end();
+            this.out.close();
+        }
+    }
+}
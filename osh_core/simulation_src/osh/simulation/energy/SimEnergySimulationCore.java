@@ -1,24 +1,42 @@
 package osh.simulation.energy;
 
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import osh.configuration.system.GridConfig;
 import osh.datatypes.commodity.AncillaryMeterState;
+import osh.datatypes.commodity.AncillaryMeterState.ImmutableAncillaryMeterState;
 import osh.eal.hal.exceptions.HALManagerException;
 import osh.esc.EnergySimulationCore;
 import osh.esc.LimitedCommodityStateMap;
+import osh.esc.UUIDCommodityMap;
 import osh.esc.grid.EnergySimulationTypes;
 import osh.esc.grid.IEnergyGrid;
 
 import java.util.*;
-import java.util.Map.Entry;
 
 /**
  * EnergySimulationCore<br>
  * Similar to an multi-agent simulation (MAS)
+ * <p>
+ * All subjects, grid-devices and meters are assigned temporary ids on the first simulation (and again when the
+ * subjects change), so that the exchange in every tick works on re-used storage. The resulting state of the meter is
+ * handed to all subjects as one shared immutable state, which is only re-created when the meter has changed.
  *
  * @author Ingo Mauser, Sebastian Kramer
  */
 public class SimEnergySimulationCore extends EnergySimulationCore {
 
+    //subjects the temporary ids have been assigned for
+    private IDeviceEnergySubject[] initializedSubjects = new IDeviceEnergySubject[0];
+    private int[] subjectIds;
+
+    //re-useable storage to prevent excessive memory operations
+    private UUIDCommodityMap commodityStates;
+    private UUIDCommodityMap totalInputStates;
+    private final AncillaryMeterState ancillaryMeterState = new AncillaryMeterState();
+    private AncillaryMeterState sharedAncillaryMeterState;
+
     /**
      * CONSTRUCTOR
      */
@@ -41,58 +59,90 @@ public class SimEnergySimulationCore extends EnergySimulationCore {
     public AncillaryMeterState doNextEnergySimulation(
             ArrayList<IDeviceEnergySubject> energySimulationSubjects) {
 
+        if (!this.isInitializedFor(energySimulationSubjects)) {
+            this.initializeSubjects(energySimulationSubjects);
+        }
+
         // Get output states
-        Map<UUID, LimitedCommodityStateMap> simSubjCommodityStates = new HashMap<>();
-        for (IDeviceEnergySubject _simSubject : energySimulationSubjects) {
+        // i.e. electrical power, heating power, ...
+        for (int i = 0; i < this.subjectIds.length; i++) {
+            this.commodityStates.put(this.subjectIds[i], this.initializedSubjects[i].getCommodityOutputStates());
+        }
+
+        // Do grid calculations
+        this.totalInputStates.clearInnerStates();
+        this.ancillaryMeterState.clear();
+        for (IEnergyGrid grid : this.grids.values()) {
+            grid.doCalculation(this.commodityStates, this.totalInputStates, this.ancillaryMeterState);
+        }
+
+        // Get AncillaryState of Meter (grid connections)
+        if (this.sharedAncillaryMeterState == null
+                || !Arrays.equals(this.sharedAncillaryMeterState.getAllPowerStates(),
+                this.ancillaryMeterState.getAllPowerStates())) {
+            this.sharedAncillaryMeterState = new ImmutableAncillaryMeterState(this.ancillaryMeterState);
+        }
+
+        // Inform subjects about input states (total flow), subjects without any input receive none
+        for (int i = 0; i < this.subjectIds.length; i++) {
+            LimitedCommodityStateMap simSubjState = this.totalInputStates.get(this.subjectIds[i]);
+            this.initializedSubjects[i].setCommodityInputStates(simSubjState.isEmpty() ? null : simSubjState,
+                    this.sharedAncillaryMeterState);
+        }
 
-            // get Commodity states of all subjects
-            // i.e. electrical power, heating power, ...
-//				EnumMap<Commodity,RealCommodityState> commodityList = _simSubject.getCommodityOutputStates();
-            LimitedCommodityStateMap commodityList = _simSubject.getCommodityOutputStates();
+        return this.sharedAncillaryMeterState;
+    }
 
-            UUID simSubjID = _simSubject.getUUID();
-            simSubjCommodityStates.put(simSubjID, commodityList);
+    private boolean isInitializedFor(List<IDeviceEnergySubject> energySimulationSubjects) {
+        if (energySimulationSubjects.size() != this.initializedSubjects.length) {
+            return false;
+        }
+        for (int i = 0; i < this.initializedSubjects.length; i++) {
+            if (energySimulationSubjects.get(i) != this.initializedSubjects[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void initializeSubjects(List<IDeviceEnergySubject> energySimulationSubjects) {
+        Set<UUID> subjectUUIDs = new ObjectOpenHashSet<>();
+        Set<UUID> allUUIDs = new ObjectLinkedOpenHashSet<>();
+        Object2IntOpenHashMap<UUID> uuidToIntMap = new Object2IntOpenHashMap<>();
 
-            //for SimulationDevices
+        for (IDeviceEnergySubject _simSubject : energySimulationSubjects) {
+            subjectUUIDs.add(_simSubject.getUUID());
+            allUUIDs.add(_simSubject.getUUID());
+        }
+        for (IEnergyGrid grid : this.grids.values()) {
+            allUUIDs.add(grid.getMeterUUID());
+            allUUIDs.addAll(grid.getActiveUUIDs());
+            allUUIDs.addAll(grid.getPassiveUUIDs());
+        }
 
-            //looking for some special devices
-            //currently NONE
+        int counter = 0;
+        for (UUID uuid : allUUIDs) {
+            uuidToIntMap.put(uuid, counter++);
         }
 
-        // Do grid calculations
-//		Map<UUID, EnumMap<Commodity,RealCommodityState>> totalInputStates = new HashMap<>();
-        Map<UUID, LimitedCommodityStateMap> totalInputStates = new HashMap<>();
-//		EnumMap<AncillaryCommodity,AncillaryCommodityState> ancillaryMeterState = new EnumMap<>(AncillaryCommodity.class);
-        AncillaryMeterState ancillaryMeterState = new AncillaryMeterState();
-        for (Entry<EnergySimulationTypes, IEnergyGrid> grid : this.grids.entrySet()) {
-            grid.getValue().doCalculation(simSubjCommodityStates, totalInputStates, ancillaryMeterState);
+        this.initializedSubjects = energySimulationSubjects.toArray(new IDeviceEnergySubject[0]);
+        this.subjectIds = new int[this.initializedSubjects.length];
+        for (int i = 0; i < this.subjectIds.length; i++) {
+            this.subjectIds[i] = uuidToIntMap.getInt(this.initializedSubjects[i].getUUID());
         }
 
-        // Get AncillaryState of Meter (grid connections)
+        this.commodityStates = new UUIDCommodityMap(allUUIDs, uuidToIntMap, true);
+        this.totalInputStates = new UUIDCommodityMap(allUUIDs, uuidToIntMap, true);
 
-        // Inform subjects about input states (total flow)
-            for (IEnergySubject _simSubject : energySimulationSubjects) {
-                UUID simSubjID = _simSubject.getUUID();
-//				EnumMap<Commodity,RealCommodityState> simSubjState = totalInputStates.get(simSubjID);
-                LimitedCommodityStateMap simSubjState = totalInputStates.get(simSubjID);
-
-                // clone AncillaryMeter AncillaryCommodities
-//				EnumMap<AncillaryCommodity,AncillaryCommodityState> clonedAncillaryMeterState = null;
-                AncillaryMeterState clonedAncillaryMeterState = ancillaryMeterState.clone();
-                //					clonedAncillaryMeterState = new EnumMap<AncillaryCommodity, AncillaryCommodityState>(AncillaryCommodity.class);
-
-//					for (Entry<AncillaryCommodity, AncillaryCommodityState> e : ancillaryMeterState.entrySet()) {
-//						try {
-//							clonedAncillaryMeterState.put(e.getKey(), e.getValue().clone());
-//						} catch (CloneNotSupportedException e1) {
-//							e1.printStackTrace();
-//						}
-//					}
-
-                _simSubject.setCommodityInputStates(simSubjState, clonedAncillaryMeterState);
+        //devices that are no subjects have no output states
+        for (UUID uuid : allUUIDs) {
+            if (!subjectUUIDs.contains(uuid)) {
+                this.commodityStates.put(uuidToIntMap.getInt(uuid), null);
             }
+        }
 
-        return ancillaryMeterState;
+        for (IEnergyGrid grid : this.grids.values()) {
+            grid.initializeSimulationGrid(subjectUUIDs, uuidToIntMap);
+        }
     }
-
 }
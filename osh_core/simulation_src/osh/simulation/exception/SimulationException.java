@@ -1,9 +1,5 @@
 package osh.simulation.exception;
 
-import osh.core.logging.OSHLoggerCore;
-
-import java.util.Arrays;
-
 /**
  * Exception superclass for the simulation core
  *
@@ -17,22 +13,18 @@ public class SimulationException extends Exception {
     private static final long serialVersionUID = 1L;
 
     public SimulationException() {
-        OSHLoggerCore.cb_Main_Logger.error("An unknown error near the Simulation occurred...");
     }
 
     public SimulationException(String message) {
         super(message);
-        OSHLoggerCore.cb_Main_Logger.error("An error near the Simulation occurred: " + message);
     }
 
     public SimulationException(Throwable cause) {
         super(cause);
-        OSHLoggerCore.cb_Main_Logger.error("An error near the Simulation occurred: " + Arrays.toString(cause.getStackTrace()));
     }
 
     public SimulationException(String message, Throwable cause) {
         super(message, cause);
-        OSHLoggerCore.cb_Main_Logger.error("An error near the Simulation occurred: " + Arrays.toString(cause.getStackTrace()));
     }
 
 }
@@ -5,13 +5,16 @@ import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import osh.core.logging.IGlobalLogger;
 import osh.datatypes.commodity.AncillaryCommodity;
 import osh.datatypes.commodity.AncillaryMeterState;
+import osh.datatypes.limit.CompiledSignals;
 import osh.datatypes.limit.PowerLimitSignal;
 import osh.datatypes.limit.PriceSignal;
 import osh.datatypes.power.AncillaryCommodityLoadProfile;
+import osh.datatypes.power.AncillaryCommodityStepProfile;
 import osh.datatypes.power.PowerInterval;
 import osh.utils.physics.PhysicalConstants;
 
 import java.util.EnumMap;
+import java.util.function.LongToIntFunction;
 
 /**
  * @author Ingo Mauser, Sebastian Kramer
@@ -226,13 +229,173 @@ public class CostCalculator {
                         powerLimitSignals, startCalc, endCalc);
 
             costs += (calcVarPower(varPowerChanges, varPriceChanges, varLimitChanges, upperOverLimitFactor, lowerOverLimitFactor,
-                    startCalc, endCalc, ancillaryMeter, priceSignals.get(AncillaryCommodity.REACTIVEPOWEREXTERNAL),
+                    startCalc, endCalc, t -> ancillaryMeter.getLoadAt(AncillaryCommodity.REACTIVEPOWEREXTERNAL, t),
+                    priceSignals.get(AncillaryCommodity.REACTIVEPOWEREXTERNAL),
                     powerLimitSignals.get(AncillaryCommodity.REACTIVEPOWEREXTERNAL)) / PhysicalConstants.factor_wsToKWh);
         }
 
         return costs;
     }
 
+    /**
+     * Calculates the costs of the given fixed-step profile in the same way as
+     * {@link #calcRangeCosts(int, int, int, long, long, double, double, AncillaryCommodityLoadProfile, EnumMap,
+     * EnumMap, IGlobalLogger)}, but walks the primitive load arrays of the profile and the arrays of the compiled
+     * signals instead of trees.
+     */
+    public static double calcRangeCosts(
+            int epsOptimizationObjective,
+            int varOptimizationObjective,
+            int plsOptimizationObjective,
+            long startCalc,
+            long endCalc,
+            double upperOverLimitFactor,
+            double lowerOverLimitFactor,
+            AncillaryCommodityStepProfile ancillaryMeter,
+            CompiledSignals signals,
+            IGlobalLogger globalLogger) {
+
+        double costs = 0;
+
+        costs += (calcActivePowerCosts(
+                ancillaryMeter,
+                signals,
+                plsOptimizationObjective,
+                epsOptimizationObjective,
+                upperOverLimitFactor,
+                lowerOverLimitFactor,
+                startCalc,
+                endCalc) / PhysicalConstants.factor_wsToKWh);
+
+        costs += (calcGasCosts(
+                ancillaryMeter,
+                signals,
+                startCalc,
+                endCalc) / PhysicalConstants.factor_wsToKWh);
+
+        //eps > 0 --> We have to calculate FeedIn/AutoConsumption costs
+        if (epsOptimizationObjective > 0) {
+            //eps == 3 || eps == 4 calculate FeedIn costs for PV and CHP
+            //eps == 1 || eps == 2 calculate FeedIn only for PV
+            AncillaryCommodity[] relevantFeedInCommodities = epsOptimizationObjective > 2
+                    ? new AncillaryCommodity[]{AncillaryCommodity.PVACTIVEPOWERFEEDIN, AncillaryCommodity.CHPACTIVEPOWERFEEDIN}
+                    : new AncillaryCommodity[]{AncillaryCommodity.PVACTIVEPOWERFEEDIN};
+
+            costs += (calcFeedInCosts(
+                    ancillaryMeter,
+                    relevantFeedInCommodities,
+                    signals,
+                    plsOptimizationObjective,
+                    lowerOverLimitFactor,
+                    startCalc,
+                    endCalc) / PhysicalConstants.factor_wsToKWh);
+
+            //eps == 2 || eps == 4 calculate AutoConsumption costs
+            if (epsOptimizationObjective == 2 || epsOptimizationObjective == 4) {
+                //eps == 4 calculate AutoConsumption costs for PV and CHP
+                //eps == 2 calculate AutoConsumption only for PV
+                AncillaryCommodity[] relevantAutoConsumptionCommodities = epsOptimizationObjective == 4
+                        ? new AncillaryCommodity[]{AncillaryCommodity.PVACTIVEPOWERAUTOCONSUMPTION, AncillaryCommodity.CHPACTIVEPOWERAUTOCONSUMPTION}
+                        : new AncillaryCommodity[]{AncillaryCommodity.PVACTIVEPOWERAUTOCONSUMPTION};
+
+                costs += (calcAutoConsumptionCosts(
+                        ancillaryMeter,
+                        relevantAutoConsumptionCommodities,
+                        signals,
+                        startCalc,
+                        endCalc) / PhysicalConstants.factor_wsToKWh);
+            }
+        }
+
+        //var == 1 --> calculate ReactivePower Costs
+        if (varOptimizationObjective > 0) {
+            //the reactive power costs are calculated from the original signals in the same way as the tree-based path
+            EnumMap<AncillaryCommodity, PriceSignal> priceSignals = signals.getPriceSignals();
+            EnumMap<AncillaryCommodity, PowerLimitSignal> powerLimitSignals = signals.getPowerLimitSignals();
+
+            LongSortedSet varPowerChanges = calcSingularLoadChanges(AncillaryCommodity.NATURALGASPOWEREXTERNAL,
+                    ancillaryMeter, startCalc, endCalc);
+            LongSortedSet varPriceChanges = calcPriceChanges(new AncillaryCommodity[]{AncillaryCommodity.REACTIVEPOWEREXTERNAL},
+                    priceSignals, startCalc, endCalc);
+
+            LongSortedSet varLimitChanges = null;
+
+            //pls == 2 --> we need to respect PLS for ReactivePower, see PLS for ActivePower
+            if (plsOptimizationObjective == 2)
+                varLimitChanges = calcPowerIntervalChanges(new AncillaryCommodity[]{AncillaryCommodity.REACTIVEPOWEREXTERNAL},
+                        powerLimitSignals, startCalc, endCalc);
+
+            int[] reactiveLoads = ancillaryMeter.getLoads(AncillaryCommodity.REACTIVEPOWEREXTERNAL);
+
+            costs += (calcVarPower(varPowerChanges, varPriceChanges, varLimitChanges, upperOverLimitFactor, lowerOverLimitFactor,
+                    startCalc, endCalc, t -> reactiveLoads[ancillaryMeter.getStep(t)],
+                    priceSignals.get(AncillaryCommodity.REACTIVEPOWEREXTERNAL),
+                    powerLimitSignals.get(AncillaryCommodity.REACTIVEPOWEREXTERNAL)) / PhysicalConstants.factor_wsToKWh);
+        }
+
+        return costs;
+    }
+
+    /**
+     * Calculates the highest import of active power above the upper power-limit of the active power in the given
+     * range of the given fixed-step profile.
+     *
+     * @param startCalc the start of the range
+     * @param endCalc the end of the range
+     * @param ancillaryMeter the fixed-step profile of the ancillary meter
+     * @param signals the compiled price- and power-limit-signals
+     * @return the highest violation of the upper power-limit in W or 0 if the limit is never violated or there is no
+     * power-limit-signal for the active power
+     */
+    public static double calcPeakLimitViolation(
+            long startCalc,
+            long endCalc,
+            AncillaryCommodityStepProfile ancillaryMeter,
+            CompiledSignals signals) {
+
+        if (!signals.hasPowerLimitSignal(AncillaryCommodity.ACTIVEPOWEREXTERNAL)) {
+            return 0;
+        }
+
+        int[] loads = ancillaryMeter.getLoads(AncillaryCommodity.ACTIVEPOWEREXTERNAL);
+        int currentLoadStep = ancillaryMeter.getStep(startCalc);
+        int nextLoadStep = ancillaryMeter.getNextLoadChangeStep(loads, currentLoadStep);
+
+        long[] limitTimes = signals.getLimitChangeTimes(AncillaryCommodity.ACTIVEPOWEREXTERNAL);
+        double[] upperLimits = signals.getUpperLimits(AncillaryCommodity.ACTIVEPOWEREXTERNAL);
+        int currentLimitIndex = CompiledSignals.getFloorIndex(limitTimes, startCalc);
+
+        long nextLoadChangeKey = getLoadChangeTime(ancillaryMeter, nextLoadStep);
+        long nextLimitChangeKey = CompiledSignals.getNextChangeTime(limitTimes, currentLimitIndex);
+
+        long currentTime = startCalc;
+        double peakViolation = 0;
+
+        while (currentTime < endCalc) {
+
+            long minNextChange = Math.min(nextLoadChangeKey, nextLimitChangeKey);
+
+            double upperLimit = currentLimitIndex >= 0 ? upperLimits[currentLimitIndex]
+                    : signals.getPowerUpperLimit(AncillaryCommodity.ACTIVEPOWEREXTERNAL, currentTime);
+
+            peakViolation = Math.max(peakViolation, loads[currentLoadStep] - upperLimit);
+
+            if (nextLoadChangeKey <= minNextChange) {
+                currentLoadStep = nextLoadStep;
+                nextLoadStep = ancillaryMeter.getNextLoadChangeStep(loads, currentLoadStep);
+                nextLoadChangeKey = getLoadChangeTime(ancillaryMeter, nextLoadStep);
+            }
+            if (nextLimitChangeKey <= minNextChange) {
+                currentLimitIndex++;
+                nextLimitChangeKey = CompiledSignals.getNextChangeTime(limitTimes, currentLimitIndex);
+            }
+
+            currentTime = minNextChange;
+        }
+
+        return peakViolation;
+    }
+
     public static double[] calcSingularCosts(
             int epsOptimizationObjective,
             int varOptimizationObjective,
@@ -381,6 +544,149 @@ public class CostCalculator {
                 feedInCostsCHP / PhysicalConstants.factor_wsToKWh, autoConsumptionCosts / PhysicalConstants.factor_wsToKWh};
     }
 
+    /**
+     * Calculates the costs of the given ancillary meter state in the same way as
+     * {@link #calcSingularCosts(int, int, int, long, long, double, double, AncillaryMeterState, EnumMap, EnumMap)},
+     * but looks up prices and limits in the arrays of the compiled signals.
+     */
+    public static double[] calcSingularCosts(
+            int epsOptimizationObjective,
+            int varOptimizationObjective,
+            int plsOptimizationObjective,
+            long time,
+            long timeFactor,
+            double upperOverLimitFactor,
+            double lowerOverLimitFactor,
+            AncillaryMeterState ancillaryMeterState,
+            CompiledSignals signals) {
+
+        double epsCosts = 0, plsCosts = 0, gasCosts = 0, feedInCostsPV = 0, feedInCostsCHP = 0, autoConsumptionCosts = 0;
+
+        //ACTIVEPOWER Costs
+        double activePower = ancillaryMeterState.getPower(AncillaryCommodity.ACTIVEPOWEREXTERNAL);
+        double activePrice = signals.getPrice(AncillaryCommodity.ACTIVEPOWEREXTERNAL, time);
+
+        if (activePower > 0)
+            epsCosts += activePower * activePrice * timeFactor;
+
+        if (plsOptimizationObjective > 0) {
+            double upperLimit = signals.getPowerUpperLimit(AncillaryCommodity.ACTIVEPOWEREXTERNAL, time);
+
+            if (activePower > upperLimit)
+                plsCosts += timeFactor * upperOverLimitFactor * Math.abs(activePower - upperLimit) * activePrice;
+
+            //If Feed-In costs, lowerLimit Violations will be calculated there
+            if (epsOptimizationObjective < 1) {
+                double lowerLimit = signals.getPowerLowerLimit(AncillaryCommodity.ACTIVEPOWEREXTERNAL, time);
+
+                if (activePower < lowerLimit)
+                    plsCosts += timeFactor * lowerOverLimitFactor * Math.abs(activePower - lowerLimit) * activePrice;
+            }
+        }
+
+        //GASPOWER Costs
+        double power = ancillaryMeterState.getPower(AncillaryCommodity.NATURALGASPOWEREXTERNAL);
+
+        double price = 0.0;
+        if (signals.hasPriceSignal(AncillaryCommodity.NATURALGASPOWEREXTERNAL))
+            price = signals.getPrice(AncillaryCommodity.NATURALGASPOWEREXTERNAL, time);
+
+        gasCosts += timeFactor * power * price;
+
+        //FeedIn and/or AutoConsumption costs
+        if (epsOptimizationObjective > 0) {
+
+            //FEEDIN costs
+            double feedInPower = 0;
+
+            //FeedIn costs for PV
+            double pvFeedIn = ancillaryMeterState.getPower(AncillaryCommodity.PVACTIVEPOWERFEEDIN);
+
+            if (pvFeedIn < 0) {
+                feedInPower += pvFeedIn;
+                feedInCostsPV += timeFactor * pvFeedIn * signals.getPrice(AncillaryCommodity.PVACTIVEPOWERFEEDIN, time);
+            }
+
+            //FeedIn costs for CHP if eps == 3 || eps == 4
+            if (epsOptimizationObjective > 2) {
+                double chpFeedIn = ancillaryMeterState.getPower(AncillaryCommodity.CHPACTIVEPOWERFEEDIN);
+
+                if (chpFeedIn < 0) {
+                    feedInPower += chpFeedIn;
+                    feedInCostsCHP += timeFactor * chpFeedIn * signals.getPrice(AncillaryCommodity.CHPACTIVEPOWERFEEDIN, time);
+                }
+            }
+
+            epsCosts += feedInCostsPV + feedInCostsCHP;
+
+            //PLS costs for active Power --> negative FeedInCosts over the limit * lowerOverLimitFactor
+            if (plsOptimizationObjective > 0) {
+                double lowerLimit = signals.getPowerLowerLimit(AncillaryCommodity.ACTIVEPOWEREXTERNAL, time);
+
+                if (activePower < lowerLimit) {
+                    plsCosts -= lowerOverLimitFactor * Math.abs(Math.abs(activePower - lowerLimit) / feedInPower) * (feedInCostsPV + feedInCostsCHP);
+                }
+            }
+
+            //AUTOCONSUMPTION costs
+            if (epsOptimizationObjective == 2 || epsOptimizationObjective == 4) {
+
+                //AUTOCONSUMPTION costs for PV
+                double pvAutoConsumption = ancillaryMeterState.getPower(AncillaryCommodity.PVACTIVEPOWERAUTOCONSUMPTION);
+                if (pvAutoConsumption < 0)
+                    autoConsumptionCosts += timeFactor * pvAutoConsumption * signals.getPrice(AncillaryCommodity.PVACTIVEPOWERAUTOCONSUMPTION, time);
+
+                //AUTOCONSUMPTION costs for CHP if eps == 4
+                if (epsOptimizationObjective > 2) {
+                    double chpAutoConsumption = ancillaryMeterState.getPower(AncillaryCommodity.CHPACTIVEPOWERAUTOCONSUMPTION);
+                    if (chpAutoConsumption < 0)
+                        autoConsumptionCosts += timeFactor * chpAutoConsumption * signals.getPrice(AncillaryCommodity.CHPACTIVEPOWERAUTOCONSUMPTION, time);
+                }
+
+                epsCosts += autoConsumptionCosts;
+            }
+        }
+
+        //var == 1 --> calculate ReactivePower Costs
+        if (varOptimizationObjective > 0) {
+
+            double varPower = ancillaryMeterState.getPower(AncillaryCommodity.REACTIVEPOWEREXTERNAL);
+
+            //mosts EPS dont have a varPriceSignal, so we check to be on the safe side
+            if (signals.hasPriceSignal(AncillaryCommodity.REACTIVEPOWEREXTERNAL)) {
+                double varPrice = signals.getPrice(AncillaryCommodity.REACTIVEPOWEREXTERNAL, time);
+
+                epsCosts += timeFactor * Math.abs(varPower) * varPrice;
+
+                //pls == 2 --> we need to respect PLS for ReactivePower
+                if (plsOptimizationObjective == 2) {
+                    double lowerLimit = signals.getPowerLowerLimit(AncillaryCommodity.REACTIVEPOWEREXTERNAL, time);
+                    double upperLimit = signals.getPowerUpperLimit(AncillaryCommodity.REACTIVEPOWEREXTERNAL, time);
+
+                    if (varPower > upperLimit)
+                        plsCosts += timeFactor * upperOverLimitFactor * Math.abs(upperLimit - varPower) * varPrice;
+                    else if (varPower < lowerLimit)
+                        plsCosts += timeFactor * lowerOverLimitFactor * Math.abs(lowerLimit - varPower) * varPrice;
+                }
+
+            } else {
+                System.out.println("[CostCalculator] VarPowerCosts can't be calculated because VarPriceSignal is not provided");
+            }
+        }
+
+        /* array
+         * [0] = epsCosts
+         * [1] = plsCosts
+         * [2] = gasCosts
+         * [3] = feedInCompensationPV
+         * [4] = feedInCompensationCHP
+         * [5] = autoConsumptionCosts
+         */
+        return new double[]{epsCosts / PhysicalConstants.factor_wsToKWh, plsCosts / PhysicalConstants.factor_wsToKWh,
+                gasCosts / PhysicalConstants.factor_wsToKWh, feedInCostsPV / PhysicalConstants.factor_wsToKWh,
+                feedInCostsCHP / PhysicalConstants.factor_wsToKWh, autoConsumptionCosts / PhysicalConstants.factor_wsToKWh};
+    }
+
     private static LongSortedSet calcSingularLoadChanges(AncillaryCommodity ancillaryCommodity, AncillaryCommodityLoadProfile ancillaryMeter,
                                                            long startTime, long endTime) {
         LongSortedSet loadChanges = new LongAVLTreeSet(ancillaryMeter.getAllLoadChangesFor(ancillaryCommodity, startTime, endTime));
@@ -390,6 +696,342 @@ public class CostCalculator {
         return loadChanges;
     }
 
+    private static LongSortedSet calcSingularLoadChanges(AncillaryCommodity ancillaryCommodity, AncillaryCommodityStepProfile ancillaryMeter,
+                                                         long startTime, long endTime) {
+        LongSortedSet loadChanges = new LongAVLTreeSet();
+        int[] loads = ancillaryMeter.getLoads(ancillaryCommodity);
+
+        long time = ancillaryMeter.getNextLoadChange(loads, startTime);
+        while (time < endTime) {
+            loadChanges.add(time);
+            time = ancillaryMeter.getNextLoadChange(loads, time);
+        }
+        loadChanges.add(endTime);
+        loadChanges.add(Long.MAX_VALUE);
+
+        return loadChanges;
+    }
+
+    private static long getLoadChangeTime(AncillaryCommodityStepProfile ancillaryMeter, int step) {
+        return step < ancillaryMeter.getStepCount() ? ancillaryMeter.getTimeOfStep(step) : Long.MAX_VALUE;
+    }
+
+    private static double calcActivePowerCosts(
+            AncillaryCommodityStepProfile ancillaryMeter,
+            CompiledSignals signals,
+            int plsOptimizationObjective,
+            int epsOptimizationObjective,
+            double upperOverLimitFactor,
+            double lowerOverLimitFactor,
+            long startCalc,
+            long endCalc) {
+
+        int[] loads = ancillaryMeter.getLoads(AncillaryCommodity.ACTIVEPOWEREXTERNAL);
+        int currentLoadStep = ancillaryMeter.getStep(startCalc);
+        int nextLoadStep = ancillaryMeter.getNextLoadChangeStep(loads, currentLoadStep);
+
+        long[] priceTimes = signals.getPriceChangeTimes(AncillaryCommodity.ACTIVEPOWEREXTERNAL);
+        double[] prices = signals.getPrices(AncillaryCommodity.ACTIVEPOWEREXTERNAL);
+        int currentPriceIndex = CompiledSignals.getFloorIndex(priceTimes, startCalc);
+
+        long[] limitTimes = plsOptimizationObjective > 0 ?
+                signals.getLimitChangeTimes(AncillaryCommodity.ACTIVEPOWEREXTERNAL) : null;
+        double[] upperLimits = signals.getUpperLimits(AncillaryCommodity.ACTIVEPOWEREXTERNAL);
+        double[] lowerLimits = signals.getLowerLimits(AncillaryCommodity.ACTIVEPOWEREXTERNAL);
+        int currentLimitIndex = limitTimes == null ? -1 : CompiledSignals.getFloorIndex(limitTimes, startCalc);
+
+        long nextLoadChangeKey = getLoadChangeTime(ancillaryMeter, nextLoadStep);
+        long nextPriceChangeKey = CompiledSignals.getNextChangeTime(priceTimes, currentPriceIndex);
+        long nextLimitChangeKey = limitTimes == null ? Long.MAX_VALUE : CompiledSignals.getNextChangeTime(limitTimes, currentLimitIndex);
+
+        long currentTime = startCalc;
+        double costs = 0;
+
+        while (currentTime < endCalc) {
+
+            long minNextChange = Math.min(nextLoadChangeKey, Math.min(nextPriceChangeKey, nextLimitChangeKey));
+
+            if (minNextChange >= endCalc) {
+                minNextChange = endCalc;
+            }
+
+            // get time factor (constant time in [s] and price is [cents/kWh], whereas load/power is in [W])
+            double timeFactor = minNextChange - currentTime;
+
+            int power = loads[currentLoadStep];
+            double price = prices[currentPriceIndex];
+
+            if (power > 0)
+                costs += timeFactor * power * price;
+
+            if (plsOptimizationObjective > 0) {
+                double upperLimit = upperLimits[currentLimitIndex];
+
+                if (power > upperLimit)
+                    costs += timeFactor * Math.abs(power - upperLimit) * price * upperOverLimitFactor;
+
+                //If FeedIn-costs lowerLimitViolations will be calculated in calcFeedInPower
+                if (epsOptimizationObjective < 1) {
+                    double lowerLimit = lowerLimits[currentLimitIndex];
+
+                    if (power < lowerLimit) {
+                        costs += timeFactor * Math.abs(power - lowerLimit) * price * lowerOverLimitFactor;
+                    }
+                }
+            }
+
+            if (nextLoadChangeKey <= minNextChange) {
+                currentLoadStep = nextLoadStep;
+                nextLoadStep = ancillaryMeter.getNextLoadChangeStep(loads, currentLoadStep);
+                nextLoadChangeKey = getLoadChangeTime(ancillaryMeter, nextLoadStep);
+            }
+            if (nextPriceChangeKey <= minNextChange) {
+                currentPriceIndex++;
+                nextPriceChangeKey = CompiledSignals.getNextChangeTime(priceTimes, currentPriceIndex);
+            }
+            if (nextLimitChangeKey <= minNextChange) {
+                currentLimitIndex++;
+                nextLimitChangeKey = CompiledSignals.getNextChangeTime(limitTimes, currentLimitIndex);
+            }
+
+            currentTime = minNextChange;
+        }
+
+        return costs;
+    }
+
+    private static double calcGasCosts(
+            AncillaryCommodityStepProfile ancillaryMeter,
+            CompiledSignals signals,
+            long startCalc,
+            long endCalc) {
+
+        int[] loads = ancillaryMeter.getLoads(AncillaryCommodity.NATURALGASPOWEREXTERNAL);
+        int currentLoadStep = ancillaryMeter.getStep(startCalc);
+        int nextLoadStep = ancillaryMeter.getNextLoadChangeStep(loads, currentLoadStep);
+
+        long[] priceTimes = signals.getPriceChangeTimes(AncillaryCommodity.NATURALGASPOWEREXTERNAL);
+        double[] prices = signals.getPrices(AncillaryCommodity.NATURALGASPOWEREXTERNAL);
+        int currentPriceIndex = CompiledSignals.getFloorIndex(priceTimes, startCalc);
+
+        long nextLoadChangeKey = getLoadChangeTime(ancillaryMeter, nextLoadStep);
+        long nextPriceChangeKey = CompiledSignals.getNextChangeTime(priceTimes, currentPriceIndex);
+
+        long currentTime = startCalc;
+        double costs = 0;
+
+        while (currentTime < endCalc) {
+
+            long minNextChange = Math.min(nextLoadChangeKey, nextPriceChangeKey);
+
+            if (minNextChange >= endCalc) {
+                minNextChange = endCalc;
+            }
+
+            // get time factor (constant time in [s] and price is [cents/kWh], whereas load/power is in [W])
+            double timeFactor = minNextChange - currentTime;
+
+            int power = loads[currentLoadStep];
+            double price = prices[currentPriceIndex];
+
+            if (power > 0)
+                costs += timeFactor * power * price;
+
+            if (nextLoadChangeKey <= minNextChange) {
+                currentLoadStep = nextLoadStep;
+                nextLoadStep = ancillaryMeter.getNextLoadChangeStep(loads, currentLoadStep);
+                nextLoadChangeKey = getLoadChangeTime(ancillaryMeter, nextLoadStep);
+            }
+            if (nextPriceChangeKey <= minNextChange) {
+                currentPriceIndex++;
+                nextPriceChangeKey = CompiledSignals.getNextChangeTime(priceTimes, currentPriceIndex);
+            }
+
+            currentTime = minNextChange;
+        }
+
+        return costs;
+    }
+
+    private static double calcFeedInCosts(
+            AncillaryCommodityStepProfile ancillaryMeter,
+            AncillaryCommodity[] relevantFeedInCommodities,
+            CompiledSignals signals,
+            int plsOptimizationObjective,
+            double lowerOverLimitFactor,
+            long startCalc,
+            long endCalc) {
+
+        int typeCount = relevantFeedInCommodities.length;
+
+        int[][] loads = new int[typeCount][];
+        int[] currentLoadStep = new int[typeCount];
+        int[] nextLoadStep = new int[typeCount];
+        long[] nextLoadChangeKey = new long[typeCount];
+
+        long[][] priceTimes = new long[typeCount][];
+        double[][] prices = new double[typeCount][];
+        int[] currentPriceIndex = new int[typeCount];
+        long[] nextPriceChangeKey = new long[typeCount];
+
+        for (int i = 0; i < typeCount; i++) {
+            loads[i] = ancillaryMeter.getLoads(relevantFeedInCommodities[i]);
+            currentLoadStep[i] = ancillaryMeter.getStep(startCalc);
+            nextLoadStep[i] = ancillaryMeter.getNextLoadChangeStep(loads[i], currentLoadStep[i]);
+            nextLoadChangeKey[i] = getLoadChangeTime(ancillaryMeter, nextLoadStep[i]);
+
+            priceTimes[i] = signals.getPriceChangeTimes(relevantFeedInCommodities[i]);
+            prices[i] = signals.getPrices(relevantFeedInCommodities[i]);
+            currentPriceIndex[i] = CompiledSignals.getFloorIndex(priceTimes[i], startCalc);
+            nextPriceChangeKey[i] = CompiledSignals.getNextChangeTime(priceTimes[i], currentPriceIndex[i]);
+        }
+
+        long[] limitTimes = plsOptimizationObjective > 0 ?
+                signals.getLimitChangeTimes(AncillaryCommodity.ACTIVEPOWEREXTERNAL) : null;
+        double[] lowerLimits = signals.getLowerLimits(AncillaryCommodity.ACTIVEPOWEREXTERNAL);
+        int currentLimitIndex = limitTimes == null ? -1 : CompiledSignals.getFloorIndex(limitTimes, startCalc);
+        long nextLimitChangeKey = limitTimes == null ? Long.MAX_VALUE : CompiledSignals.getNextChangeTime(limitTimes, currentLimitIndex);
+
+        long currentTime = startCalc;
+        double costs = 0;
+
+        while (currentTime < endCalc) {
+
+            long minNextChange = nextLimitChangeKey;
+
+            for (int i = 0; i < typeCount; i++) {
+                minNextChange = Math.min(minNextChange, Math.min(nextLoadChangeKey[i], nextPriceChangeKey[i]));
+            }
+
+            if (minNextChange >= endCalc) {
+                minNextChange = endCalc;
+            }
+
+            // get time factor (constant time in [s] and price is [cents/kWh], whereas load/power is in [W])
+            double timeFactor = minNextChange - currentTime;
+
+            double totalFeedInCosts = 0;
+            int totalFeedInPower = 0;
+
+            for (int i = 0; i < typeCount; i++) {
+                int power = loads[i][currentLoadStep[i]];
+
+                if (power < 0) {
+                    totalFeedInCosts += timeFactor * power * prices[i][currentPriceIndex[i]];
+                    totalFeedInPower += power;
+                }
+            }
+
+            costs += totalFeedInCosts;
+
+            if (plsOptimizationObjective > 0) {
+                double lowerLimit = lowerLimits[currentLimitIndex];
+                if (totalFeedInPower < lowerLimit)
+                    costs -= lowerOverLimitFactor * Math.abs(Math.abs(totalFeedInPower - lowerLimit) / totalFeedInPower) * totalFeedInCosts;
+            }
+
+            for (int i = 0; i < typeCount; i++) {
+
+                if (nextLoadChangeKey[i] <= minNextChange) {
+                    currentLoadStep[i] = nextLoadStep[i];
+                    nextLoadStep[i] = ancillaryMeter.getNextLoadChangeStep(loads[i], currentLoadStep[i]);
+                    nextLoadChangeKey[i] = getLoadChangeTime(ancillaryMeter, nextLoadStep[i]);
+                }
+
+                if (nextPriceChangeKey[i] <= minNextChange) {
+                    currentPriceIndex[i]++;
+                    nextPriceChangeKey[i] = CompiledSignals.getNextChangeTime(priceTimes[i], currentPriceIndex[i]);
+                }
+            }
+
+            if (nextLimitChangeKey <= minNextChange) {
+                currentLimitIndex++;
+                nextLimitChangeKey = CompiledSignals.getNextChangeTime(limitTimes, currentLimitIndex);
+            }
+
+            currentTime = minNextChange;
+        }
+
+        return costs;
+    }
+
+    private static double calcAutoConsumptionCosts(
+            AncillaryCommodityStepProfile ancillaryMeter,
+            AncillaryCommodity[] relevantAutoConsumptionCommodities,
+            CompiledSignals signals,
+            long startCalc,
+            long endCalc) {
+
+        int typeCount = relevantAutoConsumptionCommodities.length;
+
+        int[][] loads = new int[typeCount][];
+        int[] currentLoadStep = new int[typeCount];
+        int[] nextLoadStep = new int[typeCount];
+        long[] nextLoadChangeKey = new long[typeCount];
+
+        long[][] priceTimes = new long[typeCount][];
+        double[][] prices = new double[typeCount][];
+        int[] currentPriceIndex = new int[typeCount];
+        long[] nextPriceChangeKey = new long[typeCount];
+
+        for (int i = 0; i < typeCount; i++) {
+            loads[i] = ancillaryMeter.getLoads(relevantAutoConsumptionCommodities[i]);
+            currentLoadStep[i] = ancillaryMeter.getStep(startCalc);
+            nextLoadStep[i] = ancillaryMeter.getNextLoadChangeStep(loads[i], currentLoadStep[i]);
+            nextLoadChangeKey[i] = getLoadChangeTime(ancillaryMeter, nextLoadStep[i]);
+
+            priceTimes[i] = signals.getPriceChangeTimes(relevantAutoConsumptionCommodities[i]);
+            prices[i] = signals.getPrices(relevantAutoConsumptionCommodities[i]);
+            currentPriceIndex[i] = CompiledSignals.getFloorIndex(priceTimes[i], startCalc);
+            nextPriceChangeKey[i] = CompiledSignals.getNextChangeTime(priceTimes[i], currentPriceIndex[i]);
+        }
+
+        long currentTime = startCalc;
+        double costs = 0;
+
+        while (currentTime < endCalc) {
+
+            long minNextChange = Long.MAX_VALUE;
+
+            for (int i = 0; i < typeCount; i++) {
+                minNextChange = Math.min(minNextChange, Math.min(nextLoadChangeKey[i], nextPriceChangeKey[i]));
+            }
+
+            if (minNextChange >= endCalc) {
+                minNextChange = endCalc;
+            }
+
+            // get time factor (constant time in [s] and price is [cents/kWh], whereas load/power is in [W])
+            double timeFactor = minNextChange - currentTime;
+
+            for (int i = 0; i < typeCount; i++) {
+                int power = loads[i][currentLoadStep[i]];
+
+                if (power < 0) {
+                    costs += timeFactor * power * prices[i][currentPriceIndex[i]];
+                }
+            }
+
+            for (int i = 0; i < typeCount; i++) {
+
+                if (nextLoadChangeKey[i] <= minNextChange) {
+                    currentLoadStep[i] = nextLoadStep[i];
+                    nextLoadStep[i] = ancillaryMeter.getNextLoadChangeStep(loads[i], currentLoadStep[i]);
+                    nextLoadChangeKey[i] = getLoadChangeTime(ancillaryMeter, nextLoadStep[i]);
+                }
+
+                if (nextPriceChangeKey[i] <= minNextChange) {
+                    currentPriceIndex[i]++;
+                    nextPriceChangeKey[i] = CompiledSignals.getNextChangeTime(priceTimes[i], currentPriceIndex[i]);
+                }
+            }
+
+            currentTime = minNextChange;
+        }
+
+        return costs;
+    }
+
     private static LongSortedSet calcPriceChanges(AncillaryCommodity[] relevantCommodities, EnumMap<AncillaryCommodity, PriceSignal> prices,
                                                     long startTime, long endTime) {
         LongSortedSet priceChanges = new LongAVLTreeSet();
@@ -993,7 +1635,7 @@ public class CostCalculator {
 
     private static double calcVarPower(LongSortedSet varPowerChanges, LongSortedSet varPriceChanges,
                                        LongSortedSet varLimitChanges, double upperOverLimitFactor, double lowerOverLimitFactor,
-                                       long startCalc, long endCalc, AncillaryCommodityLoadProfile ancillaryMeter, PriceSignal varPriceSignal,
+                                       long startCalc, long endCalc, LongToIntFunction reactivePower, PriceSignal varPriceSignal,
                                        PowerLimitSignal varLimit) {
 
         long nextLoadChange = Long.MIN_VALUE;
@@ -1058,7 +1700,7 @@ public class CostCalculator {
 
             // get time factor (constant time in [s] and price is [cents/kWh], whereas load/power is in [W])
             double timeFactor = minNextChange - currentTime;
-            int power = ancillaryMeter.getLoadAt(AncillaryCommodity.REACTIVEPOWEREXTERNAL, currentTime);
+            int power = reactivePower.applyAsInt(currentTime);
             double price = varPriceSignal.getPrice(currentTime);
 
             costs += timeFactor * Math.abs(power) * price;
@@ -112,6 +112,32 @@ public class SQLConnectionProvider {
         return connection.getConnection();
     }
 
+    /**
+     * Opens a new connection that is not shared with other users of the connection providers, testing a preferred
+     * connection first. The caller is responsible for closing the connection.
+     *
+     * @param preferredConnection the preferred connection
+     * @return a new connection to a mysql-server (if the preferred connection is available it will be returned,
+     * otherwise the first successful connection)
+     * @throws ConnectException if no connection is available
+     */
+    public static Connection openConnection(String preferredConnection) throws ConnectException {
+        if (preferredConnection != null && connectionMap.containsKey(preferredConnection)) {
+            try {
+                return connectionMap.get(preferredConnection).openConnection();
+            } catch (ConnectException | JSchException ignored) {
+            }
+        }
+
+        for (SingleSQLConnectionProvider provider : connectionMap.values()) {
+            try {
+                return provider.openConnection();
+            } catch (ConnectException | JSchException ignored) {
+            }
+        }
+        throw new ConnectException("No database reachable");
+    }
+
     public static void closeConnection() {
         if (connection != null) {
             connection.closeConnection();
@@ -76,36 +76,18 @@ public class SingleSQLAndSSHConnectionProvider extends SingleSQLConnectionProvid
     }
 
     protected void initSSHTunnelledConnection() throws ConnectException {
-        try {
-            String url = "jdbc:mysql://localhost:" + this.sess.getPortForwardingL()[0].split(":")[0] + "/" + this.serverScheme;
-
-            if (this.useSSL) {
-                url += "?useSSL=true&requireSSL=true";
-                System.setProperty("javax.net.ssl.trustStore", this.trustStorePath);
-                System.setProperty("javax.net.ssl.trustStorePassword", this.trustStorePW);
-//				System.setProperty("sun.security.ssl.allowUnsafeRenegotiation", "true");
-                System.setProperty("https.protocols", "TLSv1.2");
-//				System.setProperty("javax.net.debug","all");
-            }
-
-            Class.forName("com.mysql.jdbc.Driver");
-            Connection conn = DriverManager.getConnection(url, this.databaseUser,
-                    this.databasePW);
-
-            Statement stmt = conn.createStatement();
-            stmt.execute(testStatement);
-            stmt.close();
-
-            this.conn = conn;
-        } catch (ClassNotFoundException | SQLException | JSchException e) {
-            throw new ConnectException("database not reachable");
-        }
+        this.conn = this.createSSHTunnelledConnection();
     }
 
-    @Override
-    protected void initConnection() throws ConnectException {
+    /**
+     * Creates a new connection to the database through the ssh-tunnel of this provider.
+     *
+     * @return a new connection to the database
+     * @throws ConnectException if the database is not reachable
+     */
+    protected Connection createSSHTunnelledConnection() throws ConnectException {
         try {
-            String url = "jdbc:mysql://" + this.serverName + ":" + this.serverPort + "/" + this.serverScheme;
+            String url = "jdbc:mysql://localhost:" + this.sess.getPortForwardingL()[0].split(":")[0] + "/" + this.serverScheme;
 
             if (this.useSSL) {
                 url += "?useSSL=true&requireSSL=true";
@@ -124,8 +106,8 @@ public class SingleSQLAndSSHConnectionProvider extends SingleSQLConnectionProvid
             stmt.execute(testStatement);
             stmt.close();
 
-            this.conn = conn;
-        } catch (ClassNotFoundException | SQLException e) {
+            return conn;
+        } catch (ClassNotFoundException | SQLException | JSchException e) {
             throw new ConnectException("database not reachable");
         }
     }
@@ -147,6 +129,21 @@ public class SingleSQLAndSSHConnectionProvider extends SingleSQLConnectionProvid
         return this.conn;
     }
 
+    @Override
+    public synchronized Connection openConnection() throws ConnectException, JSchException {
+        try {
+            return this.createConnection();
+        } catch (ConnectException e) {
+            if (!this.useSSH) {
+                throw e;
+            }
+            if (this.sess == null) {
+                this.initSession();
+            }
+            return this.createSSHTunnelledConnection();
+        }
+    }
+
     @Override
     public void closeConnection() {
         try {
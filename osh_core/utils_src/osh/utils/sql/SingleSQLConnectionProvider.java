@@ -49,6 +49,16 @@ public class SingleSQLConnectionProvider {
     }
 
     protected void initConnection() throws ConnectException {
+        this.conn = this.createConnection();
+    }
+
+    /**
+     * Creates a new connection to the database of this provider.
+     *
+     * @return a new connection to the database
+     * @throws ConnectException if the database is not reachable
+     */
+    protected Connection createConnection() throws ConnectException {
         try {
             String url = "jdbc:mysql://" + this.serverName + ":" + this.serverPort + "/" + this.serverScheme;
 
@@ -69,7 +79,7 @@ public class SingleSQLConnectionProvider {
             stmt.execute(testStatement);
             stmt.close();
 
-            this.conn = conn;
+            return conn;
         } catch (ClassNotFoundException | SQLException e) {
             throw new ConnectException("database not reachable");
         }
@@ -82,6 +92,18 @@ public class SingleSQLConnectionProvider {
         return this.conn;
     }
 
+    /**
+     * Opens a new connection that is not shared with other users of this provider. The caller is responsible for
+     * closing the connection.
+     *
+     * @return a new connection to the database
+     * @throws ConnectException if the database is not reachable
+     * @throws JSchException if the ssh-tunnel to the database could not be established
+     */
+    public Connection openConnection() throws ConnectException, JSchException {
+        return this.createConnection();
+    }
+
     public void closeConnection() {
         try {
             this.conn.close();
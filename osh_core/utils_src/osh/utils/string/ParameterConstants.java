@@ -199,6 +199,19 @@ public final class ParameterConstants {
         public static final String stepSize = "stepSize";
         public static final String hotWaterTankUUID = "hotWaterTankUUID";
         public static final String coldWaterTankUUID = "coldWaterTankUUID";
+        public static final String fitnessCacheSize = "fitnessCacheSize";
+        public static final String warmStartShare = "warmStartPopulationShare";
+        public static final String deltaEvaluationCheckpointInterval = "deltaEvaluationCheckpointInterval";
+        public static final String evaluationThreads = "evaluationThreads";
+        public static final String preAggregateBackgroundLoad = "preAggregateBackgroundLoad";
+        public static final String algorithm = "optimizationAlgorithm";
+        public static final String paretoSelectionPolicy = "paretoSelectionPolicy";
+        public static final String anytimeBudget = "anytimeBudget";
+        public static final String anytimeRefinementBudget = "anytimeRefinementBudget";
+        public static final String anytimeMinImprovement = "anytimeMinImprovement";
+        public static final String islandCount = "islandCount";
+        public static final String migrationInterval = "migrationInterval";
+        public static final String migrationSize = "migrationSize";
     }
 
     public static final class EA {
@@ -206,6 +219,7 @@ public final class ParameterConstants {
         public static final String maxEvaluations = "maxEvaluations";
         public static final String minDeltaFitnessPercent = "minDeltaFitnessPerc";
         public static final String maxGenerationsDeltaFitnessViolated = "maxGenerationsDeltaFitnessViolated";
+        public static final String timeBudget = "timeBudget";
 
         public static final String probability = "probability";
         public static final String solutionRepair = "solutionRepair";
@@ -238,6 +252,15 @@ public final class ParameterConstants {
         public static final String tournaments = "numberOfTournaments";
     }
 
+    public static final class Simulation {
+        public static final String legacyRandomDistribution = "legacyRandomDistribution";
+        public static final String parallelTickThreads = "parallelTickThreads";
+    }
+
+    public static final class Registry {
+        public static final String dispatcherThreads = "registryDispatcherThreads";
+    }
+
     public static final class Logging {
         public static final String logH0 = "logH0";
         public static final String logEpsPls = "logEpsPls";
@@ -5,14 +5,57 @@ import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 import java.io.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Simplifies the XML-serialization using the java built-in marshaller
+ * <p>
+ * Creating a {@link JAXBContext} is expensive while the context itself is thread-safe, so contexts are created once
+ * per package and shared. Marshallers and unmarshallers are not thread-safe and are created for every call.
  *
  * @author Till Schuberth
  */
 public class XMLSerialization {
 
+    private static final ConcurrentHashMap<String, JAXBContext> contexts = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared context for the given context path (colon-separated list of package names), creating it on
+     * first use.
+     *
+     * @param contextPath the context path
+     * @return the shared context for the context path
+     * @throws JAXBException if the context could not be created
+     */
+    public static JAXBContext getContext(String contextPath) throws JAXBException {
+        return getContext(contextPath, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Returns the shared context for the package of the given class, creating it on first use.
+     *
+     * @param type the class whose package the context is created for
+     * @return the shared context for the package of the class
+     * @throws JAXBException if the context could not be created
+     */
+    public static JAXBContext getContext(Class<?> type) throws JAXBException {
+        return getContext(type.getPackage().getName(), type.getClassLoader());
+    }
+
+    private static JAXBContext getContext(String contextPath, ClassLoader classLoader) throws JAXBException {
+        JAXBContext context = contexts.get(contextPath);
+        if (context == null) {
+            //created outside of the map so that contexts of different packages can be created concurrently, a
+            // context created twice by concurrent first calls is simply discarded
+            JAXBContext created = JAXBContext.newInstance(contextPath, classLoader);
+            context = contexts.putIfAbsent(contextPath, created);
+            if (context == null) {
+                context = created;
+            }
+        }
+        return context;
+    }
+
     /**
      * marshal (serialize) an object (JaXB!!!) to an outputstream
      *
@@ -21,7 +64,7 @@ public class XMLSerialization {
      * @throws JAXBException
      */
     public static void marshal(OutputStream os, Object obj) throws JAXBException {
-        JAXBContext jc = JAXBContext.newInstance(obj.getClass().getPackage().getName());
+        JAXBContext jc = getContext(obj.getClass());
         Marshaller m = jc.createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
         m.marshal(obj, os);
@@ -37,8 +80,13 @@ public class XMLSerialization {
      * @throws JAXBException
      */
     public static void marshal2File(String fileName, Object obj) throws FileNotFoundException, JAXBException {
-        FileOutputStream fileStream = new FileOutputStream(fileName);
-        marshal(fileStream, obj);
+        try (OutputStream fileStream = new BufferedOutputStream(new FileOutputStream(fileName))) {
+            marshal(fileStream, obj);
+        } catch (FileNotFoundException | JAXBException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new JAXBException(e);
+        }
     }
 
     /**
@@ -52,7 +100,7 @@ public class XMLSerialization {
      */
     @SuppressWarnings({"rawtypes"})
     public static Object unmarshal(InputStream is, Class targetClass) throws JAXBException {
-        JAXBContext jc = JAXBContext.newInstance(targetClass.getPackage().getName());
+        JAXBContext jc = getContext(targetClass);
         Unmarshaller um = jc.createUnmarshaller();
         return um.unmarshal(is);
     }
@@ -69,8 +117,13 @@ public class XMLSerialization {
      */
     @SuppressWarnings({"rawtypes"})
     public static Object file2Unmarshal(String fileName, Class targetClass) throws FileNotFoundException, JAXBException {
-        FileInputStream fileStream = new FileInputStream(fileName);
-        return unmarshal(fileStream, targetClass);
+        try (InputStream fileStream = new BufferedInputStream(new FileInputStream(fileName))) {
+            return unmarshal(fileStream, targetClass);
+        } catch (FileNotFoundException | JAXBException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new JAXBException(e);
+        }
     }
 
 }
@@ -20,6 +20,7 @@ import osh.en50523.EN50523DeviceStateRemoteControl;
 import osh.hal.exchange.FutureApplianceControllerExchange;
 import osh.hal.exchange.FutureApplianceObserverExchange;
 import osh.utils.string.ParameterConstants;
+import osh.utils.xml.XMLSerialization;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -136,7 +137,7 @@ public abstract class GenericApplianceDriver
         {
             String configurationsFile = driverConfig.getParameter(ParameterConstants.General_Devices.profileSource);
             if (configurationsFile != null) {
-                JAXBContext jaxbWMParameters = JAXBContext.newInstance("osh.configuration.appliance");
+                JAXBContext jaxbWMParameters = XMLSerialization.getContext("osh.configuration.appliance");
                 Unmarshaller unmarshallerConfigurations = jaxbWMParameters.createUnmarshaller();
                 Object unmarshalledConfigurations = unmarshallerConfigurations.unmarshal(new File(configurationsFile));
                 if (unmarshalledConfigurations instanceof XsdApplianceProgramConfigurations) {
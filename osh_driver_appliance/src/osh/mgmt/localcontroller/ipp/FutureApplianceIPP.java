@@ -577,6 +577,27 @@ public class FutureApplianceIPP
         this.incrementInterdependentTime();
     }
 
+    @Override
+    public boolean supportsCalculationCheckpoints() {
+        return true;
+    }
+
+    @Override
+    protected Object saveInternalCalculationState() {
+        return this.lastUsedIndex;
+    }
+
+    @Override
+    protected void restoreInternalCalculationState(Object internalCalculationState) {
+        this.lastUsedIndex = (Integer) internalCalculationState;
+
+        //sequential iterators can only move forward, so they are re-initialized at the restored point in time
+        for (int i = 0; i < this.initializedLoadProfiles.length; i++) {
+            long relativeStart = Math.abs(Math.min(this.initializedStartingTimes[i] - this.getInterdependentTime(), 0));
+            this.sequentialIterators[i] = this.initializedLoadProfiles[i].initSequentialAverageLoad(relativeStart);
+        }
+    }
+
 
     // HELPER METHODS
 
@@ -76,10 +76,7 @@ public class FutureApplianceLocalObserver
         }
 
         // ### Power states of commodities ###
-        CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
-                _hx.getDeviceID(),
-                _hx.getTimestamp(),
-                this.getDeviceType());
+        EnumMap<Commodity, Double> powerState = new EnumMap<>(Commodity.class);
 
         // set electric power
         if (_hx instanceof IHALElectricalPowerDetails) {
@@ -88,8 +85,8 @@ public class FutureApplianceLocalObserver
             int currentReactivePower = idepd.getReactivePower();
             this.currentPower.put(Commodity.ACTIVEPOWER, currentActivePower);
             this.currentPower.put(Commodity.REACTIVEPOWER, currentReactivePower);
-            cpse.addPowerState(Commodity.ACTIVEPOWER, currentActivePower);
-            cpse.addPowerState(Commodity.REACTIVEPOWER, currentReactivePower);
+            powerState.put(Commodity.ACTIVEPOWER, (double) currentActivePower);
+            powerState.put(Commodity.REACTIVEPOWER, (double) currentReactivePower);
         }
         // set hot water power
         if (_hx instanceof IHALThermalPowerDetails) {
@@ -97,18 +94,18 @@ public class FutureApplianceLocalObserver
             IHALThermalPowerDetails ihgpd = (IHALThermalPowerDetails) _hx;
             int hotWaterPower = ihgpd.getHotWaterPower();
             this.currentPower.put(Commodity.HEATINGHOTWATERPOWER, hotWaterPower);
-            cpse.addPowerState(Commodity.HEATINGHOTWATERPOWER, hotWaterPower);
+            powerState.put(Commodity.HEATINGHOTWATERPOWER, (double) hotWaterPower);
             // domestic hot water (potable)
             int domesticHotWaterPower = ihgpd.getDomesticHotWaterPower();
             this.currentPower.put(Commodity.DOMESTICHOTWATERPOWER, domesticHotWaterPower);
-            cpse.addPowerState(Commodity.DOMESTICHOTWATERPOWER, domesticHotWaterPower);
+            powerState.put(Commodity.DOMESTICHOTWATERPOWER, (double) domesticHotWaterPower);
         }
         // set gas power
         if (_hx instanceof IHALGasPowerDetails) {
             IHALGasPowerDetails ihgpd = (IHALGasPowerDetails) _hx;
             int currentGasPower = ihgpd.getGasPower();
             this.currentPower.put(Commodity.NATURALGASPOWER, currentGasPower);
-            cpse.addPowerState(Commodity.NATURALGASPOWER, currentGasPower);
+            powerState.put(Commodity.NATURALGASPOWER, (double) currentGasPower);
         }
         // get the dof from OX
         if (_hx instanceof IHALGenericApplianceDOF) {
@@ -122,6 +119,12 @@ public class FutureApplianceLocalObserver
 
         }
 
+        CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
+                _hx.getDeviceID(),
+                _hx.getTimestamp(),
+                powerState,
+                this.getDeviceType());
+
         this.getOCRegistry().publish(
                 CommodityPowerStateExchange.class,
                 this.getUUID(),
@@ -5,6 +5,7 @@ import osh.datatypes.appliance.future.ApplianceProgramConfigurations;
 import osh.datatypes.commodity.Commodity;
 import osh.datatypes.power.SparseLoadProfile;
 import osh.eal.hal.exceptions.HALException;
+import osh.utils.xml.XMLSerialization;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -40,7 +41,7 @@ public class ApplianceConfigurationProviderSingleton {
         if (!configurationMap.containsKey(key)) {
             System.out.println("[---- Reading in new file: " + key + " ----]");
             if (profilePath != null) {
-                JAXBContext jaxbWMParameters = JAXBContext.newInstance("osh.configuration.appliance");
+                JAXBContext jaxbWMParameters = XMLSerialization.getContext("osh.configuration.appliance");
                 Unmarshaller unmarshallerConfigurations = jaxbWMParameters.createUnmarshaller();
                 Object unmarshalledConfigurations = unmarshallerConfigurations.unmarshal(new File(profilePath));
                 if (unmarshalledConfigurations instanceof XsdApplianceProgramConfigurations) {
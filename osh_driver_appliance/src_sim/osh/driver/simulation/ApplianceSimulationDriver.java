@@ -245,6 +245,7 @@ public abstract class ApplianceSimulationDriver
             try {
                 this.generateDynamicDailyScreenplay();
             } catch (OSHException e) {
+                this.getGlobalLogger().logError("generating the daily screenplay failed", e);
                 e.printStackTrace();
             }
             this.lastTimeScreenplayGenerated = this.getTimeDriver().getCurrentTime();
@@ -17,7 +17,6 @@ import osh.en50523.EN50523DeviceState;
 import osh.en50523.EN50523DeviceStateRemoteControl;
 import osh.hal.exchange.FutureApplianceControllerExchange;
 import osh.hal.exchange.FutureApplianceObserverExchange;
-import osh.simulation.database.DatabaseLoggerThread;
 import osh.simulation.screenplay.*;
 import osh.util.ApplianceConfigurationProviderSingleton;
 import osh.utils.physics.PhysicalConstants;
@@ -429,8 +428,8 @@ public class GenericFutureApplianceSimulationDriver
             //DEBUG
             // output the number of runs of this device
 
-            if (DatabaseLoggerThread.isLogDevices()) {
-                DatabaseLoggerThread.enqueue(new DevicesLogObject(this.getUUID(),
+            if (this.getOSH().getDatabaseLogger().isLogDevices()) {
+                this.getOSH().getDatabaseLogger().enqueue(new DevicesLogObject(this.getUUID(),
                         this.getTimeDriver().getCurrentTime(), this.totalPlannedNumberOfRuns, this.totalRealizedNumberOfRuns,
                         this.activePowerConsumption / PhysicalConstants.factor_wsToKWh, this.profileNumberOfRuns,
                         this.dofs, this.startTimes, this.profilesSelected, this.getDeviceType()));
@@ -30,6 +30,8 @@ import osh.registry.interfaces.IDataRegistryListener;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 
+import java.util.EnumMap;
+
 
 /**
  * @author Florian Allerding, Ingo Mauser, Sebastian Kramer
@@ -113,12 +115,14 @@ public class MieleApplianceLocalObserver
 
             if (Math.abs(currentActivePower - this.lastActivePowerLevel) > 0
                     || Math.abs(currentReactivePower - this.lastReactivePowerLevel) > 0) {
+                EnumMap<Commodity, Double> powerState = new EnumMap<>(Commodity.class);
+                powerState.put(Commodity.ACTIVEPOWER, (double) currentActivePower);
+                powerState.put(Commodity.REACTIVEPOWER, (double) currentReactivePower);
                 CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
                         _hx.getDeviceID(),
                         _hx.getTimestamp(),
+                        powerState,
                         this.getDeviceType());
-                cpse.addPowerState(Commodity.ACTIVEPOWER, currentActivePower);
-                cpse.addPowerState(Commodity.REACTIVEPOWER, currentReactivePower);
                 this.getOCRegistry().publish(
                         CommodityPowerStateExchange.class,
                         this,
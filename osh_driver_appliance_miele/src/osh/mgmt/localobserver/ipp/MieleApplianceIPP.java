@@ -166,6 +166,11 @@ public class MieleApplianceIPP extends ControllableIPP<ISolution, IPrediction> {
         this.incrementInterdependentTime();
     }
 
+    @Override
+    public boolean supportsCalculationCheckpoints() {
+        return true;
+    }
+
     @Override
     public Schedule getFinalInterdependentSchedule() {
         return new Schedule(this.getLoadProfile(), this.getInterdependentCervisia(), this.getDeviceType().toString());
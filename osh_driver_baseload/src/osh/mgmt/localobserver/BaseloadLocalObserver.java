@@ -21,6 +21,7 @@ import osh.registry.interfaces.IDataRegistryListener;
 import osh.utils.time.TimeConversion;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 
 
@@ -137,16 +138,18 @@ public class BaseloadLocalObserver
         if (_oxObj instanceof BaseloadObserverExchange) {
             BaseloadObserverExchange _ox = (BaseloadObserverExchange) _oxObj;
 
-            CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
-                    this.getUUID(),
-                    this.getTimeDriver().getCurrentTime(),
-                    DeviceTypes.OTHER);
+            EnumMap<Commodity, Double> powerState = new EnumMap<>(Commodity.class);
 
             for (Commodity c : _ox.getCommodities()) {
                 int power = _ox.getPower(c);
-                cpse.addPowerState(c, power);
+                powerState.put(c, (double) power);
             }
 
+            CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
+                    this.getUUID(),
+                    this.getTimeDriver().getCurrentTime(),
+                    powerState,
+                    DeviceTypes.OTHER);
             this.getOCRegistry().publish(
                     CommodityPowerStateExchange.class,
                     this,
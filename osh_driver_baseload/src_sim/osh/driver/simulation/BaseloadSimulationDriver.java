@@ -10,7 +10,6 @@ import osh.eal.hal.exceptions.HALException;
 import osh.hal.exchange.BaseloadObserverExchange;
 import osh.hal.exchange.BaseloadPredictionExchange;
 import osh.simulation.DeviceSimulationDriver;
-import osh.simulation.database.DatabaseLoggerThread;
 import osh.simulation.screenplay.SubjectAction;
 import osh.utils.physics.ComplexPowerUtil;
 import osh.utils.physics.PhysicalConstants;
@@ -203,8 +202,8 @@ public class BaseloadSimulationDriver extends DeviceSimulationDriver {
         super.onSystemShutdown();
 
         if (this.getOSH().getOSHStatus().isSimulation()) {
-            if (DatabaseLoggerThread.isLogDevices()) {
-                DatabaseLoggerThread.enqueue(new BaseloadLogObject(this.getUUID(),
+            if (this.getOSH().getDatabaseLogger().isLogDevices()) {
+                this.getOSH().getDatabaseLogger().enqueue(new BaseloadLogObject(this.getUUID(),
                         this.getTimeDriver().getCurrentTime(), this.sumActivePower / PhysicalConstants.factor_wsToKWh,
                         this.sumReactivePower / PhysicalConstants.factor_wsToKWh));
             }
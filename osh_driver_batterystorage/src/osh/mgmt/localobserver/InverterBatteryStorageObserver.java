@@ -15,6 +15,8 @@ import osh.mgmt.mox.BatteryStorageMOX;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 
+import java.util.EnumMap;
+
 /**
  * @author Jan Mueller, Matthias Maerz
  */
@@ -84,13 +86,15 @@ public class InverterBatteryStorageObserver
 
 
         // build SX
+        EnumMap<Commodity, Double> powerState = new EnumMap<>(Commodity.class);
+
+        powerState.put(Commodity.ACTIVEPOWER, (double) ox.getActivePower());
+        powerState.put(Commodity.REACTIVEPOWER, (double) ox.getReactivePower());
         CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
                 this.getUUID(),
                 now,
+                powerState,
                 DeviceTypes.BATTERYSTORAGE);
-
-        cpse.addPowerState(Commodity.ACTIVEPOWER, ox.getActivePower());
-        cpse.addPowerState(Commodity.REACTIVEPOWER, ox.getReactivePower());
         this.getOCRegistry().publish(
                 CommodityPowerStateExchange.class,
                 this,
@@ -15,6 +15,8 @@ import osh.mgmt.ipp.BatteryStorageNonControllableIPP;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 
+import java.util.EnumMap;
+
 /**
  * @author Jan Müller, Sebastian Kramer
  */
@@ -76,13 +78,15 @@ public class NonControllableInverterBatteryStorageObserver
         }
 
         // build SX
+        EnumMap<Commodity, Double> powerState = new EnumMap<>(Commodity.class);
+
+        powerState.put(Commodity.ACTIVEPOWER, (double) ox.getActivePower());
+        powerState.put(Commodity.REACTIVEPOWER, (double) ox.getReactivePower());
         CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
                 this.getUUID(),
                 now,
+                powerState,
                 DeviceTypes.BATTERYSTORAGE);
-
-        cpse.addPowerState(Commodity.ACTIVEPOWER, ox.getActivePower());
-        cpse.addPowerState(Commodity.REACTIVEPOWER, ox.getReactivePower());
         this.getOCRegistry().publish(
                 CommodityPowerStateExchange.class,
                 this,
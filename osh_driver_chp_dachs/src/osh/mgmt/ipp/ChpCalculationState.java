@@ -0,0 +1,36 @@
+package osh.mgmt.ipp;
+
+import osh.driver.chp.model.GenericChpModel;
+
+/**
+ * Snapshot of the state of the interdependent calculation of the chp problem-parts.
+ */
+class ChpCalculationState {
+
+    private final GenericChpModel model;
+    private final boolean lastState;
+
+    /**
+     * Constructs this snapshot with a copy of the given chp model and the given last state of the chp.
+     *
+     * @param model the chp model
+     * @param lastState the last state of the chp
+     */
+    ChpCalculationState(GenericChpModel model, boolean lastState) {
+        this.model = model.clone();
+        this.lastState = lastState;
+    }
+
+    /**
+     * Returns a new copy of the stored chp model.
+     *
+     * @return a new copy of the stored chp model
+     */
+    GenericChpModel getModelCopy() {
+        return this.model.clone();
+    }
+
+    boolean isLastState() {
+        return this.lastState;
+    }
+}
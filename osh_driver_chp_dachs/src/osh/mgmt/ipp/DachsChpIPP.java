@@ -20,6 +20,7 @@ import osh.utils.time.TimeConversion;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.EnumSet;
 import java.util.UUID;
 
@@ -327,6 +328,28 @@ public class DachsChpIPP
         this.incrementInterdependentTime();
     }
 
+    @Override
+    public boolean supportsCalculationCheckpoints() {
+        return true;
+    }
+
+    @Override
+    protected Object saveInternalCalculationState() {
+        return new ChpCalculationState(this.actualModel, this.interdependentLastState);
+    }
+
+    @Override
+    protected void restoreInternalCalculationState(Object internalCalculationState) {
+        ChpCalculationState state = (ChpCalculationState) internalCalculationState;
+        this.actualModel = state.getModelCopy();
+        this.interdependentLastState = state.isLastState();
+    }
+
+    @Override
+    public long getFirstAffectedTime(int bitIndex) {
+        return this.getFirstAffectedTimeOfSlotEncoding(bitIndex, this.timePerSlot, this.bitsPerSlot);
+    }
+
     @Override
     public Schedule getFinalInterdependentSchedule() {
         if (this.getLoadProfile() != null) {
@@ -394,6 +417,12 @@ public class DachsChpIPP
         }
     }
 
+    @Override
+    public BitSet transferBinarySolution(long previousReferenceTime, BitSet previousSolution, int previousBitCount) {
+        return this.transferSlotEncodedBinarySolution(previousReferenceTime, previousSolution, previousBitCount,
+                this.timePerSlot, this.bitsPerSlot);
+    }
+
     @Override
     public void recalculateEncoding(long currentTime, long maxHorizon) {
         if (currentTime != this.getReferenceTime() || maxHorizon != this.getOptimizationHorizon()) {
@@ -220,6 +220,23 @@ public class DachsChpNonControllableIPP
         this.incrementInterdependentTime();
     }
 
+    @Override
+    public boolean supportsCalculationCheckpoints() {
+        return true;
+    }
+
+    @Override
+    protected Object saveInternalCalculationState() {
+        return new ChpCalculationState(this.actualModel, this.interdependentLastState);
+    }
+
+    @Override
+    protected void restoreInternalCalculationState(Object internalCalculationState) {
+        ChpCalculationState state = (ChpCalculationState) internalCalculationState;
+        this.actualModel = state.getModelCopy();
+        this.interdependentLastState = state.isLastState();
+    }
+
     @Override
     public Schedule getFinalInterdependentSchedule() {
 
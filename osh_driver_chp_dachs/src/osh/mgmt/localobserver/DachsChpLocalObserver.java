@@ -18,6 +18,7 @@ import osh.hal.exchange.ChpStaticDetailsObserverExchange;
 import osh.mgmt.mox.DachsChpMOX;
 
 import java.time.Duration;
+import java.util.EnumMap;
 import java.util.UUID;
 
 /**
@@ -98,16 +99,18 @@ public class DachsChpLocalObserver
             this.runtimeRemaining = dox.getMinRuntimeRemaining();
 
 
+            EnumMap<Commodity, Double> powerState = new EnumMap<>(Commodity.class);
+
+            powerState.put(Commodity.ACTIVEPOWER, (double) this.activePower);
+            powerState.put(Commodity.REACTIVEPOWER, (double) this.reactivePower);
+            powerState.put(Commodity.HEATINGHOTWATERPOWER, (double) this.hotWaterPower);
+            powerState.put(Commodity.NATURALGASPOWER, (double) this.gasPower);
+
             CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
                     this.getUUID(),
                     this.getTimeDriver().getCurrentTime(),
+                    powerState,
                     DeviceTypes.CHPPLANT);
-
-            cpse.addPowerState(Commodity.ACTIVEPOWER, this.activePower);
-            cpse.addPowerState(Commodity.REACTIVEPOWER, this.reactivePower);
-            cpse.addPowerState(Commodity.HEATINGHOTWATERPOWER, this.hotWaterPower);
-            cpse.addPowerState(Commodity.NATURALGASPOWER, this.gasPower);
-
             this.getOCRegistry().publish(
                     CommodityPowerStateExchange.class,
                     this,
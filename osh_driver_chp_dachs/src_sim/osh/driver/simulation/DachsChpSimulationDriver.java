@@ -13,7 +13,6 @@ import osh.esc.LimitedCommodityStateMap;
 import osh.hal.exchange.ChpControllerExchange;
 import osh.hal.exchange.ChpObserverExchange;
 import osh.hal.exchange.ChpStaticDetailsObserverExchange;
-import osh.simulation.database.DatabaseLoggerThread;
 import osh.simulation.exception.SimulationSubjectException;
 import osh.simulation.screenplay.SubjectAction;
 import osh.utils.physics.ComplexPowerUtil;
@@ -285,7 +284,7 @@ public class DachsChpSimulationDriver
 
         this.notifyObserver(observerExchange);
 
-        this.log = DatabaseLoggerThread.isLogWaterTank();
+        this.log = this.getOSH().getDatabaseLogger().isLogWaterTank();
     }
 
 
@@ -293,7 +292,7 @@ public class DachsChpSimulationDriver
     public void onSystemShutdown() {
         if (this.log) {
             this.supply /= PhysicalConstants.factor_wsToKWh;
-            DatabaseLoggerThread.enqueue(new ThermalSupplyLogObject(this.getUUID(), this.getTimeDriver().getCurrentTime(),
+            this.getOSH().getDatabaseLogger().enqueue(new ThermalSupplyLogObject(this.getUUID(), this.getTimeDriver().getCurrentTime(),
                     Commodity.HEATINGHOTWATERPOWER, this.supply, this.starts));
         }
     }
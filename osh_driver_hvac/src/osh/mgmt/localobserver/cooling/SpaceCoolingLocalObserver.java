@@ -14,6 +14,7 @@ import osh.mgmt.ipp.thermal.ChilledWaterDemandNonControllableIPP;
 import osh.mgmt.localobserver.ThermalDemandLocalObserver;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
@@ -62,11 +63,13 @@ public class SpaceCoolingLocalObserver
                     InterdependentProblemPart.class, this, ipp);
 
             // set current power state
+            EnumMap<Commodity, Double> powerState = new EnumMap<>(Commodity.class);
+            powerState.put(Commodity.COLDWATERPOWER, (double) this.coldWaterPower);
             CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
                     this.getUUID(),
                     this.getTimeDriver().getCurrentTime(),
+                    powerState,
                     DeviceTypes.SPACECOOLING);
-            cpse.addPowerState(Commodity.COLDWATERPOWER, this.coldWaterPower);
             this.getOCRegistry().publish(
                     CommodityPowerStateExchange.class,
                     this,
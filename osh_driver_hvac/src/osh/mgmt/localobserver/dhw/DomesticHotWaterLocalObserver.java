@@ -18,6 +18,7 @@ import osh.utils.time.TimeConversion;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 
 /**
@@ -124,11 +125,13 @@ public class DomesticHotWaterLocalObserver
             ZonedDateTime now = this.getTimeDriver().getCurrentTime();
 
             // set current power state
+            EnumMap<Commodity, Double> powerState = new EnumMap<>(Commodity.class);
+            powerState.put(Commodity.DOMESTICHOTWATERPOWER, (double) this.hotWaterPower);
             CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
                     this.getUUID(),
                     now,
+                    powerState,
                     DeviceTypes.DOMESTICHOTWATER);
-            cpse.addPowerState(Commodity.DOMESTICHOTWATERPOWER, this.hotWaterPower);
             this.getOCRegistry().publish(
                     CommodityPowerStateExchange.class,
                     this,
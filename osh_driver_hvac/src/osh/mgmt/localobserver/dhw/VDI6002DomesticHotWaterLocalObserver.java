@@ -17,6 +17,8 @@ import osh.utils.time.TimeConversion;
 
 import java.time.ZonedDateTime;
 
+import java.util.EnumMap;
+
 /**
  * @author Sebastian Kramer
  */
@@ -89,11 +91,13 @@ public class VDI6002DomesticHotWaterLocalObserver
             ZonedDateTime now = this.getTimeDriver().getCurrentTime();
 
             // set current power state
+            EnumMap<Commodity, Double> powerState = new EnumMap<>(Commodity.class);
+            powerState.put(Commodity.DOMESTICHOTWATERPOWER, (double) this.hotWaterPower);
             CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
                     this.getUUID(),
                     now,
+                    powerState,
                     DeviceTypes.DOMESTICHOTWATER);
-            cpse.addPowerState(Commodity.DOMESTICHOTWATERPOWER, this.hotWaterPower);
             this.getOCRegistry().publish(
                     CommodityPowerStateExchange.class,
                     this,
@@ -18,6 +18,7 @@ import osh.utils.time.TimeConversion;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 
 /**
@@ -66,11 +67,13 @@ public class SpaceHeatingLocalObserver
             ZonedDateTime now = this.getTimeDriver().getCurrentTime();
 
             // set current power state
+            EnumMap<Commodity, Double> powerState = new EnumMap<>(Commodity.class);
+            powerState.put(Commodity.HEATINGHOTWATERPOWER, (double) this.hotWaterPower);
             CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
                     this.getUUID(),
                     now,
+                    powerState,
                     DeviceTypes.SPACEHEATING);
-            cpse.addPowerState(Commodity.HEATINGHOTWATERPOWER, this.hotWaterPower);
             this.getOCRegistry().publish(
                     CommodityPowerStateExchange.class,
                     this,
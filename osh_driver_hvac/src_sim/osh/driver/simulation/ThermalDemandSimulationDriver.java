@@ -13,7 +13,6 @@ import osh.eal.time.TimeSubscribeEnum;
 import osh.hal.exchange.HotWaterDemandObserverExchange;
 import osh.hal.exchange.prediction.WaterDemandPredictionExchange;
 import osh.simulation.DeviceSimulationDriver;
-import osh.simulation.database.DatabaseLoggerThread;
 import osh.simulation.exception.SimulationSubjectException;
 import osh.simulation.screenplay.SubjectAction;
 import osh.utils.physics.PhysicalConstants;
@@ -113,7 +112,7 @@ public abstract class ThermalDemandSimulationDriver
                 predictions, this.pastDaysPrediction, this.weightForOtherWeekday, this.weightForSameWeekday);
         this.notifyObserver(_ox);
 
-        if (DatabaseLoggerThread.isLogThermal()) {
+        if (this.getOSH().getDatabaseLogger().isLogThermal()) {
             this.avgWeekDayLoad = new double[7][1440];
             this.avgWeekDayLoadCounter = new int[7][1440];
 
@@ -199,7 +198,7 @@ public abstract class ThermalDemandSimulationDriver
                 this.avgDayLoad[d0] /= factor;
             }
 
-            DatabaseLoggerThread.enqueue(new ThermalLoggingObject(this.getUUID(),
+            this.getOSH().getDatabaseLogger().enqueue(new ThermalLoggingObject(this.getUUID(),
                     this.getTimeDriver().getCurrentTime(), this.avgWeekDayLoad, this.avgDayLoad, this.hotWaterType));
         }
     }
@@ -13,7 +13,6 @@ import osh.eal.time.TimeSubscribeEnum;
 import osh.hal.exchange.HotWaterDemandObserverExchange;
 import osh.hal.exchange.prediction.VDI6002WaterDemandPredictionExchange;
 import osh.simulation.DeviceSimulationDriver;
-import osh.simulation.database.DatabaseLoggerThread;
 import osh.simulation.exception.SimulationSubjectException;
 import osh.simulation.screenplay.SubjectAction;
 import osh.utils.csv.CSVImporter;
@@ -149,7 +148,7 @@ public class VDI6002DomesticHotWaterSimulationDriver extends DeviceSimulationDri
         super.onSimulationIsUp();
         ZonedDateTime startTime = this.getTimeDriver().getTimeAtStart();
 
-        this.log = DatabaseLoggerThread.isLogThermal();
+        this.log = this.getOSH().getDatabaseLogger().isLogThermal();
 
         if (this.log) {
             this.avgWeekDayLoad = new double[7][1440];
@@ -233,7 +232,7 @@ public class VDI6002DomesticHotWaterSimulationDriver extends DeviceSimulationDri
                 double factor = (this.avgDayLoadCounter[d0] / 86400.0) * PhysicalConstants.factor_wsToKWh;
                 this.avgDayLoad[d0] /= factor;
             }
-            DatabaseLoggerThread.enqueue(new ThermalLoggingObject(this.getUUID(),
+            this.getOSH().getDatabaseLogger().enqueue(new ThermalLoggingObject(this.getUUID(),
                     this.getTimeDriver().getCurrentTime(), this.avgWeekDayLoad, this.avgDayLoad, Commodity.DOMESTICHOTWATERPOWER));
         }
     }
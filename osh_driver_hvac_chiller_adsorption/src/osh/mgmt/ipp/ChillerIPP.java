@@ -20,6 +20,7 @@ import osh.utils.time.TimeConversion;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.UUID;
@@ -295,6 +296,28 @@ public class ChillerIPP extends ControllableIPP<ISolution, IPrediction> {
         }
     }
 
+    @Override
+    public boolean supportsCalculationCheckpoints() {
+        return true;
+    }
+
+    @Override
+    protected Object saveInternalCalculationState() {
+        return new long[]{this.interdependentLastState ? 1 : 0, this.currentActivationRunningTime};
+    }
+
+    @Override
+    protected void restoreInternalCalculationState(Object internalCalculationState) {
+        long[] state = (long[]) internalCalculationState;
+        this.interdependentLastState = state[0] == 1;
+        this.currentActivationRunningTime = (int) state[1];
+    }
+
+    @Override
+    public long getFirstAffectedTime(int bitIndex) {
+        return this.getFirstAffectedTimeOfSlotEncoding(bitIndex, TIME_PER_SLOT, BITS_PER_ACTIVATION);
+    }
+
 
     @Override
     public Schedule getFinalInterdependentSchedule() {
@@ -364,6 +387,12 @@ public class ChillerIPP extends ControllableIPP<ISolution, IPrediction> {
     }
 
 
+    @Override
+    public BitSet transferBinarySolution(long previousReferenceTime, BitSet previousSolution, int previousBitCount) {
+        return this.transferSlotEncodedBinarySolution(previousReferenceTime, previousSolution, previousBitCount,
+                TIME_PER_SLOT, BITS_PER_ACTIVATION);
+    }
+
     @Override
     public void recalculateEncoding(long currentTime, long maxHorizon) {
         if (currentTime != this.getReferenceTime() || maxHorizon != this.getOptimizationHorizon()) {
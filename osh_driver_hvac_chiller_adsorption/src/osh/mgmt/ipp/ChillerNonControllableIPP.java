@@ -225,6 +225,21 @@ public class ChillerNonControllableIPP extends NonControllableIPP<ISolution, IPr
         this.incrementInterdependentTime();
     }
 
+    @Override
+    public boolean supportsCalculationCheckpoints() {
+        return true;
+    }
+
+    @Override
+    protected Object saveInternalCalculationState() {
+        return this.interdependentLastState;
+    }
+
+    @Override
+    protected void restoreInternalCalculationState(Object internalCalculationState) {
+        this.interdependentLastState = (Boolean) internalCalculationState;
+    }
+
 
     @Override
     public Schedule getFinalInterdependentSchedule() {
@@ -14,6 +14,7 @@ import osh.eal.hal.exchange.compression.StaticCompressionExchange;
 import osh.hal.exchange.ChillerObserverExchange;
 import osh.mgmt.mox.AdsorptionChillerMOX;
 
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -74,14 +75,16 @@ public class AdsorptionChillerLocalObserver extends LocalObserver {
 //				int debug = 0;
 //			}
 
+            EnumMap<Commodity, Double> powerState = new EnumMap<>(Commodity.class);
+            powerState.put(Commodity.ACTIVEPOWER, (double) this.activePower);
+            powerState.put(Commodity.REACTIVEPOWER, (double) this.reactivePower);
+            powerState.put(Commodity.HEATINGHOTWATERPOWER, (double) this.hotWaterPower);
+            powerState.put(Commodity.COLDWATERPOWER, (double) this.coldWaterPower);
             CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
                     this.getUUID(),
                     this.getTimeDriver().getCurrentTime(),
+                    powerState,
                     DeviceTypes.ADSORPTIONCHILLER);
-            cpse.addPowerState(Commodity.ACTIVEPOWER, this.activePower);
-            cpse.addPowerState(Commodity.REACTIVEPOWER, this.reactivePower);
-            cpse.addPowerState(Commodity.HEATINGHOTWATERPOWER, this.hotWaterPower);
-            cpse.addPowerState(Commodity.COLDWATERPOWER, this.coldWaterPower);
             this.getOCRegistry().publish(
                     CommodityPowerStateExchange.class,
                     cpse);
@@ -179,6 +179,21 @@ public class GasBoilerNonControllableIPP
         this.incrementInterdependentTime();
     }
 
+    @Override
+    public boolean supportsCalculationCheckpoints() {
+        return true;
+    }
+
+    @Override
+    protected Object saveInternalCalculationState() {
+        return new GasBoilerModel(this.actualModel);
+    }
+
+    @Override
+    protected void restoreInternalCalculationState(Object internalCalculationState) {
+        this.actualModel = new GasBoilerModel((GasBoilerModel) internalCalculationState);
+    }
+
 
     @Override
     public Schedule getFinalInterdependentSchedule() {
@@ -20,6 +20,8 @@ import osh.mgmt.ipp.GasBoilerNonControllableIPP;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 
+import java.util.EnumMap;
+
 /**
  * @author Ingo Mauser
  */
@@ -145,15 +147,17 @@ public class NonControllableGasBoilerLocalObserver
             }
 
             // build SX
+            EnumMap<Commodity, Double> powerState = new EnumMap<>(Commodity.class);
+
+            powerState.put(Commodity.ACTIVEPOWER, (double) ox.getActivePower());
+            powerState.put(Commodity.REACTIVEPOWER, (double) ox.getReactivePower());
+            powerState.put(Commodity.NATURALGASPOWER, (double) ox.getGasPower());
+            powerState.put(Commodity.HEATINGHOTWATERPOWER, (double) ox.getHotWaterPower());
             CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
                     this.getUUID(),
                     this.getTimeDriver().getCurrentTime(),
+                    powerState,
                     DeviceTypes.INSERTHEATINGELEMENT);
-
-            cpse.addPowerState(Commodity.ACTIVEPOWER, ox.getActivePower());
-            cpse.addPowerState(Commodity.REACTIVEPOWER, ox.getReactivePower());
-            cpse.addPowerState(Commodity.NATURALGASPOWER, ox.getGasPower());
-            cpse.addPowerState(Commodity.HEATINGHOTWATERPOWER, ox.getHotWaterPower());
             this.getOCRegistry().publish(
                     CommodityPowerStateExchange.class,
                     this,
@@ -18,6 +18,8 @@ import osh.mgmt.ipp.SmartHeaterNonControllableIPP;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 
+import java.util.EnumMap;
+
 /**
  * @author Ingo Mauser
  */
@@ -65,13 +67,15 @@ public class SmartHeaterLocalObserver
             }
 
             // build SX
+            EnumMap<Commodity, Double> powerState = new EnumMap<>(Commodity.class);
+
+            powerState.put(Commodity.ACTIVEPOWER, (double) ox.getActivePower());
+            powerState.put(Commodity.HEATINGHOTWATERPOWER, (double) ox.getHotWaterPower());
             CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
                     this.getUUID(),
                     this.getTimeDriver().getCurrentTime(),
+                    powerState,
                     DeviceTypes.INSERTHEATINGELEMENT);
-
-            cpse.addPowerState(Commodity.ACTIVEPOWER, ox.getActivePower());
-            cpse.addPowerState(Commodity.HEATINGHOTWATERPOWER, ox.getHotWaterPower());
             this.getOCRegistry().publish(
                     CommodityPowerStateExchange.class,
                     this,
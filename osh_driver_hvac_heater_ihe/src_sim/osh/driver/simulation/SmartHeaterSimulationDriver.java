@@ -12,7 +12,6 @@ import osh.eal.hal.exchange.ipp.IPPSchedulingExchange;
 import osh.esc.LimitedCommodityStateMap;
 import osh.hal.exchange.SmartHeaterOX;
 import osh.simulation.DeviceSimulationDriver;
-import osh.simulation.database.DatabaseLoggerThread;
 import osh.simulation.exception.SimulationSubjectException;
 import osh.simulation.screenplay.SubjectAction;
 import osh.utils.string.ParameterConstants;
@@ -88,8 +87,8 @@ public class SmartHeaterSimulationDriver extends DeviceSimulationDriver {
 
     @Override
     public void onSystemShutdown() {
-        if (DatabaseLoggerThread.isLogSmartHeater()) {
-            DatabaseLoggerThread.enqueue(new SmartHeaterLogObject(this.getUUID(),
+        if (this.getOSH().getDatabaseLogger().isLogSmartHeater()) {
+            this.getOSH().getDatabaseLogger().enqueue(new SmartHeaterLogObject(this.getUUID(),
                     this.getTimeDriver().getCurrentTime(), this.model.getCounter(), this.model.getRuntime(), this.model.getPowerTierRunTimes()));
         }
     }
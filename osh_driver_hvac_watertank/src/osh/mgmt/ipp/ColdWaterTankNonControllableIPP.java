@@ -142,6 +142,21 @@ public class ColdWaterTankNonControllableIPP
         this.incrementInterdependentTime();
     }
 
+    @Override
+    public boolean supportsCalculationCheckpoints() {
+        return true;
+    }
+
+    @Override
+    protected Object saveInternalCalculationState() {
+        return new FactorisedBasicWaterTank(this.actualWaterTank);
+    }
+
+    @Override
+    protected void restoreInternalCalculationState(Object internalCalculationState) {
+        this.actualWaterTank = new FactorisedBasicWaterTank((FactorisedBasicWaterTank) internalCalculationState);
+    }
+
     @Override
     public TemperaturePrediction transformToFinalInterdependentPrediction() {
         return new TemperaturePrediction(this.temperatureStates);
@@ -8,7 +8,6 @@ import osh.driver.thermal.FactorisedBasicWaterTank;
 import osh.eal.hal.exceptions.HALException;
 import osh.eal.hal.exchange.ipp.IPPSchedulingExchange;
 import osh.hal.exchange.HotWaterTankObserverExchange;
-import osh.simulation.database.DatabaseLoggerThread;
 import osh.simulation.exception.SimulationSubjectException;
 import osh.simulation.screenplay.SubjectAction;
 import osh.utils.physics.PhysicalConstants;
@@ -138,7 +137,7 @@ public class HotWaterTankSimulationDriver extends WaterTankSimulationDriver {
         _ise.setTriggerIfDeltaX(this.triggerIppIfDeltaTempBigger);
         this.notifyObserver(_ise);
 
-        this.log = DatabaseLoggerThread.isLogWaterTank();
+        this.log = this.getOSH().getDatabaseLogger().isLogWaterTank();
     }
 
     @Override
@@ -148,7 +147,7 @@ public class HotWaterTankSimulationDriver extends WaterTankSimulationDriver {
             this.demandLogging /= PhysicalConstants.factor_wsToKWh;
             this.supplyLogging /= PhysicalConstants.factor_wsToKWh;
 
-            DatabaseLoggerThread.enqueue(new WaterTankLogObject(this.getUUID(), this.getTimeDriver().getCurrentTime(),
+            this.getOSH().getDatabaseLogger().enqueue(new WaterTankLogObject(this.getUUID(), this.getTimeDriver().getCurrentTime(),
                     Commodity.HEATINGHOTWATERPOWER, this.temperatureLogging, this.demandLogging, this.supplyLogging,
                     this.waterTank.getCurrentWaterTemperature()));
         }
@@ -22,6 +22,7 @@ import osh.mgmt.ipp.PvNonControllableIPP;
 import osh.utils.time.TimeConversion;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 
 
@@ -79,13 +80,15 @@ public class PvLocalObserver extends LocalObserver {
                 this.lastActivePowerLevel = _powDetails.getActivePower();
                 this.lastReactivePowerLevel = _powDetails.getReactivePower();
 
+                EnumMap<Commodity, Double> powerState = new EnumMap<>(Commodity.class);
+                powerState.put(Commodity.ACTIVEPOWER, this.lastActivePowerLevel);
+                powerState.put(Commodity.REACTIVEPOWER, this.lastReactivePowerLevel);
+
                 CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
                         this.getUUID(),
                         this.getTimeDriver().getCurrentTime(),
+                        powerState,
                         DeviceTypes.PVSYSTEM);
-                cpse.addPowerState(Commodity.ACTIVEPOWER, this.lastActivePowerLevel);
-                cpse.addPowerState(Commodity.REACTIVEPOWER, this.lastReactivePowerLevel);
-
                 this.getOCRegistry().publish(
                         CommodityPowerStateExchange.class,
                         this,
@@ -14,7 +14,7 @@ import java.time.ZonedDateTime;
  */
 public class PvProfileHollSingleton {
 
-    private static int[][] pvProfileArray;
+    private int[][] pvProfileArray;
 
     private final double cosPhiMax;
 
@@ -36,10 +36,10 @@ public class PvProfileHollSingleton {
 
     private void init(String pvProfileFilename, int nominalPower, double profileNominalPower) {
         int[][] pvProfileFile = CSVImporter.readInteger2DimArrayFromFile(pvProfileFilename, ";", null);
-        pvProfileArray = new int[365][1440];
+        this.pvProfileArray = new int[365][1440];
         for (int day = 0; day < 365; day++) {
             for (int minute = 0; minute < 1440; minute++) {
-                pvProfileArray[day][minute] = (int) Math.round((pvProfileFile[day * 1440 + minute][0] / profileNominalPower * nominalPower));
+                this.pvProfileArray[day][minute] = (int) Math.round((pvProfileFile[day * 1440 + minute][0] / profileNominalPower * nominalPower));
             }
         }
     }
@@ -58,7 +58,7 @@ public class PvProfileHollSingleton {
         }
         int minute = TimeConversion.getMinutesSinceDayStart(time);
 
-        int power = pvProfileArray[day][minute];
+        int power = this.pvProfileArray[day][minute];
 
         // to be safe...
         if (power > 0) {
@@ -77,7 +77,7 @@ public class PvProfileHollSingleton {
         SparseLoadProfile slp = new SparseLoadProfile();
 
         for (int minute = 0; minute < 1440; minute++) {
-            int activePower = pvProfileArray[correctedDayOfYear][minute];
+            int activePower = this.pvProfileArray[correctedDayOfYear][minute];
             // to be safe...
             if (activePower > 0) {
                 activePower = (-1) * activePower;
@@ -99,7 +99,7 @@ public class PvProfileHollSingleton {
     }
 
     public int[][] getPvProfileArray() {
-        return pvProfileArray;
+        return this.pvProfileArray;
     }
 
 }
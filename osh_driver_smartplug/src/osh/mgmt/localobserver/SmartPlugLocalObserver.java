@@ -12,6 +12,7 @@ import osh.datatypes.registry.oc.state.globalobserver.CommodityPowerStateExchang
 import osh.hal.exchange.SmartPlugObserverExchange;
 
 import java.time.ZonedDateTime;
+import java.util.EnumMap;
 import java.util.UUID;
 
 /**
@@ -44,12 +45,14 @@ public class SmartPlugLocalObserver extends LocalObserver {
             this.getOCRegistry().publish(SwitchOCDetails.class, this, switchDetails);
         }
 
+        EnumMap<Commodity, Double> powerState = new EnumMap<>(Commodity.class);
+        powerState.put(Commodity.ACTIVEPOWER, (double) plugObserverExchange.getActivePower());
+        powerState.put(Commodity.REACTIVEPOWER, (double) plugObserverExchange.getReactivePower());
         CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
                 uuid,
                 timestamp,
+                powerState,
                 DeviceTypes.METERSWITCHPLUG);
-        cpse.addPowerState(Commodity.ACTIVEPOWER, plugObserverExchange.getActivePower());
-        cpse.addPowerState(Commodity.REACTIVEPOWER, plugObserverExchange.getReactivePower());
         this.getOCRegistry().publish(CommodityPowerStateExchange.class, this, cpse);
 
         DeviceMetaOCDetails metaDetails = new DeviceMetaOCDetails(uuid, timestamp);
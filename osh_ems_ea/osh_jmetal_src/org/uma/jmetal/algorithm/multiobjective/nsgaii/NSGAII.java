@@ -129,7 +129,7 @@ public class NSGAII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, L
         for (int i = 0; i < matingPool.size(); i += numberOfParents) {
             List<S> parents = new ArrayList<>(numberOfParents);
             for (int j = 0; j < numberOfParents; j++) {
-                parents.add(this.population.get(i + j));
+                parents.add(matingPool.get(i + j));
             }
 
             List<S> offspring = this.crossoverOperator.execute(parents);
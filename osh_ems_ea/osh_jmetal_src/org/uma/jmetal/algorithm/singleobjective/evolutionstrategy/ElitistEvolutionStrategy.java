@@ -6,6 +6,7 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.comparator.ObjectiveComparator;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import osh.mgmt.globalcontroller.jmetal.logging.IEALogger;
 
 import java.util.ArrayList;
@@ -23,6 +24,7 @@ public class ElitistEvolutionStrategy<S extends Solution<?>> extends AbstractEvo
     private final int lambda;
     private final MutationOperator<S> mutation;
     private final Comparator<S> comparator;
+    private final SolutionListEvaluator<S> evaluator;
     private int evaluations;
 
     /**
@@ -30,10 +32,21 @@ public class ElitistEvolutionStrategy<S extends Solution<?>> extends AbstractEvo
      */
     public ElitistEvolutionStrategy(Problem<S> problem, int mu, int lambda, MutationOperator<S> mutation,
                                     IEALogger eaLogger) {
+        this(problem, mu, lambda, mutation, null, eaLogger);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param evaluator the evaluator for whole populations, may be null to evaluate solutions one after another
+     */
+    public ElitistEvolutionStrategy(Problem<S> problem, int mu, int lambda, MutationOperator<S> mutation,
+                                    SolutionListEvaluator<S> evaluator, IEALogger eaLogger) {
         super(problem, eaLogger);
         this.mu = mu;
         this.lambda = lambda;
         this.mutation = mutation;
+        this.evaluator = evaluator;
 
         this.comparator = new ObjectiveComparator<>(0);
     }
@@ -74,6 +87,9 @@ public class ElitistEvolutionStrategy<S extends Solution<?>> extends AbstractEvo
 
     @Override
     protected List<S> evaluatePopulation(List<S> population) {
+        if (this.evaluator != null) {
+            return this.evaluator.evaluate(population, this.getProblem());
+        }
         for (S solution : population) {
             this.getProblem().evaluate(solution);
         }
@@ -0,0 +1,338 @@
+package org.uma.jmetal.algorithm.singleobjective.geneticalgorithm;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.stoppingrule.StoppingRule;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.ObjectiveComparator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import osh.mgmt.globalcontroller.jmetal.logging.IEALogger;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Island-model variant of the {@link OSHLegacyGenerationalGeneticAlgorithm}. Several sub-populations (islands) evolve
+ * asynchronously on separate threads, each evaluating its own offspring, so that there is no barrier between the
+ * generations of different islands. Every few generations the best solutions of every island migrate to the next
+ * island on a ring.
+ * <p>
+ * The stopping rules are checked against the evaluations of all islands and the best solutions of all islands once
+ * every island has completed one generation on average. As the migration depends on the timing of the islands,
+ * results are not reproducible between runs.
+ */
+@SuppressWarnings("serial")
+public class IslandModelGeneticAlgorithm<S extends Solution<?>> implements Algorithm<S> {
+
+    private final Problem<S> problem;
+    private final int islandPopulationSize;
+    private final int migrationInterval;
+    private final int migrationSize;
+    private final Comparator<S> comparator = new ObjectiveComparator<>(0);
+
+    private final List<Island> islands;
+    private final List<StoppingRule> stoppingRules = new ArrayList<>();
+    private IEALogger eaLogger;
+
+    //progress of all islands, guarded by this
+    private int evaluations;
+    private int islandGenerations;
+    private final List<S> bestSolutions;
+    private volatile boolean stopped;
+
+    /**
+     * Constructs this algorithm, every island gets its own operators working on an independent random context
+     * created from the given random context.
+     *
+     * @param problem the problem to optimize, has to support concurrent evaluations
+     * @param islandCount the number of islands
+     * @param islandPopulationSize the population size of every island
+     * @param migrationInterval the number of generations between two migrations of an island
+     * @param migrationSize the number of best solutions migrating to the next island
+     * @param crossoverFactory creates the crossover operator of an island from its random context
+     * @param mutationFactory creates the mutation operator of an island from its random context
+     * @param selectionFactory creates the selection operator of an island from its random context
+     * @param random the random context to create the random contexts of the islands from
+     * @param eaLogger the ea-logger
+     */
+    public IslandModelGeneticAlgorithm(Problem<S> problem, int islandCount, int islandPopulationSize,
+                                       int migrationInterval, int migrationSize,
+                                       Function<JMetalRandom, CrossoverOperator<S>> crossoverFactory,
+                                       Function<JMetalRandom, MutationOperator<S>> mutationFactory,
+                                       Function<JMetalRandom, SelectionOperator<List<S>, S>> selectionFactory,
+                                       JMetalRandom random, IEALogger eaLogger) {
+        if (islandCount < 1) {
+            throw new JMetalException("at least one island is required: " + islandCount);
+        }
+        if (islandPopulationSize < 4 || islandPopulationSize % 2 != 0) {
+            throw new JMetalException("population size of the islands has to be even and at least 4: "
+                    + islandPopulationSize);
+        }
+        if (migrationInterval < 1) {
+            throw new JMetalException("migration interval has to be positive: " + migrationInterval);
+        }
+        this.problem = problem;
+        this.islandPopulationSize = islandPopulationSize;
+        this.migrationInterval = migrationInterval;
+        this.migrationSize = Math.min(Math.max(migrationSize, 0), islandPopulationSize / 2);
+
+        this.islands = new ArrayList<>(islandCount);
+        this.bestSolutions = new ArrayList<>(islandCount);
+        for (int i = 0; i < islandCount; i++) {
+            JMetalRandom islandRandom = random.createSubstream();
+            this.islands.add(new Island(i, islandRandom, crossoverFactory.apply(islandRandom),
+                    mutationFactory.apply(islandRandom), selectionFactory.apply(islandRandom)));
+            this.bestSolutions.add(null);
+        }
+
+        this.eaLogger = eaLogger;
+        this.eaLogger.logStart(this);
+    }
+
+    /**
+     * Sets solutions that will be injected into the initial populations before they are filled up with randomly
+     * created solutions. The solutions are distributed over the islands in turn.
+     *
+     * @param initialSolutions the solutions to inject into the initial populations
+     */
+    public void setInitialSolutions(List<S> initialSolutions) {
+        for (Island island : this.islands) {
+            island.initialSolutions.clear();
+        }
+        for (int i = 0; i < initialSolutions.size(); i++) {
+            this.islands.get(i % this.islands.size()).initialSolutions.add(initialSolutions.get(i));
+        }
+    }
+
+    @Override
+    public void run() {
+        this.stopped = false;
+        ExecutorService executor = Executors.newFixedThreadPool(this.islands.size(), r -> {
+            Thread thread = new Thread(r, "island");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(this.islands.size());
+            for (Island island : this.islands) {
+                futures.add(executor.submit(island::evolve));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            this.stopped = true;
+            Thread.currentThread().interrupt();
+            throw new JMetalException("interrupted while waiting for the islands", e);
+        } catch (ExecutionException e) {
+            //let the other islands finish before giving up, they share the problem
+            this.stopped = true;
+            executor.shutdown();
+            try {
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            throw new JMetalException("evolution of an island failed", e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Records the completion of a generation of the given island, logs the progress of the first island and checks
+     * the stopping rules once every island has completed a generation on average.
+     *
+     * @param island the island that has completed a generation
+     * @return true if all islands should stop
+     */
+    private synchronized boolean completeGeneration(Island island) {
+        this.evaluations += this.islandPopulationSize;
+        this.bestSolutions.set(island.index, island.population.get(0));
+
+        if (island.index == 0) {
+            this.eaLogger.logPopulation(island.population, island.generation);
+        }
+
+        this.islandGenerations++;
+        if (!this.stopped && this.islandGenerations % this.islands.size() == 0) {
+            List<S> currentSolutions = new ArrayList<>(this.bestSolutions.size());
+            for (S solution : this.bestSolutions) {
+                if (solution != null) {
+                    currentSolutions.add(solution);
+                }
+            }
+
+            for (StoppingRule sr : this.stoppingRules) {
+                if (sr.checkIfStop(this.problem, -1, this.evaluations, currentSolutions)) {
+                    this.eaLogger.logAdditional(sr.getMsg());
+                    this.stopped = true;
+                    break;
+                }
+            }
+        }
+        return this.stopped;
+    }
+
+    @Override
+    public S getResult() {
+        List<S> solutions = new ArrayList<>(this.islands.size() * this.islandPopulationSize);
+        for (Island island : this.islands) {
+            solutions.addAll(island.population);
+        }
+        solutions.sort(this.comparator);
+        return solutions.get(0);
+    }
+
+    @Override
+    public List<StoppingRule> getStoppingRules() {
+        return this.stoppingRules;
+    }
+
+    @Override
+    public void setEALogger(IEALogger eaLogger) {
+        this.eaLogger = eaLogger;
+    }
+
+    @Override
+    public IEALogger getEALogger() {
+        return this.eaLogger;
+    }
+
+    @Override
+    public String getName() {
+        return "IMGA";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Island-Model Genetic Algorithm with " + this.islands.size() + " islands";
+    }
+
+    /**
+     * A sub-population evolving like the {@link OSHLegacyGenerationalGeneticAlgorithm}.
+     */
+    private class Island {
+
+        private final int index;
+        private final JMetalRandom random;
+        private final CrossoverOperator<S> crossoverOperator;
+        private final MutationOperator<S> mutationOperator;
+        private final SelectionOperator<List<S>, S> selectionOperator;
+
+        private final List<S> initialSolutions = new ArrayList<>();
+        //solutions migrated from the previous island
+        private final ConcurrentLinkedQueue<S> immigrants = new ConcurrentLinkedQueue<>();
+
+        //sorted by fitness after every generation
+        private List<S> population = new ArrayList<>();
+        private int generation;
+
+        private Island(int index, JMetalRandom random, CrossoverOperator<S> crossoverOperator,
+                       MutationOperator<S> mutationOperator, SelectionOperator<List<S>, S> selectionOperator) {
+            this.index = index;
+            this.random = random;
+            this.crossoverOperator = crossoverOperator;
+            this.mutationOperator = mutationOperator;
+            this.selectionOperator = selectionOperator;
+        }
+
+        private void evolve() {
+            //solutions created by the problem draw from the random context of the thread
+            JMetalRandom.setInstance(this.random);
+            Problem<S> problem = IslandModelGeneticAlgorithm.this.problem;
+            int populationSize = IslandModelGeneticAlgorithm.this.islandPopulationSize;
+
+            this.population = new ArrayList<>(populationSize);
+            for (S initialSolution : this.initialSolutions) {
+                if (this.population.size() >= populationSize) {
+                    break;
+                }
+                this.population.add(initialSolution);
+            }
+            while (this.population.size() < populationSize) {
+                this.population.add(problem.createSolution());
+            }
+            this.population.forEach(problem::evaluate);
+            this.population.sort(IslandModelGeneticAlgorithm.this.comparator);
+
+            while (!IslandModelGeneticAlgorithm.this.stopped
+                    && !IslandModelGeneticAlgorithm.this.completeGeneration(this)) {
+                List<S> offspringPool = new ArrayList<>(populationSize);
+                for (int i = 0; i < ((populationSize / 2) - 1); i++) {
+                    List<S> parents = new ArrayList<>(2);
+                    parents.add(this.selectionOperator.execute(this.population));
+                    parents.add(this.selectionOperator.execute(this.population));
+
+                    for (S s : this.crossoverOperator.execute(parents)) {
+                        this.mutationOperator.execute(s);
+                        offspringPool.add(s);
+                    }
+                }
+                offspringPool.forEach(problem::evaluate);
+
+                //keep the two best solutions of the last generation
+                offspringPool.add(this.population.get(0));
+                offspringPool.add(this.population.get(1));
+                offspringPool.sort(IslandModelGeneticAlgorithm.this.comparator);
+                this.population = offspringPool;
+                this.generation++;
+
+                if (this.generation % IslandModelGeneticAlgorithm.this.migrationInterval == 0) {
+                    this.migrate();
+                }
+            }
+        }
+
+        /**
+         * Sends copies of the best solutions to the next island and replaces the worst solutions with the best
+         * solutions received from the previous island if these are better.
+         */
+        @SuppressWarnings("unchecked")
+        private void migrate() {
+            List<Island> islands = IslandModelGeneticAlgorithm.this.islands;
+            int migrationSize = IslandModelGeneticAlgorithm.this.migrationSize;
+            Comparator<S> comparator = IslandModelGeneticAlgorithm.this.comparator;
+
+            if (islands.size() < 2 || migrationSize == 0) {
+                return;
+            }
+
+            Island next = islands.get((this.index + 1) % islands.size());
+            for (int i = 0; i < migrationSize; i++) {
+                next.immigrants.add((S) this.population.get(i).copy());
+            }
+
+            List<S> received = new ArrayList<>();
+            S immigrant;
+            while ((immigrant = this.immigrants.poll()) != null) {
+                received.add(immigrant);
+            }
+            if (received.isEmpty()) {
+                return;
+            }
+            received.sort(comparator);
+
+            int worst = this.population.size() - 1;
+            for (int i = 0; i < Math.min(migrationSize, received.size()); i++) {
+                if (comparator.compare(received.get(i), this.population.get(worst)) < 0) {
+                    this.population.set(worst--, received.get(i));
+                }
+            }
+            this.population.sort(comparator);
+        }
+    }
+}
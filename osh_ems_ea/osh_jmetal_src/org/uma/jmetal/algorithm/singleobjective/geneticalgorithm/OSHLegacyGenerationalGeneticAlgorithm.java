@@ -23,6 +23,7 @@ public class OSHLegacyGenerationalGeneticAlgorithm<S extends Solution<?>> extend
     private final Comparator<S> comparator;
     private final SolutionListEvaluator<S> evaluator;
     private int evaluations;
+    private List<S> initialSolutions = new ArrayList<>();
 
     public OSHLegacyGenerationalGeneticAlgorithm(Problem<S> problem, int populationSize,
                                                  CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
@@ -40,6 +41,31 @@ public class OSHLegacyGenerationalGeneticAlgorithm<S extends Solution<?>> extend
         this.comparator = new ObjectiveComparator<>(0);
     }
 
+    /**
+     * Sets solutions that will be injected into the initial population before it is filled up with randomly
+     * created solutions.
+     *
+     * @param initialSolutions the solutions to inject into the initial population
+     */
+    public void setInitialSolutions(List<S> initialSolutions) {
+        this.initialSolutions = new ArrayList<>(initialSolutions);
+    }
+
+    @Override
+    protected List<S> createInitialPopulation() {
+        List<S> population = new ArrayList<>(this.getMaxPopulationSize());
+        for (S initialSolution : this.initialSolutions) {
+            if (population.size() >= this.getMaxPopulationSize()) {
+                break;
+            }
+            population.add(initialSolution);
+        }
+        while (population.size() < this.getMaxPopulationSize()) {
+            population.add(this.getProblem().createSolution());
+        }
+        return population;
+    }
+
     @Override
     protected boolean isStoppingConditionReached() {
         for (StoppingRule sr : this.getStoppingRules()) {
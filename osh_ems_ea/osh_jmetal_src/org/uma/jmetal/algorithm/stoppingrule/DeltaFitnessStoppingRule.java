@@ -112,11 +112,11 @@ public class DeltaFitnessStoppingRule extends StoppingRule {
             Solution<?> best = currentSolutions.get(0);
 
             if (this.lastGenerationBestFitness[i] == null) {
-                this.lastGenerationBestFitness[i] = best.getObjective(0);
+                this.lastGenerationBestFitness[i] = best.getObjective(i);
                 firstTime = true;
             }
 
-            thisGenerationBestFitness[i] = best.getObjective(0);
+            thisGenerationBestFitness[i] = best.getObjective(i);
             deltaFitness[i] = Math.abs((Math.abs(thisGenerationBestFitness[i])
                     - Math.abs(this.lastGenerationBestFitness[i])) / Math.abs(this.lastGenerationBestFitness[i]));
         }
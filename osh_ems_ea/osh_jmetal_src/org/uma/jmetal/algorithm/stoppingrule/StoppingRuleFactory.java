@@ -24,6 +24,8 @@ public class StoppingRuleFactory {
             return new EvaluationsStoppingRule(parameters);
         else if (ruleType == StoppingRuleType.DELTA_FITNESS)
             return new DeltaFitnessStoppingRule(parameters);
+        else if (ruleType == StoppingRuleType.TIME_BUDGET)
+            return new TimeBudgetStoppingRule(parameters);
         else {
             throw new JMetalException("Exception in " + name + ".getStoppingRule()");
         }
@@ -8,7 +8,8 @@ package org.uma.jmetal.algorithm.stoppingrule;
 public enum StoppingRuleType {
 
     MAX_EVALUATIONS("EvaluationsStoppingRule"),
-    DELTA_FITNESS("DeltaFitnessStoppingRule");
+    DELTA_FITNESS("DeltaFitnessStoppingRule"),
+    TIME_BUDGET("TimeBudgetStoppingRule");
 
     private final String name;
 
@@ -0,0 +1,99 @@
+package org.uma.jmetal.algorithm.stoppingrule;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import osh.utils.string.ParameterConstants;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a stopping condition based upon the wall-clock time passed since the construction of this rule. The
+ * rule can additionally be cancelled from another thread, stopping the algorithm after the current generation.
+ */
+public class TimeBudgetStoppingRule extends StoppingRule {
+
+    private final long startTime;
+    private final long budget;
+    private volatile boolean cancelled;
+
+    /**
+     * Constructs this stopping rule with the given parameter collection.
+     *
+     * @param parameters the parameters for the stopping condition
+     */
+    public TimeBudgetStoppingRule(Map<String, Object> parameters) {
+        super(parameters);
+
+        if (this._parameters.get(ParameterConstants.EA.timeBudget) != null)
+            this.budget = toNanos(((Number) parameters.get(ParameterConstants.EA.timeBudget)).doubleValue());
+        else {
+            throw new JMetalException("no timeBudget in parameters");
+        }
+        this.startTime = System.nanoTime();
+    }
+
+    /**
+     * Constructs this stopping rule with the explicit paramters.
+     *
+     * @param timeBudget the wall-clock time in seconds after which this stopping condition is triggered
+     */
+    public TimeBudgetStoppingRule(double timeBudget) {
+        super(Collections.emptyMap());
+        this.budget = toNanos(timeBudget);
+        this.startTime = System.nanoTime();
+    }
+
+    private static long toNanos(double seconds) {
+        if (seconds < 0) {
+            throw new JMetalException("timeBudget is negative: " + seconds);
+        }
+        return (long) (seconds * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Triggers this stopping condition at the next check, regardless of the remaining time.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Checks and returns if the stopping condition is reached based upon the given algorithm state.
+     *
+     * <p>
+     * Condition will be true, if: <br/>
+     * <ul>
+     * <li> the wall-clock time passed since the construction of this rule is greater or equal to the time budget
+     * <li> this rule has been cancelled
+     * </ul>
+     * <p>
+     *
+     * @param problem the underlying problem of the algorithm
+     * @param generation the number of generations that have passed since the start of the execution
+     * @param evaluations the number of evaltuations that have been done since the start of the execution
+     * @param currentSolutions the current set of solutions
+     *
+     * @return true if the time budget has been used up or this rule has been cancelled
+     */
+    @Override
+    public <S extends Solution<?>> boolean checkIfStop(Problem<S> problem, int generation, int evaluations,
+                                                       List<S> currentSolutions) {
+        if (this.cancelled) {
+            this._msg = "Optimisation cancelled";
+            return true;
+        }
+
+        long passed = System.nanoTime() - this.startTime;
+        if (passed >= this.budget) {
+            this._msg = "Optimisation stopped after using up the time budget: "
+                    + TimeUnit.NANOSECONDS.toMillis(passed) + " ms";
+            return true;
+        }
+
+        return false;
+    }
+}
@@ -18,7 +18,7 @@ import java.util.List;
  */
 @SuppressWarnings("serial")
 public class BLXAlphaCrossover implements CrossoverOperator<DoubleSolution> {
-    private static final double DEFAULT_ALPHA = 0.5;
+    static final double DEFAULT_ALPHA = 0.5;
     private final RepairDoubleSolution solutionRepair;
     private final RandomGenerator<Double> randomGenerator;
     private double crossoverProbability;
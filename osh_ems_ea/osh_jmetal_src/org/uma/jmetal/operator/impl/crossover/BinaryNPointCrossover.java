@@ -50,6 +50,13 @@ public class BinaryNPointCrossover implements CrossoverOperator<BinarySolution>
      * Creates a new instance of the n point crossover operator
      */
     public BinaryNPointCrossover(double crossoverProbability, int pointsToUse) {
+        this(crossoverProbability, pointsToUse, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructor drawing all random numbers from the given random context
+     */
+    public BinaryNPointCrossover(double crossoverProbability, int pointsToUse, JMetalRandom randomGenerator) {
         if (crossoverProbability < 0) {
             throw new JMetalException("Crossover probability is negative: " + crossoverProbability);
         }
@@ -59,7 +66,7 @@ public class BinaryNPointCrossover implements CrossoverOperator<BinarySolution>
             throw new JMetalException("Crossover points is too small: " + pointsToUse);
         }
         this.pointsToUse = pointsToUse;
-        this.randomGenerator = JMetalRandom.getInstance();
+        this.randomGenerator = randomGenerator;
     }
 
     @Override
@@ -3,7 +3,9 @@ package org.uma.jmetal.operator.impl.crossover;
 import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.util.RepairDoubleSolution;
+import org.uma.jmetal.solution.util.RepairDoubleSolutionAtBounds;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import osh.utils.string.ParameterConstants;
 
 import java.util.Map;
@@ -27,9 +29,27 @@ public class CrossoverFactory {
      *
      * @throws JMetalException if the specified operator cannot be constructed or parameters are missing
      */
-    @SuppressWarnings("unchecked")
     public static <S extends Solution<?>> CrossoverOperator<S> getCrossoverOperator(CrossoverType operator,
                                                                                     Map<String, ?> parameters) throws JMetalException {
+        return getCrossoverOperator(operator, parameters, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructs the crossover operator based on the given operator type and the given parameters, drawing all random
+     * numbers of the operator from the given random context.
+     *
+     * @param operator the operator type
+     * @param parameters the parameters for the operator
+     * @param random the random context of the optimization the operator is used in
+     * @param <S> the type of the solution the operator needs to handle
+     * @return the constructed operator
+     *
+     * @throws JMetalException if the specified operator cannot be constructed or parameters are missing
+     */
+    @SuppressWarnings("unchecked")
+    public static <S extends Solution<?>> CrossoverOperator<S> getCrossoverOperator(CrossoverType operator,
+                                                                                    Map<String, ?> parameters,
+                                                                                    JMetalRandom random) throws JMetalException {
 
         switch(operator) {
             case BINARY_N_POINT:
@@ -37,7 +57,8 @@ public class CrossoverFactory {
                 if (parameters.containsKey(ParameterConstants.EA.probability) && parameters.containsKey(ParameterConstants.EA_RECOMBINATION.points)) {
                     return (CrossoverOperator<S>) new BinaryNPointCrossover(
                             (Double) parameters.get(ParameterConstants.EA.probability),
-                            (Integer) parameters.get(ParameterConstants.EA_RECOMBINATION.points));
+                            (Integer) parameters.get(ParameterConstants.EA_RECOMBINATION.points),
+                            random);
                 } else {
                     throw new JMetalException("Parameter probability or points for BinaryNPointCrossover not given");
                 }
@@ -48,13 +69,17 @@ public class CrossoverFactory {
                     return (CrossoverOperator<S>) new BLXAlphaCrossover(
                             (Double) parameters.get(ParameterConstants.EA.probability),
                             (Double) parameters.get(ParameterConstants.EA_RECOMBINATION.alpha),
-                            (RepairDoubleSolution) parameters.get(ParameterConstants.EA.solutionRepair));
+                            (RepairDoubleSolution) parameters.get(ParameterConstants.EA.solutionRepair),
+                            random::nextDouble);
                 } else if (parameters.containsKey(ParameterConstants.EA.probability) && parameters.containsKey(ParameterConstants.EA_RECOMBINATION.alpha)) {
                     return (CrossoverOperator<S>) new BLXAlphaCrossover(
                             (Double) parameters.get(ParameterConstants.EA.probability),
-                            (Double) parameters.get(ParameterConstants.EA_RECOMBINATION.alpha));
+                            (Double) parameters.get(ParameterConstants.EA_RECOMBINATION.alpha),
+                            new RepairDoubleSolutionAtBounds(),
+                            random::nextDouble);
                 } else if (parameters.containsKey(ParameterConstants.EA.probability)) {
-                    return (CrossoverOperator<S>) new BLXAlphaCrossover((Double) parameters.get(ParameterConstants.EA.probability));
+                    return (CrossoverOperator<S>) new BLXAlphaCrossover((Double) parameters.get(ParameterConstants.EA.probability),
+                            BLXAlphaCrossover.DEFAULT_ALPHA, new RepairDoubleSolutionAtBounds(), random::nextDouble);
                 } else {
                     throw new JMetalException("Parameter probability for BLXAlphaCrossover not given");
                 }
@@ -65,16 +90,21 @@ public class CrossoverFactory {
                         && parameters.containsKey(ParameterConstants.EA_RECOMBINATION.k)
                         && parameters.containsKey(ParameterConstants.EA_RECOMBINATION.variant)) {
                     if (parameters.containsKey(ParameterConstants.EA_RECOMBINATION.k)) {
-                        return (CrossoverOperator<S>) new DifferentialEvolutionCrossover(
+                        DifferentialEvolutionCrossover crossover = new DifferentialEvolutionCrossover(
                                 (Double) parameters.get(ParameterConstants.EA_RECOMBINATION.cr),
                                 (Double) parameters.get(ParameterConstants.EA_RECOMBINATION.f),
-                                (Double) parameters.get(ParameterConstants.EA_RECOMBINATION.k),
-                                (String) parameters.get(ParameterConstants.EA_RECOMBINATION.variant));
+                                (String) parameters.get(ParameterConstants.EA_RECOMBINATION.variant),
+                                random::nextInt,
+                                random::nextDouble);
+                        crossover.setK((Double) parameters.get(ParameterConstants.EA_RECOMBINATION.k));
+                        return (CrossoverOperator<S>) crossover;
                     } else {
                         return (CrossoverOperator<S>) new DifferentialEvolutionCrossover(
                                 (Double) parameters.get(ParameterConstants.EA_RECOMBINATION.cr),
                                 (Double) parameters.get(ParameterConstants.EA_RECOMBINATION.f),
-                                (String) parameters.get(ParameterConstants.EA_RECOMBINATION.variant));
+                                (String) parameters.get(ParameterConstants.EA_RECOMBINATION.variant),
+                                random::nextInt,
+                                random::nextDouble);
                     }
                 } else {
                     return (CrossoverOperator<S>) new DifferentialEvolutionCrossover();
@@ -82,7 +112,8 @@ public class CrossoverFactory {
 
             case HUX:
                 if (parameters.containsKey(ParameterConstants.EA.probability)) {
-                    return (CrossoverOperator<S>) new HUXCrossover((Double) parameters.get(ParameterConstants.EA.probability));
+                    return (CrossoverOperator<S>) new HUXCrossover((Double) parameters.get(ParameterConstants.EA.probability),
+                            random::nextDouble);
                 } else {
                     throw new JMetalException("Parameter probability for HUXCrossover not given");
                 }
@@ -91,7 +122,8 @@ public class CrossoverFactory {
                 if (parameters.containsKey(ParameterConstants.EA.probability) && parameters.containsKey(ParameterConstants.EA.distributionIndex)) {
                     return (CrossoverOperator<S>) new IntegerSBXCrossover(
                             (Double) parameters.get(ParameterConstants.EA.probability),
-                            (Double) parameters.get(ParameterConstants.EA.distributionIndex));
+                            (Double) parameters.get(ParameterConstants.EA.distributionIndex),
+                            random::nextDouble);
                 } else {
                     throw new JMetalException("Parameter probability or distributionIndex for IntegerSBXCrossover not given");
                 }
@@ -100,7 +132,8 @@ public class CrossoverFactory {
                 if (parameters.containsKey(ParameterConstants.EA.probability) && parameters.containsKey(ParameterConstants.EA.distributionIndex)) {
                     return (CrossoverOperator<S>) new SBXCrossover(
                             (Double) parameters.get(ParameterConstants.EA.probability),
-                            (Integer) parameters.get(ParameterConstants.EA.distributionIndex));
+                            (Integer) parameters.get(ParameterConstants.EA.distributionIndex),
+                            random::nextDouble);
                 } else {
                     throw new JMetalException("Parameter probability or distributionIndex for SBXCrossover not given");
                 }
@@ -110,35 +143,40 @@ public class CrossoverFactory {
 
             case PMX:
                 if (parameters.containsKey(ParameterConstants.EA.probability)) {
-                    return (CrossoverOperator<S>) new PMXCrossover((Double) parameters.get(ParameterConstants.EA.probability));
+                    return (CrossoverOperator<S>) new PMXCrossover((Double) parameters.get(ParameterConstants.EA.probability),
+                            random::nextDouble, random::nextInt);
                 } else {
                     throw new JMetalException("Parameter probability for PMXCrossover not given");
                 }
 
             case BINARY_SHUFFLE:
                 if (parameters.containsKey(ParameterConstants.EA.probability)) {
-                    return (CrossoverOperator<S>) new ShuffledBinaryCrossover((Double) parameters.get(ParameterConstants.EA.probability));
+                    return (CrossoverOperator<S>) new ShuffledBinaryCrossover((Double) parameters.get(ParameterConstants.EA.probability),
+                            random);
                 } else {
                     throw new JMetalException("Parameter probability for ShuffledBinaryCrossover not given");
                 }
 
             case ONE_POINT:
                 if (parameters.containsKey(ParameterConstants.EA.probability)) {
-                    return (CrossoverOperator<S>) new SinglePointCrossover((Double) parameters.get(ParameterConstants.EA.probability));
+                    return (CrossoverOperator<S>) new SinglePointCrossover((Double) parameters.get(ParameterConstants.EA.probability),
+                            random::nextDouble, random::nextInt);
                 } else {
                     throw new JMetalException("Parameter probability for SinglePointCrossover not given");
                 }
 
             case TWO_POINT:
                 if (parameters.containsKey(ParameterConstants.EA.probability)) {
-                    return (CrossoverOperator<S>) new TwoPointCrossover<>((Double) parameters.get(ParameterConstants.EA.probability));
+                    return (CrossoverOperator<S>) new TwoPointCrossover<>((Double) parameters.get(ParameterConstants.EA.probability),
+                            random);
                 } else {
                     throw new JMetalException("Parameter probability for TwoPointCrossover not given");
                 }
 
             case BINARY_UNIFORM:
                 if (parameters.containsKey(ParameterConstants.EA.probability)) {
-                    return (CrossoverOperator<S>) new UniformBinaryCrossover((Double) parameters.get(ParameterConstants.EA.probability));
+                    return (CrossoverOperator<S>) new UniformBinaryCrossover((Double) parameters.get(ParameterConstants.EA.probability),
+                            random);
                 } else {
                     throw new JMetalException("Parameter probability for UniformBinaryCrossover not given");
                 }
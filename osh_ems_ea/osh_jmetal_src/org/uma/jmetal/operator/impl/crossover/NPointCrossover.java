@@ -14,20 +14,26 @@ import java.util.List;
  */
 @SuppressWarnings("serial")
 public class NPointCrossover<T> implements CrossoverOperator<Solution<T>> {
-    private final JMetalRandom randomNumberGenerator = JMetalRandom.getInstance();
+    private final JMetalRandom randomNumberGenerator;
     private final double probability;
     private final int crossovers;
 
     public NPointCrossover(double probability, int crossovers) {
+        this(probability, crossovers, JMetalRandom.getInstance());
+    }
+
+    public NPointCrossover(double probability, int crossovers, JMetalRandom randomNumberGenerator) {
         if (probability < 0.0) throw new JMetalException("Probability can't be negative");
         if (crossovers < 1) throw new JMetalException("Number of crossovers is less than one");
         this.probability = probability;
         this.crossovers = crossovers;
+        this.randomNumberGenerator = randomNumberGenerator;
     }
 
     public NPointCrossover(int crossovers) {
         this.crossovers = crossovers;
         this.probability = 1.0;
+        this.randomNumberGenerator = JMetalRandom.getInstance();
     }
 
     public double getCrossoverProbability() {
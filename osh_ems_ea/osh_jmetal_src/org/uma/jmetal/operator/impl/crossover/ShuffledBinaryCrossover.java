@@ -26,11 +26,18 @@ public class ShuffledBinaryCrossover implements CrossoverOperator<BinarySolution
      * Constructor
      */
     public ShuffledBinaryCrossover(double crossoverProbability) {
+        this(crossoverProbability, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructor drawing all random numbers from the given random context
+     */
+    public ShuffledBinaryCrossover(double crossoverProbability, JMetalRandom randomGenerator) {
         if (crossoverProbability < 0) {
             throw new JMetalException("Crossover probability is negative: " + crossoverProbability);
         }
         this.crossoverProbability = crossoverProbability;
-        this.randomGenerator = JMetalRandom.getInstance();
+        this.randomGenerator = randomGenerator;
     }
 
     @Override
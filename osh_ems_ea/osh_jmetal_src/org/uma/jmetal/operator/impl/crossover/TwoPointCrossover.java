@@ -2,6 +2,7 @@ package org.uma.jmetal.operator.impl.crossover;
 
 import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.util.List;
 
@@ -16,6 +17,10 @@ public class TwoPointCrossover<T> implements CrossoverOperator<Solution<T>> {
         this.operator = new NPointCrossover<>(probability, 2);
     }
 
+    public TwoPointCrossover(double probability, JMetalRandom randomGenerator) {
+        this.operator = new NPointCrossover<>(probability, 2, randomGenerator);
+    }
+
     @Override
     public List<Solution<T>> execute(List<Solution<T>> solutions) {
         return this.operator.execute(solutions);
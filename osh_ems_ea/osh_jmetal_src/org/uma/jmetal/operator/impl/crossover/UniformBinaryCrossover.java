@@ -25,11 +25,18 @@ public class UniformBinaryCrossover implements CrossoverOperator<BinarySolution>
      * Constructor
      */
     public UniformBinaryCrossover(double crossoverProbability) {
+        this(crossoverProbability, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructor drawing all random numbers from the given random context
+     */
+    public UniformBinaryCrossover(double crossoverProbability, JMetalRandom randomGenerator) {
         if (crossoverProbability < 0) {
             throw new JMetalException("Crossover probability is negative: " + crossoverProbability);
         }
         this.crossoverProbability = crossoverProbability;
-        this.randomGenerator = JMetalRandom.getInstance();
+        this.randomGenerator = randomGenerator;
     }
 
     @Override
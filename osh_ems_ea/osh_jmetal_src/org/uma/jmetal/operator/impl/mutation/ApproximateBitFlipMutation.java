@@ -31,11 +31,18 @@ public class ApproximateBitFlipMutation implements MutationOperator<BinarySoluti
      * Constructor
      */
     public ApproximateBitFlipMutation(double mutationProbability) {
+        this(mutationProbability, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructor drawing all random numbers from the given random context
+     */
+    public ApproximateBitFlipMutation(double mutationProbability, JMetalRandom randomGenerator) {
         if (mutationProbability < 0) {
             throw new JMetalException("Mutation probability is negative: " + mutationProbability);
         }
         this.mutationProbability = mutationProbability;
-        this.randomGenerator = JMetalRandom.getInstance();
+        this.randomGenerator = randomGenerator;
     }
 
     /* Getter */
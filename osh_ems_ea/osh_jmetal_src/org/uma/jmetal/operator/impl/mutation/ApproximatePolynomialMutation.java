@@ -60,6 +60,15 @@ public class ApproximatePolynomialMutation implements MutationOperator<DoubleSol
      */
     public ApproximatePolynomialMutation(double mutationProbability, double distributionIndex,
                                          RepairDoubleSolution solutionRepair) {
+        this(mutationProbability, distributionIndex, solutionRepair, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructor drawing all random numbers from the given random context
+     */
+    public ApproximatePolynomialMutation(double mutationProbability, double distributionIndex,
+                                         RepairDoubleSolution solutionRepair,
+                                         JMetalRandom randomGenerator) {
         if (mutationProbability < 0) {
             throw new JMetalException("Mutation probability is negative: " + mutationProbability);
         } else if (distributionIndex < 0) {
@@ -69,7 +78,7 @@ public class ApproximatePolynomialMutation implements MutationOperator<DoubleSol
         this.distributionIndex = distributionIndex;
         this.solutionRepair = solutionRepair;
 
-        this.randomGenerator = JMetalRandom.getInstance();
+        this.randomGenerator = randomGenerator;
     }
 
     /* Getters */
@@ -2,6 +2,7 @@ package org.uma.jmetal.operator.impl.mutation;
 
 import org.uma.jmetal.solution.BinarySolution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 /**
  * This class implements a bitflip mutation operator that adjusts it's mutation probability depending on the number
@@ -20,7 +21,14 @@ public class BitFlipProbabilityAdjustingMutation extends ApproximateBitFlipMutat
      * Constructor
      */
     public BitFlipProbabilityAdjustingMutation(double autoProbabilityFactor) {
-        super(0.0);
+        this(autoProbabilityFactor, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructor drawing all random numbers from the given random context
+     */
+    public BitFlipProbabilityAdjustingMutation(double autoProbabilityFactor, JMetalRandom randomGenerator) {
+        super(0.0, randomGenerator);
         if (autoProbabilityFactor < 0) {
             throw new JMetalException("AutoProbabilityFactor probability is negative: " + autoProbabilityFactor);
         }
@@ -23,6 +23,13 @@ public class BlockBitFlipMutation implements MutationOperator<BinarySolution> {
      * Creates a new instance of the Bit Flip mutation operator
      */
     public BlockBitFlipMutation(double mutationProbability, int blockSize) {
+        this(mutationProbability, blockSize, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructor drawing all random numbers from the given random context
+     */
+    public BlockBitFlipMutation(double mutationProbability, int blockSize, JMetalRandom randomGenerator) {
         if (mutationProbability < 0) {
             throw new JMetalException("Mutation probability is negative: " + mutationProbability);
         }
@@ -32,7 +39,7 @@ public class BlockBitFlipMutation implements MutationOperator<BinarySolution> {
 
         this.mutationProbability = mutationProbability;
         this.blockSize = blockSize;
-        this.randomGenerator = JMetalRandom.getInstance();
+        this.randomGenerator = randomGenerator;
     }
 
 
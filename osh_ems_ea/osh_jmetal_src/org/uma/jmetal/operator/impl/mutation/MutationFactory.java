@@ -2,7 +2,9 @@ package org.uma.jmetal.operator.impl.mutation;
 
 import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.RepairDoubleSolutionAtBounds;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import osh.utils.string.ParameterConstants;
 
 import java.util.Map;
@@ -25,28 +27,49 @@ public class MutationFactory {
      *
      * @throws JMetalException if the specified operator cannot be constructed or parameters are missing
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public static <S extends Solution<?>> MutationOperator<S> getMutationOperator(MutationType operator,
                                                                                   Map<String, ?> parameters) throws JMetalException {
+        return getMutationOperator(operator, parameters, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructs the mutation operator based on the given operator type and the given parameters, drawing all random
+     * numbers of the operator from the given random context.
+     *
+     * @param operator the operator type
+     * @param parameters the parameters for the operator
+     * @param random the random context of the optimization the operator is used in
+     * @param <S> the type of the solution the operator needs to handle
+     * @return the constructed operator
+     *
+     * @throws JMetalException if the specified operator cannot be constructed or parameters are missing
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <S extends Solution<?>> MutationOperator<S> getMutationOperator(MutationType operator,
+                                                                                  Map<String, ?> parameters,
+                                                                                  JMetalRandom random) throws JMetalException {
         switch(operator) {
 
             case BIT_FLIP_AUTO:
                 if (parameters.containsKey(ParameterConstants.EA_MUTATION.autoProbMutationFactor)) {
-                    return (MutationOperator<S>) new BitFlipProbabilityAdjustingMutation((Double) parameters.get(ParameterConstants.EA_MUTATION.autoProbMutationFactor));
+                    return (MutationOperator<S>) new BitFlipProbabilityAdjustingMutation((Double) parameters.get(ParameterConstants.EA_MUTATION.autoProbMutationFactor),
+                            random);
                 } else {
                     throw new JMetalException("Parameter autoProbabilityFactor for BitFlipAutoProbMutation not given");
                 }
 
             case BIT_FLIP:
                 if (parameters.containsKey(ParameterConstants.EA.probability)) {
-                    return (MutationOperator<S>) new BitFlipMutation((Double) parameters.get(ParameterConstants.EA.probability));
+                    return (MutationOperator<S>) new BitFlipMutation((Double) parameters.get(ParameterConstants.EA.probability),
+                            random::nextDouble);
                 } else {
                     throw new JMetalException("Parameter probability for BitFlipMutation not given");
                 }
 
             case BIT_FLIP_APPROX:
                 if (parameters.containsKey(ParameterConstants.EA.probability)) {
-                    return (MutationOperator<S>) new ApproximateBitFlipMutation((Double) parameters.get(ParameterConstants.EA.probability));
+                    return (MutationOperator<S>) new ApproximateBitFlipMutation((Double) parameters.get(ParameterConstants.EA.probability),
+                            random);
                 } else {
                     throw new JMetalException("Parameter probability for ApproximateBitFlipMutation not given");
                 }
@@ -55,7 +78,8 @@ public class MutationFactory {
                 if (parameters.containsKey(ParameterConstants.EA.probability) && parameters.containsKey("blockSize")) {
                     return (MutationOperator<S>) new BlockBitFlipMutation(
                             (Double) parameters.get(ParameterConstants.EA.probability),
-                            (Integer) parameters.get("blockSize"));
+                            (Integer) parameters.get("blockSize"),
+                            random);
                 } else {
                     throw new JMetalException("Parameter probability or blockSize for BlockBitFlipMutation not given");
                 }
@@ -63,7 +87,8 @@ public class MutationFactory {
             case INTEGER_POLYNOMIAL:
                 if (parameters.containsKey(ParameterConstants.EA.probability) && parameters.containsKey(ParameterConstants.EA.distributionIndex)) {
                     return (MutationOperator<S>) new IntegerPolynomialMutation((Double) parameters.get(ParameterConstants.EA.probability),
-                            (Double) parameters.get(ParameterConstants.EA.distributionIndex));
+                            (Double) parameters.get(ParameterConstants.EA.distributionIndex),
+                            new RepairDoubleSolutionAtBounds(), random::nextDouble);
                 } else {
                     throw new JMetalException("Parameter probability or distributionIndex for IntegerPolynomialMutation not given");
                 }
@@ -71,7 +96,8 @@ public class MutationFactory {
             case POLYNOMIAL:
                 if (parameters.containsKey(ParameterConstants.EA.probability) && parameters.containsKey(ParameterConstants.EA.distributionIndex)) {
                     return (MutationOperator<S>) new PolynomialMutation((Double) parameters.get(ParameterConstants.EA.probability),
-                            (Integer) parameters.get(ParameterConstants.EA.distributionIndex));
+                            (Integer) parameters.get(ParameterConstants.EA.distributionIndex),
+                            new RepairDoubleSolutionAtBounds(), random::nextDouble);
                 } else {
                     throw new JMetalException("Parameter probability or distributionIndex for PolynomialMutation not given");
                 }
@@ -79,7 +105,8 @@ public class MutationFactory {
             case POLYNOMIAL_AUTO:
                 if (parameters.containsKey(ParameterConstants.EA_MUTATION.autoProbMutationFactor) && parameters.containsKey(ParameterConstants.EA.distributionIndex)) {
                     return (MutationOperator<S>) new PolynomialProbabilityAdjustingMutation((Double) parameters.get(ParameterConstants.EA_MUTATION.autoProbMutationFactor),
-                            (Integer) parameters.get(ParameterConstants.EA.distributionIndex));
+                            (Integer) parameters.get(ParameterConstants.EA.distributionIndex),
+                            new RepairDoubleSolutionAtBounds(), random);
                 } else {
                     throw new JMetalException("Parameter probability or distributionIndex for PolynomialMutation not given");
                 }
@@ -87,7 +114,8 @@ public class MutationFactory {
             case POLYNOMIAL_APPROX:
                 if (parameters.containsKey(ParameterConstants.EA.probability) && parameters.containsKey(ParameterConstants.EA.distributionIndex)) {
                     return (MutationOperator<S>) new ApproximatePolynomialMutation((Double) parameters.get(ParameterConstants.EA.probability),
-                            (Integer) parameters.get(ParameterConstants.EA.distributionIndex));
+                            (Integer) parameters.get(ParameterConstants.EA.distributionIndex),
+                            new RepairDoubleSolutionAtBounds(), random);
                 } else {
                     throw new JMetalException("Parameter probability or distributionIndex for PolynomialMutation not given");
                 }
@@ -97,7 +125,8 @@ public class MutationFactory {
                         && parameters.containsKey(ParameterConstants.EA_MUTATION.maxIterations)) {
                     return (MutationOperator<S>) new NonUniformMutation((Double) parameters.get(ParameterConstants.EA.probability),
                             (Double) parameters.get(ParameterConstants.EA_MUTATION.perturbation),
-                            (Integer) parameters.get(ParameterConstants.EA_MUTATION.maxIterations));
+                            (Integer) parameters.get(ParameterConstants.EA_MUTATION.maxIterations),
+                            random::nextDouble);
                 } else {
                     throw new JMetalException("Parameter probability or perturbation or maxIterations for NonUniformMutation not given");
                 }
@@ -107,14 +136,16 @@ public class MutationFactory {
 
             case PERMUTATION_SWAP:
                 if (parameters.containsKey(ParameterConstants.EA.probability)) {
-                    return new PermutationSwapMutation((Double) parameters.get(ParameterConstants.EA.probability));
+                    return (MutationOperator<S>) new PermutationSwapMutation<>((Double) parameters.get(ParameterConstants.EA.probability),
+                            random::nextDouble, random::nextInt);
                 } else {
                     throw new JMetalException("Parameter probability for PermutationSwapMutation not given");
                 }
 
             case SIMPLE_RANDOM:
                 if (parameters.containsKey(ParameterConstants.EA.probability)) {
-                    return (MutationOperator<S>) new SimpleRandomMutation((Double) parameters.get(ParameterConstants.EA.probability));
+                    return (MutationOperator<S>) new SimpleRandomMutation((Double) parameters.get(ParameterConstants.EA.probability),
+                            random::nextDouble);
                 } else {
                     throw new JMetalException("Parameter probability for SimpleRandomMutation not given");
                 }
@@ -122,7 +153,8 @@ public class MutationFactory {
             case UNIFORM:
                 if (parameters.containsKey(ParameterConstants.EA.probability) && parameters.containsKey(ParameterConstants.EA_MUTATION.perturbation)) {
                     return (MutationOperator<S>) new UniformMutation((Double) parameters.get(ParameterConstants.EA.probability),
-                            (Double) parameters.get(ParameterConstants.EA_MUTATION.perturbation));
+                            (Double) parameters.get(ParameterConstants.EA_MUTATION.perturbation),
+                            random::nextDouble);
                 } else {
                     throw new JMetalException("Parameter probability or perturbation for UniformMutation not given");
                 }
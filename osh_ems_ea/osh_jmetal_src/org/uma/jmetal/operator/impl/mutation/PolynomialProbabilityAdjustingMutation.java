@@ -4,6 +4,7 @@ import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.util.RepairDoubleSolution;
 import org.uma.jmetal.solution.util.RepairDoubleSolutionAtBounds;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 /**
  * This class implements a polynomial mutation operator
@@ -35,7 +36,16 @@ public class PolynomialProbabilityAdjustingMutation extends ApproximatePolynomia
      */
     public PolynomialProbabilityAdjustingMutation(double autoProbabilityFactor, double distributionIndex,
                                                   RepairDoubleSolution solutionRepair) {
-        super(0.0, distributionIndex, solutionRepair);
+        this(autoProbabilityFactor, distributionIndex, solutionRepair, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructor drawing all random numbers from the given random context
+     */
+    public PolynomialProbabilityAdjustingMutation(double autoProbabilityFactor, double distributionIndex,
+                                                  RepairDoubleSolution solutionRepair,
+                                                  JMetalRandom randomGenerator) {
+        super(0.0, distributionIndex, solutionRepair, randomGenerator);
         if (autoProbabilityFactor < 0) {
             throw new JMetalException("autoProbabilityFactor is negative: " + autoProbabilityFactor);
         }
@@ -2,6 +2,7 @@ package org.uma.jmetal.operator.impl.selection;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.util.Comparator;
 
@@ -28,4 +29,11 @@ public class BinaryTournamentSelection<S extends Solution<?>> extends Tournament
     public BinaryTournamentSelection(Comparator<S> comparator) {
         super(comparator, 2);
     }
+
+    /**
+     * Constructor drawing all random numbers from the given random context
+     */
+    public BinaryTournamentSelection(Comparator<S> comparator, JMetalRandom randomGenerator) {
+        super(comparator, 2, randomGenerator);
+    }
 }
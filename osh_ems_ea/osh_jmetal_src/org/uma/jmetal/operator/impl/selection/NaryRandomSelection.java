@@ -3,6 +3,7 @@ package org.uma.jmetal.operator.impl.selection;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.util.List;
 
@@ -15,6 +16,7 @@ import java.util.List;
 @SuppressWarnings("serial")
 public class NaryRandomSelection<S> implements SelectionOperator<List<S>, List<S>> {
     private final int numberOfSolutionsToBeReturned;
+    private final JMetalRandom randomGenerator;
 
     /**
      * Constructor
@@ -27,7 +29,15 @@ public class NaryRandomSelection<S> implements SelectionOperator<List<S>, List<S
      * Constructor
      */
     public NaryRandomSelection(int numberOfSolutionsToBeReturned) {
+        this(numberOfSolutionsToBeReturned, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructor drawing all random numbers from the given random context
+     */
+    public NaryRandomSelection(int numberOfSolutionsToBeReturned, JMetalRandom randomGenerator) {
         this.numberOfSolutionsToBeReturned = numberOfSolutionsToBeReturned;
+        this.randomGenerator = randomGenerator;
     }
 
     /**
@@ -43,6 +53,7 @@ public class NaryRandomSelection<S> implements SelectionOperator<List<S>, List<S
                     + "the number of requested solutions (" + this.numberOfSolutionsToBeReturned + ")");
         }
 
-        return SolutionListUtils.selectNRandomDifferentSolutions(this.numberOfSolutionsToBeReturned, solutionList);
+        return SolutionListUtils.selectNRandomDifferentSolutions(this.numberOfSolutionsToBeReturned, solutionList,
+                this.randomGenerator::nextInt);
     }
 }
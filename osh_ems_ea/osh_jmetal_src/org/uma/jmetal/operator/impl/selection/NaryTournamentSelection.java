@@ -5,6 +5,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.util.Comparator;
 import java.util.List;
@@ -19,6 +20,7 @@ import java.util.List;
 public class NaryTournamentSelection<S extends Solution<?>> implements SelectionOperator<List<S>, S> {
     private final Comparator<S> comparator;
     private final int numberOfSolutionsToBeReturned;
+    private final JMetalRandom randomGenerator;
 
     /**
      * Constructor
@@ -31,8 +33,17 @@ public class NaryTournamentSelection<S extends Solution<?>> implements Selection
      * Constructor
      */
     public NaryTournamentSelection(int numberOfSolutionsToBeReturned, Comparator<S> comparator) {
+        this(numberOfSolutionsToBeReturned, comparator, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructor drawing all random numbers from the given random context
+     */
+    public NaryTournamentSelection(int numberOfSolutionsToBeReturned, Comparator<S> comparator,
+                                   JMetalRandom randomGenerator) {
         this.numberOfSolutionsToBeReturned = numberOfSolutionsToBeReturned;
         this.comparator = comparator;
+        this.randomGenerator = randomGenerator;
     }
 
     @Override
@@ -52,7 +63,7 @@ public class NaryTournamentSelection<S extends Solution<?>> implements Selection
             result = solutionList.get(0);
         } else {
             List<S> selectedSolutions = SolutionListUtils.selectNRandomDifferentSolutions(
-                    this.numberOfSolutionsToBeReturned, solutionList);
+                    this.numberOfSolutionsToBeReturned, solutionList, this.randomGenerator::nextInt);
             result = SolutionListUtils.findBestSolution(selectedSolutions, this.comparator);
         }
 
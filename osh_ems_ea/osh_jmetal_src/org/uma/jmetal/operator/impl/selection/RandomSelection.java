@@ -3,6 +3,7 @@ package org.uma.jmetal.operator.impl.selection;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.util.List;
 
@@ -13,6 +14,21 @@ import java.util.List;
  */
 @SuppressWarnings("serial")
 public class RandomSelection<S> implements SelectionOperator<List<S>, S> {
+    private final JMetalRandom randomGenerator;
+
+    /**
+     * Constructor
+     */
+    public RandomSelection() {
+        this(JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructor drawing all random numbers from the given random context
+     */
+    public RandomSelection(JMetalRandom randomGenerator) {
+        this.randomGenerator = randomGenerator;
+    }
 
     /**
      * Execute() method
@@ -24,7 +40,7 @@ public class RandomSelection<S> implements SelectionOperator<List<S>, S> {
             throw new JMetalException("The solution list is empty");
         }
 
-        List<S> list = SolutionListUtils.selectNRandomDifferentSolutions(1, solutionList);
+        List<S> list = SolutionListUtils.selectNRandomDifferentSolutions(1, solutionList, this.randomGenerator::nextInt);
 
         return list.get(0);
     }
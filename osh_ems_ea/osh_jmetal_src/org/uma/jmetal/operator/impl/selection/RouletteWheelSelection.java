@@ -27,8 +27,15 @@ public class RouletteWheelSelection<S extends Solution<?>> implements SelectionO
      * Creates a new RouletteWheelSelection operator using a DominanceComparator
      */
     public RouletteWheelSelection(Comparator<S> comparator) {
+        this(comparator, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructor drawing all random numbers from the given random context
+     */
+    public RouletteWheelSelection(Comparator<S> comparator, JMetalRandom randomGenerator) {
         this.comparator = comparator;
-        this.randomGenerator = JMetalRandom.getInstance();
+        this.randomGenerator = randomGenerator;
     }
 
     public RouletteWheelSelection() {
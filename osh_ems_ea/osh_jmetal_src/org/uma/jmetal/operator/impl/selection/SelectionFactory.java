@@ -3,6 +3,8 @@ package org.uma.jmetal.operator.impl.selection;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import osh.utils.string.ParameterConstants;
 
 import java.util.Comparator;
@@ -26,9 +28,27 @@ public class SelectionFactory {
      *
      * @throws JMetalException if the specified operator cannot be constructed or parameters are missing
      */
-    @SuppressWarnings({"unchecked"})
     public static <S extends Solution<?>> SelectionOperator<?, ?> getSelectionOperator(SelectionType operator,
                                                                                        Map<String, ?> parameters) throws JMetalException {
+        return getSelectionOperator(operator, parameters, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructs the selection operator based on the given operator type and the given parameters, drawing all random
+     * numbers of the operator from the given random context.
+     *
+     * @param operator the operator type
+     * @param parameters the parameters for the operator
+     * @param random the random context of the optimization the operator is used in
+     * @param <S> the type of the solution the operator needs to handle
+     * @return the constructed operator
+     *
+     * @throws JMetalException if the specified operator cannot be constructed or parameters are missing
+     */
+    @SuppressWarnings({"unchecked"})
+    public static <S extends Solution<?>> SelectionOperator<?, ?> getSelectionOperator(SelectionType operator,
+                                                                                       Map<String, ?> parameters,
+                                                                                       JMetalRandom random) throws JMetalException {
         switch(operator) {
 
             case BEST:
@@ -39,22 +59,23 @@ public class SelectionFactory {
                 }
 
             case DE:
-                return new DifferentialEvolutionSelection();
+                return new DifferentialEvolutionSelection(random::nextInt);
 
             case BINARY_TOURNAMENT:
             case BINARY_TOURNAMENT_LEGACY:
                 if (parameters.containsKey(ParameterConstants.EA_SELECTION.comparator)) {
-                    return new BinaryTournamentSelection<>((Comparator<S>) parameters.get(ParameterConstants.EA_SELECTION.comparator));
+                    return new BinaryTournamentSelection<>((Comparator<S>) parameters.get(ParameterConstants.EA_SELECTION.comparator), random);
                 } else {
-                    return new BinaryTournamentSelection<S>();
+                    return new BinaryTournamentSelection<S>(new DominanceComparator<>(), random);
                 }
 
             case TOURNAMENT:
                 if (parameters.containsKey(ParameterConstants.EA_SELECTION.comparator) && parameters.containsKey(ParameterConstants.EA_SELECTION.tournaments)) {
                     return new TournamentSelection<>((Comparator<S>) parameters.get(ParameterConstants.EA_SELECTION.comparator),
-                            (Integer) parameters.get(ParameterConstants.EA_SELECTION.tournaments));
+                            (Integer) parameters.get(ParameterConstants.EA_SELECTION.tournaments), random);
                 } else if (parameters.containsKey(ParameterConstants.EA_SELECTION.tournaments)) {
-                    return new TournamentSelection<S>((Integer) parameters.get(ParameterConstants.EA_SELECTION.tournaments));
+                    return new TournamentSelection<S>(new DominanceComparator<>(),
+                            (Integer) parameters.get(ParameterConstants.EA_SELECTION.tournaments), random);
                 } else {
                     throw new JMetalException("Parameter tournaments for TournamentSelection not given");
                 }
@@ -62,20 +83,20 @@ public class SelectionFactory {
             case  NARY_TOURNAMENT:
                 if (parameters.containsKey(ParameterConstants.EA_SELECTION.toSelect) && parameters.containsKey(ParameterConstants.EA_SELECTION.comparator)) {
                     return new NaryTournamentSelection<>((Integer) parameters.get(ParameterConstants.EA_SELECTION.toSelect),
-                            (Comparator<S>) parameters.get(ParameterConstants.EA_SELECTION.comparator));
+                            (Comparator<S>) parameters.get(ParameterConstants.EA_SELECTION.comparator), random);
                 } else {
-                    return new NaryTournamentSelection<S>();
+                    return new NaryTournamentSelection<S>(2, new DominanceComparator<>(), random);
                 }
 
             case NARY_RANDOM:
                 if (parameters.containsKey(ParameterConstants.EA_SELECTION.toSelect)) {
-                    return new NaryRandomSelection<S>((Integer) parameters.get(ParameterConstants.EA_SELECTION.toSelect));
+                    return new NaryRandomSelection<S>((Integer) parameters.get(ParameterConstants.EA_SELECTION.toSelect), random);
                 } else {
-                    return new NaryRandomSelection<S>();
+                    return new NaryRandomSelection<S>(1, random);
                 }
 
             case RANDOM:
-                return new RandomSelection<S>();
+                return new RandomSelection<S>(random);
 
             case RANKING_CROWDING:
                 if (parameters.containsKey(ParameterConstants.EA_SELECTION.toSelect)) {
@@ -86,18 +107,19 @@ public class SelectionFactory {
 
             case ROULETTE_WHEEL:
                 if (parameters.containsKey(ParameterConstants.EA_SELECTION.comparator)) {
-                    return new RouletteWheelSelection<>((Comparator<S>) parameters.get(ParameterConstants.EA_SELECTION.comparator));
+                    return new RouletteWheelSelection<>((Comparator<S>) parameters.get(ParameterConstants.EA_SELECTION.comparator), random);
                 } else {
-                    return new RouletteWheelSelection<S>();
+                    return new RouletteWheelSelection<S>(new DominanceComparator<>(), random);
                 }
 
             case SUS:
                 if (parameters.containsKey(ParameterConstants.EA_SELECTION.toSelect)) {
                     if (parameters.containsKey(ParameterConstants.EA_SELECTION.comparator)) {
                         return new StochasticUniversalSampling<>((Integer) parameters.get(ParameterConstants.EA_SELECTION.toSelect),
-                                (Comparator<S>) parameters.get(ParameterConstants.EA_SELECTION.comparator));
+                                (Comparator<S>) parameters.get(ParameterConstants.EA_SELECTION.comparator), random);
                     } else {
-                        return new StochasticUniversalSampling<S>((Integer) parameters.get(ParameterConstants.EA_SELECTION.toSelect));
+                        return new StochasticUniversalSampling<S>((Integer) parameters.get(ParameterConstants.EA_SELECTION.toSelect),
+                                new DominanceComparator<>(), random);
                     }
                 } else {
                     throw new JMetalException("Parameter solutionsToSelect for TournamentSelection not given");
@@ -105,9 +127,9 @@ public class SelectionFactory {
 
             case STOCHASTIC_ACCEPTANCE:
                 if (parameters.containsKey(ParameterConstants.EA_SELECTION.comparator)) {
-                    return new StochasticAcceptanceSelection<>((Comparator<S>) parameters.get(ParameterConstants.EA_SELECTION.comparator));
+                    return new StochasticAcceptanceSelection<>((Comparator<S>) parameters.get(ParameterConstants.EA_SELECTION.comparator), random);
                 } else {
-                    return new StochasticAcceptanceSelection<S>();
+                    return new StochasticAcceptanceSelection<S>(new DominanceComparator<>(), random);
                 }
 
             default: throw new JMetalException("Selection Operator: " + operator.getName() + " not implemented");
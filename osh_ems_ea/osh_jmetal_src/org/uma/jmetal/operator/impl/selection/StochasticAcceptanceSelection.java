@@ -28,8 +28,15 @@ public class StochasticAcceptanceSelection<S extends Solution<?>> implements Sel
      * Creates a new RouletteWheelSelection operator using a DominanceComparator
      */
     public StochasticAcceptanceSelection(Comparator<S> comparator) {
+        this(comparator, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructor drawing all random numbers from the given random context
+     */
+    public StochasticAcceptanceSelection(Comparator<S> comparator, JMetalRandom randomGenerator) {
         this.comparator = comparator;
-        this.randomGenerator = JMetalRandom.getInstance();
+        this.randomGenerator = randomGenerator;
     }
 
     public StochasticAcceptanceSelection() {
@@ -32,9 +32,16 @@ public class StochasticUniversalSampling<S extends Solution<?>> implements Selec
      * @throws JMException
      */
     public StochasticUniversalSampling(int numberToSelect, Comparator<S> comparator) {
+        this(numberToSelect, comparator, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructor drawing all random numbers from the given random context
+     */
+    public StochasticUniversalSampling(int numberToSelect, Comparator<S> comparator, JMetalRandom randomGenerator) {
         this.numberToSelect = numberToSelect;
         this.comparator = comparator;
-        this.randomGenerator = JMetalRandom.getInstance();
+        this.randomGenerator = randomGenerator;
     }
 
     public StochasticUniversalSampling(int numberToSelect) {
@@ -6,6 +6,7 @@ import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.SolutionUtils;
 import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.util.Comparator;
 import java.util.List;
@@ -21,6 +22,7 @@ public class TournamentSelection<S extends Solution<?>> implements SelectionOper
     private final Comparator<S> comparator;
 
     private final int n_arity;
+    private final JMetalRandom randomGenerator;
 
     /**
      * Constructor
@@ -33,8 +35,16 @@ public class TournamentSelection<S extends Solution<?>> implements SelectionOper
      * Constructor
      */
     public TournamentSelection(Comparator<S> comparator, int n_arity) {
+        this(comparator, n_arity, JMetalRandom.getInstance());
+    }
+
+    /**
+     * Constructor drawing all random numbers from the given random context
+     */
+    public TournamentSelection(Comparator<S> comparator, int n_arity, JMetalRandom randomGenerator) {
         this.n_arity = n_arity;
         this.comparator = comparator;
+        this.randomGenerator = randomGenerator;
     }
 
     @Override
@@ -50,18 +60,22 @@ public class TournamentSelection<S extends Solution<?>> implements SelectionOper
         if (solutionList.size() == 1) {
             result = solutionList.get(0);
         } else {
-            result = SolutionListUtils.selectNRandomDifferentSolutions(1, solutionList).get(0);
+            result = SolutionListUtils.selectNRandomDifferentSolutions(1, solutionList,
+                    this.randomGenerator::nextInt).get(0);
             int count = 1; // at least 2 solutions are compared
             do {
-                S candidate = SolutionListUtils.selectNRandomDifferentSolutions(1, solutionList).get(0);
+                S candidate = SolutionListUtils.selectNRandomDifferentSolutions(1, solutionList,
+                        this.randomGenerator::nextInt).get(0);
 
                 //TODO: in legacy jmetal the same solution could not be selected when running tournament selection,
                 // review this as sonon as next backwards-compatibility breaking update is released
                 while (result == candidate) {
-                    candidate = SolutionListUtils.selectNRandomDifferentSolutions(1, solutionList).get(0);
+                    candidate = SolutionListUtils.selectNRandomDifferentSolutions(1, solutionList,
+                            this.randomGenerator::nextInt).get(0);
                 }
 
-                result = SolutionUtils.getBestSolution(result, candidate, this.comparator);
+                result = SolutionUtils.getBestSolution(result, candidate, this.comparator,
+                        () -> this.randomGenerator.nextDouble());
             } while (++count < this.n_arity);
         }
 
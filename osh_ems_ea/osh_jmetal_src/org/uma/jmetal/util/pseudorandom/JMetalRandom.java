@@ -5,22 +5,54 @@ import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
 import java.io.Serializable;
 
 /**
+ * Random context of jMetal. Every thread has its own instance returned by {@link #getInstance()}, additional
+ * independent contexts can be created for single optimizations and handed to their operators, so that concurrent
+ * optimizations neither share nor depend on the random generator of the thread they run in.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public final class JMetalRandom implements Serializable {
-    private static JMetalRandom instance;
+    //one instance per thread, so that simulations running concurrently do not share their random generators
+    private static final ThreadLocal<JMetalRandom> instance = ThreadLocal.withInitial(JMetalRandom::new);
     private PseudoRandomGenerator randomGenerator;
 
     private JMetalRandom() {
         this.randomGenerator = new JavaRandomGenerator();
     }
 
+    /**
+     * Creates a new random context drawing from the given generator.
+     *
+     * @param randomGenerator the generator of the context
+     */
+    public JMetalRandom(PseudoRandomGenerator randomGenerator) {
+        this.randomGenerator = randomGenerator;
+    }
+
     public static JMetalRandom getInstance() {
-        if (instance == null) {
-            instance = new JMetalRandom();
-        }
-        return instance;
+        return instance.get();
+    }
+
+    /**
+     * Sets the given context as the instance of the current thread, so that all random numbers drawn through
+     * {@link #getInstance()} in this thread are drawn from this context.
+     *
+     * @param random the context to use in the current thread
+     */
+    public static void setInstance(JMetalRandom random) {
+        instance.set(random);
+    }
+
+    /**
+     * Creates an independent context seeded from the next random number of this context. Substreams created in the
+     * same order always yield the same random numbers, so that work distributed to other threads stays reproducible.
+     *
+     * @return a new independent context
+     */
+    public JMetalRandom createSubstream() {
+        long seed = (long) (this.randomGenerator.nextDouble() * (1L << 53));
+        return new JMetalRandom(new JavaRandomGenerator(seed));
     }
 
     public PseudoRandomGenerator getRandomGenerator() {
@@ -86,6 +86,7 @@ public class ModularGlobalController extends GlobalController implements IDataRe
                     this.configurationParameters,
                     this.gaparameters,
                     this.getGlobalLogger(),
+                    this.getOSH().getDatabaseLogger(),
                     this.ocESC);
         } catch (Exception e) {
             throw new OSHException(e);
@@ -109,6 +110,15 @@ public class ModularGlobalController extends GlobalController implements IDataRe
         }
     }
 
+    /**
+     * Returns the global data storage container shared by all modules of this controller.
+     *
+     * @return the global data storage container or null if the system is not up yet
+     */
+    public GlobalControllerDataStorage getDataStorage() {
+        return this.dataStorage;
+    }
+
     @Override
     public void onSystemShutdown() throws OSHException {
         super.onSystemShutdown();
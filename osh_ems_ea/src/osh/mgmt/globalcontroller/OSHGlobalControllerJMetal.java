@@ -31,9 +31,11 @@ import osh.datatypes.registry.oc.state.globalobserver.GUIScheduleStateExchange;
 import osh.eal.time.TimeExchange;
 import osh.eal.time.TimeSubscribeEnum;
 import osh.esc.OCEnergySimulationCore;
+import osh.mgmt.globalcontroller.jmetal.AlgorithmType;
 import osh.mgmt.globalcontroller.jmetal.Fitness;
 import osh.mgmt.globalcontroller.jmetal.GAParameters;
 import osh.mgmt.globalcontroller.jmetal.IFitness;
+import osh.mgmt.globalcontroller.jmetal.ParetoSelectionPolicy;
 import osh.mgmt.globalcontroller.jmetal.SolutionWithFitness;
 import osh.mgmt.globalcontroller.jmetal.esc.EMProblemEvaluator;
 import osh.mgmt.globalcontroller.jmetal.esc.JMetalEnergySolverGA;
@@ -43,7 +45,6 @@ import osh.mgmt.globalcontroller.jmetal.logging.IEALogger;
 import osh.mgmt.globalobserver.OSHGlobalObserver;
 import osh.registry.interfaces.IDataRegistryListener;
 import osh.registry.interfaces.IProvidesIdentity;
-import osh.simulation.database.DatabaseLoggerThread;
 import osh.utils.string.ParameterConstants;
 
 import java.time.ZonedDateTime;
@@ -161,10 +162,86 @@ public class OSHGlobalControllerJMetal
             this.getGlobalLogger().logError("Can't get parameter hotWaterTankUUID, using the default value: " + this.hotWaterTankID);
         }
 
+        try {
+            this.gaparameters.setFitnessCacheSize(
+                    Integer.parseInt(this.configurationParameters.getParameter(ParameterConstants.Optimization.fitnessCacheSize)));
+        } catch (Exception e) {
+            this.getGlobalLogger().logWarning("Can't get fitnessCacheSize, using the default value: " + this.gaparameters.getFitnessCacheSize());
+        }
+
+        try {
+            this.gaparameters.setDeltaEvaluationCheckpointInterval(
+                    Integer.parseInt(this.configurationParameters.getParameter(ParameterConstants.Optimization.deltaEvaluationCheckpointInterval)));
+        } catch (Exception e) {
+            this.getGlobalLogger().logWarning("Can't get deltaEvaluationCheckpointInterval, using the default value: " + this.gaparameters.getDeltaEvaluationCheckpointInterval());
+        }
+
+        try {
+            this.gaparameters.setEvaluationThreads(
+                    Integer.parseInt(this.configurationParameters.getParameter(ParameterConstants.Optimization.evaluationThreads)));
+        } catch (Exception e) {
+            this.getGlobalLogger().logWarning("Can't get evaluationThreads, using the default value: " + this.gaparameters.getEvaluationThreads());
+        }
+
+        try {
+            this.gaparameters.setPreAggregateBackgroundLoad(
+                    Boolean.parseBoolean(this.configurationParameters.getParameter(ParameterConstants.Optimization.preAggregateBackgroundLoad)));
+        } catch (Exception e) {
+            this.getGlobalLogger().logWarning("Can't get preAggregateBackgroundLoad, using the default value: " + this.gaparameters.isPreAggregateBackgroundLoad());
+        }
+
+        try {
+            this.gaparameters.setAlgorithmType(AlgorithmType.fromName(
+                    this.configurationParameters.getParameter(ParameterConstants.Optimization.algorithm)));
+        } catch (Exception e) {
+            this.getGlobalLogger().logWarning("Can't get optimizationAlgorithm, using the default value: " + this.gaparameters.getAlgorithmType().getName());
+        }
+
+        try {
+            this.gaparameters.setParetoSelectionPolicy(ParetoSelectionPolicy.fromName(
+                    this.configurationParameters.getParameter(ParameterConstants.Optimization.paretoSelectionPolicy)));
+        } catch (Exception e) {
+            this.getGlobalLogger().logWarning("Can't get paretoSelectionPolicy, using the default value: " + this.gaparameters.getParetoSelectionPolicy().getName());
+        }
+
+        //the anytime optimization is only implemented by the modular global controller
+        String anytimeBudget = this.configurationParameters.getParameter(ParameterConstants.Optimization.anytimeBudget);
+        if (anytimeBudget != null) {
+            try {
+                if (Double.parseDouble(anytimeBudget) > 0) {
+                    this.getGlobalLogger().logWarning("anytimeBudget is not supported by this controller, "
+                            + "use the ModularGlobalController for the anytime optimization");
+                }
+            } catch (NumberFormatException ignored) {
+                //ignored anyway
+            }
+        }
+
+        try {
+            this.gaparameters.setIslandCount(
+                    Integer.parseInt(this.configurationParameters.getParameter(ParameterConstants.Optimization.islandCount)));
+        } catch (Exception e) {
+            this.getGlobalLogger().logWarning("Can't get islandCount, using the default value: " + this.gaparameters.getIslandCount());
+        }
+
+        try {
+            this.gaparameters.setMigrationInterval(
+                    Integer.parseInt(this.configurationParameters.getParameter(ParameterConstants.Optimization.migrationInterval)));
+        } catch (Exception e) {
+            this.getGlobalLogger().logWarning("Can't get migrationInterval, using the default value: " + this.gaparameters.getMigrationInterval());
+        }
+
+        try {
+            this.gaparameters.setMigrationSize(
+                    Integer.parseInt(this.configurationParameters.getParameter(ParameterConstants.Optimization.migrationSize)));
+        } catch (Exception e) {
+            this.getGlobalLogger().logWarning("Can't get migrationSize, using the default value: " + this.gaparameters.getMigrationSize());
+        }
+
         this.logDir = this.getOSH().getOSHStatus().getLogDir();
 
         this.getGlobalLogger().logDebug("Optimization StepSize = " + this.stepSize);
-        this.eaLogger = new EALogger(this.getGlobalLogger(),true,true,10,20,true);
+        this.eaLogger = new EALogger(this.getGlobalLogger(), this.getOSH().getDatabaseLogger(),true,true,10,20,true);
     }
 
 
@@ -281,7 +358,7 @@ public class OSHGlobalControllerJMetal
 
         //retrieve information of ga should log to database
         if (this.logGa == null) {
-            this.logGa = DatabaseLoggerThread.isLogEA();
+            this.logGa = this.getOSH().getDatabaseLogger().isLogEA();
         }
 
         EnumMap<AncillaryCommodity, PriceSignal> tempPriceSignals = new EnumMap<>(AncillaryCommodity.class);
@@ -0,0 +1,59 @@
+package osh.mgmt.globalcontroller.jmetal;
+
+import osh.datatypes.registry.oc.ipp.solutionEncoding.variables.VariableEncoding;
+
+/**
+ * Represents the different types of algorithms the optimization can be run with.
+ */
+public enum AlgorithmType {
+
+    GA("GeneticAlgorithm", VariableEncoding.BINARY),
+    DE("DifferentialEvolution", VariableEncoding.REAL),
+    ES("EvolutionStrategy", VariableEncoding.REAL),
+    NSGAII("NSGAII", VariableEncoding.BINARY),
+    ISLAND_GA("IslandModelGeneticAlgorithm", VariableEncoding.BINARY);
+
+    private final String name;
+    private final VariableEncoding encoding;
+
+    /**
+     * Construct the algorithm type with the given name and encoding.
+     *
+     * @param name the name of the algorithm type
+     * @param encoding the encoding of the solutions the algorithm works on
+     */
+    AlgorithmType(String name, VariableEncoding encoding) {
+        this.name = name;
+        this.encoding = encoding;
+    }
+
+    /**
+     * Returns the name of the algorithm type.
+     * @return the name of the algorithm type
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the encoding of the solutions the algorithm works on.
+     * @return the encoding of the solutions
+     */
+    public VariableEncoding getEncoding() {
+        return this.encoding;
+    }
+
+    /**
+     * Finds and returns the enum value corresponding to the given name.
+     *
+     * @param name the name of the enum value to find
+     * @return the enum value corresponding to the name
+     */
+    public static AlgorithmType fromName(String name) {
+        for (AlgorithmType e : AlgorithmType.values()) {
+            if (e.name.equalsIgnoreCase(name)) return e;
+        }
+
+        throw new IllegalArgumentException(name);
+    }
+}
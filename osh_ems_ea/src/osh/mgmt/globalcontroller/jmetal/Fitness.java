@@ -2,9 +2,11 @@ package osh.mgmt.globalcontroller.jmetal;
 
 import osh.core.logging.IGlobalLogger;
 import osh.datatypes.commodity.AncillaryCommodity;
+import osh.datatypes.limit.CompiledSignals;
 import osh.datatypes.limit.PowerLimitSignal;
 import osh.datatypes.limit.PriceSignal;
 import osh.datatypes.power.AncillaryCommodityLoadProfile;
+import osh.datatypes.power.AncillaryCommodityStepProfile;
 import osh.utils.CostCalculator;
 
 import java.util.EnumMap;
@@ -77,6 +79,25 @@ public class Fitness implements IFitness {
                 this.globalLogger);
     }
 
+    public double getFitnessValue(
+            long beginAt,
+            long endAt,
+            AncillaryCommodityStepProfile ancillaryMeter,
+            CompiledSignals signals
+    ) {
+        return CostCalculator.calcRangeCosts(
+                this.epsOptimizationObjective,
+                this.varOptimizationObjective,
+                this.plsOptimizationObjective,
+                beginAt,
+                endAt,
+                this.upperOverlimitFactor,
+                this.lowerOverlimitFactor,
+                ancillaryMeter,
+                signals,
+                this.globalLogger);
+    }
+
 
 //	private double getFitnessValueOld(
 //			long beginAt,
@@ -34,6 +34,20 @@ public class GAParameters implements Cloneable {
 
     private HashMap<String, HashMap> stoppingRules;
 
+    private int fitnessCacheSize = 1000;
+    private double warmStartShare;
+    private int deltaEvaluationCheckpointInterval;
+    private int evaluationThreads;
+    private boolean preAggregateBackgroundLoad;
+    private AlgorithmType algorithmType = AlgorithmType.GA;
+    private ParetoSelectionPolicy paretoSelectionPolicy = ParetoSelectionPolicy.MIN_FITNESS;
+    private double anytimeBudget;
+    private double anytimeRefinementBudget = 60.0;
+    private double anytimeMinImprovement = 0.01;
+    private int islandCount;
+    private int migrationInterval = 10;
+    private int migrationSize = 2;
+
     public GAParameters() {
         this.crossoverOperator = CrossoverType.BINARY_N_POINT.getName();
         this.mutationOperator = MutationType.BIT_FLIP_APPROX.getName();
@@ -143,6 +157,110 @@ public class GAParameters implements Cloneable {
         return this.stoppingRules;
     }
 
+    public int getFitnessCacheSize() {
+        return this.fitnessCacheSize;
+    }
+
+    public void setFitnessCacheSize(int fitnessCacheSize) {
+        this.fitnessCacheSize = fitnessCacheSize;
+    }
+
+    public double getWarmStartShare() {
+        return this.warmStartShare;
+    }
+
+    public void setWarmStartShare(double warmStartShare) {
+        this.warmStartShare = warmStartShare;
+    }
+
+    public int getDeltaEvaluationCheckpointInterval() {
+        return this.deltaEvaluationCheckpointInterval;
+    }
+
+    public void setDeltaEvaluationCheckpointInterval(int deltaEvaluationCheckpointInterval) {
+        this.deltaEvaluationCheckpointInterval = deltaEvaluationCheckpointInterval;
+    }
+
+    public int getEvaluationThreads() {
+        return this.evaluationThreads;
+    }
+
+    public void setEvaluationThreads(int evaluationThreads) {
+        this.evaluationThreads = evaluationThreads;
+    }
+
+    public boolean isPreAggregateBackgroundLoad() {
+        return this.preAggregateBackgroundLoad;
+    }
+
+    public void setPreAggregateBackgroundLoad(boolean preAggregateBackgroundLoad) {
+        this.preAggregateBackgroundLoad = preAggregateBackgroundLoad;
+    }
+
+    public AlgorithmType getAlgorithmType() {
+        return this.algorithmType;
+    }
+
+    public void setAlgorithmType(AlgorithmType algorithmType) {
+        this.algorithmType = algorithmType;
+    }
+
+    public ParetoSelectionPolicy getParetoSelectionPolicy() {
+        return this.paretoSelectionPolicy;
+    }
+
+    public void setParetoSelectionPolicy(ParetoSelectionPolicy paretoSelectionPolicy) {
+        this.paretoSelectionPolicy = paretoSelectionPolicy;
+    }
+
+    public double getAnytimeBudget() {
+        return this.anytimeBudget;
+    }
+
+    public void setAnytimeBudget(double anytimeBudget) {
+        this.anytimeBudget = anytimeBudget;
+    }
+
+    public double getAnytimeRefinementBudget() {
+        return this.anytimeRefinementBudget;
+    }
+
+    public void setAnytimeRefinementBudget(double anytimeRefinementBudget) {
+        this.anytimeRefinementBudget = anytimeRefinementBudget;
+    }
+
+    public double getAnytimeMinImprovement() {
+        return this.anytimeMinImprovement;
+    }
+
+    public void setAnytimeMinImprovement(double anytimeMinImprovement) {
+        this.anytimeMinImprovement = anytimeMinImprovement;
+    }
+
+    public int getIslandCount() {
+        return this.islandCount;
+    }
+
+    public void setIslandCount(int islandCount) {
+        this.islandCount = islandCount;
+    }
+
+    public int getMigrationInterval() {
+        return this.migrationInterval;
+    }
+
+    public void setMigrationInterval(int migrationInterval) {
+        this.migrationInterval = migrationInterval;
+    }
+
+    public int getMigrationSize() {
+        return this.migrationSize;
+    }
+
+    public void setMigrationSize(int migrationSize) {
+        this.migrationSize = migrationSize;
+    }
+
 
     @Override
     public GAParameters clone() {
@@ -162,6 +280,20 @@ public class GAParameters implements Cloneable {
 
         other.stoppingRules = new HashMap(this.stoppingRules);
 
+        other.fitnessCacheSize = this.fitnessCacheSize;
+        other.warmStartShare = this.warmStartShare;
+        other.deltaEvaluationCheckpointInterval = this.deltaEvaluationCheckpointInterval;
+        other.evaluationThreads = this.evaluationThreads;
+        other.preAggregateBackgroundLoad = this.preAggregateBackgroundLoad;
+        other.algorithmType = this.algorithmType;
+        other.paretoSelectionPolicy = this.paretoSelectionPolicy;
+        other.anytimeBudget = this.anytimeBudget;
+        other.anytimeRefinementBudget = this.anytimeRefinementBudget;
+        other.anytimeMinImprovement = this.anytimeMinImprovement;
+        other.islandCount = this.islandCount;
+        other.migrationInterval = this.migrationInterval;
+        other.migrationSize = this.migrationSize;
+
         return other;
     }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package osh.mgmt.globalcontroller.jmetal;
 
 import osh.datatypes.commodity.AncillaryCommodity;
+import osh.datatypes.limit.CompiledSignals;
 import osh.datatypes.limit.PowerLimitSignal;
 import osh.datatypes.limit.PriceSignal;
 import osh.datatypes.power.AncillaryCommodityLoadProfile;
+import osh.datatypes.power.AncillaryCommodityStepProfile;
 
 import java.util.EnumMap;
 
@@ -24,4 +26,17 @@ public interface IFitness {
             EnumMap<AncillaryCommodity, PowerLimitSignal> powerLimitSignals
     );
 
+    /**
+     * @param beginAt     begin at this time
+     * @param ancillaryMeter fixed-step profile of the ancillary meter
+     * @param signals compiled price- and power-limit-signals
+     * @return fitness value
+     */
+    double getFitnessValue(
+            long beginAt,
+            long endAt,
+            AncillaryCommodityStepProfile ancillaryMeter,
+            CompiledSignals signals
+    );
+
 }
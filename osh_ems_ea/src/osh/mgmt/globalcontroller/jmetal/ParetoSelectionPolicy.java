@@ -0,0 +1,55 @@
+package osh.mgmt.globalcontroller.jmetal;
+
+/**
+ * Represents the different policies to pick the solution to be executed from the pareto front of a multi-objective
+ * optimization.
+ */
+public enum ParetoSelectionPolicy {
+
+    /**
+     * the solution with the lowest sum of energy costs and cervisia, i.e. the solution with the best fitness of the
+     * single-objective optimization
+     */
+    MIN_FITNESS("MinimumFitness"),
+    /**
+     * the solution with the lowest violation of the upper power-limit, ties are broken by the fitness
+     */
+    MIN_PEAK("MinimumPeak"),
+    /**
+     * the solution closest to the ideal point of the front with all objectives normalized to the range of the front
+     */
+    KNEE("Knee");
+
+    private final String name;
+
+    /**
+     * Construct the pareto selection policy with the given name.
+     *
+     * @param name the name of the pareto selection policy
+     */
+    ParetoSelectionPolicy(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the name of the pareto selection policy.
+     * @return the name of the pareto selection policy
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Finds and returns the enum value corresponding to the given name.
+     *
+     * @param name the name of the enum value to find
+     * @return the enum value corresponding to the name
+     */
+    public static ParetoSelectionPolicy fromName(String name) {
+        for (ParetoSelectionPolicy e : ParetoSelectionPolicy.values()) {
+            if (e.name.equalsIgnoreCase(name)) return e;
+        }
+
+        throw new IllegalArgumentException(name);
+    }
+}
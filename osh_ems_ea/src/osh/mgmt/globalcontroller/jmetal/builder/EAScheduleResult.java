@@ -1,11 +1,14 @@
 package osh.mgmt.globalcontroller.jmetal.builder;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.binarySet.BinarySet;
 import osh.datatypes.ea.Schedule;
 import osh.datatypes.power.AncillaryCommodityLoadProfile;
 
 import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
+import java.util.UUID;
 
 /**
  * Represents a collection object of all ea-results inclusive the logging and/or debugging information.
@@ -21,6 +24,8 @@ public class EAScheduleResult {
     private final AncillaryCommodityLoadProfile ancillaryMeter;
     private final Solution<?> solution;
     private final boolean isDummySolution;
+    private final long referenceTime;
+    private final Map<UUID, BinarySet> encodedPartialSolutions;
 
     /**
      * Constructs this data collection with the given values.
@@ -32,12 +37,16 @@ public class EAScheduleResult {
      * @param ancillaryMeter the resulting ancillary meter of the solution
      * @param solution the solution
      * @param isDummySolution flag if the solution is a constructed one as the problem had nothing to optimise
+     * @param referenceTime the reference time the solution was encoded for
+     * @param encodedPartialSolutions the binary encoded solutions of all problem-parts mapped to their unique
+     *                                identifiers
      */
     public EAScheduleResult(TreeMap<Long, Double> predictedHotWaterTankTemperature,
                             TreeMap<Long, Double> predictedHotWaterDemand,
                             TreeMap<Long, Double> predictedHotWaterSupply, List<Schedule> schedules,
                             AncillaryCommodityLoadProfile ancillaryMeter, Solution<?> solution,
-                            boolean isDummySolution) {
+                            boolean isDummySolution, long referenceTime,
+                            Map<UUID, BinarySet> encodedPartialSolutions) {
         this.predictedHotWaterTankTemperature = predictedHotWaterTankTemperature;
         this.predictedHotWaterDemand = predictedHotWaterDemand;
         this.predictedHotWaterSupply = predictedHotWaterSupply;
@@ -45,6 +54,8 @@ public class EAScheduleResult {
         this.ancillaryMeter = ancillaryMeter;
         this.solution = solution;
         this.isDummySolution = isDummySolution;
+        this.referenceTime = referenceTime;
+        this.encodedPartialSolutions = encodedPartialSolutions;
     }
 
     /**
@@ -109,4 +120,22 @@ public class EAScheduleResult {
     public boolean isDummySolution() {
         return this.isDummySolution;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the reference time the solution was encoded for.
+     *
+     * @return the reference time the solution was encoded for
+     */
+    public long getReferenceTime() {
+        return this.referenceTime;
+    }
+
+    /**
+     * Returns the binary encoded solutions of all problem-parts mapped to their unique identifiers.
+     *
+     * @return the binary encoded solutions of all problem-parts
+     */
+    public Map<UUID, BinarySet> getEncodedPartialSolutions() {
+        return this.encodedPartialSolutions;
+    }
+}
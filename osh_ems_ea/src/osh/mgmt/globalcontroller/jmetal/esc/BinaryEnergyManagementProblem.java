@@ -26,7 +26,20 @@ public class BinaryEnergyManagementProblem extends EnergyManagementProblem<Binar
      * @param distributor the solution distributor for the problem
      */
     public BinaryEnergyManagementProblem(EMProblemEvaluator evaluator, SolutionDistributor distributor) {
-        super(evaluator);
+        this(evaluator, distributor, 1);
+    }
+
+    /**
+     * Constructs this binary encoded energy management problem with the provided problem evaluator, solution
+     * distributor and number of objectives
+     *
+     * @param evaluator the evaluator for the problem
+     * @param distributor the solution distributor for the problem
+     * @param numberOfObjectives the number of objectives, see {@link EnergyManagementProblem}
+     */
+    public BinaryEnergyManagementProblem(EMProblemEvaluator evaluator, SolutionDistributor distributor,
+                                         int numberOfObjectives) {
+        super(evaluator, numberOfObjectives);
 
         this.setNumberOfVariables(1);
         this.bitCount = new int[1];
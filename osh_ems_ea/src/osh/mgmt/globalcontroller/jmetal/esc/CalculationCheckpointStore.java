@@ -0,0 +1,249 @@
+package osh.mgmt.globalcontroller.jmetal.esc;
+
+import osh.datatypes.commodity.AncillaryMeterState;
+import osh.datatypes.power.AncillaryCommodityStepProfile;
+import osh.datatypes.registry.oc.ipp.InterdependentCalculationCheckpoint;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded and thread-safe store for the checkpoints of the interdependent calculation of already evaluated binary
+ * encoded solutions. Allows the evaluation of a similar solution to resume the calculation from the last checkpoint
+ * before the first point in time that is influenced by a differing bit. When the store is full the oldest evaluation
+ * will be evicted.
+ */
+public class CalculationCheckpointStore {
+
+    private final int maxSize;
+    private final Deque<EvaluationCheckpoints> evaluations;
+
+    private final LongAdder resumedEvaluations = new LongAdder();
+    private final LongAdder fullEvaluations = new LongAdder();
+    private final LongAdder skippedSteps = new LongAdder();
+    private final LongAdder calculatedSteps = new LongAdder();
+
+    /**
+     * Constructs this store with the given maximum number of stored evaluations.
+     *
+     * @param maxSize the maximum number of evaluations to store the checkpoints of
+     */
+    public CalculationCheckpointStore(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maximum size of the checkpoint store has to be positive");
+        }
+        this.maxSize = maxSize;
+        this.evaluations = new ArrayDeque<>(maxSize + 1);
+    }
+
+    /**
+     * Returns a snapshot of all currently stored evaluations, starting with the most recent one.
+     *
+     * @return all currently stored evaluations
+     */
+    public List<EvaluationCheckpoints> getStoredEvaluations() {
+        synchronized (this.evaluations) {
+            return new ArrayList<>(this.evaluations);
+        }
+    }
+
+    /**
+     * Stores the checkpoints of the given completed evaluation.
+     *
+     * @param evaluation the checkpoints of the completed evaluation
+     */
+    public void store(EvaluationCheckpoints evaluation) {
+        synchronized (this.evaluations) {
+            this.evaluations.addFirst(evaluation);
+            if (this.evaluations.size() > this.maxSize) {
+                this.evaluations.removeLast();
+            }
+        }
+    }
+
+    /**
+     * Counts a completed evaluation.
+     *
+     * @param resumed flag if the evaluation was resumed from a checkpoint
+     * @param skipped the number of steps of the optimization loop that were skipped by resuming
+     * @param calculated the number of steps of the optimization loop that were calculated
+     */
+    public void countEvaluation(boolean resumed, long skipped, long calculated) {
+        if (resumed) {
+            this.resumedEvaluations.increment();
+        } else {
+            this.fullEvaluations.increment();
+        }
+        this.skippedSteps.add(skipped);
+        this.calculatedSteps.add(calculated);
+    }
+
+    /**
+     * Returns the number of evaluations that were resumed from a checkpoint.
+     *
+     * @return the number of evaluations that were resumed from a checkpoint
+     */
+    public long getResumedEvaluations() {
+        return this.resumedEvaluations.sum();
+    }
+
+    /**
+     * Returns the number of evaluations that calculated the complete optimization loop.
+     *
+     * @return the number of evaluations that calculated the complete optimization loop
+     */
+    public long getFullEvaluations() {
+        return this.fullEvaluations.sum();
+    }
+
+    /**
+     * Returns the number of steps of the optimization loop that were skipped by resuming from checkpoints.
+     *
+     * @return the number of skipped steps
+     */
+    public long getSkippedSteps() {
+        return this.skippedSteps.sum();
+    }
+
+    /**
+     * Returns the number of steps of the optimization loop that were calculated.
+     *
+     * @return the number of calculated steps
+     */
+    public long getCalculatedSteps() {
+        return this.calculatedSteps.sum();
+    }
+
+    /**
+     * Checkpoints of the interdependent calculation of one evaluated binary encoded solution.
+     */
+    public static final class EvaluationCheckpoints {
+
+        private final BitSet encoding;
+        private final AncillaryCommodityStepProfile ancillaryMeter;
+        private final List<Checkpoint> checkpoints = new ArrayList<>();
+
+        /**
+         * Constructs this container for the checkpoints of the evaluation of the given encoded solution.
+         *
+         * @param encoding a copy of the evaluated encoding
+         * @param ancillaryMeter the step profile in which the resulting calculated load is entered
+         */
+        public EvaluationCheckpoints(BitSet encoding, AncillaryCommodityStepProfile ancillaryMeter) {
+            this.encoding = encoding;
+            this.ancillaryMeter = ancillaryMeter;
+        }
+
+        /**
+         * Returns the evaluated encoding.
+         *
+         * @return the evaluated encoding
+         */
+        public BitSet getEncoding() {
+            return this.encoding;
+        }
+
+        /**
+         * Returns the step profile in which the resulting calculated load of the evaluation was entered.
+         *
+         * @return the resulting step profile of the evaluation
+         */
+        public AncillaryCommodityStepProfile getAncillaryMeter() {
+            return this.ancillaryMeter;
+        }
+
+        /**
+         * Adds the given checkpoint, checkpoints have to be added in chronological order.
+         *
+         * @param checkpoint the checkpoint to add
+         */
+        public void addCheckpoint(Checkpoint checkpoint) {
+            this.checkpoints.add(checkpoint);
+        }
+
+        /**
+         * Adds all checkpoints of the given evaluation not after the given point in time.
+         *
+         * @param other the evaluation to take the checkpoints from
+         * @param time the point in time
+         */
+        public void addCheckpointsUntil(EvaluationCheckpoints other, long time) {
+            for (Checkpoint checkpoint : other.checkpoints) {
+                if (checkpoint.getTime() > time) break;
+                this.checkpoints.add(checkpoint);
+            }
+        }
+
+        /**
+         * Returns the latest checkpoint not after the given point in time.
+         *
+         * @param time the point in time
+         * @return the latest checkpoint not after the given point in time or null if there is none
+         */
+        public Checkpoint getLatestCheckpointUntil(long time) {
+            Checkpoint latest = null;
+            for (Checkpoint checkpoint : this.checkpoints) {
+                if (checkpoint.getTime() > time) break;
+                latest = checkpoint;
+            }
+            return latest;
+        }
+    }
+
+    /**
+     * Immutable checkpoint of the interdependent calculation of all problem-parts at the start of one step of the
+     * optimization loop.
+     */
+    public static final class Checkpoint {
+
+        private final long time;
+        private final InterdependentCalculationCheckpoint[] partCheckpoints;
+        private final AncillaryMeterState meterState;
+
+        /**
+         * Constructs this checkpoint with the given states.
+         *
+         * @param time the point in time of the step of the optimization loop
+         * @param partCheckpoints the checkpoints of all problem-parts indexed by their id
+         * @param meterState a copy of the ancillary meter state
+         */
+        public Checkpoint(long time, InterdependentCalculationCheckpoint[] partCheckpoints,
+                          AncillaryMeterState meterState) {
+            this.time = time;
+            this.partCheckpoints = partCheckpoints;
+            this.meterState = meterState;
+        }
+
+        /**
+         * Returns the point in time of the step of the optimization loop.
+         *
+         * @return the point in time of the step of the optimization loop
+         */
+        public long getTime() {
+            return this.time;
+        }
+
+        /**
+         * Returns the checkpoint of the problem-part with the given id.
+         *
+         * @param id the id of the problem-part
+         * @return the checkpoint of the problem-part
+         */
+        public InterdependentCalculationCheckpoint getPartCheckpoint(int id) {
+            return this.partCheckpoints[id];
+        }
+
+        /**
+         * Returns the ancillary meter state, the state must not be altered.
+         *
+         * @return the ancillary meter state
+         */
+        public AncillaryMeterState getMeterState() {
+            return this.meterState;
+        }
+    }
+}
@@ -2,22 +2,30 @@ package osh.mgmt.globalcontroller.jmetal.esc;
 
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.uma.jmetal.solution.BinarySolution;
 import org.uma.jmetal.solution.Solution;
 import osh.datatypes.commodity.AncillaryCommodity;
 import osh.datatypes.commodity.AncillaryMeterState;
 import osh.datatypes.commodity.Commodity;
+import osh.datatypes.limit.CompiledSignals;
 import osh.datatypes.limit.PowerLimitSignal;
 import osh.datatypes.limit.PriceSignal;
 import osh.datatypes.power.AncillaryCommodityLoadProfile;
+import osh.datatypes.power.AncillaryCommodityStepProfile;
 import osh.datatypes.registry.oc.ipp.ControllableIPP;
+import osh.datatypes.registry.oc.ipp.InterdependentCalculationCheckpoint;
 import osh.datatypes.registry.oc.ipp.InterdependentProblemPart;
+import osh.datatypes.registry.oc.ipp.PreCalculatedNonControllableIPP;
+import osh.esc.LimitedCommodityStateMap;
 import osh.esc.OCEnergySimulationCore;
 import osh.esc.UUIDCommodityMap;
 import osh.mgmt.globalcontroller.jmetal.IFitness;
 import osh.mgmt.globalcontroller.jmetal.logging.IEALogger;
+import osh.utils.CostCalculator;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 /**
@@ -27,12 +35,19 @@ import java.util.stream.Collectors;
  */
 public class EMProblemEvaluator {
 
-    private final EnumMap<AncillaryCommodity, PriceSignal> priceSignals;
-    private final EnumMap<AncillaryCommodity, PowerLimitSignal> powerLimitSignals;
+    //objectives of solutions evaluated for multi-objective optimization, solutions with a single objective are
+    // evaluated with the sum of energy costs and cervisia
+    public static final int OBJECTIVE_ENERGY_COSTS = 0;
+    public static final int OBJECTIVE_PEAK_LIMIT_VIOLATION = 1;
+    public static final int OBJECTIVE_CERVISIA = 2;
+    public static final int MULTI_OBJECTIVE_COUNT = 3;
+
+    private final CompiledSignals compiledSignals;
     private final long ignoreLoadProfileBefore;
     private final long ignoreLoadProfileAfter;
     private long maxReferenceTime;
     private long maxOptimizationHorizon;
+    private final int problemPartCount;
 
     private final int stepSize;
     private final IFitness fitnessFunction;
@@ -45,7 +60,20 @@ public class EMProblemEvaluator {
     private boolean multiThreadingInitialized;
     private EnergyProblemDataContainer masterDataContainer;
     private ConcurrentLinkedQueue<EnergyProblemDataContainer> multiThreadedQueue;
+    private ThreadLocal<EnergyProblemDataContainer> threadDataContainers;
+
+    //memoization of already evaluated solutions
+    private FitnessCache fitnessCache;
+
+    //resumption of evaluations from the checkpoints of similar already evaluated solutions
+    private CalculationCheckpointStore checkpointStore;
+    private long checkpointDistance;
 
+    //pre-aggregated loads of the problem-parts that do not depend on the solution
+    private boolean[] backgroundParts;
+    private int[] backgroundPartIds;
+    private LimitedCommodityStateMap[][] backgroundOutputStates;
+    private UUIDCommodityMap[] backgroundInputStates;
 
     /**
      * Genererates a new Evaluator with the given constituents.
@@ -73,13 +101,14 @@ public class EMProblemEvaluator {
             int stepSize) {
 
         this.distributor = distributor;
-        this.priceSignals = priceSignals;
-        this.powerLimitSignals = powerLimitSignals;
+        //compile the signals once so that the evaluation of every solution can scan arrays instead of trees
+        this.compiledSignals = new CompiledSignals(priceSignals, powerLimitSignals);
         this.ignoreLoadProfileBefore = ignoreLoadProfileBefore;
         this.ignoreLoadProfileAfter = ignoreLoadProfileAfter;
         this.stepSize = stepSize;
         this.fitnessFunction = fitnessFunction;
         this.eaLogger = eaLogger;
+        this.problemPartCount = problemParts.length;
 
         //mapping of uuid to problem-part id, needed for the construction of UUIDCommodityMaps
         Object2IntOpenHashMap<UUID> uuidIntMap = new Object2IntOpenHashMap<>();
@@ -167,12 +196,38 @@ public class EMProblemEvaluator {
     }
 
     /**
-     * Prepares this problem for use in a multi-threaded environment
+     * Prepares this problem for use in a multi-threaded environment with one data-container for every thread of the
+     * common fork-join-pool and the calling thread.
      */
     public void initializeMultithreading() {
+        this.initializeMultithreading(ForkJoinPool.getCommonPoolParallelism() + 1);
+    }
+
+    /**
+     * Prepares this problem for use in a multi-threaded environment. The given number of data-containers will be
+     * created upfront and reused by all following evaluations, further containers will only be created if more
+     * evaluations run concurrently.
+     *
+     * @param concurrentEvaluations the expected number of concurrent evaluations
+     */
+    public void initializeMultithreading(int concurrentEvaluations) {
+        this.initializeMultithreading(concurrentEvaluations, false);
+    }
+
+    /**
+     * Prepares this problem for use in a multi-threaded environment. The given number of data-containers will be
+     * created upfront and reused by all following evaluations, further containers will only be created if more
+     * evaluations run concurrently. If the containers are bound to the threads, every thread will keep the first
+     * container it used for all of its following evaluations, which should only be done if all evaluations are
+     * executed by a fixed set of threads.
+     *
+     * @param concurrentEvaluations the expected number of concurrent evaluations
+     * @param bindToThreads flag if the data-containers should be bound to the evaluating threads
+     */
+    public void initializeMultithreading(int concurrentEvaluations, boolean bindToThreads) {
         if (!this.multiThreadingInitialized) {
-            this.multiThreadingInitialized = true;
             this.multiThreadedQueue = new ConcurrentLinkedQueue<>();
+            this.threadDataContainers = bindToThreads ? new ThreadLocal<>() : null;
 
             //set logger to null so that deep copy does not try to copy it
             for (InterdependentProblemPart<?, ?> part : this.baseDataContainer.getAllProblemParts()) {
@@ -180,9 +235,137 @@ public class EMProblemEvaluator {
             }
 
             this.masterDataContainer = this.baseDataContainer.getDeepCopy();
+
+            for (int i = 0; i < concurrentEvaluations; i++) {
+                this.multiThreadedQueue.add(this.masterDataContainer.getDeepCopy());
+            }
+            this.multiThreadingInitialized = true;
         }
     }
 
+    /**
+     * Enables the memoization of the fitness of already evaluated solutions for all following (non-final)
+     * evaluations with this evaluator.
+     *
+     * @param maxSize the maximum number of cached fitness values
+     */
+    public void initializeFitnessCache(int maxSize) {
+        this.fitnessCache = new FitnessCache(maxSize);
+    }
+
+    /**
+     * Logs the number of hits and misses of the fitness cache (if enabled) to the ea-logger.
+     */
+    public void logFitnessCacheStatistics() {
+        if (this.fitnessCache != null) {
+            this.eaLogger.logFitnessCache(this.fitnessCache.getHits(), this.fitnessCache.getMisses());
+        }
+    }
+
+    /**
+     * Enables the resumption of all following (non-final) evaluations of binary encoded solutions from the
+     * checkpoints of the most similar already evaluated solution, i.e. the optimization loop will only be calculated
+     * from the last checkpoint before the first point in time influenced by a differing bit. Has no effect if not all
+     * problem-parts support checkpoints of their calculation.
+     *
+     * @param checkpointInterval the interval in seconds between two checkpoints of the optimization loop
+     * @param maxStoredEvaluations the maximum number of evaluated solutions to keep the checkpoints of
+     * @return true if the resumption of evaluations has been enabled
+     */
+    public boolean initializeDeltaEvaluation(int checkpointInterval, int maxStoredEvaluations) {
+        for (InterdependentProblemPart<?, ?> part : this.baseDataContainer.getAllProblemParts()) {
+            if (!part.isCompletelyStatic() && !part.supportsCalculationCheckpoints()) {
+                this.eaLogger.logAdditional("Delta evaluation disabled, problem-part of type " + part.getDeviceType()
+                        + " does not support checkpoints");
+                return false;
+            }
+        }
+
+        this.checkpointDistance = (long) Math.max(1, checkpointInterval / this.stepSize) * this.stepSize;
+        this.checkpointStore = new CalculationCheckpointStore(maxStoredEvaluations);
+        return true;
+    }
+
+    /**
+     * Logs the number of resumed evaluations and skipped steps of the optimization loop (if enabled) to the ea-logger.
+     */
+    public void logDeltaEvaluationStatistics() {
+        if (this.checkpointStore != null) {
+            long skippedSteps = this.checkpointStore.getSkippedSteps();
+            long allSteps = skippedSteps + this.checkpointStore.getCalculatedSteps();
+
+            this.eaLogger.logAdditional("Delta evaluation -- resumed: " + this.checkpointStore.getResumedEvaluations()
+                    + " -- full: " + this.checkpointStore.getFullEvaluations()
+                    + " -- skipped steps: " + (allSteps == 0 ? 0.0 : (double) skippedSteps / allSteps));
+        }
+    }
+
+    /**
+     * Enables the pre-aggregation of the loads of all problem-parts whose loads are fully pre-calculated and thus do
+     * not depend on the solution. The exchange of these loads is calculated once for the whole horizon, all
+     * following (non-final) evaluations only calculate the problem-parts depending on the solution. As the loads are
+     * summed up in a different order, the fitness can differ in the last digits from evaluations without
+     * pre-aggregation.
+     *
+     * @return true if the pre-aggregation has been enabled
+     */
+    public boolean initializeBackgroundLoad() {
+        InterdependentProblemPart<?, ?>[] allActive = this.baseDataContainer.getAllActivePPs();
+        List<InterdependentProblemPart<?, ?>> backgroundPartList = new ArrayList<>();
+
+        for (InterdependentProblemPart<?, ?> part : allActive) {
+            if (part instanceof PreCalculatedNonControllableIPP && !part.isReactsToInputStates()) {
+                backgroundPartList.add(part);
+            }
+        }
+        if (backgroundPartList.isEmpty()) {
+            this.eaLogger.logAdditional("Background load pre-aggregation disabled, no pre-calculated problem-parts");
+            return false;
+        }
+
+        int stepCount = this.getStepCount();
+        this.backgroundParts = new boolean[this.problemPartCount + 1];
+        this.backgroundPartIds = new int[backgroundPartList.size()];
+        this.backgroundOutputStates = new LimitedCommodityStateMap[stepCount][backgroundPartList.size()];
+        this.backgroundInputStates = new UUIDCommodityMap[stepCount];
+
+        //active states only containing the output states of the background parts
+        UUIDCommodityMap backgroundActiveStates = new UUIDCommodityMap(this.baseDataContainer.getActiveToPassiveMap());
+        for (InterdependentProblemPart<?, ?> part : allActive) {
+            backgroundActiveStates.put(part.getId(), null);
+        }
+        for (int i = 0; i < this.backgroundPartIds.length; i++) {
+            InterdependentProblemPart<?, ?> part = backgroundPartList.get(i);
+            this.backgroundPartIds[i] = part.getId();
+            this.backgroundParts[part.getId()] = true;
+            part.initializeInterdependentCalculation(this.maxReferenceTime, this.stepSize, false, false);
+        }
+
+        OCEnergySimulationCore ocESC = this.baseDataContainer.getOcESC();
+        for (int step = 0; step < stepCount; step++) {
+            for (int i = 0; i < this.backgroundPartIds.length; i++) {
+                InterdependentProblemPart<?, ?> part = backgroundPartList.get(i);
+                part.calculateNextStep();
+                this.backgroundOutputStates[step][i] = part.getCommodityOutputStates();
+                backgroundActiveStates.put(part.getId(), part.getCommodityOutputStates());
+            }
+            this.backgroundInputStates[step] = ocESC.calculateActiveToPassiveInputStates(backgroundActiveStates);
+        }
+
+        this.eaLogger.logAdditional("Background load pre-aggregated for " + this.backgroundPartIds.length
+                + " of " + allActive.length + " active problem-parts");
+        return true;
+    }
+
+    /**
+     * Returns the number of steps of the optimization loop.
+     *
+     * @return the number of steps of the optimization loop
+     */
+    private int getStepCount() {
+        return (int) ((this.maxOptimizationHorizon + this.stepSize - this.maxReferenceTime - 1) / this.stepSize) + 1;
+    }
+
     /**
      * Requests a copy of all relevant data to be used for the evaluation of a solution.
      *
@@ -191,6 +374,23 @@ public class EMProblemEvaluator {
     private EnergyProblemDataContainer requestDataCopy() {
         if (!this.multiThreadingInitialized) return this.baseDataContainer;
 
+        if (this.threadDataContainers != null) {
+            EnergyProblemDataContainer dataContainer = this.threadDataContainers.get();
+            if (dataContainer == null) {
+                dataContainer = this.pollDataCopy();
+                this.threadDataContainers.set(dataContainer);
+            }
+            return dataContainer;
+        }
+        return this.pollDataCopy();
+    }
+
+    /**
+     * Takes an unused copy of all relevant data from the pool or creates a new one if there is none.
+     *
+     * @return a container of all relevant data
+     */
+    private EnergyProblemDataContainer pollDataCopy() {
         EnergyProblemDataContainer dataContainer = this.multiThreadedQueue.poll();
 
         if (dataContainer != null) return dataContainer;
@@ -203,11 +403,21 @@ public class EMProblemEvaluator {
      * @param dataContainer a container of all relevant data
      */
     private void freeDataCopy(EnergyProblemDataContainer dataContainer) {
-        if (this.multiThreadingInitialized) {
+        //containers bound to a thread stay with the thread
+        if (this.multiThreadingInitialized && this.threadDataContainers == null) {
             this.multiThreadedQueue.add(dataContainer);
         }
     }
 
+    /**
+     * Returns the container of all data used by evaluations that do not run multi-threaded.
+     *
+     * @return the container of all data used by single-threaded evaluations
+     */
+    public EnergyProblemDataContainer getBaseDataContainer() {
+        return this.baseDataContainer;
+    }
+
     /**
      * Returns all grids to a state before they were adjusted for this specific problem.
      */
@@ -215,6 +425,7 @@ public class EMProblemEvaluator {
         this.baseDataContainer.getOcESC().finalizeGrids();
         this.multiThreadingInitialized = false;
         this.multiThreadedQueue = null;
+        this.threadDataContainers = null;
     }
 
     /**
@@ -242,17 +453,42 @@ public class EMProblemEvaluator {
         this.finalizeGrids();
     }
 
+    /**
+     * Evaluates the given solution, answering from the fitness cache if enabled and an identical solution has
+     * already been evaluated.
+     *
+     * @param solution the solution to be evaluated
+     */
     public <S extends Solution<?>> void evaluate(S solution) {
-        this.evaluate(solution, false, false, new AncillaryCommodityLoadProfile());
+        FitnessCache.SolutionKey key = this.fitnessCache == null ? null : this.fitnessCache.createKey(solution);
+
+        if (key != null) {
+            double[] cachedFitness = this.fitnessCache.get(key);
+            if (cachedFitness != null) {
+                for (int i = 0; i < cachedFitness.length; i++) {
+                    solution.setObjective(i, cachedFitness[i]);
+                }
+                return;
+            }
+        }
+
+        this.evaluate(solution, false, false, null);
+
+        if (key != null) {
+            this.fitnessCache.put(key, solution.getObjectives().clone());
+        }
     }
 
     /**
-     * Evaluates the given solution with additonal logging depending on the given flags.
+     * Evaluates the given solution with additonal logging depending on the given flags. Solutions with
+     * {@link #MULTI_OBJECTIVE_COUNT} objectives are evaluated with the energy costs, the violation of the upper
+     * power-limit and the cervisia as separate objectives.
      *
      * @param solution the solution to be evaluated
      * @param log flag if additional logging should be done
      * @param keepPrediction flag if problem-parts should log their prediction about the future
-     * @param ancillaryMeter the load profile in which the resulting calculated load will be entered
+     * @param ancillaryMeter the load profile in which the resulting calculated load will be entered, may be null if
+     *                       the resulting load is not needed
      */
     private <S extends Solution<?>> void evaluate(S solution, boolean log, boolean keepPrediction,
                                                   AncillaryCommodityLoadProfile ancillaryMeter) {
@@ -284,35 +520,115 @@ public class EMProblemEvaluator {
             );
         }
 
-        //initialize sequential entering of data
-        ancillaryMeter.initSequential();
+        //search for the checkpoint of an already evaluated solution we can resume the calculation from
+        CalculationCheckpointStore.EvaluationCheckpoints recordedCheckpoints = null;
+        CalculationCheckpointStore.EvaluationCheckpoints resumedEvaluation = null;
+        CalculationCheckpointStore.Checkpoint resumeFrom = null;
+
+        //fixed-step profile of the ancillary meter, loads are entered directly into primitive arrays
+        int stepCount = this.getStepCount();
+        AncillaryCommodityStepProfile stepMeter =
+                new AncillaryCommodityStepProfile(this.maxReferenceTime, this.stepSize, stepCount);
+
+        if (this.checkpointStore != null && !log && !keepPrediction && solution instanceof BinarySolution) {
+            BitSet encoding = (BitSet) ((BinarySolution) solution).getVariableValue(0).clone();
+
+            for (CalculationCheckpointStore.EvaluationCheckpoints stored : this.checkpointStore.getStoredEvaluations()) {
+                long firstAffectedTime = this.getFirstAffectedTime(stored.getEncoding(), encoding, allIPPs);
+                CalculationCheckpointStore.Checkpoint checkpoint = stored.getLatestCheckpointUntil(firstAffectedTime);
 
-        //let all passive states calculate their first state
-        for (InterdependentProblemPart<?, ?> part : allPassive) {
-            part.calculateNextStep();
-            passiveToActiveMap.put(part.getId(), part.getCommodityOutputStates());
+                if (checkpoint != null && checkpoint.getTime() > this.maxReferenceTime
+                        && (resumeFrom == null || checkpoint.getTime() > resumeFrom.getTime())) {
+                    resumedEvaluation = stored;
+                    resumeFrom = checkpoint;
+                }
+            }
+            recordedCheckpoints = new CalculationCheckpointStore.EvaluationCheckpoints(encoding, stepMeter);
         }
 
-        //dummy AncillaryMeterState, we don't know the state of the ancillaryMeter at the start, thus set all to zero
-        AncillaryMeterState meterState = new AncillaryMeterState();
+        AncillaryMeterState meterState;
+        long startingTime;
+        long nextCheckpointTime;
+
+        if (resumeFrom != null) {
+            startingTime = resumeFrom.getTime();
+            nextCheckpointTime = startingTime + this.checkpointDistance;
+            recordedCheckpoints.addCheckpointsUntil(resumedEvaluation, startingTime);
+
+            //restore the state of all ipps at the checkpoint
+            for (InterdependentProblemPart<?, ?> part : allIPPs) {
+                if (!part.isCompletelyStatic()) {
+                    part.restoreCalculationCheckpoint(resumeFrom.getPartCheckpoint(part.getId()));
+                }
+            }
+
+            //continue the entering of data after the loads up to the checkpoint
+            stepMeter.copyLoadsBefore(resumedEvaluation.getAncillaryMeter(), startingTime);
+
+            for (InterdependentProblemPart<?, ?> part : allPassive) {
+                passiveToActiveMap.put(part.getId(), part.getCommodityOutputStates());
+            }
+            meterState = new AncillaryMeterState(resumeFrom.getMeterState());
+        } else {
+            startingTime = this.maxReferenceTime;
+            nextCheckpointTime = startingTime;
+
+            //let all passive states calculate their first state
+            for (InterdependentProblemPart<?, ?> part : allPassive) {
+                part.calculateNextStep();
+                passiveToActiveMap.put(part.getId(), part.getCommodityOutputStates());
+            }
+
+            //dummy AncillaryMeterState, we don't know the state of the ancillaryMeter at the start, thus set all to zero
+            meterState = new AncillaryMeterState();
+        }
 
         //send the first passive state to active nodes
         ocESC.doPassiveToActiveExchange(meterState, allActiveNeedsInput, passiveToActiveMap);
 
+        //the pre-aggregated background load is not used for final evaluations so that all parts can log their loads
+        boolean useBackgroundLoad = this.backgroundInputStates != null && !log && !keepPrediction;
+
         // iterate
-        for (long t = this.maxReferenceTime; t < this.maxOptimizationHorizon + this.stepSize; t += this.stepSize) {
+        for (long t = startingTime; t < this.maxOptimizationHorizon + this.stepSize; t += this.stepSize) {
 
-            //let all active states calculate their next step
-            for (InterdependentProblemPart<?, ?> part : allActive) {
-                part.calculateNextStep();
-                activeToPassiveMap.put(part.getId(), part.getCommodityOutputStates());
+            if (recordedCheckpoints != null && t == nextCheckpointTime) {
+                recordedCheckpoints.addCheckpoint(this.createCheckpoint(t, allIPPs, meterState));
+                nextCheckpointTime += this.checkpointDistance;
             }
 
-            //send active state to passive nodes, save meter state
-            ocESC.doActiveToPassiveExchange(activeToPassiveMap, allPassive, meterState);
+            if (useBackgroundLoad) {
+                int step = (int) ((t - this.maxReferenceTime) / this.stepSize);
+                LimitedCommodityStateMap[] backgroundStates = this.backgroundOutputStates[step];
+
+                //the output states of the background parts are still needed for the calculation of the meter
+                for (int i = 0; i < this.backgroundPartIds.length; i++) {
+                    activeToPassiveMap.put(this.backgroundPartIds[i], backgroundStates[i]);
+                }
+                //let all active states depending on the solution calculate their next step
+                for (InterdependentProblemPart<?, ?> part : allActive) {
+                    if (!this.backgroundParts[part.getId()]) {
+                        part.calculateNextStep();
+                        activeToPassiveMap.put(part.getId(), part.getCommodityOutputStates());
+                    }
+                }
+
+                //send active state to passive nodes on top of the background load, save meter state
+                ocESC.doActiveToPassiveExchange(activeToPassiveMap, allPassive, meterState,
+                        this.backgroundInputStates[step], this.backgroundParts);
+            } else {
+                //let all active states calculate their next step
+                for (InterdependentProblemPart<?, ?> part : allActive) {
+                    part.calculateNextStep();
+                    activeToPassiveMap.put(part.getId(), part.getCommodityOutputStates());
+                }
+
+                //send active state to passive nodes, save meter state
+                ocESC.doActiveToPassiveExchange(activeToPassiveMap, allPassive, meterState);
+            }
 
             //send loads to the ancillary meter profile
-            ancillaryMeter.setLoadSequential(meterState, t);
+            stepMeter.setLoads(meterState, t);
 
             //let all passive states calculate their next step
             for (InterdependentProblemPart<?, ?> part : allPassive) {
@@ -324,34 +640,103 @@ public class EMProblemEvaluator {
             ocESC.doPassiveToActiveExchange(meterState, allActiveNeedsInput, passiveToActiveMap);
         }
 
-        //mark that no more data will be added and the profile is finalized
-        ancillaryMeter.endSequential();
-        ancillaryMeter.setEndingTimeOfProfile(this.maxOptimizationHorizon);
-
+        //transfer the loads into the requested load profile
+        if (ancillaryMeter != null) {
+            stepMeter.enterLoadsInto(ancillaryMeter);
+            ancillaryMeter.setEndingTimeOfProfile(this.maxOptimizationHorizon);
+        }
 
         // calculate variable fitness depending on price signals...
-        double fitness = this.fitnessFunction.getFitnessValue(
+        double energyCosts = this.fitnessFunction.getFitnessValue(
                 this.ignoreLoadProfileBefore,
                 this.ignoreLoadProfileAfter,
-                ancillaryMeter,
-                this.priceSignals,
-                this.powerLimitSignals
+                stepMeter,
+                this.compiledSignals
         );
+        double fitness = energyCosts;
+        double cervisia = 0;
 
         // add lukewarm cervisia (i.e. additional fixed costs...)
         for (InterdependentProblemPart<?, ?> problempart : allIPPs) {
             problempart.finalizeInterdependentCervisia();
             double add = problempart.getInterdependentCervisia();
             fitness += add;
+            cervisia += add;
 
             if (log && add != 0) {
                 this.eaLogger.logCervisia(problempart.getDeviceType(), add);
             }
         }
 
-        solution.setObjective(0, fitness);
+        if (solution.getNumberOfObjectives() == MULTI_OBJECTIVE_COUNT) {
+            solution.setObjective(OBJECTIVE_ENERGY_COSTS, energyCosts);
+            solution.setObjective(OBJECTIVE_PEAK_LIMIT_VIOLATION, CostCalculator.calcPeakLimitViolation(
+                    this.ignoreLoadProfileBefore,
+                    this.ignoreLoadProfileAfter,
+                    stepMeter,
+                    this.compiledSignals));
+            solution.setObjective(OBJECTIVE_CERVISIA, cervisia);
+        } else {
+            solution.setObjective(0, fitness);
+        }
+
+        if (recordedCheckpoints != null) {
+            long skippedSteps = (startingTime - this.maxReferenceTime) / this.stepSize;
+            this.checkpointStore.countEvaluation(resumeFrom != null, skippedSteps, stepCount - skippedSteps);
+            this.checkpointStore.store(recordedCheckpoints);
+        }
 
         //free the used data for another evaluation
         this.freeDataCopy(dataContainer);
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the earliest point in time of the optimization loop that is influenced by a bit differing between the
+     * two given binary encoded solutions.
+     *
+     * @param previousEncoding the already evaluated encoded solution
+     * @param encoding the encoded solution to be evaluated
+     * @param allIPPs all problem-parts of this problem
+     * @return the earliest point in time that is influenced by a differing bit or {@link Long#MAX_VALUE} if the
+     * solutions are identical
+     */
+    private long getFirstAffectedTime(BitSet previousEncoding, BitSet encoding,
+                                      InterdependentProblemPart<?, ?>[] allIPPs) {
+        BitSet difference = (BitSet) previousEncoding.clone();
+        difference.xor(encoding);
+
+        long firstAffectedTime = Long.MAX_VALUE;
+        if (difference.isEmpty()) return firstAffectedTime;
+
+        for (InterdependentProblemPart<?, ?> part : allIPPs) {
+            int[] positions = this.distributor.getBinarySolutionPositions(part.getId());
+            int firstDifference = difference.nextSetBit(positions[0]);
+
+            if (firstDifference >= 0 && firstDifference < positions[1]) {
+                firstAffectedTime = Math.min(firstAffectedTime, part.getFirstAffectedTime(firstDifference - positions[0]));
+            }
+        }
+        return firstAffectedTime;
+    }
+
+    /**
+     * Creates a checkpoint of the current state of the calculation of all problem-parts.
+     *
+     * @param time the point in time of the current step of the optimization loop
+     * @param allIPPs all problem-parts of this problem
+     * @param meterState the current ancillary meter state
+     * @return a checkpoint of the current state of the calculation
+     */
+    private CalculationCheckpointStore.Checkpoint createCheckpoint(long time, InterdependentProblemPart<?, ?>[] allIPPs,
+                                                                   AncillaryMeterState meterState) {
+        InterdependentCalculationCheckpoint[] partCheckpoints =
+                new InterdependentCalculationCheckpoint[this.problemPartCount];
+
+        for (InterdependentProblemPart<?, ?> part : allIPPs) {
+            if (!part.isCompletelyStatic()) {
+                partCheckpoints[part.getId()] = part.createCalculationCheckpoint();
+            }
+        }
+        return new CalculationCheckpointStore.Checkpoint(time, partCheckpoints, new AncillaryMeterState(meterState));
+    }
+}
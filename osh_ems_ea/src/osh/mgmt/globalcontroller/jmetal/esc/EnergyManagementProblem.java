@@ -15,9 +15,23 @@ public abstract class EnergyManagementProblem<S extends Solution<?>> extends Abs
     private final EMProblemEvaluator evaluator;
 
     public EnergyManagementProblem(EMProblemEvaluator evaluator) {
+        this(evaluator, 1);
+    }
+
+    /**
+     * Constructs this problem with the given number of objectives, either a single objective or
+     * {@link EMProblemEvaluator#MULTI_OBJECTIVE_COUNT} objectives for multi-objective optimization.
+     *
+     * @param evaluator the evaluator for the problem
+     * @param numberOfObjectives the number of objectives of the problem
+     */
+    public EnergyManagementProblem(EMProblemEvaluator evaluator, int numberOfObjectives) {
+        if (numberOfObjectives != 1 && numberOfObjectives != EMProblemEvaluator.MULTI_OBJECTIVE_COUNT) {
+            throw new IllegalArgumentException("unsupported number of objectives: " + numberOfObjectives);
+        }
         this.evaluator = evaluator;
 
-        this.setNumberOfObjectives(1);
+        this.setNumberOfObjectives(numberOfObjectives);
         this.setNumberOfConstraints(0);
     }
 
@@ -4,7 +4,6 @@ import osh.datatypes.registry.oc.ipp.InterdependentProblemPart;
 import osh.esc.OCEnergySimulationCore;
 import osh.esc.UUIDCommodityMap;
 
-import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -127,8 +126,20 @@ public class EnergyProblemDataContainer {
      * @return a deep-copy of this container
      */
     public EnergyProblemDataContainer getDeepCopy() {
-        InterdependentProblemPart<?, ?>[] allPPsCopy =
-                new InterdependentProblemPart<?, ?>[(int) (this.allProblemParts.length - Arrays.stream(this.allProblemParts).filter(InterdependentProblemPart::isCompletelyStatic).count())];
+        int idCount = 0, nonStaticCount = 0;
+        for (InterdependentProblemPart<?, ?> part : this.allProblemParts) {
+            idCount = Math.max(idCount, part.getId() + 1);
+            if (!part.isCompletelyStatic()) {
+                nonStaticCount++;
+            }
+        }
+
+        //membership of the parts in the sub-collections indexed by their id, avoids searching the sub-collections
+        boolean[] isActive = markContainedIds(this.allActivePPs, idCount);
+        boolean[] isPassive = markContainedIds(this.allPassivePPs, idCount);
+        boolean[] isActiveNeedsInput = markContainedIds(this.allActiveNeedsInputPPs, idCount);
+
+        InterdependentProblemPart<?, ?>[] allPPsCopy = new InterdependentProblemPart<?, ?>[nonStaticCount];
         InterdependentProblemPart<?, ?>[] allActivePPsCopy =
                 new InterdependentProblemPart<?, ?>[this.allActivePPs.length];
         InterdependentProblemPart<?, ?>[] allPassivePPsCopy =
@@ -139,20 +150,20 @@ public class EnergyProblemDataContainer {
         int allIndex = 0, activeIndex = 0, passiveIndex = 0, activeNeedsInputIndex = 0;
         for (InterdependentProblemPart<?, ?> part : this.allProblemParts) {
             //we do not need to copy completely static ipps
-            if (!part.isCompletelyStatic()) {
-                allPPsCopy[allIndex++] = part.getClone();
+            if (part.isCompletelyStatic()) {
+                continue;
             }
-        }
+            InterdependentProblemPart<?, ?> copy = part.getClone();
+            allPPsCopy[allIndex++] = copy;
 
-        for (InterdependentProblemPart<?, ?> part : allPPsCopy) {
-            if (Arrays.stream(this.allActivePPs).anyMatch(p -> p.getId() == part.getId())) {
-                allActivePPsCopy[activeIndex++] = part;
+            if (isActive[copy.getId()]) {
+                allActivePPsCopy[activeIndex++] = copy;
             }
-            if (Arrays.stream(this.allPassivePPs).anyMatch(p -> p.getId() == part.getId())) {
-                allPassivePPsCopy[passiveIndex++] = part;
+            if (isPassive[copy.getId()]) {
+                allPassivePPsCopy[passiveIndex++] = copy;
             }
-            if (Arrays.stream(this.allActiveNeedsInputPPs).anyMatch(p -> p.getId() == part.getId())) {
-                allActiveNeedsInputPPsCopy[activeNeedsInputIndex++] = part;
+            if (isActiveNeedsInput[copy.getId()]) {
+                allActiveNeedsInputPPsCopy[activeNeedsInputIndex++] = copy;
             }
         }
 
@@ -162,4 +173,19 @@ public class EnergyProblemDataContainer {
                 new UUIDCommodityMap(this.activeToPassiveMap),
                 new UUIDCommodityMap(this.passiveToActiveMap));
     }
+
+    /**
+     * Marks the ids of all given problem-parts.
+     *
+     * @param parts the problem-parts
+     * @param idCount the number of possible ids
+     * @return an array indexed by the ids with all ids of the given problem-parts marked
+     */
+    private static boolean[] markContainedIds(InterdependentProblemPart<?, ?>[] parts, int idCount) {
+        boolean[] contained = new boolean[idCount];
+        for (InterdependentProblemPart<?, ?> part : parts) {
+            contained[part.getId()] = true;
+        }
+        return contained;
+    }
 }
@@ -0,0 +1,158 @@
+package osh.mgmt.globalcontroller.jmetal.esc;
+
+import org.uma.jmetal.solution.BinarySolution;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.Solution;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded and thread-safe cache for the fitness (all objectives) of already evaluated encoded solutions. Evaluation
+ * of the optimization problem is deterministic for a given encoded solution, so a second evaluation of an identical
+ * genome can be answered from this cache. When the cache is full the least-recently used entry will be evicted.
+ */
+public class FitnessCache {
+
+    private final Map<SolutionKey, double[]> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs this cache with the given maximum number of entries.
+     *
+     * @param maxSize the maximum number of cached fitness values
+     */
+    public FitnessCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maximum size of the fitness cache has to be positive");
+        }
+
+        this.cache = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+            private static final long serialVersionUID = 3170744623165281843L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SolutionKey, double[]> eldest) {
+                return this.size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Creates a key representing the encoding of the given solution. The encoding will be copied so that later
+     * modifications of the solution will not alter the key.
+     *
+     * @param solution the solution to create the key for
+     * @return the key representing the encoding of the solution or null if the type of the solution is not supported
+     */
+    public SolutionKey createKey(Solution<?> solution) {
+        if (BinarySolution.class.isAssignableFrom(solution.getClass())) {
+            return new SolutionKey((BitSet) ((BinarySolution) solution).getVariableValue(0).clone());
+        } else if (DoubleSolution.class.isAssignableFrom(solution.getClass())) {
+            DoubleSolution doubleSolution = (DoubleSolution) solution;
+            double[] variables = new double[doubleSolution.getNumberOfVariables()];
+
+            for (int i = 0; i < variables.length; i++) {
+                variables[i] = doubleSolution.getUnboxedVariableValue(i);
+            }
+            return new SolutionKey(variables);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the cached objectives for the given key and counts the look-up as hit or miss. The returned array must
+     * not be altered.
+     *
+     * @param key the key of the encoded solution
+     * @return the cached objectives or null if no objectives are cached for the key
+     */
+    public double[] get(SolutionKey key) {
+        double[] fitness;
+        synchronized (this.cache) {
+            fitness = this.cache.get(key);
+        }
+
+        if (fitness != null) {
+            this.hits.increment();
+        } else {
+            this.misses.increment();
+        }
+        return fitness;
+    }
+
+    /**
+     * Stores the given objectives for the given key, the array must not be altered afterwards.
+     *
+     * @param key the key of the encoded solution
+     * @param fitness the evaluated objectives of the solution
+     */
+    public void put(SolutionKey key, double[] fitness) {
+        synchronized (this.cache) {
+            this.cache.put(key, fitness);
+        }
+    }
+
+    /**
+     * Returns the number of look-ups that could be answered from this cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of look-ups that could not be answered from this cache.
+     *
+     * @return the number of cache misses
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Immutable key representing a binary or real encoded solution.
+     */
+    public static final class SolutionKey {
+
+        private final BitSet binaryEncoding;
+        private final double[] realEncoding;
+        private final int hash;
+
+        private SolutionKey(BitSet binaryEncoding) {
+            this.binaryEncoding = binaryEncoding;
+            this.realEncoding = null;
+            this.hash = binaryEncoding.hashCode();
+        }
+
+        private SolutionKey(double[] realEncoding) {
+            this.binaryEncoding = null;
+            this.realEncoding = realEncoding;
+            this.hash = Arrays.hashCode(realEncoding);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof SolutionKey)) return false;
+
+            SolutionKey other = (SolutionKey) obj;
+            if (this.hash != other.hash) return false;
+
+            if (this.binaryEncoding != null) {
+                return this.binaryEncoding.equals(other.binaryEncoding);
+            }
+            return Arrays.equals(this.realEncoding, other.realEncoding);
+        }
+    }
+}
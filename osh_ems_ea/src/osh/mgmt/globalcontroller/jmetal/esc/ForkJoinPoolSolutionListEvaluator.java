@@ -0,0 +1,106 @@
+package osh.mgmt.globalcontroller.jmetal.esc;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import osh.mgmt.globalcontroller.jmetal.logging.IEALogger;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Multi-threaded evaluator for lists of solutions using its own fork-join-pool, so that the throughput of the
+ * optimization does not depend on other users of the common pool. Logs the wall time and the utilisation of the
+ * pool for every evaluated list of solutions (i.e. every generation) to the ea-logger.
+ */
+@SuppressWarnings("serial")
+public class ForkJoinPoolSolutionListEvaluator<S extends Solution<?>> implements SolutionListEvaluator<S> {
+
+    private final int poolSize;
+    private final ForkJoinPool pool;
+    private final IEALogger eaLogger;
+    private final LongAdder busyTime = new LongAdder();
+    private int evaluatedLists;
+
+    /**
+     * Constructs this evaluator with a pool of the given number of threads.
+     *
+     * @param poolSize the number of threads to evaluate solutions with
+     * @param eaLogger the ea-logger to log the performance of the evaluation to
+     */
+    public ForkJoinPoolSolutionListEvaluator(int poolSize, IEALogger eaLogger) {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("size of the evaluation pool has to be positive");
+        }
+        this.poolSize = poolSize;
+        this.pool = new ForkJoinPool(poolSize);
+        this.eaLogger = eaLogger;
+    }
+
+    /**
+     * Returns the number of threads used to evaluate solutions.
+     *
+     * @return the number of threads used to evaluate solutions
+     */
+    public int getPoolSize() {
+        return this.poolSize;
+    }
+
+    @Override
+    public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+        this.busyTime.reset();
+        long start = System.nanoTime();
+
+        this.pool.invoke(new EvaluationTask(solutionList, problem, 0, solutionList.size()));
+
+        long wallTime = System.nanoTime() - start;
+        double utilisation = wallTime == 0 ? 0.0 : this.busyTime.sum() / ((double) wallTime * this.poolSize);
+        this.eaLogger.logEvaluationPerformance(++this.evaluatedLists, wallTime, utilisation);
+
+        return solutionList;
+    }
+
+    @Override
+    public void evaluateFinal(S solution, Problem<S> problem) {
+        problem.evaluateFinal(solution, true);
+    }
+
+    @Override
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Evaluates a range of the list of solutions, splitting it up until only single solutions are left.
+     */
+    @SuppressWarnings("serial")
+    private class EvaluationTask extends RecursiveAction {
+
+        private final List<S> solutionList;
+        private final Problem<S> problem;
+        private final int from;
+        private final int to;
+
+        EvaluationTask(List<S> solutionList, Problem<S> problem, int from, int to) {
+            this.solutionList = solutionList;
+            this.problem = problem;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > 1) {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(new EvaluationTask(this.solutionList, this.problem, this.from, middle),
+                        new EvaluationTask(this.solutionList, this.problem, middle, this.to));
+            } else if (this.to - this.from == 1) {
+                long start = System.nanoTime();
+                this.problem.evaluate(this.solutionList.get(this.from));
+                ForkJoinPoolSolutionListEvaluator.this.busyTime.add(System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package osh.mgmt.globalcontroller.jmetal.esc;
 
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.multiobjective.nsgaii.NSGAII;
+import org.uma.jmetal.algorithm.singleobjective.differentialevolution.DifferentialEvolution;
+import org.uma.jmetal.algorithm.singleobjective.evolutionstrategy.ElitistEvolutionStrategy;
+import org.uma.jmetal.algorithm.singleobjective.geneticalgorithm.IslandModelGeneticAlgorithm;
 import org.uma.jmetal.algorithm.singleobjective.geneticalgorithm.OSHLegacyGenerationalGeneticAlgorithm;
 import org.uma.jmetal.algorithm.stoppingrule.StoppingRule;
 import org.uma.jmetal.algorithm.stoppingrule.StoppingRuleFactory;
@@ -9,12 +13,21 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.operator.impl.crossover.CrossoverFactory;
 import org.uma.jmetal.operator.impl.crossover.CrossoverType;
+import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
 import org.uma.jmetal.operator.impl.mutation.MutationFactory;
 import org.uma.jmetal.operator.impl.mutation.MutationType;
+import org.uma.jmetal.operator.impl.mutation.PolynomialProbabilityAdjustingMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
+import org.uma.jmetal.operator.impl.selection.DifferentialEvolutionSelection;
 import org.uma.jmetal.operator.impl.selection.SelectionFactory;
 import org.uma.jmetal.operator.impl.selection.SelectionType;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.BinarySolution;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.RepairDoubleSolutionAtBounds;
+import org.uma.jmetal.util.binarySet.BinarySet;
+import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.MultithreadedStealingSolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
@@ -30,17 +43,25 @@ import osh.datatypes.registry.oc.ipp.ControllableIPP;
 import osh.datatypes.registry.oc.ipp.InterdependentProblemPart;
 import osh.datatypes.registry.oc.ipp.solutionEncoding.variables.VariableEncoding;
 import osh.esc.OCEnergySimulationCore;
+import osh.mgmt.globalcontroller.jmetal.AlgorithmType;
 import osh.mgmt.globalcontroller.jmetal.GAParameters;
 import osh.mgmt.globalcontroller.jmetal.IFitness;
 import osh.mgmt.globalcontroller.jmetal.JMetalSolver;
+import osh.mgmt.globalcontroller.jmetal.ParetoSelectionPolicy;
 import osh.mgmt.globalcontroller.jmetal.SolutionWithFitness;
 import osh.mgmt.globalcontroller.jmetal.logging.IEALogger;
 
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * New JMetalEnergySolverGA
@@ -49,10 +70,22 @@ import java.util.List;
  */
 public class JMetalEnergySolverGA extends JMetalSolver {
 
+    //mutation operators working on real encoded solutions
+    private static final EnumSet<MutationType> REAL_MUTATIONS = EnumSet.of(MutationType.POLYNOMIAL,
+            MutationType.POLYNOMIAL_AUTO, MutationType.POLYNOMIAL_APPROX, MutationType.NON_UNIFORM,
+            MutationType.SIMPLE_RANDOM, MutationType.UNIFORM);
+
+    //smallest population of an island of the island-model genetic algorithm
+    private static final int MIN_ISLAND_POPULATION_SIZE = 10;
+
     private final GAParameters gaparameters;
     private final long timestamp;
     private final String gaLogPath;
 
+    private long warmStartReferenceTime;
+    private Map<UUID, BinarySet> warmStartPartialSolutions;
+    private final List<StoppingRule> additionalStoppingRules = new ArrayList<>();
+
     /**
      * CONSTRUCTOR
      *
@@ -81,6 +114,28 @@ public class JMetalEnergySolverGA extends JMetalSolver {
     }
 
 
+    /**
+     * Sets the binary encoded solutions of all problem-parts of an earlier optimization to be used as a starting
+     * point for the next optimization.
+     *
+     * @param referenceTime the reference time the solutions were encoded for
+     * @param partialSolutions the encoded solutions of the problem-parts mapped to their unique identifiers
+     */
+    public void setWarmStartSolution(long referenceTime, Map<UUID, BinarySet> partialSolutions) {
+        this.warmStartReferenceTime = referenceTime;
+        this.warmStartPartialSolutions = partialSolutions;
+    }
+
+    /**
+     * Adds a stopping rule to be used in addition to the configured stopping rules, e.g. a rule that is controlled
+     * from outside of the optimization.
+     *
+     * @param stoppingRule the additional stopping rule
+     */
+    public void addStoppingRule(StoppingRule stoppingRule) {
+        this.additionalStoppingRules.add(stoppingRule);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public SolutionWithFitness getSolutionAndFitness(
@@ -96,16 +151,12 @@ public class JMetalEnergySolverGA extends JMetalSolver {
         // DECLARATION
         SolutionDistributor distributor = new SolutionDistributor();
         boolean useMultithreading = true;
-        Algorithm<BinarySolution> algorithm;
-        MutationOperator<BinarySolution> mutation;            // Mutation operator
-        CrossoverOperator<BinarySolution> crossover;
-        SelectionOperator<List<BinarySolution>, BinarySolution> selection;
-//		HashMap parameters;			// Operator parameters
+        AlgorithmType algorithmType = this.gaparameters.getAlgorithmType();
 
         distributor.gatherVariableInformation(problemParts);
 
         //abort if there is nothing to optimize
-        if (distributor.getVariableInformation(VariableEncoding.BINARY).needsNoVariables()) {
+        if (distributor.getVariableInformation(algorithmType.getEncoding()).needsNoVariables()) {
             PointSolution emptySolution = new PointSolution(1);
             emptySolution.setObjective(0, 0.0);
             return new SolutionWithFitness(emptySolution, 0.0);
@@ -132,72 +183,462 @@ public class JMetalEnergySolverGA extends JMetalSolver {
                 eaLogger,
                 this.STEP_SIZE);
 
-        Problem<BinarySolution> binaryProblem = new BinaryEnergyManagementProblem(
-                evaluator,
-                distributor);
+        if (this.gaparameters.getFitnessCacheSize() > 0) {
+            evaluator.initializeFitnessCache(this.gaparameters.getFitnessCacheSize());
+        }
+
+        if (this.gaparameters.getDeltaEvaluationCheckpointInterval() > 0) {
+            evaluator.initializeDeltaEvaluation(this.gaparameters.getDeltaEvaluationCheckpointInterval(),
+                    this.gaparameters.getPopSize());
+        }
 
-        JMetalRandom.getInstance().setRandomGenerator(new OSHPseudoRandom(this.randomGenerator));
+        if (this.gaparameters.isPreAggregateBackgroundLoad()) {
+            evaluator.initializeBackgroundLoad();
+        }
+
+        //random context of this optimization, bound to this thread for solution creation and the algorithm internals
+        JMetalRandom random = new JMetalRandom(new OSHPseudoRandom(this.randomGenerator));
+        JMetalRandom.setInstance(random);
 
         PrintWriter pw = new PrintWriter(new FileOutputStream(
                 new File(this.gaLogPath),
                 true));
 
+        eaLogger.attachWriter(pw);
+        eaLogger.setTimestamp(ignoreLoadProfileBefore);
+
+        /* Execute the Algorithm */
+        Solution<?> solution;
+        if (algorithmType == AlgorithmType.GA) {
+            solution = this.runGeneticAlgorithm(evaluator, distributor, problemParts, random, useMultithreading,
+                    eaLogger);
+        } else if (algorithmType == AlgorithmType.ISLAND_GA) {
+            solution = this.runIslandModelAlgorithm(evaluator, distributor, problemParts, random, eaLogger);
+        } else if (algorithmType == AlgorithmType.NSGAII) {
+            solution = this.runMultiObjectiveAlgorithm(evaluator, distributor, random, useMultithreading, eaLogger);
+        } else {
+            solution = this.runRealCodedAlgorithm(algorithmType, evaluator, distributor, random, useMultithreading,
+                    eaLogger);
+        }
+
+        evaluator.logFitnessCacheStatistics();
+        evaluator.logDeltaEvaluationStatistics();
+        eaLogger.logEnd(solution);
+
+        double fitness = solution.getNumberOfObjectives() == EMProblemEvaluator.MULTI_OBJECTIVE_COUNT
+                ? getMultiObjectiveFitness(solution) : solution.getObjective(0);
+
+        if (true) { // debug
+            this.logger.logDebug("Final Fitness: " + fitness); //
+        }
+
+        eaLogger.detachWriter();
+
+        //better be sure
+        evaluator.finalizeGrids();
+
+        return new SolutionWithFitness(solution, fitness);
+    }
+
+    /**
+     * Optimizes the binary encoded problem with the genetic algorithm.
+     *
+     * @param evaluator the evaluator of the problem
+     * @param distributor the solution distributor of the problem
+     * @param problemParts all problem-parts of the problem
+     * @param random the random context of this optimization
+     * @param useMultithreading flag if solutions should be evaluated concurrently
+     * @param eaLogger the ea-logger
+     * @return the best found solution
+     */
+    @SuppressWarnings("unchecked")
+    private BinarySolution runGeneticAlgorithm(
+            EMProblemEvaluator evaluator,
+            SolutionDistributor distributor,
+            InterdependentProblemPart<?, ?>[] problemParts,
+            JMetalRandom random,
+            boolean useMultithreading,
+            IEALogger eaLogger) {
 
-        /* Mutation and Crossover for Real codification */
-        mutation = MutationFactory.getMutationOperator(
+        Problem<BinarySolution> binaryProblem = new BinaryEnergyManagementProblem(
+                evaluator,
+                distributor);
+
+        /* Mutation and Crossover for Binary codification */
+        MutationOperator<BinarySolution> mutation = MutationFactory.getMutationOperator(
                 MutationType.fromName(this.gaparameters.getMutationOperator()),
-                this.gaparameters.getMutationParameters());
+                this.gaparameters.getMutationParameters(),
+                random);
 
 
         //crossover
-        crossover = CrossoverFactory.getCrossoverOperator(
+        CrossoverOperator<BinarySolution> crossover = CrossoverFactory.getCrossoverOperator(
                 CrossoverType.fromName(this.gaparameters.getCrossoverOperator()),
-                this.gaparameters.getCrossoverParameters());
+                this.gaparameters.getCrossoverParameters(),
+                random);
 
 
         //selection
-        selection = SelectionFactory.getSelectionOperator(
+        SelectionOperator<List<BinarySolution>, BinarySolution> selection = SelectionFactory.getSelectionOperator(
                 SelectionType.fromName(this.gaparameters.getSelectionOperator()),
-                this.gaparameters.getSelectionParameters());
+                this.gaparameters.getSelectionParameters(),
+                random);
 
-        SolutionListEvaluator<BinarySolution> algorithmEvaluator;
+        SolutionListEvaluator<BinarySolution> algorithmEvaluator =
+                this.createSolutionListEvaluator(evaluator, useMultithreading, eaLogger);
 
-        if (useMultithreading) {
-            algorithmEvaluator = new MultithreadedStealingSolutionListEvaluator<>();
-            evaluator.initializeMultithreading();
+        OSHLegacyGenerationalGeneticAlgorithm<BinarySolution> geneticAlgorithm =
+                new OSHLegacyGenerationalGeneticAlgorithm<>(binaryProblem, this.gaparameters.getPopSize(), crossover,
+                        mutation, selection, algorithmEvaluator, eaLogger);
+
+        if (this.warmStartPartialSolutions != null && this.gaparameters.getWarmStartShare() > 0) {
+            geneticAlgorithm.setInitialSolutions(this.createWarmStartSolutions(binaryProblem, distributor,
+                    problemParts, mutation, eaLogger));
+        }
+
+        return this.runAlgorithm(geneticAlgorithm, algorithmEvaluator);
+    }
+
+    /**
+     * Optimizes the binary encoded problem with the island-model genetic algorithm. The configured population is
+     * split over the islands, every island evaluates its solutions in its own thread with its own data-container.
+     *
+     * @param evaluator the evaluator of the problem
+     * @param distributor the solution distributor of the problem
+     * @param problemParts all problem-parts of the problem
+     * @param random the random context of this optimization
+     * @param eaLogger the ea-logger
+     * @return the best found solution
+     */
+    @SuppressWarnings("unchecked")
+    private BinarySolution runIslandModelAlgorithm(
+            EMProblemEvaluator evaluator,
+            SolutionDistributor distributor,
+            InterdependentProblemPart<?, ?>[] problemParts,
+            JMetalRandom random,
+            IEALogger eaLogger) {
+
+        Problem<BinarySolution> binaryProblem = new BinaryEnergyManagementProblem(
+                evaluator,
+                distributor);
+
+        int islandCount = this.gaparameters.getIslandCount() > 0 ? this.gaparameters.getIslandCount()
+                : Runtime.getRuntime().availableProcessors();
+        //even population of at least MIN_ISLAND_POPULATION_SIZE solutions per island
+        int islandPopulationSize = Math.max(this.gaparameters.getPopSize() / islandCount, MIN_ISLAND_POPULATION_SIZE);
+        islandPopulationSize += islandPopulationSize % 2;
+
+        evaluator.initializeMultithreading(islandCount, true);
+
+        IslandModelGeneticAlgorithm<BinarySolution> islandModel = new IslandModelGeneticAlgorithm<>(binaryProblem,
+                islandCount, islandPopulationSize, this.gaparameters.getMigrationInterval(),
+                this.gaparameters.getMigrationSize(),
+                islandRandom -> CrossoverFactory.getCrossoverOperator(
+                        CrossoverType.fromName(this.gaparameters.getCrossoverOperator()),
+                        this.gaparameters.getCrossoverParameters(),
+                        islandRandom),
+                islandRandom -> MutationFactory.getMutationOperator(
+                        MutationType.fromName(this.gaparameters.getMutationOperator()),
+                        this.gaparameters.getMutationParameters(),
+                        islandRandom),
+                islandRandom -> (SelectionOperator<List<BinarySolution>, BinarySolution>)
+                        SelectionFactory.getSelectionOperator(
+                                SelectionType.fromName(this.gaparameters.getSelectionOperator()),
+                                this.gaparameters.getSelectionParameters(),
+                                islandRandom),
+                random,
+                eaLogger);
+
+        if (this.warmStartPartialSolutions != null && this.gaparameters.getWarmStartShare() > 0) {
+            MutationOperator<BinarySolution> mutation = MutationFactory.getMutationOperator(
+                    MutationType.fromName(this.gaparameters.getMutationOperator()),
+                    this.gaparameters.getMutationParameters(),
+                    random);
+            islandModel.setInitialSolutions(this.createWarmStartSolutions(binaryProblem, distributor,
+                    problemParts, mutation, eaLogger));
+        }
+
+        return this.runAlgorithm(islandModel, new SequentialSolutionListEvaluator<>());
+    }
+
+    /**
+     * Optimizes the real encoded problem with the given real-coded algorithm. The configured operators are used if
+     * they fit the algorithm, otherwise the default operators of the algorithm are used.
+     *
+     * @param algorithmType the type of the algorithm, either differential evolution or a (mu + lambda) evolution
+     *                      strategy with mu = lambda = population size
+     * @param evaluator the evaluator of the problem
+     * @param distributor the solution distributor of the problem
+     * @param random the random context of this optimization
+     * @param useMultithreading flag if solutions should be evaluated concurrently
+     * @param eaLogger the ea-logger
+     * @return the best found solution
+     */
+    @SuppressWarnings("unchecked")
+    private DoubleSolution runRealCodedAlgorithm(
+            AlgorithmType algorithmType,
+            EMProblemEvaluator evaluator,
+            SolutionDistributor distributor,
+            JMetalRandom random,
+            boolean useMultithreading,
+            IEALogger eaLogger) {
+
+        RealEnergyManagementProblem realProblem = new RealEnergyManagementProblem(
+                evaluator,
+                distributor);
+
+        SolutionListEvaluator<DoubleSolution> algorithmEvaluator =
+                this.createSolutionListEvaluator(evaluator, useMultithreading, eaLogger);
+
+        Algorithm<DoubleSolution> algorithm;
+
+        if (algorithmType == AlgorithmType.DE) {
+            DifferentialEvolutionCrossover crossover;
+            if (CrossoverType.fromName(this.gaparameters.getCrossoverOperator()) == CrossoverType.DE) {
+                crossover = (DifferentialEvolutionCrossover) CrossoverFactory.<DoubleSolution>getCrossoverOperator(
+                        CrossoverType.DE,
+                        this.gaparameters.getCrossoverParameters(),
+                        random);
+            } else {
+                crossover = new DifferentialEvolutionCrossover(0.5, 0.5, "rand/1/bin", random::nextInt,
+                        random::nextDouble);
+                eaLogger.logAdditional("Crossover " + this.gaparameters.getCrossoverOperator()
+                        + " not usable for differential evolution, using rand/1/bin");
+            }
+
+            algorithm = new DifferentialEvolution(realProblem, this.gaparameters.getPopSize(), crossover,
+                    new DifferentialEvolutionSelection(random::nextInt), algorithmEvaluator, eaLogger);
         } else {
-            algorithmEvaluator = new SequentialSolutionListEvaluator<>();
+            MutationType mutationType = MutationType.fromName(this.gaparameters.getMutationOperator());
+            MutationOperator<DoubleSolution> mutation;
+            if (REAL_MUTATIONS.contains(mutationType)) {
+                mutation = MutationFactory.getMutationOperator(
+                        mutationType,
+                        this.gaparameters.getMutationParameters(),
+                        random);
+            } else {
+                mutation = new PolynomialProbabilityAdjustingMutation(1.0, 20.0,
+                        new RepairDoubleSolutionAtBounds(), random);
+                eaLogger.logAdditional("Mutation " + this.gaparameters.getMutationOperator()
+                        + " not usable for real encoded solutions, using " + MutationType.POLYNOMIAL_AUTO.getName());
+            }
+
+            algorithm = new ElitistEvolutionStrategy<>(realProblem, this.gaparameters.getPopSize(),
+                    this.gaparameters.getPopSize(), mutation, algorithmEvaluator, eaLogger);
         }
 
-        eaLogger.attachWriter(pw);
-        eaLogger.setTimestamp(ignoreLoadProfileBefore);
+        return this.runAlgorithm(algorithm, algorithmEvaluator);
+    }
+
+    /**
+     * Optimizes the binary encoded problem with NSGA-II, using the energy costs, the violation of the upper
+     * power-limit and the cervisia as separate objectives, and picks the solution to be executed from the resulting
+     * pareto front with the configured policy. The configured crossover and mutation are used, the selection is the
+     * binary tournament on ranking and crowding distance of NSGA-II.
+     *
+     * @param evaluator the evaluator of the problem
+     * @param distributor the solution distributor of the problem
+     * @param random the random context of this optimization
+     * @param useMultithreading flag if solutions should be evaluated concurrently
+     * @param eaLogger the ea-logger
+     * @return the solution picked from the pareto front
+     */
+    @SuppressWarnings("unchecked")
+    private BinarySolution runMultiObjectiveAlgorithm(
+            EMProblemEvaluator evaluator,
+            SolutionDistributor distributor,
+            JMetalRandom random,
+            boolean useMultithreading,
+            IEALogger eaLogger) {
+
+        Problem<BinarySolution> binaryProblem = new BinaryEnergyManagementProblem(
+                evaluator,
+                distributor,
+                EMProblemEvaluator.MULTI_OBJECTIVE_COUNT);
+
+        MutationOperator<BinarySolution> mutation = MutationFactory.getMutationOperator(
+                MutationType.fromName(this.gaparameters.getMutationOperator()),
+                this.gaparameters.getMutationParameters(),
+                random);
 
-        algorithm = new OSHLegacyGenerationalGeneticAlgorithm<>(binaryProblem, this.gaparameters.getPopSize(), crossover,
-                mutation, selection, algorithmEvaluator, eaLogger);
+        CrossoverOperator<BinarySolution> crossover = CrossoverFactory.getCrossoverOperator(
+                CrossoverType.fromName(this.gaparameters.getCrossoverOperator()),
+                this.gaparameters.getCrossoverParameters(),
+                random);
+
+        SelectionOperator<List<BinarySolution>, BinarySolution> selection =
+                new BinaryTournamentSelection<>(new RankingAndCrowdingDistanceComparator<>(), random);
+
+        SolutionListEvaluator<BinarySolution> algorithmEvaluator =
+                this.createSolutionListEvaluator(evaluator, useMultithreading, eaLogger);
+
+        int popSize = this.gaparameters.getPopSize();
+        NSGAII<BinarySolution> nsgaII = new NSGAII<>(binaryProblem, popSize, popSize, popSize, crossover, mutation,
+                selection, algorithmEvaluator, eaLogger);
+
+        List<BinarySolution> front = this.runAlgorithm(nsgaII, algorithmEvaluator);
 
+        return this.selectFromParetoFront(front, eaLogger);
+    }
+
+    /**
+     * Picks the solution to be executed from the given pareto front with the configured policy.
+     *
+     * @param front the pareto front
+     * @param eaLogger the ea-logger
+     * @param <S> the type of the solutions
+     * @return the picked solution
+     */
+    private <S extends Solution<?>> S selectFromParetoFront(List<S> front, IEALogger eaLogger) {
+        ParetoSelectionPolicy policy = this.gaparameters.getParetoSelectionPolicy();
+        Comparator<S> fitnessComparator = Comparator.comparingDouble(JMetalEnergySolverGA::getMultiObjectiveFitness);
+        S selected;
+
+        if (policy == ParetoSelectionPolicy.MIN_PEAK) {
+            Comparator<S> peakComparator = Comparator.comparingDouble(
+                    s -> s.getObjective(EMProblemEvaluator.OBJECTIVE_PEAK_LIMIT_VIOLATION));
+            selected = Collections.min(front, peakComparator.thenComparing(fitnessComparator));
+        } else if (policy == ParetoSelectionPolicy.KNEE) {
+            //normalize all objectives to the range of the front, objectives without range do not decide
+            double[] min = new double[EMProblemEvaluator.MULTI_OBJECTIVE_COUNT];
+            double[] range = new double[EMProblemEvaluator.MULTI_OBJECTIVE_COUNT];
+            for (int i = 0; i < min.length; i++) {
+                final int objective = i;
+                min[i] = front.stream().mapToDouble(s -> s.getObjective(objective)).min().orElse(0.0);
+                range[i] = front.stream().mapToDouble(s -> s.getObjective(objective)).max().orElse(0.0) - min[i];
+            }
+
+            selected = Collections.min(front, Comparator.comparingDouble(s -> {
+                double distance = 0;
+                for (int i = 0; i < min.length; i++) {
+                    if (range[i] > 0) {
+                        double normalized = (s.getObjective(i) - min[i]) / range[i];
+                        distance += normalized * normalized;
+                    }
+                }
+                return distance;
+            }));
+        } else {
+            selected = Collections.min(front, fitnessComparator);
+        }
+
+        eaLogger.logAdditional("Pareto front of " + front.size() + " solutions, picked by " + policy.getName()
+                + " -- energy costs: " + selected.getObjective(EMProblemEvaluator.OBJECTIVE_ENERGY_COSTS)
+                + " -- peak limit violation: " + selected.getObjective(EMProblemEvaluator.OBJECTIVE_PEAK_LIMIT_VIOLATION)
+                + " -- cervisia: " + selected.getObjective(EMProblemEvaluator.OBJECTIVE_CERVISIA));
+
+        return selected;
+    }
+
+    /**
+     * Returns the fitness of the given solution evaluated with multiple objectives, i.e. the sum of energy costs and
+     * cervisia as used by the single-objective optimization.
+     *
+     * @param solution the solution evaluated with multiple objectives
+     * @return the fitness of the solution
+     */
+    private static double getMultiObjectiveFitness(Solution<?> solution) {
+        return solution.getObjective(EMProblemEvaluator.OBJECTIVE_ENERGY_COSTS)
+                + solution.getObjective(EMProblemEvaluator.OBJECTIVE_CERVISIA);
+    }
+
+    /**
+     * Creates the evaluator used by the algorithms to evaluate whole populations and prepares the problem evaluator
+     * accordingly.
+     *
+     * @param evaluator the evaluator of the problem
+     * @param useMultithreading flag if solutions should be evaluated concurrently
+     * @param eaLogger the ea-logger
+     * @param <S> the type of the solutions
+     * @return the evaluator for whole populations
+     */
+    private <S extends Solution<?>> SolutionListEvaluator<S> createSolutionListEvaluator(
+            EMProblemEvaluator evaluator,
+            boolean useMultithreading,
+            IEALogger eaLogger) {
+
+        if (useMultithreading && this.gaparameters.getEvaluationThreads() > 0) {
+            evaluator.initializeMultithreading(this.gaparameters.getEvaluationThreads(), true);
+            return new ForkJoinPoolSolutionListEvaluator<>(this.gaparameters.getEvaluationThreads(), eaLogger);
+        } else if (useMultithreading) {
+            evaluator.initializeMultithreading();
+            return new MultithreadedStealingSolutionListEvaluator<>();
+        } else {
+            return new SequentialSolutionListEvaluator<>();
+        }
+    }
+
+    /**
+     * Adds the configured and additional stopping rules to the given algorithm and runs it.
+     *
+     * @param algorithm the algorithm to run
+     * @param algorithmEvaluator the evaluator used by the algorithm, shut down after the run
+     * @param <S> the type of the solutions
+     * @param <R> the type of the result of the algorithm
+     * @return the result of the algorithm, i.e. the best found solution or the pareto front
+     */
+    @SuppressWarnings("unchecked")
+    private <S extends Solution<?>, R> R runAlgorithm(Algorithm<R> algorithm,
+                                                      SolutionListEvaluator<S> algorithmEvaluator) {
         //add stopping rules
         for (String ruleName : this.gaparameters.getStoppingRules().keySet()) {
             StoppingRule sr = StoppingRuleFactory.getStoppingRule(ruleName, this.gaparameters.getStoppingRules().get(ruleName));
             algorithm.addStoppingRule(sr);
         }
+        for (StoppingRule sr : this.additionalStoppingRules) {
+            algorithm.addStoppingRule(sr);
+        }
 
-        /* Execute the Algorithm */
-        algorithm.run();
-        BinarySolution solution = algorithm.getResult();
+        try {
+            algorithm.run();
+            return algorithm.getResult();
+        } finally {
+            algorithmEvaluator.shutdown();
+        }
+    }
 
-        eaLogger.logEnd(solution);
 
-        if (true) { // debug
-            this.logger.logDebug("Final Fitness: " + solution.getObjective(0)); //
+    /**
+     * Creates the solutions to inject into the initial population from the set warm start solution: the earlier
+     * solution transferred into the current encoding and mutated variants of it.
+     *
+     * @param problem the problem to optimize
+     * @param distributor the solution distributor of the problem
+     * @param problemParts all problem-parts of the problem
+     * @param mutation the mutation operator used to create variants
+     * @param eaLogger the ea-logger
+     * @return the solutions to inject into the initial population
+     */
+    private List<BinarySolution> createWarmStartSolutions(
+            Problem<BinarySolution> problem,
+            SolutionDistributor distributor,
+            InterdependentProblemPart<?, ?>[] problemParts,
+            MutationOperator<BinarySolution> mutation,
+            IEALogger eaLogger) {
+
+        List<BinarySolution> warmStartSolutions = new ArrayList<>();
+
+        //problem-parts that can not transfer their earlier solution keep the random bits
+        BinarySolution transferredSolution = problem.createSolution();
+        int transferredParts = distributor.transferBinarySolution(transferredSolution, problemParts,
+                this.warmStartReferenceTime, this.warmStartPartialSolutions);
+
+        if (transferredParts == 0) {
+            return warmStartSolutions;
         }
 
-        eaLogger.detachWriter();
+        int solutionCount = (int) Math.max(1, Math.round(this.gaparameters.getPopSize() * this.gaparameters.getWarmStartShare()));
+        warmStartSolutions.add(transferredSolution);
 
-        //better be sure
-        evaluator.finalizeGrids();
+        for (int i = 1; i < solutionCount; i++) {
+            BinarySolution variant = (BinarySolution) transferredSolution.copy();
+            mutation.execute(variant);
+            warmStartSolutions.add(variant);
+        }
 
-        return new SolutionWithFitness(solution, solution.getObjective(0));
-    }
+        eaLogger.logAdditional("Warm start: transferred earlier solution of " + transferredParts
+                + " problem-parts, injected " + solutionCount + " solutions into the initial population");
 
+        return warmStartSolutions;
+    }
 }
-
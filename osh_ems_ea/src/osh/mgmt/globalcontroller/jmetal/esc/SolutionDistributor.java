@@ -1,8 +1,10 @@
 package osh.mgmt.globalcontroller.jmetal.esc;
 
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.uma.jmetal.solution.BinarySolution;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.binarySet.BinarySet;
 import osh.datatypes.ea.interfaces.IPrediction;
 import osh.datatypes.ea.interfaces.ISolution;
 import osh.datatypes.registry.oc.ipp.InterdependentProblemPart;
@@ -12,6 +14,8 @@ import osh.datatypes.registry.oc.ipp.solutionEncoding.variables.RealEncodedVaria
 import osh.datatypes.registry.oc.ipp.solutionEncoding.variables.VariableEncoding;
 
 import java.util.BitSet;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Collection and distribution class for information about encoding variables one-way and decoding provided solutions
@@ -118,6 +122,17 @@ public class SolutionDistributor {
         return encodingType == VariableEncoding.BINARY ? this.binaryVariableInformation : this.realVariableInformation;
     }
 
+    /**
+     * Returns the position of the binary encoded variables of the problem-part with the given id in the complete
+     * binary encoded solution.
+     *
+     * @param ippId the id of the problem-part
+     * @return the start (inclusive) and end (exclusive) position of the variables of the problem-part
+     */
+    public int[] getBinarySolutionPositions(int ippId) {
+        return this.solutionPositionsForBinary[ippId];
+    }
+
     /**
      * Distributes the given encoded solution to all given problem-parts to decode and implement.
      *
@@ -134,6 +149,79 @@ public class SolutionDistributor {
         }
     }
 
+    /**
+     * Splits the given binary encoded solution into the encoded solutions of all given problem-parts.
+     *
+     * @param solution the binary encoded solution
+     * @param problemParts the problem-parts to split the solution for
+     * @return a map of the unique identifier of every problem-part using any bits to its part of the solution
+     */
+    public Map<UUID, BinarySet> splitBinarySolution(BinarySolution solution, InterdependentProblemPart<? extends
+            ISolution, ? extends IPrediction>[] problemParts) {
+
+        Map<UUID, BinarySet> partialSolutions = new Object2ObjectOpenHashMap<>(problemParts.length);
+        BitSet encodedSolution = solution.getVariableValue(0);
+
+        for (InterdependentProblemPart<?, ?> ipp : problemParts) {
+
+            int[] positions = this.solutionPositionsForBinary[ipp.getId()];
+
+            //no variable for this ipp
+            if (positions[1] - positions[0] == 0) {
+                continue;
+            }
+
+            BinarySet partialSolution = new BinarySet(positions[1] - positions[0]);
+            partialSolution.or(encodedSolution.get(positions[0], positions[1]));
+            partialSolutions.put(ipp.getUUID(), partialSolution);
+        }
+
+        return partialSolutions;
+    }
+
+    /**
+     * Transfers the given encoded solutions of the problem-parts of an earlier optimization into the given binary
+     * encoded solution, leaving the bits of all problem-parts that can not transfer their earlier solution untouched.
+     *
+     * @param solution the binary encoded solution to write the transferred solutions into
+     * @param problemParts the current problem-parts
+     * @param previousReferenceTime the reference time the earlier solutions were encoded for
+     * @param previousPartialSolutions the earlier encoded solutions of the problem-parts
+     * @return the number of problem-parts whose earlier solution has been transferred
+     */
+    public int transferBinarySolution(BinarySolution solution, InterdependentProblemPart<? extends ISolution, ?
+            extends IPrediction>[] problemParts, long previousReferenceTime,
+                                      Map<UUID, BinarySet> previousPartialSolutions) {
+
+        BitSet encodedSolution = solution.getVariableValue(0);
+        int transferredParts = 0;
+
+        for (InterdependentProblemPart<?, ?> ipp : problemParts) {
+
+            int[] positions = this.solutionPositionsForBinary[ipp.getId()];
+            BinarySet previousSolution = previousPartialSolutions.get(ipp.getUUID());
+
+            //no variable or no earlier solution for this ipp
+            if (positions[1] - positions[0] == 0 || previousSolution == null) {
+                continue;
+            }
+
+            BitSet transferred = ipp.transferBinarySolution(previousReferenceTime, previousSolution,
+                    previousSolution.getBinarySetLength());
+
+            if (transferred != null) {
+                encodedSolution.clear(positions[0], positions[1]);
+                for (int i = transferred.nextSetBit(0); i >= 0 && i < positions[1] - positions[0];
+                     i = transferred.nextSetBit(i + 1)) {
+                    encodedSolution.set(positions[0] + i);
+                }
+                transferredParts++;
+            }
+        }
+
+        return transferredParts;
+    }
+
     private void distributeBinarySolution(BitSet solution, InterdependentProblemPart<? extends ISolution, ? extends
             IPrediction>[] problemParts) {
 
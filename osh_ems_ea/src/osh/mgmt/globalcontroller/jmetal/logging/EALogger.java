@@ -28,6 +28,7 @@ public class EALogger implements IEALogger {
     private boolean logExtended;
     private int logXthGeneration;
     private IGlobalLogger logger;
+    private final DatabaseLoggerThread databaseLogger;
     private boolean logOverallEA;
     private int optimizationCounter;
     private double generationsUsed;
@@ -37,6 +38,8 @@ public class EALogger implements IEALogger {
     private double[] homogeneity;
     private double bestFirstFitness = Double.NaN;
     private final double[][] cervisiaInformation = new double[5][2];
+    private long fitnessCacheHits;
+    private long fitnessCacheMisses;
     private final Comparator<Solution<?>> comparator= new ObjectiveComparator<>(0);
 
     private PrintWriter additionalWriter;
@@ -44,12 +47,14 @@ public class EALogger implements IEALogger {
 
     public EALogger(
             IGlobalLogger globalLogger,
+            DatabaseLoggerThread databaseLogger,
             boolean log,
             boolean logExtended,
             int logXthGeneration,
             int logExtendedGenerations,
             boolean logOverallEA) {
 
+        this.databaseLogger = databaseLogger;
         this.init(globalLogger, log, logExtended, logXthGeneration, logExtendedGenerations,
                 logOverallEA);
     }
@@ -107,7 +112,9 @@ public class EALogger implements IEALogger {
     public void logEnd(Solution<?> bestSolution) {
         if (this.log) {
             StringBuilder logMessage = new StringBuilder("===    Finished Optimization, final Fitness: ");
-            logMessage.append(" ").append(bestSolution.getObjective(0)).append(" ");
+            for (int i = 0; i < bestSolution.getNumberOfObjectives(); i++) {
+                logMessage.append(" ").append(bestSolution.getObjective(i)).append(" ");
+            }
             logMessage.append("    ===");
             this.logger.logDebug(logMessage.toString());
             if (this.additionalWriter != null) {
@@ -188,7 +195,7 @@ public class EALogger implements IEALogger {
 
     @Override
     public void shutdown() {
-        if (this.log && DatabaseLoggerThread.isLogToDatabase()) {
+        if (this.log && this.databaseLogger.isLogging()) {
             this.generationsUsed /= this.optimizationCounter;
 
             this.fitnessChange = Arrays.stream(this.fitnessChange).map(d -> d / this.optimizationCounter).toArray();
@@ -202,7 +209,14 @@ public class EALogger implements IEALogger {
                     cervisiaResults[i] = this.cervisiaInformation[i][0] / this.cervisiaInformation[i][1];
                 }
             }
-            DatabaseLoggerThread.enqueue(new EALogObject(UUID.randomUUID(), null, this.generationsUsed,
+            long fitnessCacheLookups = this.fitnessCacheHits + this.fitnessCacheMisses;
+            if (fitnessCacheLookups > 0) {
+                this.logger.logDebug("Fitness cache over all optimizations -- hits: " + this.fitnessCacheHits
+                        + " -- misses: " + this.fitnessCacheMisses
+                        + " -- hit-rate: " + ((double) this.fitnessCacheHits / fitnessCacheLookups));
+            }
+
+            this.databaseLogger.enqueue(new EALogObject(UUID.randomUUID(), null, this.generationsUsed,
                     new double[][]{this.fitnessChange}, new double[][]{this.fitnessSpread}, this.homogeneity,
                     this.optimizationCounter,
                     cervisiaResults));
@@ -291,4 +305,33 @@ public class EALogger implements IEALogger {
         }
 
     }
+
+    @Override
+    public void logFitnessCache(long hits, long misses) {
+        if (this.logOverallEA) {
+            this.fitnessCacheHits += hits;
+            this.fitnessCacheMisses += misses;
+        }
+        if (this.log) {
+            long lookups = hits + misses;
+            String logMessage = "Fitness cache -- hits: " + hits + " -- misses: " + misses
+                    + " -- hit-rate: " + (lookups == 0 ? 0.0 : (double) hits / lookups);
+            this.logger.logDebug(logMessage);
+            if (this.additionalWriter != null) {
+                this.additionalWriter.println(logMessage);
+            }
+        }
+    }
+
+    @Override
+    public void logEvaluationPerformance(int generation, long wallTime, double utilisation) {
+        if (this.log && generation % this.logXthGeneration == 0) {
+            String logMessage = "[" + generation + "] -- Evaluation wall time: " + (wallTime / 1000000.0)
+                    + " ms -- utilisation: " + utilisation;
+            this.logger.logDebug(logMessage);
+            if (this.additionalWriter != null) {
+                this.additionalWriter.println(logMessage);
+            }
+        }
+    }
 }
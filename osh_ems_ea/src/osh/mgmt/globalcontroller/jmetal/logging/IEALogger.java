@@ -71,4 +71,21 @@ public interface IEALogger {
      * @param cervisia the generated cervisia
      */
     void logCervisia(DeviceTypes type, double cervisia);
+
+    /**
+     * Logs information about the usage of the fitness cache during the last algorithm execution.
+     *
+     * @param hits the number of evaluations answered by the cache
+     * @param misses the number of evaluations not answered by the cache
+     */
+    void logFitnessCache(long hits, long misses);
+
+    /**
+     * Logs the performance of the evaluation of one generation of the algorithm.
+     *
+     * @param generation the current generation of the algorithm
+     * @param wallTime the wall time needed to evaluate the generation in nanoseconds
+     * @param utilisation the share of the available evaluation threads' time spent evaluating solutions
+     */
+    void logEvaluationPerformance(int generation, long wallTime, double utilisation);
 }
@@ -12,11 +12,14 @@ import osh.datatypes.limit.PowerLimitSignal;
 import osh.datatypes.limit.PriceSignal;
 import osh.datatypes.registry.oc.ipp.InterdependentProblemPart;
 import osh.esc.OCEnergySimulationCore;
+import osh.mgmt.globalcontroller.jmetal.AlgorithmType;
 import osh.mgmt.globalcontroller.jmetal.GAParameters;
+import osh.mgmt.globalcontroller.jmetal.ParetoSelectionPolicy;
 import osh.mgmt.globalcontroller.jmetal.logging.EALogger;
 import osh.mgmt.globalcontroller.jmetal.logging.IEALogger;
 import osh.mgmt.globalcontroller.modules.scheduling.DetailedOptimisationResults;
 import osh.registry.Registry.OCRegistry;
+import osh.simulation.database.DatabaseLoggerThread;
 import osh.utils.string.ParameterConstants;
 
 import java.time.ZonedDateTime;
@@ -36,6 +39,7 @@ public class GlobalControllerDataStorage {
     //general
     private final UUID uuid;
     private final IGlobalLogger globalLogger;
+    private final DatabaseLoggerThread databaseLogger;
     private final GAParameters gaParameters;
     private final OCEnergySimulationCore ocESC;
     private final IOSHStatus status;
@@ -87,6 +91,7 @@ public class GlobalControllerDataStorage {
      * @param configurationParameters the configuration parameters
      * @param gaParameters the ga parameters
      * @param globalLogger the global logger
+     * @param databaseLogger the database logger of the {@link osh.OSH}
      * @param ocESC the oc-ESC
      */
     public GlobalControllerDataStorage(
@@ -99,6 +104,7 @@ public class GlobalControllerDataStorage {
             OSHParameterCollection configurationParameters,
             GAParameters gaParameters,
             IGlobalLogger globalLogger,
+            DatabaseLoggerThread databaseLogger,
             OCEnergySimulationCore ocESC) {
 
         this.uuid = uuid;
@@ -110,6 +116,7 @@ public class GlobalControllerDataStorage {
         this.configurationParameters = configurationParameters;
         this.gaParameters = gaParameters;
         this.globalLogger = globalLogger;
+        this.databaseLogger = databaseLogger;
         this.ocESC = ocESC;
 
         try {
@@ -177,8 +184,99 @@ public class GlobalControllerDataStorage {
             this.globalLogger.logError("Can't get parameter hotWaterTankUUID, using the default value: " + this.hotWaterTankID);
         }
 
+        try {
+            this.gaParameters.setFitnessCacheSize(
+                    Integer.parseInt(this.configurationParameters.getParameter(ParameterConstants.Optimization.fitnessCacheSize)));
+        } catch (Exception e) {
+            this.globalLogger.logWarning("Can't get fitnessCacheSize, using the default value: " + this.gaParameters.getFitnessCacheSize());
+        }
+
+        try {
+            this.gaParameters.setWarmStartShare(
+                    Double.parseDouble(this.configurationParameters.getParameter(ParameterConstants.Optimization.warmStartShare)));
+        } catch (Exception e) {
+            this.globalLogger.logWarning("Can't get warmStartPopulationShare, using the default value: " + this.gaParameters.getWarmStartShare());
+        }
+
+        try {
+            this.gaParameters.setDeltaEvaluationCheckpointInterval(
+                    Integer.parseInt(this.configurationParameters.getParameter(ParameterConstants.Optimization.deltaEvaluationCheckpointInterval)));
+        } catch (Exception e) {
+            this.globalLogger.logWarning("Can't get deltaEvaluationCheckpointInterval, using the default value: " + this.gaParameters.getDeltaEvaluationCheckpointInterval());
+        }
+
+        try {
+            this.gaParameters.setEvaluationThreads(
+                    Integer.parseInt(this.configurationParameters.getParameter(ParameterConstants.Optimization.evaluationThreads)));
+        } catch (Exception e) {
+            this.globalLogger.logWarning("Can't get evaluationThreads, using the default value: " + this.gaParameters.getEvaluationThreads());
+        }
+
+        try {
+            this.gaParameters.setPreAggregateBackgroundLoad(
+                    Boolean.parseBoolean(this.configurationParameters.getParameter(ParameterConstants.Optimization.preAggregateBackgroundLoad)));
+        } catch (Exception e) {
+            this.globalLogger.logWarning("Can't get preAggregateBackgroundLoad, using the default value: " + this.gaParameters.isPreAggregateBackgroundLoad());
+        }
+
+        try {
+            this.gaParameters.setAlgorithmType(AlgorithmType.fromName(
+                    this.configurationParameters.getParameter(ParameterConstants.Optimization.algorithm)));
+        } catch (Exception e) {
+            this.globalLogger.logWarning("Can't get optimizationAlgorithm, using the default value: " + this.gaParameters.getAlgorithmType().getName());
+        }
+
+        try {
+            this.gaParameters.setParetoSelectionPolicy(ParetoSelectionPolicy.fromName(
+                    this.configurationParameters.getParameter(ParameterConstants.Optimization.paretoSelectionPolicy)));
+        } catch (Exception e) {
+            this.globalLogger.logWarning("Can't get paretoSelectionPolicy, using the default value: " + this.gaParameters.getParetoSelectionPolicy().getName());
+        }
+
+        try {
+            this.gaParameters.setAnytimeBudget(
+                    Double.parseDouble(this.configurationParameters.getParameter(ParameterConstants.Optimization.anytimeBudget)));
+        } catch (Exception e) {
+            this.globalLogger.logWarning("Can't get anytimeBudget, using the default value: " + this.gaParameters.getAnytimeBudget());
+        }
+
+        try {
+            this.gaParameters.setAnytimeRefinementBudget(
+                    Double.parseDouble(this.configurationParameters.getParameter(ParameterConstants.Optimization.anytimeRefinementBudget)));
+        } catch (Exception e) {
+            this.globalLogger.logWarning("Can't get anytimeRefinementBudget, using the default value: " + this.gaParameters.getAnytimeRefinementBudget());
+        }
+
+        try {
+            this.gaParameters.setAnytimeMinImprovement(
+                    Double.parseDouble(this.configurationParameters.getParameter(ParameterConstants.Optimization.anytimeMinImprovement)));
+        } catch (Exception e) {
+            this.globalLogger.logWarning("Can't get anytimeMinImprovement, using the default value: " + this.gaParameters.getAnytimeMinImprovement());
+        }
+
+        try {
+            this.gaParameters.setIslandCount(
+                    Integer.parseInt(this.configurationParameters.getParameter(ParameterConstants.Optimization.islandCount)));
+        } catch (Exception e) {
+            this.globalLogger.logWarning("Can't get islandCount, using the default value: " + this.gaParameters.getIslandCount());
+        }
+
+        try {
+            this.gaParameters.setMigrationInterval(
+                    Integer.parseInt(this.configurationParameters.getParameter(ParameterConstants.Optimization.migrationInterval)));
+        } catch (Exception e) {
+            this.globalLogger.logWarning("Can't get migrationInterval, using the default value: " + this.gaParameters.getMigrationInterval());
+        }
+
+        try {
+            this.gaParameters.setMigrationSize(
+                    Integer.parseInt(this.configurationParameters.getParameter(ParameterConstants.Optimization.migrationSize)));
+        } catch (Exception e) {
+            this.globalLogger.logWarning("Can't get migrationSize, using the default value: " + this.gaParameters.getMigrationSize());
+        }
+
         this.globalLogger.logDebug("Optimization StepSize = " + this.stepSize);
-        this.eaLogger = new EALogger(this.globalLogger,true,true,10,20,true);
+        this.eaLogger = new EALogger(this.globalLogger, this.databaseLogger,true,true,10,20,true);
     }
 
     public void subscribe(GlobalControllerEventEnum event, GlobalControllerModule module) {
@@ -204,6 +302,10 @@ public class GlobalControllerDataStorage {
         return this.globalLogger;
     }
 
+    public DatabaseLoggerThread getDatabaseLogger() {
+        return this.databaseLogger;
+    }
+
     public GAParameters getGaParameters() {
         return this.gaParameters;
     }
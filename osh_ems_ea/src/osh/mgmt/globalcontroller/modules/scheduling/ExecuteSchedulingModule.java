@@ -1,7 +1,10 @@
 package osh.mgmt.globalcontroller.modules.scheduling;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.uma.jmetal.algorithm.stoppingrule.TimeBudgetStoppingRule;
+import org.uma.jmetal.solution.BinarySolution;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.binarySet.BinarySet;
 import osh.core.OSHRandom;
 import osh.core.oc.LocalController;
 import osh.datatypes.commodity.AncillaryCommodity;
@@ -18,6 +21,7 @@ import osh.datatypes.registry.oc.ipp.ControllableIPP;
 import osh.datatypes.registry.oc.ipp.InterdependentProblemPart;
 import osh.datatypes.registry.oc.ipp.solutionEncoding.variables.VariableEncoding;
 import osh.mgmt.globalcontroller.jmetal.Fitness;
+import osh.mgmt.globalcontroller.jmetal.GAParameters;
 import osh.mgmt.globalcontroller.jmetal.IFitness;
 import osh.mgmt.globalcontroller.jmetal.SolutionWithFitness;
 import osh.mgmt.globalcontroller.jmetal.builder.EAScheduleResult;
@@ -26,10 +30,13 @@ import osh.mgmt.globalcontroller.jmetal.esc.JMetalEnergySolverGA;
 import osh.mgmt.globalcontroller.jmetal.esc.SolutionDistributor;
 import osh.mgmt.globalcontroller.modules.GlobalControllerDataStorage;
 import osh.mgmt.globalcontroller.modules.GlobalControllerModule;
-import osh.simulation.database.DatabaseLoggerThread;
 
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Represents the executing of a planned or forced scheduling.
@@ -38,6 +45,18 @@ import java.util.*;
  */
 public class ExecuteSchedulingModule extends GlobalControllerModule {
 
+    /**
+     * The result of the last scheduling, used as a starting point for the next one if warm starts are enabled.
+     */
+    private EAScheduleResult lastScheduleResult;
+
+    //background refinement of the last scheduling if the anytime optimization is enabled, only accessed by the
+    // controller thread except for the refined results
+    private ExecutorService refinementExecutor;
+    private Future<?> refinement;
+    private TimeBudgetStoppingRule refinementStoppingRule;
+    private volatile DetailedOptimisationResults refinedResults;
+
     /**
      * Constructs this module with the given global data sotrage container.
      *
@@ -49,7 +68,9 @@ public class ExecuteSchedulingModule extends GlobalControllerModule {
     }
 
     /**
-     * Executes the scheduling with the given signals and problem-parts.
+     * Executes the scheduling with the given signals and problem-parts. If the anytime optimization is enabled, the
+     * scheduling is stopped after the configured time budget and continued in the background, see
+     * {@link #pollRefinedResults()}.
      *
      * @param priceSignal the price signal
      * @param powerLimitSignal the power-limit signal
@@ -62,31 +83,34 @@ public class ExecuteSchedulingModule extends GlobalControllerModule {
             EnumMap<AncillaryCommodity, PowerLimitSignal> powerLimitSignal,
             List<InterdependentProblemPart<?, ?>> problemPartsList) {
 
+        //the refinement of the previous scheduling works on the same energy-simulation-core and is outdated now
+        this.cancelRefinement();
+
         this.getData().getGlobalLogger().logDebug("=== scheduling... ===");
 
         final ZonedDateTime now = this.getData().getNow();
+        GAParameters gaParameters = this.getData().getGaParameters();
+        boolean anytime = gaParameters.getAnytimeBudget() > 0 && !this.getData().getStatus().isSimulation();
 
         OSHRandom optimisationRunRandomGenerator = new OSHRandom(this.getData().getOptimizationMainRandomGenerator().getNextLong());
 
         // it is a good idea to use a specific random Generator for the EA,
         // to make it comparable with other optimizers...
-        JMetalEnergySolverGA solver = new JMetalEnergySolverGA(
-                this.getData().getGlobalLogger(),
-                optimisationRunRandomGenerator,
-                true,
-                this.getData().getGaParameters(),
-                now.toEpochSecond(),
-                this.getData().getStepSize(),
-                this.getData().getStatus().getLogDir());
+        JMetalEnergySolverGA solver = this.createSolver(optimisationRunRandomGenerator, gaParameters, now);
+
+        if (gaParameters.getWarmStartShare() > 0 && this.lastScheduleResult != null
+                && !this.lastScheduleResult.isDummySolution()) {
+            solver.setWarmStartSolution(this.lastScheduleResult.getReferenceTime(),
+                    this.lastScheduleResult.getEncodedPartialSolutions());
+        }
+        if (anytime) {
+            solver.addStoppingRule(new TimeBudgetStoppingRule(gaParameters.getAnytimeBudget()));
+        }
 
         InterdependentProblemPart<?, ?>[] problemParts = new InterdependentProblemPart<?, ?>[problemPartsList.size()];
         problemParts = problemPartsList.toArray(problemParts);
 
-        Solution<?> solution;
-        SolutionWithFitness resultWithAll;
-
-        long ignoreLoadProfileAfter = now.toEpochSecond();
-        long maxHorizon = ignoreLoadProfileAfter;
+        long maxHorizon = now.toEpochSecond();
 
         for (InterdependentProblemPart<?, ?> problem : problemParts) {
             if (problem instanceof ControllableIPP<?, ?>) {
@@ -100,7 +124,149 @@ public class ExecuteSchedulingModule extends GlobalControllerModule {
             problem.setId(counter);
             counter++;
         }
-        ignoreLoadProfileAfter = Math.max(ignoreLoadProfileAfter, maxHorizon);
+
+        //the refinement needs its own copies, the problem-parts are altered by distributing the solution
+        InterdependentProblemPart<?, ?>[] refinementParts = null;
+        long refinementSeed = 0;
+        if (anytime) {
+            refinementParts = new InterdependentProblemPart<?, ?>[problemParts.length];
+            for (int i = 0; i < problemParts.length; i++) {
+                refinementParts[i] = problemParts[i].getClone();
+            }
+            refinementSeed = this.getData().getOptimizationMainRandomGenerator().getNextLong();
+        }
+
+        SchedulingRun run = this.optimise(solver, problemParts, priceSignal, powerLimitSignal, now, maxHorizon);
+
+        if (run == null) {
+            return null;
+        }
+        this.lastScheduleResult = run.results.getScheduleResult();
+
+        this.getData().getGlobalLogger().logDebug("===    EA done    ===");
+
+        if (anytime && !this.lastScheduleResult.isDummySolution()) {
+            this.startRefinement(run, refinementParts, refinementSeed, priceSignal, powerLimitSignal, now, maxHorizon);
+        }
+
+        return run.results;
+    }
+
+    /**
+     * Returns the results of the background refinement of the last scheduling if it has found a schedule that is
+     * better than the published one by at least the configured share. The results are only returned once.
+     *
+     * @return the results of the refinement or null if no better schedule has been found (yet)
+     */
+    public DetailedOptimisationResults pollRefinedResults() {
+        DetailedOptimisationResults results = this.refinedResults;
+
+        if (results != null) {
+            this.refinedResults = null;
+            this.lastScheduleResult = results.getScheduleResult();
+        }
+        return results;
+    }
+
+    private JMetalEnergySolverGA createSolver(OSHRandom randomGenerator, GAParameters gaParameters,
+                                              ZonedDateTime now) {
+        return new JMetalEnergySolverGA(
+                this.getData().getGlobalLogger(),
+                randomGenerator,
+                true,
+                gaParameters,
+                now.toEpochSecond(),
+                this.getData().getStepSize(),
+                this.getData().getStatus().getLogDir());
+    }
+
+    /**
+     * Continues the optimization of the given scheduling in the background, starting from the found solution.
+     */
+    private void startRefinement(
+            SchedulingRun firstRun,
+            InterdependentProblemPart<?, ?>[] problemParts,
+            long seed,
+            EnumMap<AncillaryCommodity, PriceSignal> priceSignal,
+            EnumMap<AncillaryCommodity, PowerLimitSignal> powerLimitSignal,
+            ZonedDateTime now,
+            long maxHorizon) {
+
+        GAParameters refinementParameters = this.getData().getGaParameters().clone();
+        //at least the published solution has to be part of the initial population
+        if (refinementParameters.getWarmStartShare() <= 0) {
+            refinementParameters.setWarmStartShare(1.0 / refinementParameters.getPopSize());
+        }
+
+        JMetalEnergySolverGA solver = this.createSolver(new OSHRandom(seed), refinementParameters, now);
+        EAScheduleResult firstResult = firstRun.results.getScheduleResult();
+        solver.setWarmStartSolution(firstResult.getReferenceTime(), firstResult.getEncodedPartialSolutions());
+
+        TimeBudgetStoppingRule stoppingRule =
+                new TimeBudgetStoppingRule(refinementParameters.getAnytimeRefinementBudget());
+        solver.addStoppingRule(stoppingRule);
+
+        double requiredFitness = firstRun.fitness
+                - Math.abs(firstRun.fitness) * refinementParameters.getAnytimeMinImprovement();
+
+        if (this.refinementExecutor == null) {
+            this.refinementExecutor = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "anytime-refinement");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        this.refinementStoppingRule = stoppingRule;
+        this.refinement = this.refinementExecutor.submit(() -> {
+            SchedulingRun refined = this.optimise(solver, problemParts, priceSignal, powerLimitSignal, now,
+                    maxHorizon);
+
+            if (refined != null && refined.fitness < requiredFitness) {
+                this.getData().getGlobalLogger().logDebug("=== refinement improved the fitness from "
+                        + firstRun.fitness + " to " + refined.fitness + " ===");
+                this.refinedResults = refined.results;
+            }
+        });
+    }
+
+    /**
+     * Stops the running refinement, waits for it to finish and discards its results.
+     */
+    private void cancelRefinement() {
+        if (this.refinement != null) {
+            this.refinementStoppingRule.cancel();
+            try {
+                this.refinement.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                this.getData().getGlobalLogger().logError(e.getCause());
+            }
+            this.refinement = null;
+            this.refinementStoppingRule = null;
+        }
+        this.refinedResults = null;
+    }
+
+    /**
+     * Runs the given solver on the prepared problem-parts and transforms the found solution into commands and
+     * predictions.
+     *
+     * @return the results of the optimization and the fitness of the found solution or null if the optimization failed
+     */
+    private SchedulingRun optimise(
+            JMetalEnergySolverGA solver,
+            InterdependentProblemPart<?, ?>[] problemParts,
+            EnumMap<AncillaryCommodity, PriceSignal> priceSignal,
+            EnumMap<AncillaryCommodity, PowerLimitSignal> powerLimitSignal,
+            ZonedDateTime now,
+            long maxHorizon) {
+
+        Solution<?> solution;
+        SolutionWithFitness resultWithAll;
+
+        long ignoreLoadProfileAfter = Math.max(now.toEpochSecond(), maxHorizon);
 
         boolean hasGUI = this.getData().getStatus().hasGUI();
 
@@ -143,7 +309,7 @@ public class ExecuteSchedulingModule extends GlobalControllerModule {
             boolean extensiveLogging = hasGUI && !distributor.getVariableInformation(VariableEncoding.BINARY).needsNoVariables();
             AncillaryCommodityLoadProfile ancillaryMeter = new AncillaryCommodityLoadProfile();
 
-            problem.evaluateFinalTime(solution, (DatabaseLoggerThread.isLogEA() | extensiveLogging), ancillaryMeter);
+            problem.evaluateFinalTime(solution, (this.getData().getDatabaseLogger().isLogEA() | extensiveLogging), ancillaryMeter);
 
             distributor.distributeSolution(solution, problemParts);
 
@@ -196,9 +362,13 @@ public class ExecuteSchedulingModule extends GlobalControllerModule {
                 }
             }
 
+            Map<UUID, BinarySet> encodedPartialSolutions = solution instanceof BinarySolution ?
+                    distributor.splitBinarySolution((BinarySolution) solution, problemParts) : new HashMap<>();
+
             result = new EAScheduleResult(predictedHotWaterTankTemperature, predictedHotWaterDemand,
                     predictedHotWaterSupply, schedules, ancillaryMeter, solution,
-                    distributor.getVariableInformation(VariableEncoding.BINARY).needsNoVariables());
+                    distributor.getVariableInformation(VariableEncoding.BINARY).needsNoVariables(),
+                    now.toEpochSecond(), encodedPartialSolutions);
 
 
         } catch (Exception e) {
@@ -230,13 +400,30 @@ public class ExecuteSchedulingModule extends GlobalControllerModule {
             }
         }
 
-        this.getData().getGlobalLogger().logDebug("===    EA done    ===");
-
-        return new DetailedOptimisationResults(solutionExchanges, predictionExchanges, result);
+        return new SchedulingRun(new DetailedOptimisationResults(solutionExchanges, predictionExchanges, result),
+                resultWithAll.getFitness());
     }
 
     @Override
     public void onSystemShutdown() {
+        if (this.refinementExecutor != null) {
+            this.cancelRefinement();
+            this.refinementExecutor.shutdown();
+        }
         this.getData().getEaLogger().shutdown();
     }
+
+    /**
+     * The results of one run of the optimization together with the fitness of the found solution.
+     */
+    private static class SchedulingRun {
+
+        private final DetailedOptimisationResults results;
+        private final double fitness;
+
+        private SchedulingRun(DetailedOptimisationResults results, double fitness) {
+            this.results = results;
+            this.fitness = fitness;
+        }
+    }
 }
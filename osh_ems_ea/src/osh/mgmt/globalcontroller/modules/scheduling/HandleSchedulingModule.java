@@ -56,6 +56,14 @@ public class HandleSchedulingModule extends GlobalControllerModule {
 
         if (reschedulingRequired) {
             this.executeScheduling();
+        } else {
+            //publish the schedule of the background refinement if it is better than the current one
+            DetailedOptimisationResults refinedResult =
+                    this.getData().getControllerModule(ExecuteSchedulingModule.class).pollRefinedResults();
+
+            if (refinedResult != null) {
+                this.publishResult(refinedResult);
+            }
         }
     }
 
@@ -70,6 +78,10 @@ public class HandleSchedulingModule extends GlobalControllerModule {
                                 this.getData().getPowerLimitSignals(),
                                 this.getData().getProblemParts());
 
+        this.publishResult(result);
+    }
+
+    private void publishResult(DetailedOptimisationResults result) {
         this.getData().setLastOptimisationResults(result);
         this.getData().notify(GlobalControllerEventEnum.SCHEDULING_FINISHED);
         this.getData().setLastOptimisationResults(null);
@@ -154,10 +154,8 @@ public class OSHGlobalObserver
         CommodityPowerStateExchange cpse = new CommodityPowerStateExchange(
                 this.getUUID(),
                 now,
+                new EnumMap<>(this.commodityTotalPowerMap),
                 DeviceTypes.OTHER);
-        for (Entry<Commodity, Double> e : this.commodityTotalPowerMap.entrySet()) {
-            cpse.addPowerState(e.getKey(), e.getValue());
-        }
 
         this.getOCRegistry().publish(
                 CommodityPowerStateExchange.class,
@@ -8,6 +8,9 @@ import org.uma.jmetal.operator.impl.selection.SelectionType;
 import osh.configuration.oc.GAConfiguration;
 import osh.configuration.oc.StoppingRule;
 import osh.configuration.system.ConfigurationParameter;
+import osh.datatypes.registry.oc.ipp.solutionEncoding.variables.VariableEncoding;
+import osh.mgmt.globalcontroller.jmetal.AlgorithmType;
+import osh.mgmt.globalcontroller.jmetal.ParetoSelectionPolicy;
 import osh.utils.string.ParameterConstants;
 
 import java.util.ArrayList;
@@ -24,8 +27,20 @@ public class EAConfig {
     public static MutationType defaultBinaryMutationOperator = MutationType.BIT_FLIP_AUTO; //  adjusts the mutation rate
     // to 1/(numberOfBits)
 
+    //operators of the real-coded algorithms, differential evolution only uses the crossover, the evolution
+    // strategy only the mutation
+    public static CrossoverType defaultRealCrossoverOperator = CrossoverType.DE;
+    public static MutationType defaultRealMutationOperator = MutationType.POLYNOMIAL_AUTO; // adjusts the mutation rate
+    // to 1/(numberOfVariables)
+
     public static SelectionType defaultSelectionOperator = SelectionType.BINARY_TOURNAMENT;
 
+    //the genetic algorithm and NSGA-II work on binary encoded solutions, differential evolution and the evolution
+    // strategy on real encoded solutions
+    public static AlgorithmType algorithm = AlgorithmType.GA;
+    //picks the solution to execute from the pareto front of NSGA-II
+    public static ParetoSelectionPolicy paretoSelectionPolicy = ParetoSelectionPolicy.MIN_FITNESS;
+
     // OptimizationAlgorithm specific variables
     public static int numEvaluations = 20000;
     public static int popSize = 100;
@@ -34,7 +49,13 @@ public class EAConfig {
     public static int crossoverPoints = 2;
 
     public static double mutationProbability = 0.001; // BitFlipMutation
-    public static double autoProbMutationFactor = 1.0; // BitFlipAutoProbMutation
+    public static double autoProbMutationFactor = 1.0; // BitFlipAutoProbMutation, PolynomialAutoProbMutation
+    public static int distributionIndex = 20; // PolynomialAutoProbMutation
+
+    public static double deCr = 0.5; // DifferentialEvolutionCrossover
+    public static double deF = 0.5;
+    public static double deK = 0.5;
+    public static String deVariant = "rand/1/bin";
 
     //stopping Rules
     //should never be false
@@ -49,6 +70,38 @@ public class EAConfig {
     //min. perc. amount of fitness change required
     public static double minDeltaFitnessPercent = 5.0E-15;
 
+    //stops the optimization after the wall-clock time budget (in seconds) has been used up
+    public static boolean useTimeBudget = false;
+    public static double timeBudget = 60.0;
+
+    //max. number of fitness values of already evaluated solutions to remember, 0 disables the cache
+    public static int fitnessCacheSize = 1000;
+
+    //share of the initial population seeded from the previous schedule, 0 disables warm starts
+    public static double warmStartShare = 0.0;
+
+    //interval in seconds between checkpoints used to resume evaluations of similar solutions, 0 disables resuming
+    public static int deltaEvaluationCheckpointInterval = 0;
+
+    //number of threads of the dedicated evaluation pool, 0 evaluates with the common fork-join-pool
+    public static int evaluationThreads = 0;
+
+    //pre-aggregate the loads of all problem-parts not depending on the solution, changes the fitness in the last digits
+    public static boolean preAggregateBackgroundLoad = false;
+
+    //wall-clock budget in seconds after which a first schedule is published, the optimization is then continued in
+    // the background for the refinement budget and the schedule is replaced if the fitness improves by at least the
+    // given relative share, 0 disables the anytime optimization (never used in simulations)
+    public static double anytimeBudget = 0.0;
+    public static double anytimeRefinementBudget = 60.0;
+    public static double anytimeMinImprovement = 0.01;
+
+    //island-model genetic algorithm: number of islands (0 uses one island per available processor), generations
+    // between two migrations and number of best solutions migrating to the next island
+    public static int islandCount = 0;
+    public static int migrationInterval = 10;
+    public static int migrationSize = 2;
+
     private static List<ConfigurationParameter> generateOperatorParameters(OperatorType type, String operatorName) {
         List<ConfigurationParameter> list = new ArrayList<>();
 
@@ -58,11 +111,19 @@ public class EAConfig {
             list.add(Util.generateClassedParameter(ParameterConstants.EA.probability, crossoverProbability));
             if (operatorName.equals(CrossoverType.BINARY_N_POINT.getName())) {
                 list.add(Util.generateClassedParameter(ParameterConstants.EA_RECOMBINATION.points, crossoverPoints));
+            } else if (operatorName.equals(CrossoverType.DE.getName())) {
+                list.add(Util.generateClassedParameter(ParameterConstants.EA_RECOMBINATION.cr, deCr));
+                list.add(Util.generateClassedParameter(ParameterConstants.EA_RECOMBINATION.f, deF));
+                list.add(Util.generateClassedParameter(ParameterConstants.EA_RECOMBINATION.k, deK));
+                list.add(Util.generateClassedParameter(ParameterConstants.EA_RECOMBINATION.variant, deVariant));
             }
         } else {
             list.add(Util.generateClassedParameter(ParameterConstants.EA.probability, mutationProbability));
             if (operatorName.equals(MutationType.BIT_FLIP_AUTO.getName())) {
                 list.add(Util.generateClassedParameter(ParameterConstants.EA_MUTATION.autoProbMutationFactor, autoProbMutationFactor));
+            } else if (operatorName.equals(MutationType.POLYNOMIAL_AUTO.getName())) {
+                list.add(Util.generateClassedParameter(ParameterConstants.EA_MUTATION.autoProbMutationFactor, autoProbMutationFactor));
+                list.add(Util.generateClassedParameter(ParameterConstants.EA.distributionIndex, distributionIndex));
             }
         }
 
@@ -92,19 +153,30 @@ public class EAConfig {
             stoppingRules.add(src);
         }
 
+        if (useTimeBudget) {
+            StoppingRule src = new StoppingRule();
+            src.setStoppingRuleName(StoppingRuleType.TIME_BUDGET.getName());
+            src.getRuleParameters().add(Util.generateClassedParameter(ParameterConstants.EA.timeBudget, timeBudget));
+            stoppingRules.add(src);
+        }
+
+        boolean binaryEncoded = algorithm.getEncoding() == VariableEncoding.BINARY;
+        CrossoverType crossoverOperator = binaryEncoded ? defaultBinaryCrossoverOperator : defaultRealCrossoverOperator;
+        MutationType mutationOperator = binaryEncoded ? defaultBinaryMutationOperator : defaultRealMutationOperator;
+
         eaConfig.setNumEvaluations(numEvaluations);
         eaConfig.setPopSize(popSize);
         eaConfig.setSelectionOperator(defaultSelectionOperator.getName());
-        eaConfig.setCrossoverOperator(defaultBinaryCrossoverOperator.getName());
-        eaConfig.setMutationOperator(defaultBinaryMutationOperator.getName());
+        eaConfig.setCrossoverOperator(crossoverOperator.getName());
+        eaConfig.setMutationOperator(mutationOperator.getName());
 
 
         eaConfig.getSelectionParameters().addAll(generateOperatorParameters(OperatorType.SELECTION,
                 defaultSelectionOperator.getName()));
         eaConfig.getCrossoverParameters().addAll(generateOperatorParameters(OperatorType.RECOMBINATION,
-                defaultBinaryCrossoverOperator.getName()));
+                crossoverOperator.getName()));
         eaConfig.getMutationParameters().addAll(generateOperatorParameters(OperatorType.MUTATION,
-                defaultBinaryMutationOperator.getName()));
+                mutationOperator.getName()));
 
         eaConfig.getStoppingRules().addAll(stoppingRules);
 
@@ -59,6 +59,24 @@ public class GenerateOC {
         params.put(ParameterConstants.Optimization.hotWaterTankUUID, String.valueOf(UUIDStorage.hotWaterTankUUID));
         params.put(ParameterConstants.Optimization.coldWaterTankUUID, String.valueOf(UUIDStorage.coldWaterTankUUID));
 
+        params.put(ParameterConstants.Optimization.fitnessCacheSize, String.valueOf(EAConfig.fitnessCacheSize));
+        params.put(ParameterConstants.Optimization.warmStartShare, String.valueOf(EAConfig.warmStartShare));
+        params.put(ParameterConstants.Optimization.deltaEvaluationCheckpointInterval,
+                String.valueOf(EAConfig.deltaEvaluationCheckpointInterval));
+        params.put(ParameterConstants.Optimization.evaluationThreads, String.valueOf(EAConfig.evaluationThreads));
+        params.put(ParameterConstants.Optimization.preAggregateBackgroundLoad,
+                String.valueOf(EAConfig.preAggregateBackgroundLoad));
+        params.put(ParameterConstants.Optimization.algorithm, EAConfig.algorithm.getName());
+        params.put(ParameterConstants.Optimization.paretoSelectionPolicy, EAConfig.paretoSelectionPolicy.getName());
+        params.put(ParameterConstants.Optimization.anytimeBudget, String.valueOf(EAConfig.anytimeBudget));
+        params.put(ParameterConstants.Optimization.anytimeRefinementBudget,
+                String.valueOf(EAConfig.anytimeRefinementBudget));
+        params.put(ParameterConstants.Optimization.anytimeMinImprovement,
+                String.valueOf(EAConfig.anytimeMinImprovement));
+        params.put(ParameterConstants.Optimization.islandCount, String.valueOf(EAConfig.islandCount));
+        params.put(ParameterConstants.Optimization.migrationInterval, String.valueOf(EAConfig.migrationInterval));
+        params.put(ParameterConstants.Optimization.migrationSize, String.valueOf(EAConfig.migrationSize));
+
         for (Map.Entry<String, String> en : params.entrySet()) {
             ConfigurationParameter cp = CreateConfigurationParameter.createConfigurationParameter(
                     en.getKey(),
@@ -61,6 +61,12 @@ public class GenerateOSH {
     public static boolean logGA = true;
     public static boolean logSmartHeater = false;
 
+    //draw all random generators from one master generator, needed to reproduce results of earlier versions
+    public static boolean legacyRandomDistribution = true;
+    //number of threads simulating the subjects of a tick in parallel, 0 or 1 simulates serially (requires
+    // legacyRandomDistribution = false, fails if a subject reads what another subject published in the same phase)
+    public static int parallelTickThreads = 0;
+
     /**
      * Generates the OSH configuration file.
      *
@@ -97,6 +103,8 @@ public class GenerateOSH {
         params.put(ParameterConstants.Logging.logWaterTank, String.valueOf(logWaterTank));
         params.put(ParameterConstants.Logging.logEA, String.valueOf(logGA));
         params.put(ParameterConstants.Logging.logSmartHeater, String.valueOf(logSmartHeater));
+        params.put(ParameterConstants.Simulation.legacyRandomDistribution, String.valueOf(legacyRandomDistribution));
+        params.put(ParameterConstants.Simulation.parallelTickThreads, String.valueOf(parallelTickThreads));
         params.put(ParameterConstants.Logging.loggingIntervals, Arrays.toString(
                 Arrays.stream(loggingIntervals).map(Arrays::toString).toArray(String[]::new)));
 
@@ -0,0 +1,213 @@
+package osh.runsimulation;
+
+import osh.OSH;
+import osh.OSHLifeCycleManager;
+import osh.core.LifeCycleStates;
+import osh.core.logging.OSHGlobalLogger;
+import osh.datatypes.logger.SystemLoggerConfiguration;
+import osh.datatypes.logging.general.SimulationResultsLogObject;
+import osh.simulation.OSHSimulationResults;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Callable;
+
+/**
+ * Represents one simulation of a single configuration with a single pair of random seeds. Every run owns its own
+ * {@link OSH}, {@link OSHLifeCycleManager}, global logger and database logger, so that several runs can be executed
+ * concurrently in the same jvm as long as they log to different directories.
+ */
+public class SimulationRun implements Callable<OSHSimulationResults> {
+
+    private final String configID;
+    private final String configRootPath;
+    private final String runID;
+    private final String logDirName;
+    private final ZonedDateTime forcedStartTime;
+    private final int simulationDuration;
+    private final long randomSeed;
+    private final long optimizationMainRandomSeed;
+
+    private final String globalLoggerLogLevel;
+    private final boolean systemLoggingToConsoleActive;
+
+    private final boolean logToDatabase;
+    private final String tableName;
+    private final String[] databasesToLog;
+    private final boolean logToFile;
+
+    /**
+     * Constructs this simulation run with the given configuration.
+     *
+     * @param configID the identifier of the configuration
+     * @param configRootPath the path to the configuration containing the folders <i>system</i> and
+     *                       <i>simulation</i>, including a trailing separator
+     * @param runID the identifier of this run
+     * @param logDirName the directory to log to, must not be shared with other runs
+     * @param forcedStartTime the start time of the simulation
+     * @param simulationDuration the duration of the simulation in ticks
+     * @param randomSeed the random seed of the scenario
+     * @param optimizationMainRandomSeed the random seed of the optimization
+     * @param globalLoggerLogLevel the log level of the global logger
+     * @param systemLoggingToConsoleActive flag if system messages should be printed to the console
+     * @param logToDatabase flag if the simulation should log to the database
+     * @param tableName the root-tablename to log to
+     * @param databasesToLog the identifiers of the databases to log to
+     * @param logToFile flag if the simulation should log to columnar files in the log directory
+     */
+    public SimulationRun(
+            String configID,
+            String configRootPath,
+            String runID,
+            String logDirName,
+            ZonedDateTime forcedStartTime,
+            int simulationDuration,
+            long randomSeed,
+            long optimizationMainRandomSeed,
+            String globalLoggerLogLevel,
+            boolean systemLoggingToConsoleActive,
+            boolean logToDatabase,
+            String tableName,
+            String[] databasesToLog,
+            boolean logToFile) {
+        this.configID = configID;
+        this.configRootPath = configRootPath;
+        this.runID = runID;
+        this.logDirName = logDirName;
+        this.forcedStartTime = forcedStartTime;
+        this.simulationDuration = simulationDuration;
+        this.randomSeed = randomSeed;
+        this.optimizationMainRandomSeed = optimizationMainRandomSeed;
+        this.globalLoggerLogLevel = globalLoggerLogLevel;
+        this.systemLoggingToConsoleActive = systemLoggingToConsoleActive;
+        this.logToDatabase = logToDatabase;
+        this.tableName = tableName;
+        this.databasesToLog = databasesToLog;
+        this.logToFile = logToFile;
+    }
+
+    /**
+     * Checks if all configuration files of this run exist, printing an error for every missing file.
+     *
+     * @return true if all configuration files exist
+     */
+    public boolean checkConfigFiles() {
+        String[][] files = {
+                {"Screenplay file", this.getScreenplayFileName()},
+                {"EALConfigFile", this.getEALConfigFileName()},
+                {"OCConfigFile", this.getOCConfigFileName()},
+                {"OSHConfigFile", this.getOSHConfigFileName()},
+                {"CALConfigFile", this.getCALConfigFileName()},
+        };
+
+        boolean allExist = true;
+        for (String[] file : files) {
+            if (!new File(file[1]).exists()) {
+                if (allExist) {
+                    System.out.println("[ERROR] One ore more of the required files is missing");
+                }
+                System.out.println("[ERROR] " + file[0] + " is missing : " + file[1]);
+                allExist = false;
+            }
+        }
+        return allExist;
+    }
+
+    /**
+     * Runs the simulation, writes the results to the log directory of this run and returns them.
+     *
+     * @return the results of the simulation
+     * @throws Exception if the configuration is incomplete or the simulation failed
+     */
+    @Override
+    public OSHSimulationResults call() throws Exception {
+        if (!this.checkConfigFiles()) {
+            throw new FileNotFoundException("configuration " + this.configRootPath + " is incomplete");
+        }
+
+        long simStartTime = System.currentTimeMillis();
+
+        SystemLoggerConfiguration systemLoggingConfiguration = new SystemLoggerConfiguration(
+                this.globalLoggerLogLevel,
+                this.systemLoggingToConsoleActive,
+                true, //systemLoggingToFileActive
+                false,
+                true,
+                true,
+                this.logDirName);
+
+        OSH osh = new OSH();
+        OSHGlobalLogger globalLogger = new OSHGlobalLogger(osh, systemLoggingConfiguration);
+        OSHLifeCycleManager lifeCycleManager = new OSHLifeCycleManager(osh, globalLogger);
+
+        OSHSimulationResults simResults;
+        long simFinishTime;
+
+        try {
+            lifeCycleManager.initOSHFirstStep(
+                    this.getOSHConfigFileName(),
+                    this.getOCConfigFileName(),
+                    this.getEALConfigFileName(),
+                    this.getCALConfigFileName(),
+                    this.forcedStartTime,
+                    this.randomSeed,
+                    this.optimizationMainRandomSeed,
+                    this.runID,
+                    this.configID,
+                    this.logDirName);
+
+            //init database logger
+            lifeCycleManager.initDatabaseLogging(this.logToDatabase, this.tableName, this.forcedStartTime,
+                    this.databasesToLog);
+            lifeCycleManager.initFileLogging(this.logToFile, this.forcedStartTime);
+
+            lifeCycleManager.loadScreenplay(this.getScreenplayFileName());
+            simResults = lifeCycleManager.startSimulation(this.simulationDuration);
+
+            simFinishTime = System.currentTimeMillis();
+            if (this.logToDatabase || this.logToFile) {
+                lifeCycleManager.getDatabaseLogger().enqueue(new SimulationResultsLogObject(null, null,
+                        simResults, 0, this.simulationDuration - 1, (simFinishTime - simStartTime) / 1000));
+            }
+            lifeCycleManager.switchToLifeCycleState(LifeCycleStates.ON_SYSTEM_SHUTDOWN);
+        } finally {
+            globalLogger.removeAllAppenders();
+        }
+
+        System.out.println("[" + this.logDirName + "] Simulation runtime: " + (simFinishTime - simStartTime) / 1000
+                + " sec");
+
+        if (simResults != null) {
+            String outputFileName = this.logDirName + "/" + this.configID + "_"
+                    + this.randomSeed + "_simresults" + ".csv";
+            simResults.logCurrentStateToFile(new File(outputFileName), (simFinishTime - simStartTime) / 1000);
+        }
+
+        return simResults;
+    }
+
+    public String getLogDirName() {
+        return this.logDirName;
+    }
+
+    private String getScreenplayFileName() {
+        return this.configRootPath + "simulation/Screenplay.xml";
+    }
+
+    private String getEALConfigFileName() {
+        return this.configRootPath + "system/EALConfig.xml";
+    }
+
+    private String getOCConfigFileName() {
+        return this.configRootPath + "system/OCConfig.xml";
+    }
+
+    private String getOSHConfigFileName() {
+        return this.configRootPath + "system/OSHConfig.xml";
+    }
+
+    private String getCALConfigFileName() {
+        return this.configRootPath + "system/CALConfig.xml";
+    }
+}
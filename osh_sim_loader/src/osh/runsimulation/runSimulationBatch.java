@@ -0,0 +1,139 @@
+package osh.runsimulation;
+
+import java.io.File;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the simulations of all given configurations and random seeds concurrently in one jvm. Every simulation is an
+ * independent {@link SimulationRun} logging to its own directory <i>logs/configID/runID_seedIndex</i>, at most
+ * {@link #threads} simulations are executed at the same time.
+ */
+public class runSimulationBatch {
+
+    /* ########################
+     * # System configuration #
+     * ########################	*/
+
+    //for database logging (mysql)
+    static protected boolean logToDatabase;
+    static protected final String tableName = "TABLE";
+    /* in which databases to log, multiple entries will result in logging to multiple databases
+     * { } : none
+     *  1  : some server
+     *  2  : some other server
+     */
+    static protected final String[] databasesToLog = {};
+    //for logging into compressed columnar files in the subdirectory results of the log directory
+    static protected boolean logToFile;
+
+    static protected String configFilesDir;
+    static protected final String configFilesPath = "configfiles";
+    static protected final int day = 1; // 1 = 1.
+    static protected final int month = 1; // 7 = July
+    static protected final int year = 1970;
+    static protected final int simulationDuration = 31 * 86400; //simulate 31 days
+    static protected final String[] configIDs = {
+            "example",
+    };
+
+    //maximum number of simulations running at the same time
+    static protected final int threads = Runtime.getRuntime().availableProcessors();
+
+
+    /* #########################
+     * # General configuration #
+     * ######################### */
+    static final Long[][] randomSeeds = { //[0]= scenario, [1]= EA
+            {0xd1ce5bL, 0xd1ce5bL},
+            {0xd1ce5cL, 0xd1ce5cL},
+            {0xd1ce5dL, 0xd1ce5dL},
+            {0xd1ce5eL, 0xd1ce5eL},
+    };
+
+    // logger for exceptions etc.
+    /**
+     * Logger log level
+     * "DEBUG"  : nearly everything
+     * "INFO"   : only important stuff (default)
+     * "ERROR"  : errors only -> used for simulation recording
+     * "OFF"    : nothing
+     */
+    static private final String globalLoggerLogLevel = "INFO";
+
+
+    /* ########
+     * # MAIN #
+     * ########	*/
+    public static void main(String[] args) {
+
+        // reset starting time
+        // 1.1.1970
+        ZonedDateTime forcedStartTime = ZonedDateTime.of(year, month, day, 0, 0, 0, 0, ZoneId.of("UTC"));
+        String runID = "" + (System.currentTimeMillis() / 1000);
+
+        File simulationFolder = new File(configFilesDir == null ? configFilesPath + "/osh" : configFilesDir);
+        if (!simulationFolder.exists()) {
+            System.out.println("[ERROR] Simulation folder does not exist: " + simulationFolder.getAbsolutePath());
+            System.exit(1);
+        }
+
+        List<SimulationRun> runs = new ArrayList<>();
+
+        for (String configID : configIDs) {
+            String configRootPath = configFilesDir == null ? configFilesPath + "/osh/" + configID + "/" : configFilesDir + "/";
+
+            for (int i = 0; i < randomSeeds.length; i++) {
+                SimulationRun run = new SimulationRun(
+                        configID,
+                        configRootPath,
+                        runID,
+                        "logs/" + configID + "/" + runID + "_" + i,
+                        forcedStartTime,
+                        simulationDuration,
+                        randomSeeds[i][0],
+                        randomSeeds[i][1],
+                        globalLoggerLogLevel,
+                        false, //systemLoggingToConsoleActive, concurrent runs would interleave
+                        logToDatabase,
+                        tableName,
+                        databasesToLog,
+                        logToFile);
+
+                if (!run.checkConfigFiles()) {
+                    System.exit(1);
+                }
+                runs.add(run);
+            }
+        }
+
+        System.out.println("[INFO] Running " + runs.size() + " simulations from time " + forcedStartTime + " for "
+                + simulationDuration + " ticks on " + threads + " threads");
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, runs.size()));
+        List<Future<?>> results = new ArrayList<>();
+        for (SimulationRun run : runs) {
+            results.add(executor.submit(run));
+        }
+        executor.shutdown();
+
+        boolean failed = false;
+        for (int i = 0; i < runs.size(); i++) {
+            try {
+                results.get(i).get();
+            } catch (InterruptedException | ExecutionException e) {
+                System.out.println("[ERROR] Simulation in " + runs.get(i).getLogDirName() + " failed");
+                e.printStackTrace();
+                failed = true;
+            }
+        }
+
+        System.exit(failed ? 1 : 0);
+    }
+}
@@ -1,17 +1,6 @@
 package osh.runsimulation;
 
-import osh.OSHLifeCycleManager;
-import osh.core.LifeCycleStates;
-import osh.core.exceptions.LifeCycleManagerException;
-import osh.core.exceptions.OSHException;
-import osh.core.logging.OSHLoggerCore;
-import osh.datatypes.logger.SystemLoggerConfiguration;
-import osh.datatypes.logging.general.SimulationResultsLogObject;
-import osh.simulation.OSHSimulationResults;
-import osh.simulation.database.DatabaseLoggerThread;
-
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
@@ -34,6 +23,8 @@ public class runSimulationPackage {
      *  2  : some other server
      */
     static protected final String[] databasesToLog = {};
+    //for logging into compressed columnar files in the subdirectory results of the log directory
+    static protected boolean logToFile;
 
     static protected String configFilesDir;
     static protected String logDirName;
@@ -95,21 +86,10 @@ public class runSimulationPackage {
                 Long randomSeed = seeds[0];
                 Long optimizationMainRandomSeed = seeds[1];
 
-                OSHSimulationResults simResults = null;
-
                 if (logDirName == null) {
                     logDirName = "logs/" + configID + "/" + runID;
                 }
 
-                SystemLoggerConfiguration systemLoggingConfiguration = new SystemLoggerConfiguration(
-                        globalLoggerLogLevel,
-                        true, //systemLoggingToConsoleActive
-                        true, //systemLoggingToFileActive
-                        false,
-                        true,
-                        true,
-                        logDirName);
-
                 File simulationFolder;
 
                 if (configFilesDir == null)
@@ -126,96 +106,32 @@ public class runSimulationPackage {
 
                 String configRootPath = configFilesDir == null ? configFilesPath + "/osh/" + configID + "/" : configFilesDir + "/";
 
-                String currentScreenplayFileName = configRootPath + "simulation/Screenplay.xml";
-                String currentEalConfigFileName = configRootPath + "system/EALConfig.xml";
-                String currentOCConfigFileName = configRootPath + "system/OCConfig.xml";
-                String currentOSHConfigFileName = configRootPath + "system/OSHConfig.xml";
-                String currentCALConfigFileName = configRootPath + "system/CALConfig.xml";
-
-                File file1 = new File(currentScreenplayFileName);
-                File file2 = new File(currentEalConfigFileName);
-                File file3 = new File(currentOCConfigFileName);
-                File file4 = new File(currentOSHConfigFileName);
-                File file5 = new File(currentCALConfigFileName);
-
-                // check if files exist
-                if (!file1.exists() || !file2.exists() || !file3.exists()) {
-                    System.out.println("[ERROR] One ore more of the required files is missing");
-                    if (!file1.exists()) {
-                        System.out.println("[ERROR] Screenplay file is missing : " + currentScreenplayFileName);
-                    }
-                    if (!file2.exists()) {
-                        System.out.println("[ERROR] EALConfigFile is missing : " + currentEalConfigFileName);
-                    }
-                    if (!file3.exists()) {
-                        System.out.println("[ERROR] OCConfigFile is missing : " + currentOCConfigFileName);
-                    }
-                    if (!file4.exists()) {
-                        System.out.println("[ERROR] OSHConfigFile is missing : " + currentOSHConfigFileName);
-                    }
-                    if (!file5.exists()) {
-                        System.out.println("[ERROR] CALConfigFile is missing : " + currentCALConfigFileName);
-                    }
-                    return;
-                }
-
-                OSHLifeCycleManager lifeCycleManager = new OSHLifeCycleManager(systemLoggingConfiguration);
-
-                try {
-                    lifeCycleManager.initOSHFirstStep(
-                            currentOSHConfigFileName,
-                            currentOCConfigFileName,
-                            currentEalConfigFileName,
-                            currentCALConfigFileName,
-                            forcedStartTime,
-                            randomSeed,
-                            optimizationMainRandomSeed,
-                            runID,
-                            configID,
-                            logDirName);
-                } catch (LifeCycleManagerException e) {
-                    e.printStackTrace();
-                    System.exit(1);
-                }
+                SimulationRun run = new SimulationRun(
+                        configID,
+                        configRootPath,
+                        runID,
+                        logDirName,
+                        forcedStartTime,
+                        simulationDuration,
+                        randomSeed,
+                        optimizationMainRandomSeed,
+                        globalLoggerLogLevel,
+                        true, //systemLoggingToConsoleActive
+                        logToDatabase,
+                        tableName,
+                        databasesToLog,
+                        logToFile);
 
-                //init database logger
-                try {
-                    lifeCycleManager.initDatabaseLogging(logToDatabase, tableName, forcedStartTime, databasesToLog);
-                } catch (LifeCycleManagerException e1) {
-                    e1.printStackTrace();
-                    System.exit(1);
+                if (!run.checkConfigFiles()) {
+                    return;
                 }
 
-                long simFinishTime = 0L;
-
                 try {
-                    lifeCycleManager.loadScreenplay(currentScreenplayFileName);
-                    simResults = lifeCycleManager.startSimulation(simulationDuration);
-
-                    simFinishTime = System.currentTimeMillis();
-                    if (logToDatabase) {
-                        DatabaseLoggerThread.enqueue(new SimulationResultsLogObject(null, null,
-                                simResults, 0, simulationDuration - 1, (simFinishTime - simStartTime) / 1000));
-                    }
-                    lifeCycleManager.switchToLifeCycleState(LifeCycleStates.ON_SYSTEM_SHUTDOWN);
-                } catch (LifeCycleManagerException | OSHException e) {
+                    run.call();
+                } catch (Exception e) {
                     e.printStackTrace();
                     System.exit(1);
                 }
-
-                OSHLoggerCore.removeAllAppenders();
-
-                System.out.println("[main] Simulation runtime: " + (simFinishTime - simStartTime) / 1000 + " sec");
-
-                try {
-                    String outputFileName = logDirName + "/" + configID + "_"
-                            + randomSeed + "_simresults" + ".csv";
-                    if (simResults != null) {
-                        simResults.logCurrentStateToFile(new File(outputFileName), (simFinishTime - simStartTime) / 1000);
-                    }
-                } catch (FileNotFoundException e) {
-                    e.printStackTrace();
-                }
                 logDirName = null;
 
             } //RANDOM SEEDS